@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.e4.apache.jxpath.ri;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.rap.e4.apache.jxpath.ri.compiler.Expression;
+
+/**
+ * A bounded cache of compiled XPath expressions, keyed by the expression
+ * string. When the cache is full, the least recently used expression is
+ * discarded.
+ * <p>
+ * Compiled expressions do not depend on the context they are evaluated in,
+ * hence a single cache is shared by all contexts and all sessions. Unlike a
+ * cache of soft references, the entries are not cleared by the garbage
+ * collector, expressions used by every session stay compiled on a busy
+ * server.
+ * </p>
+ */
+// RAP: model processors and model searches evaluate the same expressions in
+// every session
+public final class ExpressionCache {
+
+    static final String SIZE_PROPERTY = "org.eclipse.rap.e4.jxpath.cacheSize";
+    static final int FALLBACK_MAX_SIZE = 500;
+
+    /**
+     * The default maximum number of expressions, can be changed with the
+     * system property <code>org.eclipse.rap.e4.jxpath.cacheSize</code>.
+     * Values that are not a positive number are ignored.
+     */
+    public static final int DEFAULT_MAX_SIZE
+        = parseMaxSize(System.getProperty(SIZE_PROPERTY));
+
+    private final int maxSize;
+    private final Map entries;
+
+    /**
+     * @param maxSize the maximum number of cached expressions
+     */
+    public ExpressionCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException(
+                "Cache size must be positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        entries = new LinkedHashMap(16, 0.75f, true) {
+            protected boolean removeEldestEntry(Map.Entry eldest) {
+                return size() > ExpressionCache.this.maxSize;
+            }
+        };
+    }
+
+    /*
+     * Parses the value of the size property. Invalid values are reported and
+     * replaced by the default, the class must not fail to initialize.
+     */
+    static int parseMaxSize(String value) {
+        if (value == null) {
+            return FALLBACK_MAX_SIZE;
+        }
+        int result;
+        try {
+            result = Integer.parseInt(value.trim());
+        } catch (NumberFormatException ex) {
+            result = 0;
+        }
+        if (result < 1) {
+            System.err.println("Invalid value of " + SIZE_PROPERTY + ": "
+                    + value + ", using " + FALLBACK_MAX_SIZE);
+            return FALLBACK_MAX_SIZE;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the compiled expression for the given expression string.
+     * @param xpath the expression string
+     * @return the cached expression or <code>null</code>
+     */
+    public Expression get(String xpath) {
+        synchronized (entries) {
+            return (Expression) entries.get(xpath);
+        }
+    }
+
+    /**
+     * Adds a compiled expression. Expressions are parsed outside of the
+     * cache, if two threads compile the same expression concurrently, the
+     * last one wins.
+     * @param xpath the expression string
+     * @param expression the compiled expression
+     */
+    public void put(String xpath, Expression expression) {
+        synchronized (entries) {
+            entries.put(xpath, expression);
+        }
+    }
+
+    /**
+     * @return the number of cached expressions
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Discards all cached expressions.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * @return the maximum number of cached expressions
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+}
@@ -16,15 +16,11 @@
  */
 package org.eclipse.rap.e4.apache.jxpath.ri;
 
-import java.lang.ref.SoftReference;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.Iterator;
-import java.util.Map;
-import java.util.Map.Entry;
 
 import org.eclipse.rap.e4.apache.jxpath.CompiledExpression;
 import org.eclipse.rap.e4.apache.jxpath.Function;
@@ -62,19 +58,13 @@ import java.util.Vector;
  */
 public class JXPathContextReferenceImpl extends JXPathContext {
 
-    /**
-     * Change this to <code>false</code> to disable soft caching of
-     * CompiledExpressions.
-     */
-    public static final boolean USE_SOFT_CACHE = true;
-
     private static final Compiler COMPILER = new TreeCompiler();
-    private static Map compiled = new HashMap();
-    private static int cleanupCount = 0;
+    // RAP: replaced the unbounded soft cache with a bounded cache that
+    // survives garbage collections
+    private static final ExpressionCache COMPILED = new ExpressionCache(
+        ExpressionCache.DEFAULT_MAX_SIZE);
 
     private static NodePointerFactory[] nodeFactoryArray = null;
-    // The frequency of the cache cleanup
-    private static final int CLEANUP_THRESHOLD = 500;
     private static final Vector nodeFactories = new Vector();
 
     static {
@@ -228,46 +218,11 @@ public class JXPathContextReferenceImpl extends JXPathContext {
      * @return Expression
      */
     private Expression compileExpression(String xpath) {
-        Expression expr;
-
-        synchronized (compiled) {
-            if (USE_SOFT_CACHE) {
-                expr = null;
-                SoftReference ref = (SoftReference) compiled.get(xpath);
-                if (ref != null) {
-                    expr = (Expression) ref.get();
-                }
-            }
-            else {
-                expr = (Expression) compiled.get(xpath);
-            }
-        }
-
-        if (expr != null) {
-            return expr;
+        Expression expr = COMPILED.get(xpath);
+        if (expr == null) {
+            expr = (Expression) Parser.parseExpression(xpath, getCompiler());
+            COMPILED.put(xpath, expr);
         }
-
-        expr = (Expression) Parser.parseExpression(xpath, getCompiler());
-
-        synchronized (compiled) {
-            if (USE_SOFT_CACHE) {
-                if (cleanupCount++ >= CLEANUP_THRESHOLD) {
-                    Iterator it = compiled.entrySet().iterator();
-                    while (it.hasNext()) {
-                        Entry me = (Entry) it.next();
-                        if (((SoftReference) me.getValue()).get() == null) {
-                            it.remove();
-                        }
-                    }
-                    cleanupCount = 0;
-                }
-                compiled.put(xpath, new SoftReference(expr));
-            }
-            else {
-                compiled.put(xpath, expr);
-            }
-        }
-
         return expr;
     }
 
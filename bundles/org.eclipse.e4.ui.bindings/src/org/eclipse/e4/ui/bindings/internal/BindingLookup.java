@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.e4.ui.bindings.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.TreeSet;
+import org.eclipse.core.commands.contexts.Context;
+import org.eclipse.jface.bindings.Binding;
+import org.eclipse.jface.bindings.Trigger;
+import org.eclipse.jface.bindings.TriggerSequence;
+
+/**
+ * An immutable trie of the trigger sequences that are bound in a context set.
+ * It merges the binding tables of all contexts, so that a lookup for a
+ * trigger sequence does not need to consult every table.
+ * <p>
+ * Perfect matches are resolved the same way
+ * {@link BindingTableManager#getPerfectMatch(ContextSet, TriggerSequence)}
+ * did before: contexts are processed from the most specific to the least
+ * specific one, a binding of the most active scheme wins immediately,
+ * otherwise the binding with the preferred scheme is used.
+ * </p>
+ */
+class BindingLookup {
+
+	private static final String[] NO_KEYS = new String[0];
+
+	private final Node root = new Node();
+	private final String[] activeKeys;
+
+	BindingLookup(BindingTableManager manager, ContextSet contextSet) {
+		List<Context> contexts = contextSet.getContexts();
+		ListIterator<Context> it = contexts.listIterator(contexts.size());
+		while (it.hasPrevious()) {
+			BindingTable table = manager.getTable(it.previous().getId());
+			if (table != null) {
+				for (Binding binding : table.getBindings()) {
+					add(manager, binding);
+				}
+			}
+		}
+		activeKeys = createActiveKeys();
+	}
+
+	Binding getPerfectMatch(TriggerSequence sequence) {
+		Node node = find(sequence);
+		return node == null ? null : node.perfectMatch;
+	}
+
+	boolean isPartialMatch(TriggerSequence sequence) {
+		Node node = find(sequence);
+		return node != null && node.partialMatches != null;
+	}
+
+	Collection<Binding> getPartialMatches(TriggerSequence sequence) {
+		Node node = find(sequence);
+		if (node == null || node.partialMatches == null) {
+			return new ArrayList<Binding>();
+		}
+		return new ArrayList<Binding>(node.partialMatches);
+	}
+
+	/**
+	 * @return the formatted first key strokes of all bound trigger sequences,
+	 *         sorted and without duplicates. The same array is returned for
+	 *         every call, callers must not modify it.
+	 */
+	String[] getActiveKeys() {
+		return activeKeys;
+	}
+
+	private void add(BindingTableManager manager, Binding binding) {
+		Trigger[] triggers = binding.getTriggerSequence().getTriggers();
+		if (triggers.length == 0) {
+			return;
+		}
+		Node node = root;
+		for (int i = 0; i < triggers.length; i++) {
+			if (i > 0) {
+				node.addPartialMatch(binding);
+			}
+			node = node.getOrCreateChild(triggers[i]);
+		}
+		node.resolvePerfectMatch(manager, binding);
+	}
+
+	private Node find(TriggerSequence sequence) {
+		Trigger[] triggers = sequence.getTriggers();
+		if (triggers.length == 0) {
+			return null;
+		}
+		Node node = root;
+		for (int i = 0; node != null && i < triggers.length; i++) {
+			node = node.children.get(triggers[i]);
+		}
+		return node;
+	}
+
+	private String[] createActiveKeys() {
+		if (root.children.isEmpty()) {
+			return NO_KEYS;
+		}
+		TreeSet<String> keys = new TreeSet<String>();
+		for (Trigger trigger : root.children.keySet()) {
+			keys.add(trigger.toString());
+		}
+		return keys.toArray(new String[keys.size()]);
+	}
+
+	private static final class Node {
+
+		private Map<Trigger, Node> children = Collections.emptyMap();
+		private Binding perfectMatch;
+		private boolean resolved;
+		private List<Binding> partialMatches;
+
+		Node getOrCreateChild(Trigger trigger) {
+			Node child = children.get(trigger);
+			if (child == null) {
+				if (children.isEmpty()) {
+					children = new HashMap<Trigger, Node>();
+				}
+				child = new Node();
+				children.put(trigger, child);
+			}
+			return child;
+		}
+
+		void addPartialMatch(Binding binding) {
+			if (partialMatches == null) {
+				partialMatches = new ArrayList<Binding>();
+			}
+			partialMatches.add(binding);
+		}
+
+		void resolvePerfectMatch(BindingTableManager manager, Binding binding) {
+			if (resolved) {
+				return;
+			}
+			if (manager.isMostActiveScheme(binding)) {
+				perfectMatch = binding;
+				resolved = true;
+			} else if (perfectMatch == null
+					|| manager.compareSchemes(perfectMatch.getSchemeId(), binding.getSchemeId()) < 0) {
+				perfectMatch = binding;
+			}
+		}
+	}
+}
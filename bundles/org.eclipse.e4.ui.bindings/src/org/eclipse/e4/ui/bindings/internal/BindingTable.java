@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2013 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -123,6 +123,7 @@ public class BindingTable {
 	public static final BindingComparator BEST_SEQUENCE = new BindingComparator();
 
 	private Context tableId;
+	private BindingTableManager manager;
 	private ArrayList<Binding> bindings = new ArrayList<Binding>();
 	private Map<TriggerSequence, Binding> bindingsByTrigger = new HashMap<TriggerSequence, Binding>();
 	private Map<ParameterizedCommand, ArrayList<Binding>> bindingsByCommand = new HashMap<ParameterizedCommand, ArrayList<Binding>>();
@@ -137,6 +138,16 @@ public class BindingTable {
 		tableId = context;
 	}
 
+	void setManager(BindingTableManager manager) {
+		this.manager = manager;
+	}
+
+	private void bindingsChanged() {
+		if (manager != null) {
+			manager.tablesChanged();
+		}
+	}
+
 	public Context getTableId() {
 		return tableId;
 	}
@@ -190,6 +201,7 @@ public class BindingTable {
 		}
 
 		evaluateOrderedBindings(binding.getTriggerSequence(), binding);
+		bindingsChanged();
 	}
 
 	private void addBindingSimple(Binding binding) {
@@ -257,6 +269,7 @@ public class BindingTable {
 				evaluateOrderedBindings(binding.getTriggerSequence(), null);
 			}
 		}
+		bindingsChanged();
 	}
 
 	/**
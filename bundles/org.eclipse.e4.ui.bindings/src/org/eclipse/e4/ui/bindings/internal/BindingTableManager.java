@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2012 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,8 +14,11 @@ package org.eclipse.e4.ui.bindings.internal;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import jakarta.inject.Inject;
 import org.eclipse.core.commands.ParameterizedCommand;
 import org.eclipse.core.commands.contexts.Context;
@@ -28,6 +31,7 @@ import org.eclipse.jface.bindings.TriggerSequence;
  */
 public class BindingTableManager {
 	private static final String BINDING_TABLE_PREFIX = "bindingTable:"; //$NON-NLS-1$
+	private static final int MAX_CACHED_LOOKUPS = 16;
 
 	@Inject
 	private IEclipseContext eclipseContext;
@@ -36,6 +40,17 @@ public class BindingTableManager {
 
 	private String[] activeSchemeIds;
 
+	// lookups are immutable and only valid until contexts, bindings or schemes change
+	private final Map<ContextSet, BindingLookup> lookups = new LinkedHashMap<ContextSet, BindingLookup>(
+			MAX_CACHED_LOOKUPS, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<ContextSet, BindingLookup> eldest) {
+			return size() > MAX_CACHED_LOOKUPS;
+		}
+	};
+
+	private final List<Runnable> changeListeners = new CopyOnWriteArrayList<Runnable>();
+
 	public void addTable(BindingTable table) {
 		String contextId = getTableId(table.getId());
 		if (eclipseContext.containsKey(contextId)) {
@@ -44,6 +59,8 @@ public class BindingTableManager {
 			// contextId); //$NON-NLS-1$
 		}
 		eclipseContext.set(contextId, table);
+		table.setManager(this);
+		tablesChanged();
 		final List<Context> contexts = definedTables.getContexts();
 		if (!contexts.contains(table.getTableId())) {
 			// this is only valid because I'm throwing away the old
@@ -63,6 +80,8 @@ public class BindingTableManager {
 			throw new IllegalArgumentException("Does not contains table " + contextId); //$NON-NLS-1$
 		}
 		eclipseContext.remove(contextId);
+		table.setManager(null);
+		tablesChanged();
 		final List<Context> contexts = definedTables.getContexts();
 		if (contexts.contains(table.getTableId())) {
 			// this is only valid because I'm throwing away the old
@@ -122,38 +141,14 @@ public class BindingTableManager {
 	}
 
 	public Binding getPerfectMatch(ContextSet contextSet, TriggerSequence triggerSequence) {
-		Binding result = null;
-		Binding currentResult = null;
-		List<Context> contexts = contextSet.getContexts();
-		ListIterator<Context> it = contexts.listIterator(contexts.size());
-		while (it.hasPrevious()) {
-			Context c = it.previous();
-			BindingTable table = getTable(c.getId());
-			if (table != null) {
-				currentResult = table.getPerfectMatch(triggerSequence);
-			}
-			if (currentResult != null) {
-				if (isMostActiveScheme(currentResult)) {
-					return currentResult;
-				}
-				if (result == null) {
-					result = currentResult;
-				} else {
-					int rc = compareSchemes(result.getSchemeId(), currentResult.getSchemeId());
-					if (rc < 0) {
-						result = currentResult;
-					}
-				}
-			}
-		}
-		return result;
+		return getLookup(contextSet).getPerfectMatch(triggerSequence);
 	}
 
 	/**
 	 * @param currentResult
 	 * @return
 	 */
-	private boolean isMostActiveScheme(Binding currentResult) {
+	boolean isMostActiveScheme(Binding currentResult) {
 		if (activeSchemeIds == null || activeSchemeIds.length < 2) {
 			return true;
 		}
@@ -202,35 +197,34 @@ public class BindingTableManager {
 	}
 
 	public boolean isPartialMatch(ContextSet contextSet, TriggerSequence sequence) {
-		List<Context> contexts = contextSet.getContexts();
-		ListIterator<Context> it = contexts.listIterator(contexts.size());
-		while (it.hasPrevious()) {
-			Context c = it.previous();
-			BindingTable table = getTable(c.getId());
-			if (table != null) {
-				if (table.isPartialMatch(sequence)) {
-					return true;
-				}
-			}
-		}
-		return false;
+		return getLookup(contextSet).isPartialMatch(sequence);
 	}
 
 	public Collection<Binding> getPartialMatches(ContextSet contextSet, TriggerSequence sequence) {
-		ArrayList<Binding> bindings = new ArrayList<Binding>();
-		List<Context> contexts = contextSet.getContexts();
-		ListIterator<Context> it = contexts.listIterator(contexts.size());
-		while (it.hasPrevious()) {
-			Context c = it.previous();
-			BindingTable table = getTable(c.getId());
-			if (table != null) {
-				Collection<Binding> partialMatches = table.getPartialMatches(sequence);
-				if (partialMatches != null) {
-					bindings.addAll(partialMatches);
-				}
-			}
-		}
-		return bindings;
+		return getLookup(contextSet).getPartialMatches(sequence);
+	}
+
+	/**
+	 * Returns the keys that are bound in any of the defined binding tables, in
+	 * the format expected by <code>RWT.ACTIVE_KEYS</code>. As long as no
+	 * bindings change, the same array instance is returned.
+	 *
+	 * @return the active keys, must not be modified
+	 */
+	public String[] getActiveKeys() {
+		return getLookup(definedTables).getActiveKeys();
+	}
+
+	/**
+	 * Registers a listener that is notified whenever binding tables, the
+	 * bindings in a table or the active schemes change.
+	 */
+	public void addChangeListener(Runnable listener) {
+		changeListeners.add(listener);
+	}
+
+	public void removeChangeListener(Runnable listener) {
+		changeListeners.remove(listener);
 	}
 
 	/**
@@ -239,6 +233,23 @@ public class BindingTableManager {
 	public void setActiveSchemes(String[] activeSchemeIds) {
 		this.activeSchemeIds = activeSchemeIds;
 		BindingTable.BEST_SEQUENCE.setActiveSchemes(activeSchemeIds);
+		tablesChanged();
+	}
+
+	void tablesChanged() {
+		lookups.clear();
+		for (Runnable listener : changeListeners) {
+			listener.run();
+		}
+	}
+
+	private BindingLookup getLookup(ContextSet contextSet) {
+		BindingLookup lookup = lookups.get(contextSet);
+		if (lookup == null) {
+			lookup = new BindingLookup(this, contextSet);
+			lookups.put(new ContextSet(contextSet.getContexts()), lookup);
+		}
+		return lookup;
 	}
 
 	/*
@@ -247,7 +258,7 @@ public class BindingTableManager {
 	 *
 	 * Returns an in based on scheme 1 < scheme 2
 	 */
-	private final int compareSchemes(final String schemeId1, final String schemeId2) {
+	final int compareSchemes(final String schemeId1, final String schemeId2) {
 		if (activeSchemeIds == null) {
 			return 0;
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2014, 2015 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -1087,9 +1087,8 @@ public class TrimStack {
 				MStackElement curSel = theStack.getSelectedElement();
 
 				// Hack for elems that are lazy initialized
-				if (ctf != null && ctf.getSelection() == null) {
-					theStack.setSelectedElement(null);
-					theStack.setSelectedElement(curSel);
+				if (ctf != null) {
+					reselectLazyElement(theStack, ctf);
 				}
 
 				if (curSel instanceof MPart) {
@@ -1174,6 +1173,23 @@ public class TrimStack {
 	 * @return 'true' iff the minimized stack should overlay the current presentation, 'false' means
 	 *         to temporarily restore the stack into the current presentation.
 	 */
+	/**
+	 * Sets the selected element of the stack again if it has not been rendered
+	 * yet, so that the stack renderer creates it.
+	 * <p>
+	 * RAP: the selected element of a hidden stack is rendered when the stack is
+	 * shown
+	 * </p>
+	 */
+	static void reselectLazyElement(MPartStack theStack, CTabFolder ctf) {
+		MStackElement curSel = theStack.getSelectedElement();
+		if (ctf.getSelection() == null
+				|| (curSel != null && curSel.getWidget() == null)) {
+			theStack.setSelectedElement(null);
+			theStack.setSelectedElement(curSel);
+		}
+	}
+
 	private boolean useOverlays() {
 		if (toolControl == null)
 			return true;
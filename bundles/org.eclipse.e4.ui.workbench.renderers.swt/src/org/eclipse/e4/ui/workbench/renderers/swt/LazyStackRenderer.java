@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -29,6 +29,7 @@ import org.eclipse.e4.ui.model.application.ui.basic.MPartStack;
 import org.eclipse.e4.ui.model.application.ui.basic.MWindow;
 import org.eclipse.e4.ui.workbench.IPresentationEngine;
 import org.eclipse.e4.ui.workbench.UIEvents;
+import org.eclipse.emf.ecore.EObject;
 import org.eclipse.swt.custom.CTabFolder;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
@@ -68,11 +69,32 @@ public abstract class LazyStackRenderer extends SWTPartRenderer {
 				hideElementRecursive(oldSel);
 			}
 
-			if (stack.getSelectedElement() != null)
+			if (stack.getSelectedElement() != null && !isHiddenStack(stack))
 				lsr.showTab(stack.getSelectedElement());
 		}
 	};
 
+	// RAP: renders the selected element of a stack that was hidden when the
+	// selection changed
+	private EventHandler visibilityHandler = new EventHandler() {
+		@Override
+		public void handleEvent(Event event) {
+			Object element = event.getProperty(UIEvents.EventTags.ELEMENT);
+
+			if (!(element instanceof MPartStack))
+				return;
+
+			MPartStack stack = (MPartStack) element;
+			if (stack.getRenderer() != LazyStackRenderer.this
+					|| stack.getWidget() == null || !stack.isVisible())
+				return;
+
+			MUIElement selElement = stack.getSelectedElement();
+			if (isPendingTab(selElement))
+				showTab(selElement);
+		}
+	};
+
 	public void init(IEventBroker eventBroker) {
 		// Ensure that there only ever *one* listener. Each subclass
 		// will call this method
@@ -80,6 +102,9 @@ public abstract class LazyStackRenderer extends SWTPartRenderer {
 
 		eventBroker.subscribe(UIEvents.ElementContainer.TOPIC_SELECTEDELEMENT,
 				lazyLoader);
+		eventBroker.unsubscribe(visibilityHandler);
+		eventBroker.subscribe(UIEvents.UIElement.TOPIC_VISIBLE,
+				visibilityHandler);
 	}
 
 	/**
@@ -87,6 +112,7 @@ public abstract class LazyStackRenderer extends SWTPartRenderer {
 	 */
 	public void contextDisposed(IEventBroker eventBroker) {
 		eventBroker.unsubscribe(lazyLoader);
+		eventBroker.unsubscribe(visibilityHandler);
 	}
 
 	@Override
@@ -100,7 +126,8 @@ public abstract class LazyStackRenderer extends SWTPartRenderer {
 		MGenericStack<MUIElement> stack = (MGenericStack<MUIElement>) element;
 		MUIElement selPart = stack.getSelectedElement();
 		if (selPart != null) {
-			showTab(selPart);
+			if (!isHiddenStack(stack))
+				showTab(selPart);
 		} else if (stack.getChildren().size() > 0) {
 			// Set the selection to the first renderable element
 			for (MUIElement kid : stack.getChildren()) {
@@ -220,6 +247,11 @@ public abstract class LazyStackRenderer extends SWTPartRenderer {
 			if (curSel instanceof MPlaceholder) {
 				part.setCurSharedRef((MPlaceholder) curSel);
 			}
+
+			// The selection may have changed while the stack was hidden
+			if (isPendingTab(curSel)) {
+				sr.showTab(curSel);
+			}
 			sr.adjustTopRight(ctf);
 		}
 
@@ -310,6 +342,41 @@ public abstract class LazyStackRenderer extends SWTPartRenderer {
 		}
 	}
 
+	private static boolean isPendingTab(MUIElement element) {
+		return element != null && element.getWidget() == null
+				&& element.isToBeRendered() && element.isVisible();
+	}
+
+	/**
+	 * Part stacks that are not shown, e.g. because they are minimized or
+	 * belong to a perspective that is not selected, live in the 'limbo' shell.
+	 * Rendering the selected element of such a stack is deferred until the
+	 * stack is shown again.
+	 */
+	private boolean isHiddenStack(MUIElement stack) {
+		if (!(stack instanceof MPartStack)
+				|| !(stack.getWidget() instanceof Control))
+			return false;
+
+		Control ctrl = (Control) stack.getWidget();
+		if (ctrl.isDisposed())
+			return false;
+
+		MUIElement window = stack;
+		while (window != null && !(window instanceof MWindow)) {
+			if (window.getParent() != null) {
+				window = window.getParent();
+			} else {
+				// shared elements are contained in a window
+				Object container = ((EObject) window).eContainer();
+				window = container instanceof MUIElement ? (MUIElement) container
+						: null;
+			}
+		}
+		return window != null && window.getWidget() instanceof Shell
+				&& ctrl.getShell() != window.getWidget();
+	}
+
 	private boolean isMinimizedStack(MUIElement stack) {
 		return stack.getTags().contains(IPresentationEngine.MINIMIZED)
 				&& !stack.getTags().contains(IPresentationEngine.ACTIVE);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2014 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -392,6 +392,12 @@ public class E4Application implements IApplication {
 		eclipseContext.set(E4Workbench.DELTA_RESTORE,
 				Boolean.valueOf(deltaRestore));
 
+		// RAP: share the assembled initial model between the sessions of the application
+		value = getArgValue(E4Workbench.MODEL_TEMPLATE_CACHE, appContext, false);
+		boolean modelTemplateCache = value == null || Boolean.parseBoolean(value);
+		eclipseContext.set(E4Workbench.MODEL_TEMPLATE_CACHE,
+				Boolean.valueOf(modelTemplateCache));
+
 		String resourceHandler = getArgValue(IWorkbench.MODEL_RESOURCE_HANDLER, appContext, false);
 
 		if (resourceHandler == null) {
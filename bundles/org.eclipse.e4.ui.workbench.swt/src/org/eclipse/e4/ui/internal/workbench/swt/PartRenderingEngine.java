@@ -10,12 +10,11 @@
  *******************************************************************************/
 package org.eclipse.e4.ui.internal.workbench.swt;
 
-import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 import jakarta.annotation.PostConstruct;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
@@ -31,7 +30,7 @@ import org.eclipse.e4.core.services.contributions.IContributionFactory;
 import org.eclipse.e4.core.services.events.IEventBroker;
 import org.eclipse.e4.core.services.log.Logger;
 import org.eclipse.e4.core.services.statusreporter.StatusReporter;
-import org.eclipse.e4.ui.bindings.EBindingService;
+import org.eclipse.e4.ui.bindings.internal.BindingTableManager;
 import org.eclipse.e4.ui.bindings.keys.KeyBindingDispatcher;
 //import org.eclipse.e4.ui.css.core.util.impl.resources.OSGiResourceLocator;
 //import org.eclipse.e4.ui.css.swt.dom.WidgetElement;
@@ -66,10 +65,6 @@ import org.eclipse.e4.ui.workbench.swt.factories.IRendererFactory;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.equinox.app.IApplication;
 import org.eclipse.equinox.app.IApplicationContext;
-import org.eclipse.jface.bindings.Binding;
-import org.eclipse.jface.bindings.keys.KeyBinding;
-import org.eclipse.jface.bindings.keys.KeySequence;
-import org.eclipse.jface.bindings.keys.KeyStroke;
 import org.eclipse.jface.bindings.keys.SWTKeySupport;
 import org.eclipse.jface.bindings.keys.formatting.KeyFormatterFactory;
 import org.eclipse.jface.databinding.swt.SWTObservables;
@@ -1018,8 +1013,10 @@ public class PartRenderingEngine implements IPresentationEngine {
 				display.addFilter(SWT.KeyDown, keyListener);
 				display.addFilter(SWT.Traverse, keyListener);
 				// RAP [if]
-				EBindingService bindingService = (EBindingService) runContext.get(EBindingService.class.getName());
-				updateKeyBindingList(display, bindingService.getActiveBindings());
+				BindingTableManager bindingTables = runContext.get(BindingTableManager.class);
+				if (bindingTables != null) {
+					updateKeyBindingList(display, bindingTables);
+				}
 				// ENDRAP [if]
 
 				// Show the initial UI
@@ -1228,23 +1225,42 @@ public class PartRenderingEngine implements IPresentationEngine {
 	}
 
 	// RAP [if] Update client key binding list
-	private void updateKeyBindingList(Display display, Collection<Binding> activeBindings) {
-		List<String> keyBindingList = new ArrayList<String>();
-		for (Iterator<Binding> iterator = activeBindings.iterator(); iterator.hasNext();) {
-			Binding binding = iterator.next();
-			if (binding instanceof KeyBinding) {
-				KeyBinding keyBinding = (KeyBinding) binding;
-				KeySequence keySequence = keyBinding.getKeySequence();
-				KeyStroke[] keyStroke = keySequence.getKeyStrokes();
-				if (keyStroke.length > 0) {
-					keyBindingList.add(keyStroke[0].toString());
+	private void updateKeyBindingList(final Display display, final BindingTableManager bindingTables) {
+		setActiveKeys(display, bindingTables.getActiveKeys());
+		// bindings change in batches, update the client list once per batch
+		final Runnable listener = new Runnable() {
+			// tables may change outside of the UI thread
+			private final AtomicBoolean scheduled = new AtomicBoolean();
+
+			@Override
+			public void run() {
+				if (!display.isDisposed() && scheduled.compareAndSet(false, true)) {
+					display.asyncExec(new Runnable() {
+						@Override
+						public void run() {
+							scheduled.set(false);
+							setActiveKeys(display, bindingTables.getActiveKeys());
+						}
+					});
 				}
 			}
+		};
+		bindingTables.addChangeListener(listener);
+		display.disposeExec(new Runnable() {
+			@Override
+			public void run() {
+				bindingTables.removeChangeListener(listener);
+			}
+		});
+	}
+
+	private static void setActiveKeys(Display display, String[] keys) {
+		// only changed lists need to be rendered to the client
+		if (!Arrays.equals(keys, (String[]) display.getData(RWT.ACTIVE_KEYS))) {
+			String[] array = keys.clone();
+			display.setData(RWT.ACTIVE_KEYS, array);
+			display.setData(RWT.CANCEL_KEYS, array);
 		}
-		String[] array = new String[keyBindingList.size()];
-		keyBindingList.toArray(array);
-		display.setData(RWT.ACTIVE_KEYS, array);
-		display.setData(RWT.CANCEL_KEYS, array);
 	}
 	// ENDRAP [if]
 
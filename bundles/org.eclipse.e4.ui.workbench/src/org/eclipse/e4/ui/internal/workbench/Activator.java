@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2012 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -130,6 +130,8 @@ public class Activator implements BundleActivator {
 			resolvedBundles.close();
 			resolvedBundles = null;
 		}
+		// RAP: discard the shared application models
+		ModelTemplateCache.clear();
 	}
 
 	public DebugOptions getDebugOptions() {
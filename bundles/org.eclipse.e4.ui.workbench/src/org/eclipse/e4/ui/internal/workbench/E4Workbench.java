@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2014 BestSolution.at and others.
+ * Copyright (c) 2008, 2026 BestSolution.at and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -80,6 +80,14 @@ public class E4Workbench implements IWorkbench {
 	public static final String FORCED_PERSPECTIVE_ID = "forcedPerspetiveId"; //$NON-NLS-1$
 
 	public static final String NO_SAVED_MODEL_FOUND = "NO_SAVED_MODEL_FOUND"; //$NON-NLS-1$
+	/**
+	 * The argument for sharing the assembled initial application model between the sessions of
+	 * an application <br>
+	 * <br>
+	 * Value is: <code>modelTemplateCache</code>
+	 */
+	// RAP: assemble the initial model once per application and copy it for each session
+	public static final String MODEL_TEMPLATE_CACHE = "modelTemplateCache"; //$NON-NLS-1$
 	/**
 	 * The argument for the whether to forcefully show the location in the window title (set on the
 	 * command line)<br>
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2014 BestSolution.at and others.
+ * Copyright (c) 2010, 2026 BestSolution.at and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -62,7 +62,7 @@ public class ModelAssembler {
 	@Inject
 	private IExtensionRegistry registry;
 
-	final private static String extensionPointID = "org.eclipse.e4.workbench.model"; //$NON-NLS-1$
+	final static String extensionPointID = "org.eclipse.e4.workbench.model"; //$NON-NLS-1$
 
 	//	private static final String ALWAYS = "always"; //$NON-NLS-1$
 	private static final String INITIAL = "initial"; //$NON-NLS-1$
@@ -72,8 +72,7 @@ public class ModelAssembler {
 	 * Process the model
 	 */
 	public void processModel(boolean initial) {
-		IExtensionPoint extPoint = registry.getExtensionPoint(extensionPointID);
-		IExtension[] extensions = new ExtensionsSort().sort(extPoint.getExtensions());
+		IExtension[] extensions = getExtensions();
 
 		List<MApplicationElement> imports = new ArrayList<MApplicationElement>();
 		List<MApplicationElement> addedElements = new ArrayList<MApplicationElement>();
@@ -87,6 +86,54 @@ public class ModelAssembler {
 		resolveImports(imports, addedElements);
 	}
 
+	// RAP: the fragments and the processors can be applied separately, so that the fragments
+	// are applied only once to a model template that is shared by the sessions
+	/**
+	 * Applies the model fragments and resolves their imports without running any processors.
+	 * <p>
+	 * Note that {@link #processModel(boolean)} resolves the imports after the processors that run
+	 * after the fragments, whereas processors that are run after this method see the resolved
+	 * imports.
+	 * </p>
+	 */
+	public void processFragments(boolean initial) {
+		List<MApplicationElement> imports = new ArrayList<MApplicationElement>();
+		List<MApplicationElement> addedElements = new ArrayList<MApplicationElement>();
+		processFragments(getExtensions(), imports, addedElements, initial);
+		resolveImports(imports, addedElements);
+	}
+
+	/**
+	 * Runs the processors which are marked to run before or after the fragments.
+	 */
+	public void runProcessors(boolean initial, boolean afterFragments) {
+		runProcessors(getExtensions(), initial, afterFragments);
+	}
+
+	/**
+	 * @return whether there are processors to run before or after the fragments
+	 */
+	public static boolean hasProcessors(IExtensionRegistry registry, boolean initial,
+			boolean afterFragments) {
+		for (IExtension extension : getExtensions(registry)) {
+			for (IConfigurationElement ce : extension.getConfigurationElements()) {
+				if (isProcessor(ce, initial, afterFragments)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private IExtension[] getExtensions() {
+		return getExtensions(registry);
+	}
+
+	private static IExtension[] getExtensions(IExtensionRegistry registry) {
+		IExtensionPoint extPoint = registry.getExtensionPoint(extensionPointID);
+		return new ExtensionsSort().sort(extPoint.getExtensions());
+	}
+
 	/**
 	 * @param extensions
 	 * @param imports
@@ -213,16 +260,22 @@ public class ModelAssembler {
 		for (IExtension extension : extensions) {
 			IConfigurationElement[] ces = extension.getConfigurationElements();
 			for (IConfigurationElement ce : ces) {
-				boolean parseBoolean = Boolean.parseBoolean(ce.getAttribute("beforefragment")); //$NON-NLS-1$
-				if ("processor".equals(ce.getName()) && afterFragments != parseBoolean) { //$NON-NLS-1$
-					if (initial || !INITIAL.equals(ce.getAttribute("apply"))) { //$NON-NLS-1$
-						runProcessor(ce);
-					}
+				if (isProcessor(ce, initial, afterFragments)) {
+					runProcessor(ce);
 				}
 			}
 		}
 	}
 
+	private static boolean isProcessor(IConfigurationElement ce, boolean initial,
+			boolean afterFragments) {
+		boolean parseBoolean = Boolean.parseBoolean(ce.getAttribute("beforefragment")); //$NON-NLS-1$
+		if ("processor".equals(ce.getName()) && afterFragments != parseBoolean) { //$NON-NLS-1$
+			return initial || !INITIAL.equals(ce.getAttribute("apply")); //$NON-NLS-1$
+		}
+		return false;
+	}
+
 	private void runProcessor(IConfigurationElement ce) {
 		IEclipseContext localContext = EclipseContextFactory.create();
 		IContributionFactory factory = context.get(IContributionFactory.class);
@@ -0,0 +1,204 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.e4.ui.internal.workbench;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import org.eclipse.e4.ui.model.application.MApplication;
+import org.eclipse.e4.ui.model.application.MApplicationElement;
+import org.eclipse.e4.ui.model.application.ui.advanced.MPlaceholder;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+/**
+ * An index of the elements of an application model by element id, tag and type, used by the
+ * {@link ModelServiceImpl} to answer searches without walking the model. The index is updated
+ * through the model events sent by the {@link UIEventPublisher}.
+ * <p>
+ * Entries are only removed once an element no longer matches them, so the index may report more
+ * candidates than match. Callers need to check the candidates against their search criteria.
+ * </p>
+ */
+// RAP: handlers and addons search the model several times per request
+final class ModelIndex {
+
+	private final MApplication application;
+	private final UIEventPublisher publisher;
+	private final Map<String, Set<MApplicationElement>> ids;
+	private final Map<String, Set<MApplicationElement>> tags;
+	private final Map<Class<?>, Set<MApplicationElement>> types;
+	private final Set<MPlaceholder> placeholders;
+
+	ModelIndex(MApplication application, UIEventPublisher publisher) {
+		this.application = application;
+		this.publisher = publisher;
+		ids = new HashMap<String, Set<MApplicationElement>>();
+		tags = new HashMap<String, Set<MApplicationElement>>();
+		types = new HashMap<Class<?>, Set<MApplicationElement>>();
+		placeholders = new HashSet<MPlaceholder>();
+		add((EObject) application);
+	}
+
+	MApplication getApplication() {
+		return application;
+	}
+
+	UIEventPublisher getPublisher() {
+		return publisher;
+	}
+
+	/**
+	 * @return whether the given object is part of the indexed application model
+	 */
+	boolean contains(Object object) {
+		return object instanceof EObject
+				&& EcoreUtil.getRootContainer((EObject) object) == application;
+	}
+
+	/**
+	 * Adds the given element and all its contents.
+	 */
+	void add(EObject root) {
+		addElement(root);
+		for (Iterator<EObject> it = EcoreUtil.getAllContents(root, true); it.hasNext();) {
+			addElement(it.next());
+		}
+	}
+
+	/**
+	 * Removes the given element and all its contents.
+	 */
+	void remove(EObject root) {
+		removeElement(root);
+		for (Iterator<EObject> it = EcoreUtil.getAllContents(root, true); it.hasNext();) {
+			removeElement(it.next());
+		}
+	}
+
+	void elementIdChanged(MApplicationElement element, Object oldId, Object newId) {
+		String elementId = element.getElementId();
+		if (oldId instanceof String && !oldId.equals(elementId)) {
+			removeEntry(ids, (String) oldId, element);
+		}
+		if (elementId != null) {
+			addEntry(ids, elementId, element);
+		}
+	}
+
+	void tagsAdded(MApplicationElement element, Iterable<?> addedTags) {
+		for (Object tag : addedTags) {
+			if (tag instanceof String) {
+				addEntry(tags, (String) tag, element);
+			}
+		}
+	}
+
+	void tagsRemoved(MApplicationElement element, Iterable<?> removedTags) {
+		for (Object tag : removedTags) {
+			// the tags list may contain duplicates
+			if (tag instanceof String && !element.getTags().contains(tag)) {
+				removeEntry(tags, (String) tag, element);
+			}
+		}
+	}
+
+	Collection<MApplicationElement> getElementsById(String id) {
+		return getEntries(ids, id);
+	}
+
+	Collection<MApplicationElement> getElementsByTag(String tag) {
+		return getEntries(tags, tag);
+	}
+
+	Collection<MApplicationElement> getElementsByType(Class<?> clazz) {
+		List<MApplicationElement> result = new ArrayList<MApplicationElement>();
+		for (Entry<Class<?>, Set<MApplicationElement>> entry : types.entrySet()) {
+			if (clazz.isAssignableFrom(entry.getKey())) {
+				result.addAll(entry.getValue());
+			}
+		}
+		return result;
+	}
+
+	Collection<MPlaceholder> getPlaceholders() {
+		return Collections.unmodifiableSet(placeholders);
+	}
+
+	private void addElement(EObject eObject) {
+		if (!(eObject instanceof MApplicationElement)) {
+			return;
+		}
+		MApplicationElement element = (MApplicationElement) eObject;
+		if (element.getElementId() != null) {
+			addEntry(ids, element.getElementId(), element);
+		}
+		for (String tag : element.getTags()) {
+			addEntry(tags, tag, element);
+		}
+		addEntry(types, element.getClass(), element);
+		if (element instanceof MPlaceholder) {
+			placeholders.add((MPlaceholder) element);
+		}
+	}
+
+	private void removeElement(EObject eObject) {
+		if (!(eObject instanceof MApplicationElement)) {
+			return;
+		}
+		MApplicationElement element = (MApplicationElement) eObject;
+		if (element.getElementId() != null) {
+			removeEntry(ids, element.getElementId(), element);
+		}
+		for (String tag : element.getTags()) {
+			removeEntry(tags, tag, element);
+		}
+		removeEntry(types, element.getClass(), element);
+		if (element instanceof MPlaceholder) {
+			placeholders.remove(element);
+		}
+	}
+
+	private static <K> void addEntry(Map<K, Set<MApplicationElement>> map, K key,
+			MApplicationElement element) {
+		Set<MApplicationElement> entries = map.get(key);
+		if (entries == null) {
+			entries = new HashSet<MApplicationElement>();
+			map.put(key, entries);
+		}
+		entries.add(element);
+	}
+
+	private static <K> void removeEntry(Map<K, Set<MApplicationElement>> map, K key,
+			MApplicationElement element) {
+		Set<MApplicationElement> entries = map.get(key);
+		if (entries != null && entries.remove(element) && entries.isEmpty()) {
+			map.remove(key);
+		}
+	}
+
+	private static Collection<MApplicationElement> getEntries(
+			Map<String, Set<MApplicationElement>> map, String key) {
+		Set<MApplicationElement> entries = map.get(key);
+		if (entries == null) {
+			return Collections.emptySet();
+		}
+		return Collections.unmodifiableSet(entries);
+	}
+}
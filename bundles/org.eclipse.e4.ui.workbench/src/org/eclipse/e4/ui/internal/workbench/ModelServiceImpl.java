@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2015 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,7 +13,14 @@
 package org.eclipse.e4.ui.internal.workbench;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IExtensionRegistry;
 import org.eclipse.e4.core.contexts.IEclipseContext;
@@ -57,7 +64,10 @@ import org.eclipse.e4.ui.workbench.modeling.EModelService;
 import org.eclipse.e4.ui.workbench.modeling.EPartService;
 import org.eclipse.e4.ui.workbench.modeling.EPlaceholderResolver;
 import org.eclipse.e4.ui.workbench.modeling.ElementMatcher;
+import org.eclipse.emf.common.notify.Adapter;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.osgi.service.event.Event;
 import org.osgi.service.event.EventHandler;
@@ -73,6 +83,50 @@ public class ModelServiceImpl implements EModelService {
 	/** Factory which is able to create {@link MApplicationElement}s in a generic way. */
 	private GenericMApplicationElementFactoryImpl mApplicationElementFactory;
 
+	// RAP: index of the model elements, created on the first search
+	private ModelIndex modelIndex;
+
+	// Keeps the model index up to date
+	private EventHandler modelIndexHandler = new EventHandler() {
+
+		@Override
+		public void handleEvent(Event event) {
+			if (modelIndex == null) {
+				return;
+			}
+			Object element = event.getProperty(EventTags.ELEMENT);
+			Object attName = event.getProperty(EventTags.ATTNAME);
+			if (!(element instanceof MApplicationElement) || !modelIndex.contains(element)) {
+				return;
+			}
+			MApplicationElement changedElement = (MApplicationElement) element;
+			if (UIEvents.ApplicationElement.ELEMENTID.equals(attName)) {
+				modelIndex.elementIdChanged(changedElement, event.getProperty(EventTags.OLD_VALUE),
+						event.getProperty(EventTags.NEW_VALUE));
+			} else if (UIEvents.ApplicationElement.TAGS.equals(attName)) {
+				if (UIEvents.isADD(event)) {
+					modelIndex.tagsAdded(changedElement,
+							UIEvents.asIterable(event, EventTags.NEW_VALUE));
+				} else if (UIEvents.isREMOVE(event)) {
+					modelIndex.tagsRemoved(changedElement,
+							UIEvents.asIterable(event, EventTags.OLD_VALUE));
+				} else if (UIEvents.isSET(event)) {
+					// a tag was replaced
+					modelIndex.tagsRemoved(changedElement,
+							UIEvents.asIterable(event, EventTags.OLD_VALUE));
+					modelIndex.tagsAdded(changedElement,
+							UIEvents.asIterable(event, EventTags.NEW_VALUE));
+				}
+			} else if (attName instanceof String) {
+				EStructuralFeature feature = ((EObject) element).eClass().getEStructuralFeature(
+						(String) attName);
+				if (feature instanceof EReference && ((EReference) feature).isContainment()) {
+					updateModelIndex(event);
+				}
+			}
+		}
+	};
+
 	// Cleans up after a hosted element is disposed
 	private EventHandler hostedElementHandler = new EventHandler() {
 
@@ -116,6 +170,8 @@ public class ModelServiceImpl implements EModelService {
 		this.appContext = appContext;
 		IEventBroker eventBroker = appContext.get(IEventBroker.class);
 		eventBroker.subscribe(UIEvents.UIElement.TOPIC_WIDGET, hostedElementHandler);
+		eventBroker.subscribe(UIEvents.UIModelTopicBase + UIEvents.TOPIC_SEP
+				+ UIEvents.ALL_SUB_TOPICS, modelIndexHandler);
 
 		mApplicationElementFactory = new GenericMApplicationElementFactoryImpl(
 				appContext.get(IExtensionRegistry.class));
@@ -291,24 +347,247 @@ public class ModelServiceImpl implements EModelService {
 		}
 	}
 
+	private void updateModelIndex(Event event) {
+		if (UIEvents.isADD(event) || UIEvents.isSET(event)) {
+			for (Object value : UIEvents.asIterable(event, EventTags.NEW_VALUE)) {
+				if (modelIndex.contains(value)) {
+					modelIndex.add((EObject) value);
+				}
+			}
+		}
+		if (UIEvents.isREMOVE(event) || UIEvents.isSET(event)) {
+			for (Object value : UIEvents.asIterable(event, EventTags.OLD_VALUE)) {
+				// moved elements are still part of the model
+				if (value instanceof EObject && !modelIndex.contains(value)) {
+					modelIndex.remove((EObject) value);
+				}
+			}
+		}
+	}
+
+	private ModelIndex getModelIndex() {
+		MApplication application = appContext.get(MApplication.class);
+		UIEventPublisher publisher = null;
+		if (application != null) {
+			for (Adapter adapter : ((EObject) application).eAdapters()) {
+				if (adapter instanceof UIEventPublisher) {
+					publisher = (UIEventPublisher) adapter;
+				}
+			}
+		}
+		// without the publisher, changes to the model would go unnoticed
+		if (publisher == null) {
+			modelIndex = null;
+		} else if (modelIndex == null || modelIndex.getApplication() != application
+				|| modelIndex.getPublisher() != publisher) {
+			modelIndex = new ModelIndex(application, publisher);
+		}
+		return modelIndex;
+	}
+
+	/**
+	 * Answers a search from the model index. The result is the same as the one of
+	 * {@link #findElementsRecursive(MApplicationElement, Class, Selector, List, int)}.
+	 *
+	 * @return the elements found or <code>null</code> if the search needs to walk the model
+	 */
+	private <T> List<T> findIndexedElements(MApplicationElement searchRoot, Class<T> clazz,
+			Selector matcher, int searchFlags, String id, List<String> tagsToMatch) {
+		if (searchRoot == null || searchFlags == 0) {
+			return null;
+		}
+		ModelIndex index = getModelIndex();
+		if (index == null || !index.contains(searchRoot)) {
+			return null;
+		}
+		Collection<MApplicationElement> candidates;
+		if (id != null) {
+			candidates = index.getElementsById(id);
+		} else if (tagsToMatch != null && !tagsToMatch.isEmpty()) {
+			candidates = index.getElementsByTag(tagsToMatch.get(0));
+		} else if (clazz != null && !clazz.isAssignableFrom(MApplicationElement.class)) {
+			candidates = index.getElementsByType(clazz);
+		} else {
+			return null;
+		}
+		// elements inside a shared element can be reached in several ways
+		Set<Object> sharedElements = new HashSet<Object>();
+		for (MPlaceholder placeholder : index.getPlaceholders()) {
+			MUIElement ref = placeholder.getRef();
+			if (ref != null) {
+				if (!index.contains(ref)) {
+					return null;
+				}
+				sharedElements.add(ref);
+			}
+		}
+		List<T> elements = new ArrayList<T>();
+		for (MApplicationElement candidate : candidates) {
+			if ((clazz != null && !clazz.isInstance(candidate)) || !matcher.select(candidate)) {
+				continue;
+			}
+			Boolean reachable = isReachable((EObject) candidate, searchRoot, searchFlags,
+					sharedElements);
+			if (reachable == null) {
+				return null;
+			}
+			if (reachable.booleanValue()) {
+				@SuppressWarnings("unchecked")
+				T element = (T) candidate;
+				elements.add(element);
+			}
+		}
+		if (elements.size() > 1) {
+			Collections.sort(elements, new SearchOrderComparator<T>(searchRoot));
+		}
+		return elements;
+	}
+
+	/**
+	 * Determines whether the recursive search starting at the search root reaches the given
+	 * element through its containment path.
+	 *
+	 * @return <code>null</code> if this cannot be determined without walking the model
+	 */
+	private static Boolean isReachable(EObject element, MApplicationElement searchRoot,
+			int searchFlags, Set<Object> sharedElements) {
+		EObject current = element;
+		boolean reachable = true;
+		while (current != searchRoot) {
+			if (sharedElements.contains(current)) {
+				return null;
+			}
+			EObject parent = current.eContainer();
+			if (parent == null) {
+				return Boolean.FALSE;
+			}
+			String feature = current.eContainmentFeature().getName();
+			if (UIEvents.ElementContainer.CHILDREN.equals(feature)
+					&& parent instanceof MElementContainer<?>) {
+				if (parent instanceof MPerspectiveStack) {
+					if ((searchFlags & IN_ANY_PERSPECTIVE) == 0) {
+						if ((searchFlags & IN_ACTIVE_PERSPECTIVE) != 0) {
+							reachable &= ((MPerspectiveStack) parent).getSelectedElement() == current;
+						} else if ((searchFlags & IN_SHARED_AREA) != 0) {
+							return null;
+						} else {
+							reachable = false;
+						}
+					}
+				}
+			} else if (UIEvents.TrimmedWindow.TRIMBARS.equals(feature)
+					&& parent instanceof MTrimmedWindow) {
+				reachable &= (searchFlags & IN_TRIM) != 0;
+			} else if (UIEvents.Window.WINDOWS.equals(feature)
+					&& (parent instanceof MWindow || parent instanceof MPerspective)) {
+				// detached windows are always searched
+			} else if (UIEvents.Window.MAINMENU.equals(feature) && parent instanceof MWindow) {
+				reachable &= (searchFlags & IN_MAIN_MENU) != 0;
+			} else if ((UIEvents.Part.MENUS.equals(feature) || UIEvents.Part.TOOLBAR
+					.equals(feature)) && parent instanceof MPart) {
+				reachable &= (searchFlags & IN_PART) != 0;
+			} else if (UIEvents.Window.SHAREDELEMENTS.equals(feature)
+					|| UIEvents.SnippetContainer.SNIPPETS.equals(feature)
+					|| UIEvents.PartDescriptorContainer.DESCRIPTORS.equals(feature)
+					|| UIEvents.Application.ADDONS.equals(feature)) {
+				// only reached through placeholders, if at all
+				reachable = false;
+			} else {
+				return null;
+			}
+			current = parent;
+		}
+		return Boolean.valueOf(reachable);
+	}
+
+	/**
+	 * Orders elements in the order in which the recursive search encounters them.
+	 */
+	private static final class SearchOrderComparator<T> implements Comparator<T> {
+
+		private static final String[] FEATURE_ORDER = { UIEvents.ElementContainer.CHILDREN,
+				UIEvents.TrimmedWindow.TRIMBARS, UIEvents.Window.WINDOWS,
+				UIEvents.Window.MAINMENU, UIEvents.Part.MENUS, UIEvents.Part.TOOLBAR };
+
+		private final MApplicationElement searchRoot;
+		private final Map<Object, List<Integer>> paths = new HashMap<Object, List<Integer>>();
+
+		SearchOrderComparator(MApplicationElement searchRoot) {
+			this.searchRoot = searchRoot;
+		}
+
+		@Override
+		public int compare(T element1, T element2) {
+			List<Integer> path1 = getPath(element1);
+			List<Integer> path2 = getPath(element2);
+			int length = Math.min(path1.size(), path2.size());
+			for (int i = 0; i < length; i++) {
+				int result = path1.get(i).compareTo(path2.get(i));
+				if (result != 0) {
+					return result;
+				}
+			}
+			return path1.size() - path2.size();
+		}
+
+		private List<Integer> getPath(Object element) {
+			List<Integer> result = paths.get(element);
+			if (result == null) {
+				result = new ArrayList<Integer>();
+				EObject current = (EObject) element;
+				while (current != searchRoot) {
+					EObject parent = current.eContainer();
+					EStructuralFeature feature = current.eContainmentFeature();
+					int position = 0;
+					if (feature.isMany()) {
+						position = ((List<?>) parent.eGet(feature)).indexOf(current);
+					}
+					result.add(0, Integer.valueOf(position));
+					result.add(0, Integer.valueOf(getFeatureOrder(feature.getName())));
+					current = parent;
+				}
+				paths.put(element, result);
+			}
+			return result;
+		}
+
+		private static int getFeatureOrder(String feature) {
+			for (int i = 0; i < FEATURE_ORDER.length; i++) {
+				if (FEATURE_ORDER[i].equals(feature)) {
+					return i;
+				}
+			}
+			return FEATURE_ORDER.length;
+		}
+	}
+
 	@Override
 	public <T> List<T> findElements(MUIElement searchRoot, String id, Class<T> clazz,
 			List<String> tagsToMatch) {
-		ElementMatcher matcher = new ElementMatcher(id, clazz, tagsToMatch);
-		return findElements(searchRoot, clazz, ANYWHERE, matcher);
+		return findElements(searchRoot, id, clazz, tagsToMatch, ANYWHERE);
 	}
 
 	@Override
 	public <T> List<T> findElements(MUIElement searchRoot, String id, Class<T> clazz,
 			List<String> tagsToMatch, int searchFlags) {
 		ElementMatcher matcher = new ElementMatcher(id, clazz, tagsToMatch);
+		List<T> elements = findIndexedElements(searchRoot, clazz, matcher, searchFlags, id,
+				tagsToMatch);
+		if (elements != null) {
+			return elements;
+		}
 		return findElements(searchRoot, clazz, searchFlags, matcher);
 	}
 
 	@Override
 	public <T> List<T> findElements(MApplicationElement searchRoot, Class<T> clazz,
 			int searchFlags, Selector matcher) {
-		List<T> elements = new ArrayList<T>();
+		List<T> elements = findIndexedElements(searchRoot, clazz, matcher, searchFlags, null,
+				null);
+		if (elements != null) {
+			return elements;
+		}
+		elements = new ArrayList<T>();
 		findElementsRecursive(searchRoot, clazz, matcher, elements, searchFlags);
 		return elements;
 	}
@@ -0,0 +1,236 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.e4.ui.internal.workbench;
+
+import java.io.InputStream;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import org.eclipse.core.runtime.IExtension;
+import org.eclipse.core.runtime.IExtensionPoint;
+import org.eclipse.core.runtime.IExtensionRegistry;
+import org.eclipse.core.runtime.IRegistryEventListener;
+import org.eclipse.e4.core.contexts.ContextInjectionFactory;
+import org.eclipse.e4.core.contexts.IEclipseContext;
+import org.eclipse.e4.core.services.log.Logger;
+import org.eclipse.e4.ui.model.application.MApplication;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.BundleEvent;
+import org.osgi.framework.BundleListener;
+
+/**
+ * Keeps the initial application models of the applications, i.e. the application definition with
+ * the model fragments applied. Sessions get a copy of the template instead of loading and
+ * assembling the model again. The templates are discarded when the model extensions or the
+ * installed bundles change.
+ * <p>
+ * The imports of the fragments are resolved when the template is assembled. Unlike a model that
+ * is assembled by {@link ModelAssembler#processModel(boolean)}, the processors that run after the
+ * fragments hence see the resolved imports in the copy of a session.
+ * </p>
+ */
+// RAP: the initial model is the same for all sessions of an application
+final class ModelTemplateCache {
+
+	private static final Map<String, Template> templates = new HashMap<String, Template>();
+	private static IExtensionRegistry registry;
+	private static IRegistryEventListener registryListener;
+	private static BundleContext bundleContext;
+	private static BundleListener bundleListener;
+
+	private ModelTemplateCache() {
+		// prevent instantiation
+	}
+
+	/**
+	 * Adds a copy of the initial application model for the given application definition to the
+	 * given resource.
+	 *
+	 * @return <code>false</code> if the model cannot be shared, e.g. because there are processors
+	 *         that need to run before the fragments are applied, or if the template could not be
+	 *         created
+	 */
+	static boolean copyTemplate(URI uri, IEclipseContext context, Resource target) {
+		IExtensionRegistry extensionRegistry = context.get(IExtensionRegistry.class);
+		if (extensionRegistry == null
+				|| ModelAssembler.hasProcessors(extensionRegistry, true, false)) {
+			return false;
+		}
+		Template template;
+		synchronized (templates) {
+			String key = uri.toString();
+			template = templates.get(key);
+			if (template == null) {
+				template = createTemplate(uri, context);
+				if (template == null) {
+					return false;
+				}
+				addListeners(extensionRegistry);
+				templates.put(key, template);
+			}
+		}
+		template.copyTo(target);
+		return true;
+	}
+
+	/**
+	 * Discards all templates and removes the listeners.
+	 */
+	static void clear() {
+		synchronized (templates) {
+			templates.clear();
+			if (registry != null) {
+				registry.removeListener(registryListener);
+				registry = null;
+				registryListener = null;
+			}
+			if (bundleContext != null) {
+				try {
+					bundleContext.removeBundleListener(bundleListener);
+				} catch (IllegalStateException e) {
+					// bundle context is no longer valid
+				}
+				bundleContext = null;
+				bundleListener = null;
+			}
+		}
+	}
+
+	private static Template createTemplate(URI uri, IEclipseContext context) {
+		Logger logger = context.get(Logger.class);
+		ResourceSetImpl resourceSet = ResourceHandler.createResourceSet();
+		Resource resource = resourceSet.createResource(uri);
+		try {
+			InputStream stream = new URL(uri.toString()).openStream();
+			try {
+				resource.load(stream, resourceSet.getLoadOptions());
+			} finally {
+				stream.close();
+			}
+		} catch (Exception e) {
+			if (logger != null) {
+				logger.error(e, "Unable to load resource " + uri.toString()); //$NON-NLS-1$
+			}
+			return null;
+		}
+		if (resource.getContents().isEmpty()) {
+			return null;
+		}
+		ResourceHandler.setContributorURI(resource, uri);
+		MApplication application = (MApplication) resource.getContents().get(0);
+		IEclipseContext assemblyContext = context.createChild("ModelTemplate"); //$NON-NLS-1$
+		try {
+			assemblyContext.set(MApplication.class, application);
+			ModelAssembler assembler = ContextInjectionFactory.make(ModelAssembler.class,
+					assemblyContext);
+			assembler.processFragments(true);
+		} finally {
+			assemblyContext.dispose();
+		}
+		// copying must not trigger any proxy resolution in the shared model
+		EcoreUtil.resolveAll(resourceSet);
+		return new Template((E4XMIResource) resource);
+	}
+
+	private static void addListeners(IExtensionRegistry extensionRegistry) {
+		if (registry == null) {
+			registryListener = new IRegistryEventListener() {
+				@Override
+				public void added(IExtension[] extensions) {
+					invalidate();
+				}
+
+				@Override
+				public void removed(IExtension[] extensions) {
+					invalidate();
+				}
+
+				@Override
+				public void added(IExtensionPoint[] extensionPoints) {
+					// nothing to do
+				}
+
+				@Override
+				public void removed(IExtensionPoint[] extensionPoints) {
+					// nothing to do
+				}
+			};
+			extensionRegistry.addListener(registryListener, ModelAssembler.extensionPointID);
+			registry = extensionRegistry;
+		}
+		Activator activator = Activator.getDefault();
+		if (bundleContext == null && activator != null && activator.getContext() != null) {
+			bundleListener = new BundleListener() {
+				@Override
+				public void bundleChanged(BundleEvent event) {
+					int type = event.getType();
+					if (type == BundleEvent.UPDATED || type == BundleEvent.UNRESOLVED
+							|| type == BundleEvent.RESOLVED) {
+						invalidate();
+					}
+				}
+			};
+			bundleContext = activator.getContext();
+			bundleContext.addBundleListener(bundleListener);
+		}
+	}
+
+	private static void invalidate() {
+		synchronized (templates) {
+			templates.clear();
+		}
+	}
+
+	private static final class Template {
+
+		private final EObject application;
+		private final Map<EObject, String> ids;
+
+		Template(E4XMIResource resource) {
+			application = resource.getContents().get(0);
+			ids = new HashMap<EObject, String>();
+			// collect the ids upfront, E4XMIResource generates missing ids on demand
+			for (Iterator<EObject> it = resource.getAllContents(); it.hasNext();) {
+				EObject eObject = it.next();
+				String id = resource.getID(eObject);
+				if (id != null) {
+					ids.put(eObject, id);
+				}
+			}
+		}
+
+		// EMF creates the feature lists of a model element lazily on first access, hence even
+		// reading the template is not thread safe
+		synchronized void copyTo(Resource target) {
+			EcoreUtil.Copier copier = new EcoreUtil.Copier(true, true);
+			EObject copy = copier.copy(application);
+			copier.copyReferences();
+			target.getContents().add(copy);
+			if (target instanceof E4XMIResource) {
+				E4XMIResource resource = (E4XMIResource) target;
+				for (Entry<EObject, String> entry : ids.entrySet()) {
+					EObject copiedObject = copier.get(entry.getKey());
+					if (copiedObject != null) {
+						resource.setID(copiedObject, entry.getValue());
+					}
+				}
+			}
+		}
+	}
+}
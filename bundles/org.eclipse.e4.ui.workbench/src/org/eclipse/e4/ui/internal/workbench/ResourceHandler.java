@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2014 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -80,6 +80,12 @@ public class ResourceHandler implements IModelResourceHandler {
 	@Named(E4Workbench.INSTANCE_LOCATION)
 	private Location instanceLocation;
 
+	// RAP: share the assembled initial model between the sessions of an application
+	@Inject
+	@Optional
+	@Named(E4Workbench.MODEL_TEMPLATE_CACHE)
+	private Boolean modelTemplateCache;
+
 	/**
 	 * Dictates whether the model should be stored using EMF or with the merging algorithm.
 	 * https://bugs.eclipse.org/bugs/show_bug.cgi?id=295524
@@ -107,7 +113,11 @@ public class ResourceHandler implements IModelResourceHandler {
 
 	@PostConstruct
 	void init() {
-		resourceSetImpl = new ResourceSetImpl();
+		resourceSetImpl = createResourceSet();
+	}
+
+	static ResourceSetImpl createResourceSet() {
+		ResourceSetImpl resourceSetImpl = new ResourceSetImpl();
 		resourceSetImpl.getResourceFactoryRegistry().getExtensionToFactoryMap()
 				.put(Resource.Factory.Registry.DEFAULT_EXTENSION, new E4XMIResourceFactory());
 
@@ -126,7 +136,7 @@ public class ResourceHandler implements IModelResourceHandler {
 				.getPackageRegistry()
 				.put(org.eclipse.e4.ui.model.application.descriptor.basic.impl.BasicPackageImpl.eNS_URI,
 						org.eclipse.e4.ui.model.application.descriptor.basic.impl.BasicPackageImpl.eINSTANCE);
-
+		return resourceSetImpl;
 	}
 
 	/**
@@ -225,6 +235,7 @@ public class ResourceHandler implements IModelResourceHandler {
 		// boolean restore = restoreLastModified > lastApplicationModification;
 		boolean restore = restoreLastModified > 0;
 		boolean initialModel;
+		boolean fromTemplate = false;
 
 		resource = null;
 		if (restore && saveAndRestore) {
@@ -240,9 +251,19 @@ public class ResourceHandler implements IModelResourceHandler {
 			}
 		}
 		if (resource == null) {
-			Resource applicationResource = loadResource(applicationDefinitionInstance);
-			MApplication theApp = (MApplication) applicationResource.getContents().get(0);
-			resource = createResourceWithApp(theApp);
+			if (Boolean.TRUE.equals(modelTemplateCache)) {
+				resource = createResource();
+				fromTemplate = ModelTemplateCache.copyTemplate(applicationDefinitionInstance,
+						context, resource);
+				if (!fromTemplate) {
+					resourceSetImpl.getResources().remove(resource);
+				}
+			}
+			if (!fromTemplate) {
+				Resource applicationResource = loadResource(applicationDefinitionInstance);
+				MApplication theApp = (MApplication) applicationResource.getContents().get(0);
+				resource = createResourceWithApp(theApp);
+			}
 			context.set(E4Workbench.NO_SAVED_MODEL_FOUND, Boolean.TRUE);
 			initialModel = true;
 		} else {
@@ -256,7 +277,13 @@ public class ResourceHandler implements IModelResourceHandler {
 		this.context.set(MApplication.class, appElement);
 		ModelAssembler contribProcessor = ContextInjectionFactory.make(ModelAssembler.class,
 				context);
-		contribProcessor.processModel(initialModel);
+		if (fromTemplate) {
+			// the fragments are already part of the template, its imports are resolved before
+			// the processors run, see ModelTemplateCache
+			contribProcessor.runProcessors(initialModel, true);
+		} else {
+			contribProcessor.processModel(initialModel);
+		}
 
 		if (!hasTopLevelWindows(resource) && logger != null) {
 			logger.error(new Exception(), // log a stack trace to help debug the
@@ -332,6 +359,11 @@ public class ResourceHandler implements IModelResourceHandler {
 		}
 
 		// TODO once we switch from deltas, we only need this once on the default model?
+		setContributorURI(resource, uri);
+		return resource;
+	}
+
+	static void setContributorURI(Resource resource, URI uri) {
 		String contributorURI = URIHelper.EMFtoPlatform(uri);
 		if (contributorURI != null) {
 			TreeIterator<EObject> it = EcoreUtil.getAllContents(resource.getContents());
@@ -342,7 +374,6 @@ public class ResourceHandler implements IModelResourceHandler {
 				}
 			}
 		}
-		return resource;
 	}
 
 	private Resource getResource(URI uri) throws Exception {
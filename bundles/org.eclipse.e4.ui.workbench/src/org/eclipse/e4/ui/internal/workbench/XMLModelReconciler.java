@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -15,6 +15,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -142,6 +143,18 @@ public class XMLModelReconciler extends ModelReconciler {
 	 */
 	private WeakHashMap<EObject, EObject> originalObjects = new WeakHashMap<EObject, EObject>();
 
+	/**
+	 * The references of the model by id while deltas are constructed.
+	 */
+	private Map<String, Object> referenceIds;
+
+	/**
+	 * The original containers looked up while serializing, each lookup scans the recorded changes.
+	 */
+	private Map<EObject, Object> originalContainers;
+
+	private static final Object NO_CONTAINER = new Object();
+
 	/**
 	 * Records all of the objects in the original model so that we can determine whether an element
 	 * was originally a part of the defined model or not.
@@ -208,14 +221,26 @@ public class XMLModelReconciler extends ModelReconciler {
 			return deltas;
 		}
 
-		NodeList rootNodeList = (NodeList) rootElement;
-		for (int i = 0; i < rootNodeList.getLength(); i++) {
-			Node node = rootNodeList.item(i);
-			if (node instanceof Element) {
-				Element element = (Element) node;
-				constructDeltas(deltas, references, rootObject, element,
-						element.getAttribute(APPLICATIONELEMENT_ELEMENTID_ATTNAME));
+		// look up the changed elements and the references by id instead of searching the model
+		// for every change
+		Map<String, EObject> elements = new HashMap<String, EObject>();
+		collectElements(rootObject, elements);
+		referenceIds = indexReferences(references);
+		try {
+			NodeList rootNodeList = (NodeList) rootElement;
+			for (int i = 0; i < rootNodeList.getLength(); i++) {
+				Node node = rootNodeList.item(i);
+				if (node instanceof Element) {
+					Element element = (Element) node;
+					EObject changedObject = elements.get(element
+							.getAttribute(APPLICATIONELEMENT_ELEMENTID_ATTNAME));
+					if (changedObject != null) {
+						constructDeltas(deltas, references, changedObject, element);
+					}
+				}
 			}
+		} finally {
+			referenceIds = null;
 		}
 
 		return deltas;
@@ -256,74 +281,85 @@ public class XMLModelReconciler extends ModelReconciler {
 		return null;
 	}
 
-	private boolean constructDeltas(Collection<ModelDelta> deltas, List<Object> references,
-			EObject object, Element element, String id) {
+	/**
+	 * Maps the ids of the given references to the first reference with that id, i.e. the result
+	 * of {@link #findReference(List, String)}.
+	 */
+	static Map<String, Object> indexReferences(List<Object> references) {
+		Map<String, Object> index = new HashMap<String, Object>();
+		for (Object reference : references) {
+			if (reference instanceof MApplicationElement) {
+				String id = getLocalId(reference);
+				if (!index.containsKey(id)) {
+					index.put(id, reference);
+				}
+			}
+		}
+		return index;
+	}
+
+	private Object lookupReference(List<Object> references, String id) {
+		if (referenceIds != null) {
+			return referenceIds.get(id);
+		}
+		return findReference(references, id);
+	}
+
+	/**
+	 * Collects the elements that deltas can be applied to by their id. The model is traversed in
+	 * search order and only the first element with a given id is kept.
+	 */
+	private static void collectElements(EObject object, Map<String, EObject> elements) {
 		if (object instanceof MApplicationElement || object instanceof MKeyBinding) {
-			if (getLocalId(object).equals(id)) {
-				constructDeltas(deltas, references, object, element);
-				return true;
+			String id = getLocalId(object);
+			if (!elements.containsKey(id)) {
+				elements.put(id, object);
 			}
 		}
 
 		if (object instanceof MElementContainer<?>) {
 			for (Object child : ((MElementContainer<?>) object).getChildren()) {
-				if (constructDeltas(deltas, references, (EObject) child, element, id)) {
-					return true;
-				}
+				collectElements((EObject) child, elements);
 			}
 		}
 
 		if (object instanceof MPerspective) {
 			for (MWindow window : ((MPerspective) object).getWindows()) {
-				if (constructDeltas(deltas, references, (EObject) window, element, id)) {
-					return true;
-				}
+				collectElements((EObject) window, elements);
 			}
 		}
 
 		if (object instanceof MBindingTableContainer) {
 			for (MBindingTable bindingTable : ((MBindingTableContainer) object).getBindingTables()) {
-				if (constructDeltas(deltas, references, (EObject) bindingTable, element, id)) {
-					return true;
-				}
+				collectElements((EObject) bindingTable, elements);
 			}
 		}
 
 		if (object instanceof MBindingTable) {
 			for (MKeyBinding keyBinding : ((MBindingTable) object).getBindings()) {
-				if (constructDeltas(deltas, references, (EObject) keyBinding, element, id)) {
-					return true;
-				}
+				collectElements((EObject) keyBinding, elements);
 			}
 		}
 
 		if (object instanceof MHandlerContainer) {
 			for (MHandler handler : ((MHandlerContainer) object).getHandlers()) {
-				if (constructDeltas(deltas, references, (EObject) handler, element, id)) {
-					return true;
-				}
+				collectElements((EObject) handler, elements);
 			}
 		}
 
 		if (object instanceof MApplication) {
 			for (MCommand command : ((MApplication) object).getCommands()) {
-				if (constructDeltas(deltas, references, (EObject) command, element, id)) {
-					return true;
-				}
+				collectElements((EObject) command, elements);
 			}
 
 			for (MAddon addon : ((MApplication) object).getAddons()) {
-				if (constructDeltas(deltas, references, (EObject) addon, element, id)) {
-					return true;
-				}
+				collectElements((EObject) addon, elements);
 			}
 		}
 
 		if (object instanceof MPartDescriptorContainer) {
 			for (MPartDescriptor descriptor : ((MPartDescriptorContainer) object).getDescriptors()) {
-				if (constructDeltas(deltas, references, (EObject) descriptor, element, id)) {
-					return true;
-				}
+				collectElements((EObject) descriptor, elements);
 			}
 		}
 
@@ -331,71 +367,55 @@ public class XMLModelReconciler extends ModelReconciler {
 			MPart part = (MPart) object;
 
 			for (MMenu menu : part.getMenus()) {
-				if (constructDeltas(deltas, references, (EObject) menu, element, id)) {
-					return true;
-				}
+				collectElements((EObject) menu, elements);
 			}
 
 			MToolBar toolBar = part.getToolbar();
 			if (toolBar != null) {
-				if (constructDeltas(deltas, references, (EObject) toolBar, element, id)) {
-					return true;
-				}
+				collectElements((EObject) toolBar, elements);
 			}
 		}
 
 		if (object instanceof MMenuContributions) {
 			for (MMenuContribution contribution : ((MMenuContributions) object)
 					.getMenuContributions()) {
-				if (constructDeltas(deltas, references, (EObject) contribution, element, id)) {
-					return true;
-				}
+				collectElements((EObject) contribution, elements);
 			}
 		}
 
 		if (object instanceof MToolBarContributions) {
 			for (MToolBarContribution contribution : ((MToolBarContributions) object)
 					.getToolBarContributions()) {
-				if (constructDeltas(deltas, references, (EObject) contribution, element, id)) {
-					return true;
-				}
+				collectElements((EObject) contribution, elements);
 			}
 		}
 
 		if (object instanceof MTrimContributions) {
 			for (MTrimContribution contribution : ((MTrimContributions) object)
 					.getTrimContributions()) {
-				if (constructDeltas(deltas, references, (EObject) contribution, element, id)) {
-					return true;
-				}
+				collectElements((EObject) contribution, elements);
 			}
 		}
 
 		if (object instanceof MWindow) {
 			MWindow window = (MWindow) object;
-			if (constructDeltas(deltas, references, (EObject) window.getMainMenu(), element, id)) {
-				return true;
+			if (window.getMainMenu() != null) {
+				collectElements((EObject) window.getMainMenu(), elements);
 			}
 
 			if (object instanceof MTrimmedWindow) {
 				MTrimmedWindow trimmedWindow = (MTrimmedWindow) object;
 				for (MTrimBar trimBar : trimmedWindow.getTrimBars()) {
-					if (constructDeltas(deltas, references, (EObject) trimBar, element, id)) {
-						return true;
-					}
+					collectElements((EObject) trimBar, elements);
 				}
 			}
 		}
 
 		if (object instanceof MHandledItem) {
 			for (MParameter parameter : ((MHandledItem) object).getParameters()) {
-				if (constructDeltas(deltas, references, (EObject) parameter, element, id)) {
-					return true;
-				}
+				collectElements((EObject) parameter, elements);
 			}
 		}
-
-		return false;
 	}
 
 	private void constructDeltas(Collection<ModelDelta> deltas, List<Object> references,
@@ -477,7 +497,7 @@ public class XMLModelReconciler extends ModelReconciler {
 		Element reference = getFirstElement(referencedIds);
 		String referenceId = reference.getAttribute(APPLICATIONELEMENT_ELEMENTID_ATTNAME);
 
-		Object match = findReference(references, referenceId);
+		Object match = lookupReference(references, referenceId);
 		if (match == null) {
 			// couldn't find a reference, must be a new object
 			match = createObject(deltas, reference, references);
@@ -503,7 +523,7 @@ public class XMLModelReconciler extends ModelReconciler {
 		Element reference = getFirstElement(referencedIds);
 		String referenceId = reference.getAttribute(APPLICATIONELEMENT_ELEMENTID_ATTNAME);
 
-		Object match = findReference(references, referenceId);
+		Object match = lookupReference(references, referenceId);
 		if (match == null) {
 			return createDelayedDelta(eObject, feature, reference);
 		}
@@ -668,7 +688,7 @@ public class XMLModelReconciler extends ModelReconciler {
 				} else {
 					String referenceId = reference
 							.getAttribute(APPLICATIONELEMENT_ELEMENTID_ATTNAME);
-					Object match = findReference(references, referenceId);
+					Object match = lookupReference(references, referenceId);
 					if (match != null) {
 						// determine if this was a reference set by the user or a reference that was
 						// originally defined by the application
@@ -703,7 +723,7 @@ public class XMLModelReconciler extends ModelReconciler {
 			List<Object> references) {
 		String id = element.getAttribute(APPLICATIONELEMENT_ELEMENTID_ATTNAME);
 		if (!id.equals("")) { //$NON-NLS-1$
-			return findReference(references, id);
+			return lookupReference(references, id);
 		}
 		return createObject(deltas, element, references);
 	}
@@ -731,7 +751,7 @@ public class XMLModelReconciler extends ModelReconciler {
 					if (attributeFeature != null) {
 						if (isDirectReference(attributeName)) {
 							String id = item.getAttribute(attributeName);
-							Object objectReference = findReference(references, id);
+							Object objectReference = lookupReference(references, id);
 							if (objectReference == null) {
 								objectReference = createObject(deltas,
 										getFirstElement((NodeList) item), references);
@@ -742,7 +762,7 @@ public class XMLModelReconciler extends ModelReconciler {
 							compositeDelta.add(delta);
 						} else if (isIndirectReference(attributeName)) {
 							String id = item.getAttribute(attributeName);
-							Object objectReference = findReference(references, id);
+							Object objectReference = lookupReference(references, id);
 							if (objectReference == null) {
 								NodeList list = (NodeList) item;
 								Element refElement = getFirstElement(list);
@@ -851,7 +871,15 @@ public class XMLModelReconciler extends ModelReconciler {
 	@Override
 	public Object serialize() {
 		calculateDeltas();
+		originalContainers = new IdentityHashMap<EObject, Object>();
+		try {
+			return serializeChanges();
+		} finally {
+			originalContainers = null;
+		}
+	}
 
+	private Document serializeChanges() {
 		// begin construction of the XML document
 		Document document = createDocument();
 		Element root = document.createElement(CHANGES_ELEMENT_NAME);
@@ -1042,6 +1070,20 @@ public class XMLModelReconciler extends ModelReconciler {
 	 *         initially exist
 	 */
 	private EObject getOriginalContainer(EObject reference) {
+		if (originalContainers == null) {
+			return computeOriginalContainer(reference);
+		}
+		Object container = originalContainers.get(reference);
+		if (container == null) {
+			EObject originalContainer = computeOriginalContainer(reference);
+			originalContainers.put(reference, originalContainer == null ? NO_CONTAINER
+					: originalContainer);
+			return originalContainer;
+		}
+		return container == NO_CONTAINER ? null : (EObject) container;
+	}
+
+	private EObject computeOriginalContainer(EObject reference) {
 		if (changeDescription == null) {
 			// no changes have been recorded, just ask the container through EMF directly
 			return reference.eContainer();
@@ -53,6 +53,7 @@ public class Activator implements BundleActivator {
 			eventAdminTracker.close();
 			eventAdminTracker = null;
 		}
+		SessionEventBroker.shutdownDeliveryExecutor();
 		bundleContext = null;
 		singleton = null;
 	}
@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.rap.e4.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Stores values by event topic and finds all values whose topic matches a
+ * given event topic. Topics are split into segments at <code>/</code>, a
+ * trailing <code>*</code> segment matches one or more segments, just like
+ * topics of OSGi event handlers do.
+ * <p>
+ * Lookups do not lock and may run concurrently with modifications.
+ * </p>
+ */
+class EventTopicTrie<T> {
+
+	private static final String WILDCARD = "*"; //$NON-NLS-1$
+	private static final char SEPARATOR = '/';
+
+	private final Node<T> root = new Node<T>();
+
+	synchronized void add(String topic, T value) {
+		Node<T> node = root;
+		int start = 0;
+		int end = topic.indexOf(SEPARATOR);
+		while (end != -1) {
+			node = node.getOrCreateChild(topic.substring(start, end));
+			start = end + 1;
+			end = topic.indexOf(SEPARATOR, start);
+		}
+		String last = topic.substring(start);
+		if (WILDCARD.equals(last)) {
+			node.wildcardValues.add(value);
+		} else {
+			node.getOrCreateChild(last).values.add(value);
+		}
+	}
+
+	synchronized boolean remove(String topic, T value) {
+		List<Node<T>> path = new ArrayList<Node<T>>();
+		List<String> segments = new ArrayList<String>();
+		Node<T> node = root;
+		int start = 0;
+		int end = topic.indexOf(SEPARATOR);
+		while (node != null && end != -1) {
+			path.add(node);
+			segments.add(topic.substring(start, end));
+			node = node.children.get(topic.substring(start, end));
+			start = end + 1;
+			end = topic.indexOf(SEPARATOR, start);
+		}
+		if (node == null) {
+			return false;
+		}
+		String last = topic.substring(start);
+		boolean result;
+		if (WILDCARD.equals(last)) {
+			result = node.wildcardValues.remove(value);
+		} else {
+			Node<T> child = node.children.get(last);
+			result = child != null && child.values.remove(value);
+			if (child != null && child.isEmpty()) {
+				node.children.remove(last);
+			}
+		}
+		// remove the nodes that became empty, bottom up
+		for (int i = path.size() - 1; i >= 0 && node.isEmpty(); i--) {
+			path.get(i).children.remove(segments.get(i));
+			node = path.get(i);
+		}
+		return result;
+	}
+
+	/**
+	 * Adds all values that match the given topic to <code>result</code>.
+	 * Values registered for a wildcard topic are added before those
+	 * registered for the exact topic.
+	 */
+	void collect(String topic, List<T> result) {
+		Node<T> node = root;
+		int start = 0;
+		while (node != null) {
+			result.addAll(node.wildcardValues);
+			int end = topic.indexOf(SEPARATOR, start);
+			if (end == -1) {
+				node = node.children.get(topic.substring(start));
+				if (node != null) {
+					result.addAll(node.values);
+				}
+				return;
+			}
+			node = node.children.get(topic.substring(start, end));
+			start = end + 1;
+		}
+	}
+
+	/**
+	 * Returns <code>true</code> if no values are stored. Nodes that became
+	 * empty are removed, hence an empty trie holds no nodes besides its root.
+	 */
+	boolean isEmpty() {
+		return root.isEmpty();
+	}
+
+	private static final class Node<T> {
+
+		final Map<String, Node<T>> children = new ConcurrentHashMap<String, Node<T>>();
+		final List<T> values = new CopyOnWriteArrayList<T>();
+		final List<T> wildcardValues = new CopyOnWriteArrayList<T>();
+
+		boolean isEmpty() {
+			return children.isEmpty() && values.isEmpty() && wildcardValues.isEmpty();
+		}
+
+		Node<T> getOrCreateChild(String segment) {
+			Node<T> child = children.get(segment);
+			if (child == null) {
+				child = new Node<T>();
+				children.put(segment, child);
+			}
+			return child;
+		}
+	}
+}
@@ -31,7 +31,7 @@ import org.osgi.service.event.EventHandler;
 public class RAPEventBroker implements IEventBroker {
 	    // TBD synchronization
 
-	    private static final String	ASYNC_EVENT = "rap.async.event";
+	    static final String	ASYNC_EVENT = "rap.async.event";
 
 		private Map<EventHandler, Collection<ServiceRegistration<?>>> registrations = new HashMap<EventHandler, Collection<ServiceRegistration<?>>>();
 
@@ -71,7 +71,7 @@ public class RAPEventBroker implements IEventBroker {
 		}
 
 		public boolean send(String topic, Object data) {
-			Event event = constructEvent(topic, data, false);
+			Event event = constructEvent(rapifyTopic(instanceId, topic), data, false);
 			EventAdmin eventAdmin = Activator.getDefault().getEventAdmin();
 			if (eventAdmin == null) {
 				logger.error(NLS.bind("No EventAdmin", event.toString()));
@@ -82,7 +82,7 @@ public class RAPEventBroker implements IEventBroker {
 		}
 
 		public boolean post(String topic, Object data) {
-			Event event = constructEvent(topic, data, true);
+			Event event = constructEvent(rapifyTopic(instanceId, topic), data, true);
 			EventAdmin eventAdmin = Activator.getDefault().getEventAdmin();
 			if (eventAdmin == null) {
 				logger.error(NLS.bind("No EventAdmin", event.toString()));
@@ -93,8 +93,7 @@ public class RAPEventBroker implements IEventBroker {
 		}
 
 		@SuppressWarnings("unchecked")
-		private Event constructEvent(String topic, Object data, boolean async) {
-			topic = rapifyTopic(instanceId, topic);
+		static Event constructEvent(String topic, Object data, boolean async) {
 			Event event;
 			if (data instanceof Dictionary<?,?>) {
 				Dictionary<String,Object> properties = (Dictionary<String,Object>)data;
@@ -3,10 +3,18 @@ package org.eclipse.rap.e4.internal;
 import org.eclipse.e4.core.contexts.ContextFunction;
 import org.eclipse.e4.core.contexts.ContextInjectionFactory;
 import org.eclipse.e4.core.contexts.IEclipseContext;
+import org.eclipse.e4.ui.internal.workbench.swt.E4Application;
 
+@SuppressWarnings("restriction")
 public class RAPEventBrokerContextFunction extends ContextFunction {
 	@Override
 	public Object compute(IEclipseContext context) {
+		if (SessionEventBroker.isEnabled()) {
+			IEclipseContext appContext = findApplicationContext(context);
+			if (appContext != null) {
+				return getSessionEventBroker(appContext);
+			}
+		}
 		RAPEventBroker broker = context.getLocal(RAPEventBroker.class);
 		if (broker == null) {
             broker = ContextInjectionFactory.make(RAPEventBroker.class, context);
@@ -14,4 +22,29 @@ public class RAPEventBrokerContextFunction extends ContextFunction {
 		}
 		return broker;
 	}
+
+	/*
+	 * All contexts of a session share the broker of the application context.
+	 * Contexts outside of a session, e.g. the OSGi service context, have no
+	 * application context and must not share a session broker.
+	 */
+	private static IEclipseContext findApplicationContext(IEclipseContext context) {
+		IEclipseContext current = context;
+		while (current != null) {
+			if (current.getLocal(E4Application.INSTANCEID) != null) {
+				return current;
+			}
+			current = current.getParent();
+		}
+		return null;
+	}
+
+	private static SessionEventBroker getSessionEventBroker(IEclipseContext appContext) {
+		SessionEventBroker broker = appContext.getLocal(SessionEventBroker.class);
+		if (broker == null) {
+			broker = ContextInjectionFactory.make(SessionEventBroker.class, appContext);
+			appContext.set(SessionEventBroker.class, broker);
+		}
+		return broker;
+	}
 }
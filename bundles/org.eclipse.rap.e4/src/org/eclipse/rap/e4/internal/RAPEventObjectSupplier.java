@@ -16,11 +16,13 @@ import jakarta.inject.Named;
 
 import org.eclipse.e4.core.di.IInjector;
 import org.eclipse.e4.core.di.InjectionException;
+import org.eclipse.e4.core.di.annotations.Optional;
 import org.eclipse.e4.core.di.extensions.EventTopic;
 import org.eclipse.e4.core.di.internal.extensions.util.EventUtils;
 import org.eclipse.e4.core.di.suppliers.ExtendedObjectSupplier;
 import org.eclipse.e4.core.di.suppliers.IObjectDescriptor;
 import org.eclipse.e4.core.di.suppliers.IRequestor;
+import org.eclipse.e4.core.services.events.IEventBroker;
 import org.eclipse.e4.ui.internal.workbench.swt.E4Application;
 import org.osgi.framework.Bundle;
 import org.osgi.framework.BundleContext;
@@ -127,12 +129,16 @@ public class RAPEventObjectSupplier extends ExtendedObjectSupplier {
 
 	}
 
-	private Map<Subscriber, ServiceRegistration> registrations = new HashMap<Subscriber, ServiceRegistration>();
+	private Map<Subscriber, Runnable> registrations = new HashMap<Subscriber, Runnable>();
 
 	@Inject
 	@Named(E4Application.INSTANCEID)
 	protected String instanceId;
 
+	@Inject
+	@Optional
+	protected IEventBroker eventBroker;
+
 	protected void addCurrentEvent(String topic, Event event) {
 		synchronized (currentEvents) {
 			currentEvents.put(topic, event);
@@ -150,12 +156,13 @@ public class RAPEventObjectSupplier extends ExtendedObjectSupplier {
 		if (descriptor == null)
 			return null;
 		String topic = getTopic(descriptor);
-		EventAdmin eventAdmin = getEventAdmin();
-		if (topic == null || eventAdmin == null || topic.length() == 0)
+		if (topic == null || topic.length() == 0)
+			return IInjector.NOT_A_VALUE;
+		if (!(eventBroker instanceof SessionEventBroker) && getEventAdmin() == null)
 			return IInjector.NOT_A_VALUE;
 
 		if (track)
-			subscribe(topic, eventAdmin, requestor);
+			subscribe(topic, requestor);
 		else
 			unsubscribe(requestor);
 
@@ -169,12 +176,29 @@ public class RAPEventObjectSupplier extends ExtendedObjectSupplier {
 		return currentEvents.get(topic).getProperty(EventUtils.DATA);
 	}
 
-	private void subscribe(String topic, EventAdmin eventAdmin, IRequestor requestor) {
+	private void subscribe(String topic, IRequestor requestor) {
 		Subscriber subscriber = new Subscriber(requestor, topic);
 		synchronized (registrations) {
 			if (registrations.containsKey(subscriber))
 				return;
 		}
+		EventHandler wrappedHandler = makeHandler(topic, requestor);
+		Runnable registration;
+		if (eventBroker instanceof SessionEventBroker) {
+			// handlers take care of UI synchronization, hence they are registered as headless
+			registration = ((SessionEventBroker) eventBroker).register(topic, null, wrappedHandler, true);
+			if (registration == null)
+				throw new InjectionException("Unable to subscribe to events: " + topic); //$NON-NLS-1$
+		} else {
+			registration = registerService(RAPEventBroker.rapifyTopic(instanceId, topic), wrappedHandler)::unregister;
+		}
+		// due to the way requestors are constructed this limited synch should be OK
+		synchronized (registrations) {
+			registrations.put(subscriber, registration);
+		}
+	}
+
+	private static ServiceRegistration<?> registerService(String topic, EventHandler handler) {
 		BundleContext bundleContext = Activator.getDefault().getBundleContext();
 		if (bundleContext == null)
 			throw new InjectionException("Unable to subscribe to events: org.eclipse.e4.core.di.extensions bundle is not activated"); //$NON-NLS-1$
@@ -182,12 +206,7 @@ public class RAPEventObjectSupplier extends ExtendedObjectSupplier {
 		String[] topics = new String[] {topic};
 		Dictionary<String, Object> d = new Hashtable<String, Object>();
 		d.put(EventConstants.EVENT_TOPIC, topics);
-		EventHandler wrappedHandler = makeHandler(topic, requestor);
-		ServiceRegistration registration = bundleContext.registerService(EventHandler.class.getName(), wrappedHandler, d);
-		// due to the way requestors are constructed this limited synch should be OK
-		synchronized (registrations) {
-			registrations.put(subscriber, registration);
-		}
+		return bundleContext.registerService(EventHandler.class.getName(), handler, d);
 	}
 
 	protected EventHandler makeHandler(String topic, IRequestor requestor) {
@@ -198,9 +217,7 @@ public class RAPEventObjectSupplier extends ExtendedObjectSupplier {
 		if (descriptor == null)
 			return null;
 		EventTopic qualifier = descriptor.getQualifier(EventTopic.class);
-		String topic = qualifier.value();
-		topic = RAPEventBroker.rapifyTopic(instanceId, topic);
-		return topic;
+		return qualifier.value();
 	}
 
 	static private EventAdmin getEventAdmin() {
@@ -211,14 +228,13 @@ public class RAPEventObjectSupplier extends ExtendedObjectSupplier {
 		if (requestor == null)
 			return;
 		synchronized (registrations) {
-			Iterator<Entry<Subscriber, ServiceRegistration>> i = registrations.entrySet().iterator();
+			Iterator<Entry<Subscriber, Runnable>> i = registrations.entrySet().iterator();
 			while (i.hasNext()) {
-				Entry<Subscriber, ServiceRegistration> entry = i.next();
+				Entry<Subscriber, Runnable> entry = i.next();
 				Subscriber key = entry.getKey();
 				if (!requestor.equals(key.getRequestor()))
 					continue;
-				ServiceRegistration registration = entry.getValue();
-				registration.unregister();
+				entry.getValue().run();
 				i.remove();
 			}
 		}
@@ -226,14 +242,14 @@ public class RAPEventObjectSupplier extends ExtendedObjectSupplier {
 
 	@PreDestroy
 	public void dispose() {
-		ServiceRegistration[] array;
+		Runnable[] array;
 		synchronized (registrations) {
-			Collection<ServiceRegistration> values = registrations.values();
-			array = values.toArray(new ServiceRegistration[values.size()]);
+			Collection<Runnable> values = registrations.values();
+			array = values.toArray(new Runnable[values.size()]);
 			registrations.clear();
 		}
 		for (int i = 0; i < array.length; i++) {
-			array[i].unregister();
+			array[i].run();
 		}
 	}
 
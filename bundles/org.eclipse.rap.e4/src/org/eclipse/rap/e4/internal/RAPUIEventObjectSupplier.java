@@ -76,7 +76,7 @@ public class RAPUIEventObjectSupplier extends RAPEventObjectSupplier {
       return null;
     }
     UIEventTopic qualifier = descriptor.getQualifier(UIEventTopic.class);
-    return RAPEventBroker.rapifyTopic(instanceId, qualifier.value());
+    return qualifier.value();
   }
 
 }
@@ -0,0 +1,381 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.rap.e4.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Dictionary;
+import java.util.HashMap;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+
+import org.eclipse.e4.core.di.annotations.Optional;
+import org.eclipse.e4.core.services.events.IEventBroker;
+import org.eclipse.e4.core.services.log.Logger;
+import org.eclipse.e4.ui.di.UISynchronize;
+import org.eclipse.osgi.util.NLS;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.Filter;
+import org.osgi.framework.FrameworkUtil;
+import org.osgi.framework.InvalidSyntaxException;
+import org.osgi.framework.ServiceRegistration;
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventAdmin;
+import org.osgi.service.event.EventConstants;
+import org.osgi.service.event.EventHandler;
+
+/**
+ * An event broker that dispatches events of a single session in memory,
+ * without going through the OSGi <code>EventAdmin</code>.
+ * <p>
+ * Subscriptions are kept in a topic trie, hence the cost of an event does not
+ * depend on the number of sessions or on the number of subscriptions for
+ * unrelated topics. Events sent with {@link #send(String, Object)} are
+ * dispatched synchronously, events sent with {@link #post(String, Object)}
+ * are dispatched in order on a background thread. All sessions share a fixed
+ * number of delivery threads. Handlers that are not headless receive posted
+ * events through {@link UISynchronize#asyncExec(Runnable)} and do not hold a
+ * delivery thread while they run.
+ * </p>
+ * <p>
+ * Topics that match one of the patterns in the system property
+ * {@value #GLOBAL_TOPICS_PROPERTY} (comma separated, e.g.
+ * <code>com/example/global/*</code>) are not session-local. Events for these
+ * topics are sent through the <code>EventAdmin</code> without an instance id
+ * prefix and are received by all sessions.
+ * </p>
+ * <p>
+ * This broker is used instead of {@link RAPEventBroker} if the system
+ * property {@value #MODE_PROPERTY} is set to <code>session</code>.
+ * </p>
+ */
+public class SessionEventBroker implements IEventBroker {
+
+	public static final String MODE_PROPERTY = "org.eclipse.rap.e4.eventBroker"; //$NON-NLS-1$
+	public static final String GLOBAL_TOPICS_PROPERTY = "org.eclipse.rap.e4.eventBroker.globalTopics"; //$NON-NLS-1$
+
+	private static final String SESSION_MODE = "session"; //$NON-NLS-1$
+	private static final int DELIVERY_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+	private static final long DELIVERY_KEEP_ALIVE_SECONDS = 60;
+	private static ThreadPoolExecutor deliveryExecutor;
+
+	private final EventTopicTrie<Subscription> subscriptions = new EventTopicTrie<Subscription>();
+	private final Map<EventHandler, Collection<Runnable>> registrations = new HashMap<EventHandler, Collection<Runnable>>();
+	private final Executor postQueue = new SerialExecutor(task -> getDeliveryExecutor().execute(task));
+	private final String[] globalTopics = getGlobalTopics();
+
+	@Inject
+	Logger logger;
+
+	@Inject
+	@Optional
+	UISynchronize uiSync;
+
+	public static boolean isEnabled() {
+		return SESSION_MODE.equals(System.getProperty(MODE_PROPERTY));
+	}
+
+	/**
+	 * Stops the threads that deliver posted events. Called when the bundle is
+	 * stopped, events posted afterwards start new threads.
+	 */
+	static synchronized void shutdownDeliveryExecutor() {
+		if (deliveryExecutor != null) {
+			deliveryExecutor.shutdown();
+			deliveryExecutor = null;
+		}
+	}
+
+	/*
+	 * The number of threads is bounded, idle threads terminate after a while.
+	 * Each session queues at most one task at a time, which drains the events
+	 * posted in that session, hence the queue is bounded by the number of
+	 * sessions.
+	 */
+	static synchronized ThreadPoolExecutor getDeliveryExecutor() {
+		if (deliveryExecutor == null) {
+			deliveryExecutor = new ThreadPoolExecutor(DELIVERY_THREADS, DELIVERY_THREADS, DELIVERY_KEEP_ALIVE_SECONDS,
+					TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), runnable -> {
+						Thread thread = new Thread(runnable, "RAP SessionEventBroker Delivery"); //$NON-NLS-1$
+						thread.setDaemon(true);
+						return thread;
+					});
+			deliveryExecutor.allowCoreThreadTimeOut(true);
+		}
+		return deliveryExecutor;
+	}
+
+	@Override
+	public boolean send(String topic, Object data) {
+		Event event = RAPEventBroker.constructEvent(topic, data, false);
+		if (isGlobal(topic)) {
+			EventAdmin eventAdmin = getEventAdmin();
+			if (eventAdmin == null) {
+				logger.error(NLS.bind("No EventAdmin", event.toString())); //$NON-NLS-1$
+				return false;
+			}
+			eventAdmin.sendEvent(event);
+		} else {
+			dispatch(event);
+		}
+		return true;
+	}
+
+	@Override
+	public boolean post(String topic, Object data) {
+		final Event event = RAPEventBroker.constructEvent(topic, data, true);
+		if (isGlobal(topic)) {
+			EventAdmin eventAdmin = getEventAdmin();
+			if (eventAdmin == null) {
+				logger.error(NLS.bind("No EventAdmin", event.toString())); //$NON-NLS-1$
+				return false;
+			}
+			eventAdmin.postEvent(event);
+		} else {
+			postQueue.execute(() -> dispatch(event));
+		}
+		return true;
+	}
+
+	@Override
+	public boolean subscribe(String topic, EventHandler eventHandler) {
+		return subscribe(topic, null, eventHandler, false);
+	}
+
+	@Override
+	public boolean subscribe(String topic, String filter, EventHandler eventHandler, boolean headless) {
+		Runnable registration = register(topic, filter, eventHandler, headless);
+		if (registration == null) {
+			return false;
+		}
+		synchronized (registrations) {
+			Collection<Runnable> handled = registrations.get(eventHandler);
+			if (handled == null) {
+				registrations.put(eventHandler, handled = new ArrayList<Runnable>());
+			}
+			handled.add(registration);
+		}
+		return true;
+	}
+
+	@Override
+	public boolean unsubscribe(EventHandler eventHandler) {
+		Collection<Runnable> handled;
+		synchronized (registrations) {
+			handled = registrations.remove(eventHandler);
+		}
+		if (handled == null || handled.isEmpty()) {
+			return false;
+		}
+		for (Runnable registration : handled) {
+			registration.run();
+		}
+		return true;
+	}
+
+	/**
+	 * Registers the given handler for a topic and returns a runnable that
+	 * removes the registration again, or <code>null</code> if the handler
+	 * could not be registered. Unlike
+	 * {@link #subscribe(String, String, EventHandler, boolean)}, the
+	 * registration is not tracked by this broker.
+	 */
+	Runnable register(final String topic, String filter, EventHandler eventHandler, boolean headless) {
+		Filter eventFilter = null;
+		if (filter != null) {
+			try {
+				eventFilter = FrameworkUtil.createFilter(filter);
+			} catch (InvalidSyntaxException exception) {
+				logger.error(exception, NLS.bind("Invalid event filter: {0}", filter)); //$NON-NLS-1$
+				return null;
+			}
+		}
+		EventHandler handler = new RAPUIEventHandler(eventHandler, headless ? null : uiSync);
+		final ServiceRegistration<?> serviceRegistration;
+		if (overlapsGlobalTopic(topic)) {
+			serviceRegistration = registerService(topic, filter, handler);
+			if (serviceRegistration == null) {
+				return null;
+			}
+		} else {
+			serviceRegistration = null;
+		}
+		final Subscription subscription = new Subscription(handler, eventFilter);
+		subscriptions.add(topic, subscription);
+		return () -> {
+			subscriptions.remove(topic, subscription);
+			if (serviceRegistration != null) {
+				serviceRegistration.unregister();
+			}
+		};
+	}
+
+	@PreDestroy
+	void dispose() {
+		List<Collection<Runnable>> values;
+		synchronized (registrations) {
+			values = new ArrayList<Collection<Runnable>>(registrations.values());
+			registrations.clear();
+		}
+		for (Collection<Runnable> handled : values) {
+			for (Runnable registration : handled) {
+				registration.run();
+			}
+		}
+	}
+
+	private void dispatch(Event event) {
+		List<Subscription> matching = new ArrayList<Subscription>();
+		subscriptions.collect(event.getTopic(), matching);
+		for (Subscription subscription : matching) {
+			if (subscription.filter == null || event.matches(subscription.filter)) {
+				try {
+					subscription.handler.handleEvent(event);
+				} catch (RuntimeException exception) {
+					logger.error(exception, NLS.bind("Exception while dispatching event {0}", event)); //$NON-NLS-1$
+				}
+			}
+		}
+	}
+
+	EventAdmin getEventAdmin() {
+		Activator activator = Activator.getDefault();
+		return activator == null ? null : activator.getEventAdmin();
+	}
+
+	BundleContext getBundleContext() {
+		Activator activator = Activator.getDefault();
+		return activator == null ? null : activator.getBundleContext();
+	}
+
+	private ServiceRegistration<?> registerService(String topic, String filter, EventHandler handler) {
+		BundleContext bundleContext = getBundleContext();
+		if (bundleContext == null) {
+			logger.error(NLS.bind("No EventAdmin", topic)); //$NON-NLS-1$
+			return null;
+		}
+		Dictionary<String, Object> d = new Hashtable<String, Object>();
+		d.put(EventConstants.EVENT_TOPIC, new String[] { topic });
+		if (filter != null) {
+			d.put(EventConstants.EVENT_FILTER, filter);
+		}
+		return bundleContext.registerService(EventHandler.class.getName(), handler, d);
+	}
+
+	private boolean isGlobal(String topic) {
+		for (String globalTopic : globalTopics) {
+			if (matches(globalTopic, topic)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/*
+	 * A subscription needs to be registered with the EventAdmin if it may
+	 * receive events of a global topic, i.e. if its topic matches a global
+	 * pattern or if its wildcard covers a global pattern.
+	 */
+	private boolean overlapsGlobalTopic(String topic) {
+		for (String globalTopic : globalTopics) {
+			if (matches(globalTopic, topic) || matches(topic, globalTopic)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	static boolean matches(String pattern, String topic) {
+		if (pattern.equals("*")) { //$NON-NLS-1$
+			return true;
+		}
+		if (pattern.endsWith("/*")) { //$NON-NLS-1$
+			String prefix = pattern.substring(0, pattern.length() - 1);
+			return topic.startsWith(prefix) && topic.length() > prefix.length();
+		}
+		return pattern.equals(topic);
+	}
+
+	private static String[] getGlobalTopics() {
+		String value = System.getProperty(GLOBAL_TOPICS_PROPERTY);
+		if (value == null || value.trim().length() == 0) {
+			return new String[0];
+		}
+		List<String> result = new ArrayList<String>();
+		for (String topic : value.split(",")) { //$NON-NLS-1$
+			if (topic.trim().length() > 0) {
+				result.add(topic.trim());
+			}
+		}
+		return result.toArray(new String[result.size()]);
+	}
+
+	private static final class Subscription {
+
+		final EventHandler handler;
+		final Filter filter;
+
+		Subscription(EventHandler handler, Filter filter) {
+			this.handler = handler;
+			this.filter = filter;
+		}
+	}
+
+	/*
+	 * Runs tasks one after another on a shared executor, preserving the order
+	 * in which events have been posted within one session.
+	 */
+	private static final class SerialExecutor implements Executor {
+
+		private final Queue<Runnable> tasks = new ArrayDeque<Runnable>();
+		private final Executor executor;
+		private boolean running;
+
+		SerialExecutor(Executor executor) {
+			this.executor = executor;
+		}
+
+		@Override
+		public synchronized void execute(Runnable task) {
+			tasks.add(task);
+			if (!running) {
+				running = true;
+				executor.execute(this::drain);
+			}
+		}
+
+		private void drain() {
+			Runnable task = next();
+			while (task != null) {
+				task.run();
+				task = next();
+			}
+		}
+
+		private synchronized Runnable next() {
+			Runnable task = tasks.poll();
+			if (task == null) {
+				running = false;
+			}
+			return task;
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2007 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,10 +10,19 @@
  *******************************************************************************/
 package org.eclipse.jface.resource;
 
+import java.util.Arrays;
+
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
+import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer.InstanceCreator;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.SWTException;
+import org.eclipse.swt.graphics.Device;
+import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.ImageData;
 import org.eclipse.swt.graphics.PaletteData;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.RGB;
+import org.eclipse.swt.internal.graphics.ImageFactory;
 
 /**
  * Abstract base class for image descriptors that synthesize an image from other
@@ -26,6 +35,11 @@ import org.eclipse.swt.graphics.RGB;
  * actually requested by a call to <code>createImage</code> (or to
  * <code>getImageData</code> directly).
  * </p>
+ * <p>
+ * Subclasses that provide a composition key (see {@link #getCompositionKey()})
+ * share the composed image with all UI sessions of the application, the image
+ * is computed only once for every distinct composition.
+ * </p>
  */
 public abstract class CompositeImageDescriptor extends ImageDescriptor {
 
@@ -180,6 +194,90 @@ public abstract class CompositeImageDescriptor extends ImageDescriptor {
 		return imageData;
 	}
 
+	/*
+	 * (non-Javadoc) Method declared on ImageDesciptor.
+	 */
+	public Image createImage(boolean returnMissingImageOnError, Device device) {
+		Object key = getCompositionKey();
+		if (key == null || !ContextProvider.hasContext()) {
+			return super.createImage(returnMissingImageOnError, device);
+		}
+		try {
+			ImageFactory imageFactory = ContextProvider.getApplicationContext().getImageFactory();
+			return imageFactory.createComposedImage(device, key, new InstanceCreator<Object, ImageData>() {
+				public ImageData createInstance(Object compositionKey) {
+					ImageData data = getImageData();
+					if (data == null) {
+						// nothing is cached, the fallback below handles the missing data
+						SWT.error(SWT.ERROR_INVALID_IMAGE);
+					}
+					return data;
+				}
+			});
+		} catch (SWTException exception) {
+			return super.createImage(returnMissingImageOnError, device);
+		}
+	}
+
+	/**
+	 * Returns a key that describes the composition of this image completely,
+	 * i.e. two descriptors with equal keys have to produce the same image. The
+	 * key is used to share the composed image between all UI sessions, it must
+	 * therefore not refer to any session specific objects. Subclasses should
+	 * use {@link #createCompositionKey(Object[])} to create the key.
+	 * <p>
+	 * The default implementation returns <code>null</code>, the image is
+	 * composed whenever it is created.
+	 * </p>
+	 *
+	 * @return the composition key or <code>null</code> if the image must not
+	 *         be shared
+	 * @since 4.5
+	 */
+	protected Object getCompositionKey() {
+		return null;
+	}
+
+	/**
+	 * Creates a composition key from the given parts. The parts may contain
+	 * <code>null</code>, strings, numbers, points, images and image descriptors
+	 * for files and URLs. Images are represented by their shared resource.
+	 *
+	 * @param parts
+	 *            the parts that describe the composition
+	 * @return a composition key or <code>null</code> if one of the parts can
+	 *         not be shared between UI sessions
+	 * @since 4.5
+	 */
+	protected final Object createCompositionKey(Object[] parts) {
+		Object[] key = new Object[parts.length + 1];
+		key[0] = getClass();
+		for (int i = 0; i < parts.length; i++) {
+			Object part = parts[i];
+			if (part instanceof Image) {
+				Image image = (Image) part;
+				if (image.isDisposed() || image.internalImage == null) {
+					return null;
+				}
+				part = "image:" + image.internalImage.getResourceName(); //$NON-NLS-1$
+			} else if (!isShareable(part)) {
+				return null;
+			}
+			key[i + 1] = part;
+		}
+		return Arrays.asList(key);
+	}
+
+	private static boolean isShareable(Object part) {
+		return part == null
+				|| part instanceof String
+				|| part instanceof Number
+				|| part instanceof Point
+				|| part instanceof FileImageDescriptor
+				|| part instanceof URLImageDescriptor
+				|| part instanceof MissingImageDescriptor;
+	}
+
 	/**
 	 * Return the transparent pixel for the receiver.
 	 * <strong>NOTE</strong> This value is not currently in use in the
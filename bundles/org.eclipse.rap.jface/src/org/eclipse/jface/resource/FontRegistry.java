@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2009 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -16,8 +16,10 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
@@ -27,6 +29,9 @@ import org.eclipse.core.runtime.Assert;
 import org.eclipse.jface.internal.util.SerializableRunnable;
 import org.eclipse.jface.util.Policy;
 import org.eclipse.jface.util.Util;
+import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.SingletonUtil;
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTException;
 import org.eclipse.swt.graphics.Font;
@@ -192,6 +197,10 @@ public class FontRegistry extends ResourceRegistry {
      */
     private Map stringToFontData = new HashMap(7);
 
+    // RAP: font data of the resource bundle that is shared by all sessions.
+    // An entry is copied into stringToFontData when it is first used.
+    private Map sharedFontData = Collections.EMPTY_MAP;
+
     /**
      * Collection of Fonts that are now stale to be disposed
      * when it is safe to do so (i.e. on shutdown).
@@ -283,9 +292,8 @@ public class FontRegistry extends ResourceRegistry {
             throws MissingResourceException {
         Display display = Display.getCurrent();
         Assert.isNotNull(display);
-        // FIXE: need to respect loader
-        //readResourceBundle(location, loader);
-        readResourceBundle(location);
+        // RAP: the loader is used if given
+        readResourceBundle(location, loader);
 
         cleanOnDisplayDisposal = true;
         hookDisplayDispose(display);
@@ -314,9 +322,10 @@ public class FontRegistry extends ResourceRegistry {
      * Read the resource bundle at location. Look for a file with the
      * extension _os_ws first, then _os then just the name.
      * @param location - String - the location of the file.
+     * @param loader - ClassLoader - the loader of the file or <code>null</code>.
      */
 
-    private void readResourceBundle(String location) {
+    private void readResourceBundle(String location, ClassLoader loader) {
 
     	// RAP [bm]: ui has nothing to do with the server os 
 //        String osname = System.getProperty("os.name").trim(); //$NON-NLS-1$
@@ -366,8 +375,15 @@ public class FontRegistry extends ResourceRegistry {
         stringToFontData.put( JFaceResources.HEADER_FONT,
                               new FontData[] { makeFontData( headerFont ) } );
 
-        ResourceBundle bundle = ResourceBundle.getBundle(location);
-        readResourceBundle(bundle, location);
+        // RAP: the font data of a bundle is read once per application, the
+        // session copies the entries it uses as FontData is mutable
+        if (ContextProvider.hasContext()) {
+            sharedFontData = BundleFontDataStore.getInstance().get(location,
+                    loader);
+            stringToFontData.keySet().removeAll(sharedFontData.keySet());
+        } else {
+            stringToFontData.putAll(readFontData(location, loader));
+        }
 
     	// RAPEND: [bm] 
 
@@ -615,7 +631,7 @@ public class FontRegistry extends ResourceRegistry {
     public FontData[] getFontData(String symbolicName) {
 
         Assert.isNotNull(symbolicName);
-        Object result = stringToFontData.get(symbolicName);
+        Object result = getSessionFontData(symbolicName);
         if (result == null) {
 			return defaultFontData();
 		}
@@ -694,7 +710,7 @@ public class FontRegistry extends ResourceRegistry {
 			return (FontRecord) result;
 		}
 
-        result = stringToFontData.get(symbolicName);
+        result = getSessionFontData(symbolicName);
 
         FontRecord fontRecord;
 
@@ -722,14 +738,21 @@ public class FontRegistry extends ResourceRegistry {
      * @see org.eclipse.jface.resource.ResourceRegistry#getKeySet()
      */
     public Set getKeySet() {
-        return Collections.unmodifiableSet(stringToFontData.keySet());
+        // RAP: include the shared font data that has not been used yet
+        if (sharedFontData.isEmpty()) {
+            return Collections.unmodifiableSet(stringToFontData.keySet());
+        }
+        Set result = new HashSet(sharedFontData.keySet());
+        result.addAll(stringToFontData.keySet());
+        return Collections.unmodifiableSet(result);
     }
 
     /* (non-Javadoc)
      * @see org.eclipse.jface.resource.ResourceRegistry#hasValueFor(java.lang.String)
      */
     public boolean hasValueFor(String fontKey) {
-        return stringToFontData.containsKey(fontKey);
+        return stringToFontData.containsKey(fontKey)
+                || sharedFontData.containsKey(fontKey);
     }
 
     /* (non-Javadoc)
@@ -790,12 +813,12 @@ public class FontRegistry extends ResourceRegistry {
     /**
      * Converts a String into a FontData object.
      */
-    private FontData makeFontData(String value) throws MissingResourceException {
+    private static FontData makeFontData(String value) throws MissingResourceException {
         try {
             return StringConverter.asFontData(value.trim());
         } catch (DataFormatException e) {
             throw new MissingResourceException(
-                    "Wrong font data format. Value is: \"" + value + "\"", getClass().getName(), value); //$NON-NLS-2$//$NON-NLS-1$
+                    "Wrong font data format. Value is: \"" + value + "\"", FontRegistry.class.getName(), value); //$NON-NLS-2$//$NON-NLS-1$
         }
     }
 
@@ -835,7 +858,7 @@ public class FontRegistry extends ResourceRegistry {
         Assert.isNotNull(symbolicName);
         Assert.isNotNull(fontData);
 
-        FontData[] existing = (FontData[]) stringToFontData.get(symbolicName);
+        FontData[] existing = getSessionFontData(symbolicName);
         if (Arrays.equals(existing, fontData)) {
 			return;
 		}
@@ -852,13 +875,44 @@ public class FontRegistry extends ResourceRegistry {
 		}
     }
 
+    // RAP: read into a map that can be shared by all sessions
+    private static Map readFontData(String location, ClassLoader loader) {
+        Map result = new HashMap(7);
+        ResourceBundle bundle = loader == null ? ResourceBundle
+                .getBundle(location) : ResourceBundle.getBundle(location, Locale
+                .getDefault(), loader);
+        readResourceBundle(bundle, location, result);
+        return Collections.unmodifiableMap(result);
+    }
+
+    // RAP: returns the font data of the session, shared font data is copied
+    // on first use as it is handed out to clients and listeners
+    private FontData[] getSessionFontData(String symbolicName) {
+        FontData[] result = (FontData[]) stringToFontData.get(symbolicName);
+        if (result == null) {
+            FontData[] source = (FontData[]) sharedFontData.get(symbolicName);
+            if (source != null) {
+                result = new FontData[source.length];
+                for (int i = 0; i < source.length; i++) {
+                    if (source[i] != null) {
+                        result[i] = new FontData(source[i].getName(),
+                                source[i].getHeight(), source[i].getStyle());
+                        result[i].setLocale(source[i].getLocale());
+                    }
+                }
+                stringToFontData.put(symbolicName, result);
+            }
+        }
+        return result;
+    }
+
     /**
      * Reads the resource bundle.  This puts FontData[] objects
      * in the mapping table.  These will lazily be turned into
      * real Font objects when requested.
      */
-    private void readResourceBundle(ResourceBundle bundle, String bundleName)
-            throws MissingResourceException {
+    private static void readResourceBundle(ResourceBundle bundle, String bundleName,
+            Map stringToFontData) throws MissingResourceException {
         Enumeration keys = bundle.getKeys();
         while (keys.hasMoreElements()) {
             String key = (String) keys.nextElement();
@@ -902,4 +956,28 @@ public class FontRegistry extends ResourceRegistry {
 	public FontDescriptor defaultFontDescriptor() {
 		return FontDescriptor.createFrom(defaultFontData());
 	}
+
+	// RAP: the font data of the resource bundles, shared by all sessions of an
+	// application. Sessions copy the entries they use into their own table.
+	private static final class BundleFontDataStore {
+		private final Map bundles = new HashMap();
+
+		private BundleFontDataStore() {
+		}
+
+		static BundleFontDataStore getInstance() {
+			return SingletonUtil.getUniqueInstance(BundleFontDataStore.class,
+					RWT.getApplicationContext());
+		}
+
+		synchronized Map get(String location, ClassLoader loader) {
+			List key = Arrays.asList(new Object[] { location, loader });
+			Map result = (Map) bundles.get(key);
+			if (result == null) {
+				result = readFontData(location, loader);
+				bundles.put(key, result);
+			}
+			return result;
+		}
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -174,6 +174,30 @@ public class JFaceResources {
     public ImageRegistry getImageRegistry() {
       return imageRegistry;
     }
+    private void initializeDefaultImages() {
+      Map descriptors = DefaultImageStore.getInstance().getDescriptors();
+      Iterator iterator = descriptors.entrySet().iterator();
+      while( iterator.hasNext() ) {
+        Map.Entry entry = ( Map.Entry )iterator.next();
+        imageRegistry.put( ( String )entry.getKey(), ( ImageDescriptor )entry.getValue() );
+      }
+    }
+  }
+
+  // RAP: the descriptors of the default images are shared by all sessions of an application
+  private final static class DefaultImageStore {
+    private final Map descriptors;
+    private DefaultImageStore() {
+      descriptors = new LinkedHashMap();
+      initializeDefaultImages();
+    }
+    public static DefaultImageStore getInstance() {
+      return SingletonUtil.getUniqueInstance( DefaultImageStore.class,
+                                              RWT.getApplicationContext() );
+    }
+    public Map getDescriptors() {
+      return descriptors;
+    }
     
 	/**
 	 * Initialize default images in JFace's image registry.
@@ -251,7 +275,7 @@ public class JFaceResources {
 		if (descriptor == null)
 			descriptor = ImageDescriptor.createFromFile(fallback, fallbackPath);
 
-		imageRegistry.put(key, descriptor);
+		descriptors.put(key, descriptor);
 
 	}
   }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2009 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -711,6 +711,10 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 		// the associate of b to item 0.
 
 		Object[] children = getSortedChildren(getRoot());
+		if (isIncrementalRefresh()
+				&& internalRefreshAllIncrementally(children, updateLabels)) {
+			return;
+		}
 		Item[] items = doGetItems();
 		int min = Math.min(children.length, items.length);
 		for (int i = 0; i < min; ++i) {
@@ -770,6 +774,61 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 		}
 	}
 
+	/**
+	 * Refreshes all elements of the table incrementally, see
+	 * {@link StructuredViewer#setIncrementalRefresh(boolean)}.
+	 *
+	 * @param children
+	 *            the sorted and filtered elements to show
+	 * @param updateLabels
+	 *            <code>true</code> to update the labels of existing elements
+	 * @return <code>false</code> if the elements could not be matched, e.g.
+	 *         because of duplicate elements
+	 */
+	// RAP: items that keep their element are neither cleared nor relabeled
+	private boolean internalRefreshAllIncrementally(Object[] children,
+			boolean updateLabels) {
+		Item[] items = doGetItems();
+		Object[] elements = new Object[items.length];
+		for (int i = 0; i < items.length; i++) {
+			elements[i] = items[i].getData();
+		}
+		ElementDiff diff = ElementDiff.compute(elements, children,
+				newHashtable(items.length * 2));
+		if (diff == null) {
+			return false;
+		}
+		// disassociate all items before associating any, see
+		// internalRefreshAll(boolean)
+		int[] removed = diff.getRemovedIndices();
+		for (int i = 0; i < removed.length; i++) {
+			disassociate(items[removed[i]]);
+		}
+		if (removed.length == items.length) {
+			if (items.length > 0) {
+				doRemoveAll();
+			}
+		} else if (removed.length > 0) {
+			doRemove(removed);
+		}
+		// the retained items are in order, hence inserting the other
+		// elements in ascending order places all items at their index
+		for (int i = 0; i < children.length; i++) {
+			if (diff.isRetained(i)) {
+				Item item = items[diff.getOldIndex(i)];
+				if (updateLabels && needsLabelUpdate(item, children[i])) {
+					updateItem(item, children[i]);
+				} else {
+					// remove stale references (see bug 31314)
+					associate(children[i], item);
+				}
+			} else {
+				createItem(children[i], i);
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * Removes the given elements from this table viewer.
 	 *
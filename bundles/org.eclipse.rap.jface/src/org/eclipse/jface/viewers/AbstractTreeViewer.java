@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -2611,6 +2611,17 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 			}
 		}
 
+		if (isIncrementalRefresh()
+				&& updateChildrenIncrementally(widget, elementChildren, items,
+						expanded, updateLabels)) {
+			// WORKAROUND
+			if (widget == tree && oldCnt == 0 && getItemCount(tree) != 0) {
+				tree.setRedraw(false);
+				tree.setRedraw(true);
+			}
+			return;
+		}
+
 		int min = Math.min(elementChildren.length, items.length);
 
 		// dispose of surplus items, optimizing for the case where elements have
@@ -2741,6 +2752,79 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 		}
 	}
 
+	/**
+	 * Updates the child items of the given widget incrementally, see
+	 * {@link StructuredViewer#setIncrementalRefresh(boolean)}. Items of moved
+	 * elements are disposed and created again, their expanded state is
+	 * restored.
+	 *
+	 * @param widget
+	 *            the parent widget
+	 * @param elementChildren
+	 *            the sorted and filtered child elements
+	 * @param items
+	 *            the existing child items
+	 * @param expanded
+	 *            the elements of the expanded child items
+	 * @param updateLabels
+	 *            <code>true</code> to update the labels of existing elements
+	 * @return <code>false</code> if the elements could not be matched, e.g.
+	 *         because of a dummy item or duplicate elements
+	 */
+	// RAP: items that keep their element are neither cleared nor relabeled
+	private boolean updateChildrenIncrementally(Widget widget,
+			Object[] elementChildren, Item[] items, CustomHashtable expanded,
+			boolean updateLabels) {
+		Object[] elements = new Object[items.length];
+		for (int i = 0; i < items.length; i++) {
+			elements[i] = items[i].getData();
+		}
+		ElementDiff diff = ElementDiff.compute(elements, elementChildren,
+				newHashtable(items.length * 2));
+		if (diff == null) {
+			return false;
+		}
+		int[] removed = diff.getRemovedIndices();
+		for (int i = 0; i < removed.length; i++) {
+			Item item = items[removed[i]];
+			disassociate(item);
+			item.dispose();
+		}
+		boolean restoreExpanded = false;
+		for (int i = 0; i < elementChildren.length; i++) {
+			Object newElement = elementChildren[i];
+			if (diff.isRetained(i)) {
+				Item item = items[diff.getOldIndex(i)];
+				Object oldElement = item.getData();
+				if (newElement != oldElement) {
+					// update the data to be the new element, since although the
+					// elements may be equal, they may still have different
+					// labels or children
+					unmapElement(oldElement, item);
+					item.setData(newElement);
+					mapElement(newElement, item);
+				}
+				updatePlus(item, newElement);
+				if (updateLabels && needsLabelUpdate(item, newElement)) {
+					updateItem(item, newElement);
+				}
+			} else {
+				createTreeItem(widget, newElement, i);
+				restoreExpanded |= expanded.containsKey(newElement);
+			}
+		}
+		if (restoreExpanded) {
+			// the children are filled in when the structure is refreshed
+			Item[] children = getChildren(widget);
+			for (int i = 0; i < elementChildren.length; i++) {
+				if (!diff.isRetained(i) && expanded.containsKey(elementChildren[i])) {
+					setExpanded(children[i], true);
+				}
+			}
+		}
+		return true;
+	}
+
 	/** Returns true if children were pruned */
 	/*package*/ boolean optionallyPruneChildren(Item item, Object element) {
 		// need a dummy node if element is expandable;
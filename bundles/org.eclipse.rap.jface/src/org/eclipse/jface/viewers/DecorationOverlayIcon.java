@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2008 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -181,6 +181,17 @@ public class DecorationOverlayIcon extends CompositeImageDescriptor {
         drawOverlays(overlays);
     }
 
+    /* (non-Javadoc)
+     * @see org.eclipse.jface.resource.CompositeImageDescriptor#getCompositionKey()
+     */
+    protected Object getCompositionKey() {
+        Object[] parts = new Object[overlays.length + 2];
+        parts[0] = base;
+        parts[1] = new Point(size.x, size.y);
+        System.arraycopy(overlays, 0, parts, 2, overlays.length);
+        return createCompositionKey(parts);
+    }
+
     /* (non-Javadoc)
      * @see org.eclipse.jface.resource.CompositeImageDescriptor#getSize()
      */
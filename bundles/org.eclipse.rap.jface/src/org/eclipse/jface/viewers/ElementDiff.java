@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.jface.viewers;
+
+/**
+ * Matches the elements shown by the items of a viewer against the elements
+ * that a refresh obtained from the content provider. Elements are matched
+ * through a {@link CustomHashtable}, i.e. with the viewer's
+ * {@link IElementComparer}.
+ * <p>
+ * The longest sequence of matched elements that keeps its relative order
+ * retains its items. All other old items are removed, all other new elements
+ * are inserted. This turns a refresh into the minimal number of item
+ * insertions and removals, moved elements are removed and inserted again.
+ * </p>
+ */
+// RAP: a full refresh used to update every item that changed its position
+final class ElementDiff {
+
+	private final int[] oldIndices;
+	private final boolean[] retained;
+	private final int[] removedIndices;
+
+	private ElementDiff(int[] oldIndices, boolean[] retained,
+			int[] removedIndices) {
+		this.oldIndices = oldIndices;
+		this.retained = retained;
+		this.removedIndices = removedIndices;
+	}
+
+	/**
+	 * Computes the difference between the given element lists.
+	 *
+	 * @param oldElements
+	 *            the elements of the existing items
+	 * @param newElements
+	 *            the elements to show
+	 * @param table
+	 *            an empty hashtable that uses the viewer's comparer
+	 * @return the difference, or <code>null</code> if the elements cannot be
+	 *         matched since one of the lists contains <code>null</code> or
+	 *         duplicate elements
+	 */
+	static ElementDiff compute(Object[] oldElements, Object[] newElements,
+			CustomHashtable table) {
+		for (int i = 0; i < oldElements.length; i++) {
+			if (oldElements[i] == null
+					|| table.put(oldElements[i], Integer.valueOf(i)) != null) {
+				return null;
+			}
+		}
+		int[] oldIndices = new int[newElements.length];
+		boolean[] matched = new boolean[oldElements.length];
+		for (int i = 0; i < newElements.length; i++) {
+			Integer oldIndex = newElements[i] == null ? null
+					: (Integer) table.get(newElements[i]);
+			if (oldIndex == null) {
+				oldIndices[i] = -1;
+			} else if (matched[oldIndex.intValue()]) {
+				return null;
+			} else {
+				oldIndices[i] = oldIndex.intValue();
+				matched[oldIndex.intValue()] = true;
+			}
+		}
+		boolean[] retained = findLongestIncreasingRun(oldIndices);
+		boolean[] kept = new boolean[oldElements.length];
+		int keptCount = 0;
+		for (int i = 0; i < newElements.length; i++) {
+			if (retained[i]) {
+				kept[oldIndices[i]] = true;
+				keptCount++;
+			}
+		}
+		int[] removedIndices = new int[oldElements.length - keptCount];
+		int count = 0;
+		for (int i = 0; i < oldElements.length; i++) {
+			if (!kept[i]) {
+				removedIndices[count++] = i;
+			}
+		}
+		return new ElementDiff(oldIndices, retained, removedIndices);
+	}
+
+	/**
+	 * @param index
+	 *            the index of a new element
+	 * @return whether the new element is shown by the existing item at
+	 *         {@link #getOldIndex(int)}
+	 */
+	boolean isRetained(int index) {
+		return retained[index];
+	}
+
+	/**
+	 * @param index
+	 *            the index of a new element
+	 * @return the index of the matching old element, or <code>-1</code> if
+	 *         the element is new
+	 */
+	int getOldIndex(int index) {
+		return oldIndices[index];
+	}
+
+	/**
+	 * @return the ascending indices of the old items to remove, i.e. of
+	 *         removed and moved elements
+	 */
+	int[] getRemovedIndices() {
+		return removedIndices;
+	}
+
+	/*
+	 * Marks the longest strictly increasing subsequence of the non-negative
+	 * values, O(n log n).
+	 */
+	private static boolean[] findLongestIncreasingRun(int[] values) {
+		int[] tails = new int[values.length];
+		int[] predecessors = new int[values.length];
+		int length = 0;
+		for (int i = 0; i < values.length; i++) {
+			if (values[i] < 0) {
+				continue;
+			}
+			int low = 0;
+			int high = length;
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				if (values[tails[middle]] < values[i]) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+			predecessors[i] = low > 0 ? tails[low - 1] : -1;
+			tails[low] = i;
+			if (low == length) {
+				length++;
+			}
+		}
+		boolean[] result = new boolean[values.length];
+		int index = length > 0 ? tails[length - 1] : -1;
+		while (index >= 0) {
+			result[index] = true;
+			index = predecessors[index];
+		}
+		return result;
+	}
+}
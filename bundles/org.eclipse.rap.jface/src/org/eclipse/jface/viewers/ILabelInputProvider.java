@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.jface.viewers;
+
+/**
+ * This interface is used by viewers with an incremental refresh to find out
+ * whether the label of an element has to be updated. The label input of an
+ * element captures all the state that the label providers of the viewer use
+ * to compute the label of the element, e.g. the name and the modification
+ * stamp of a resource.
+ * <p>
+ * During an incremental refresh, the labels of existing elements are only
+ * updated when the label input of the element is not equal to the label
+ * input at the time of the last label update.
+ * </p>
+ *
+ * @see StructuredViewer#setLabelInputProvider(ILabelInputProvider)
+ * @see StructuredViewer#setIncrementalRefresh(boolean)
+ * @since 4.5
+ */
+public interface ILabelInputProvider {
+
+	/**
+	 * Returns the label input of the given element. Label inputs are compared
+	 * with <code>equals</code>. They are not serialized with the viewer, after
+	 * a session is restored all labels are updated once.
+	 *
+	 * @param element
+	 *            the element
+	 * @return the label input, or <code>null</code> to always update the
+	 *         label of the element
+	 */
+	Object getLabelInput(Object element);
+}
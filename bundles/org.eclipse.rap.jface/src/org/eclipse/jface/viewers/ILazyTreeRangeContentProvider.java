@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.jface.viewers;
+
+/**
+ * The ILazyTreeRangeContentProvider is a content provider for tree viewers
+ * created using the SWT.VIRTUAL flag whose elements are expensive to obtain
+ * one by one, e.g. because every request is a round trip to a database.
+ * <p>
+ * Unlike an {@link ILazyTreeContentProvider}, this content provider does not
+ * update the viewer itself. The viewer asks for contiguous ranges of children
+ * that cover the items the client is about to show, i.e. the visible items
+ * plus the items preloaded by the tree (see
+ * <code>RWT.PRELOADED_ITEMS</code>), extended in the direction the user
+ * scrolls. Fetched children are cached by the viewer and discarded again when
+ * they leave a window around the last requested item.
+ * </p>
+ *
+ * @see TreeViewer#setLazyRangeWindow(int)
+ * @see TreeViewer#setLazyRangePrefetch(int)
+ * @since 4.5
+ */
+public interface ILazyTreeRangeContentProvider extends IContentProvider {
+
+	/**
+	 * Returns the number of children of the given element.
+	 *
+	 * @param element
+	 *            the element, or the viewer's input if the number of root
+	 *            elements is requested
+	 * @return the number of children
+	 */
+	public int getChildCount(Object element);
+
+	/**
+	 * Returns a range of children of the given parent.
+	 *
+	 * @param parent
+	 *            the parent, or the viewer's input if root elements are
+	 *            requested
+	 * @param offset
+	 *            the index of the first child to return
+	 * @param count
+	 *            the number of children to return
+	 * @return the children, the array may be shorter than <code>count</code>
+	 *         if the parent has fewer children than expected
+	 */
+	public Object[] fetchChildren(Object parent, int offset, int count);
+
+	/**
+	 * Returns whether the given element has children. This method is called
+	 * for every fetched element, implementations should answer it without a
+	 * separate round trip, e.g. from a column fetched with the element.
+	 *
+	 * @param element
+	 *            the element
+	 * @return <code>true</code> if the element has children
+	 */
+	public boolean hasChildren(Object element);
+
+	/**
+	 * Returns the parent for the given element, or <code>null</code>
+	 * indicating that the parent can't be computed.
+	 *
+	 * @param element
+	 *            the element
+	 * @return the parent element, or <code>null</code> if it has none or if
+	 *         the parent cannot be computed
+	 */
+	public Object getParent(Object element);
+}
@@ -0,0 +1,248 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.jface.viewers;
+
+import java.io.Serializable;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.rap.rwt.RWT;
+import org.eclipse.swt.widgets.Tree;
+import org.eclipse.swt.widgets.TreeItem;
+import org.eclipse.swt.widgets.Widget;
+
+/**
+ * Answers the lazy updates of a {@link TreeViewer} from the ranges fetched
+ * from an {@link ILazyTreeRangeContentProvider}.
+ * <p>
+ * The tree still requests its items one by one. The first request for an
+ * element that is not cached fetches a range that covers the visible items
+ * and the items preloaded by the tree, extended by the prefetch of the viewer
+ * in the direction of the request. The following requests of the same window
+ * are answered from the cache. After every fetch, cached elements and items
+ * outside the window of the viewer are discarded, expanded and selected
+ * items are kept.
+ * </p>
+ */
+// RAP: a tree over a large database hierarchy used to issue a query per item
+final class LazyTreeRangeLoader implements ILazyTreeContentProvider {
+
+	private static final int MIN_BATCH_SIZE = 32;
+
+	private final TreeViewer viewer;
+	private final ILazyTreeRangeContentProvider provider;
+	private CustomHashtable states;
+
+	LazyTreeRangeLoader(TreeViewer viewer, ILazyTreeRangeContentProvider provider) {
+		this.viewer = viewer;
+		this.provider = provider;
+	}
+
+	public void updateElement(Object parent, int index) {
+		ParentState state = getState(parent);
+		boolean forward = index >= state.lastIndex;
+		state.lastIndex = index;
+		Object element = state.elements.get(Integer.valueOf(index));
+		if (element == null) {
+			fetch(parent, state, index, forward);
+			element = state.elements.get(Integer.valueOf(index));
+			if (element == null) {
+				return;
+			}
+		}
+		viewer.replace(parent, index, element);
+		viewer.setHasChildren(element, provider.hasChildren(element));
+		state.materialized.set(index);
+	}
+
+	public void updateChildCount(Object element, int currentChildCount) {
+		// a new child count is requested on refresh, forget the fetched children
+		ParentState state = new ParentState(provider.getChildCount(element));
+		getStates().put(element, state);
+		if (state.childCount != currentChildCount) {
+			viewer.setChildCount(element, state.childCount);
+		}
+	}
+
+	public Object getParent(Object element) {
+		return provider.getParent(element);
+	}
+
+	public void inputChanged(Viewer viewer, Object oldInput, Object newInput) {
+		states = null;
+	}
+
+	public void dispose() {
+		states = null;
+	}
+
+	/**
+	 * Discards the cached children of the given collapsed parent.
+	 */
+	void collapsed(Object parent) {
+		if (states != null) {
+			ParentState state = (ParentState) states.get(parent);
+			if (state != null) {
+				state.elements.clear();
+			}
+		}
+	}
+
+	private CustomHashtable getStates() {
+		if (states == null) {
+			states = new CustomHashtable(viewer.getComparer());
+		}
+		return states;
+	}
+
+	private ParentState getState(Object parent) {
+		ParentState result = (ParentState) getStates().get(parent);
+		if (result == null) {
+			result = new ParentState(provider.getChildCount(parent));
+			getStates().put(parent, result);
+		}
+		return result;
+	}
+
+	private void fetch(Object parent, ParentState state, int index, boolean forward) {
+		int preloaded = getPreloadedItems();
+		int batchSize = getBatchSize(preloaded);
+		int prefetch = viewer.getLazyRangePrefetch();
+		int from;
+		int to;
+		if (forward) {
+			from = index - preloaded;
+			to = index + batchSize + prefetch;
+		} else {
+			from = index - batchSize - prefetch + 1;
+			to = index + preloaded + 1;
+		}
+		from = Math.max(0, from);
+		to = Math.min(state.childCount, to);
+		// don't fetch the cached children at both ends of the range again
+		while (from < index && state.elements.containsKey(Integer.valueOf(from))) {
+			from++;
+		}
+		while (to > index + 1 && state.elements.containsKey(Integer.valueOf(to - 1))) {
+			to--;
+		}
+		if (from >= to) {
+			return;
+		}
+		Object[] children = provider.fetchChildren(parent, from, to - from);
+		if (children != null) {
+			for (int i = 0; i < children.length && from + i < to; i++) {
+				if (children[i] != null) {
+					state.elements.put(Integer.valueOf(from + i), children[i]);
+				}
+			}
+		}
+		evict(parent, state, Math.max(viewer.getLazyRangeWindow(), batchSize + prefetch));
+	}
+
+	private void evict(Object parent, ParentState state, int window) {
+		int low = state.lastIndex - window;
+		int high = state.lastIndex + window;
+		Iterator iterator = state.elements.keySet().iterator();
+		while (iterator.hasNext()) {
+			int index = ((Integer) iterator.next()).intValue();
+			if (index < low || index > high) {
+				iterator.remove();
+			}
+		}
+		int first = state.materialized.nextSetBit(0);
+		if ((first != -1 && first < low)
+				|| state.materialized.nextSetBit(high + 1) != -1) {
+			Widget widget = viewer.findItem(parent);
+			if (widget instanceof Tree || widget instanceof TreeItem) {
+				Set selection = getSelection();
+				clearItems(widget, state, 0, low, selection);
+				clearItems(widget, state, high + 1, Integer.MAX_VALUE, selection);
+			}
+		}
+	}
+
+	private void clearItems(Widget parentWidget, ParentState state, int from,
+			int to, Set selection) {
+		int itemCount = getItemCount(parentWidget);
+		int index = state.materialized.nextSetBit(from);
+		while (index != -1 && index < to) {
+			state.materialized.clear(index);
+			if (index < itemCount) {
+				TreeItem item = (TreeItem) viewer.getChild(parentWidget, index);
+				if (item.getExpanded() || selection.contains(item)) {
+					// keep the item, it stays materialized
+					state.materialized.set(index);
+				} else {
+					if (item.getData() != null) {
+						viewer.disassociate(item);
+					}
+					if (parentWidget instanceof Tree) {
+						((Tree) parentWidget).clear(index, false);
+					} else {
+						((TreeItem) parentWidget).clear(index, false);
+					}
+				}
+			}
+			index = state.materialized.nextSetBit(index + 1);
+		}
+	}
+
+	private Set getSelection() {
+		TreeItem[] items = viewer.getTree().getSelection();
+		Set result = new HashSet(items.length);
+		for (int i = 0; i < items.length; i++) {
+			result.add(items[i]);
+		}
+		return result;
+	}
+
+	private static int getItemCount(Widget widget) {
+		if (widget instanceof Tree) {
+			return ((Tree) widget).getItemCount();
+		}
+		return ((TreeItem) widget).getItemCount();
+	}
+
+	private int getPreloadedItems() {
+		Object preloaded = viewer.getTree().getData(RWT.PRELOADED_ITEMS);
+		if (preloaded instanceof Integer) {
+			return Math.max(0, ((Integer) preloaded).intValue());
+		}
+		return 0;
+	}
+
+	/*
+	 * The number of items the client shows and preloads around a visible item.
+	 */
+	private int getBatchSize(int preloaded) {
+		Tree tree = viewer.getTree();
+		int itemHeight = Math.max(1, tree.getItemHeight());
+		int visibleRows = tree.getClientArea().height / itemHeight + 1;
+		return Math.max(MIN_BATCH_SIZE, visibleRows + 2 * preloaded);
+	}
+
+	private static final class ParentState implements Serializable {
+
+		final int childCount;
+		final Map elements = new HashMap();
+		final BitSet materialized = new BitSet();
+		int lastIndex;
+
+		ParentState(int childCount) {
+			this.childCount = childCount;
+		}
+	}
+}
@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.jface.viewers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
+import org.eclipse.rap.rwt.service.UISession;
+import org.eclipse.swt.widgets.Control;
+
+/**
+ * Runs the comparators and filters of a {@link StructuredViewer} on the
+ * threads of the common fork-join pool. The elements are split into chunks,
+ * each chunk is sorted or filtered in the context of the viewer's UI session.
+ * Sorted chunks are merged in the same way. The results keep the order of
+ * equal elements and of the input, hence they are the same as the results of
+ * a sequential sort and filter.
+ *
+ * @see StructuredViewer#setParallelThreshold(int)
+ */
+// RAP: filtering large inputs blocks the UI session
+final class ParallelViewerSupport {
+
+	private static final int CHUNK_SIZE = 1024;
+
+	private ParallelViewerSupport() {
+		// prevent instantiation
+	}
+
+	/**
+	 * Returns whether the given viewer sorts and filters an input of the given
+	 * size in parallel.
+	 */
+	static boolean isParallel(Viewer viewer, int size) {
+		if (viewer instanceof StructuredViewer) {
+			int threshold = ((StructuredViewer) viewer).getParallelThreshold();
+			return threshold > 0 && size >= threshold;
+		}
+		return false;
+	}
+
+	/**
+	 * Sorts the given elements with the given comparator in parallel. The sort
+	 * is stable.
+	 *
+	 * @see Arrays#sort(Object[], Comparator)
+	 */
+	static void sort(Viewer viewer, final Object[] elements,
+			final Comparator comparator) {
+		final int length = elements.length;
+		UISession uiSession = getUISession(viewer);
+		run(uiSession, getChunkCount(length, CHUNK_SIZE), new IntConsumer() {
+			public void accept(int chunk) {
+				int start = chunk * CHUNK_SIZE;
+				Arrays.sort(elements, start, Math.min(length, start + CHUNK_SIZE),
+						comparator);
+			}
+		});
+		Object[] source = elements;
+		Object[] target = new Object[length];
+		for (int width = CHUNK_SIZE; width < length; width *= 2) {
+			final int runLength = width;
+			final Object[] from = source;
+			final Object[] to = target;
+			run(uiSession, getChunkCount(length, 2 * width), new IntConsumer() {
+				public void accept(int pair) {
+					int start = pair * 2 * runLength;
+					int middle = Math.min(length, start + runLength);
+					int end = Math.min(length, middle + runLength);
+					merge(from, to, start, middle, end, comparator);
+				}
+			});
+			source = to;
+			target = from;
+		}
+		if (source != elements) {
+			System.arraycopy(source, 0, elements, 0, length);
+		}
+	}
+
+	/**
+	 * Filters the given elements with the given filter in parallel.
+	 *
+	 * @see ViewerFilter#filter(Viewer, Object, Object[])
+	 */
+	static Object[] filter(final ViewerFilter filter, final Viewer viewer,
+			final Object parent, final Object[] elements) {
+		final boolean[] selected = new boolean[elements.length];
+		run(getUISession(viewer), getChunkCount(elements.length, CHUNK_SIZE),
+				new IntConsumer() {
+			public void accept(int chunk) {
+				int start = chunk * CHUNK_SIZE;
+				int end = Math.min(elements.length, start + CHUNK_SIZE);
+				for (int i = start; i < end; i++) {
+					selected[i] = filter.select(viewer, parent, elements[i]);
+				}
+			}
+		});
+		ArrayList out = new ArrayList(elements.length);
+		for (int i = 0; i < elements.length; i++) {
+			if (selected[i]) {
+				out.add(elements[i]);
+			}
+		}
+		return out.toArray();
+	}
+
+	/*
+	 * Merges the sorted ranges [start, middle) and [middle, end) of source into
+	 * target, the elements of the first range precede equal elements of the
+	 * second.
+	 */
+	private static void merge(Object[] source, Object[] target, int start,
+			int middle, int end, Comparator comparator) {
+		int i = start;
+		int j = middle;
+		int k = start;
+		while (i < middle && j < end) {
+			if (comparator.compare(source[j], source[i]) < 0) {
+				target[k++] = source[j++];
+			} else {
+				target[k++] = source[i++];
+			}
+		}
+		System.arraycopy(source, i, target, k, middle - i);
+		System.arraycopy(source, j, target, k + middle - i, end - j);
+	}
+
+	/*
+	 * Runs the given task for all indices in [0, count) in parallel, each in
+	 * the context of the given UI session.
+	 */
+	private static void run(final UISession uiSession, int count,
+			final IntConsumer task) {
+		IntStream.range(0, count).parallel().forEach(new IntConsumer() {
+			public void accept(final int index) {
+				if (uiSession != null) {
+					uiSession.exec(new Runnable() {
+						public void run() {
+							task.accept(index);
+						}
+					});
+				} else {
+					task.accept(index);
+				}
+			}
+		});
+	}
+
+	private static int getChunkCount(int length, int chunkSize) {
+		return (length + chunkSize - 1) / chunkSize;
+	}
+
+	private static UISession getUISession(Viewer viewer) {
+		Control control = viewer.getControl();
+		if (control != null && !control.isDisposed()) {
+			return RWT.getUISession(control.getDisplay());
+		}
+		return ContextProvider.hasContext() ? RWT.getUISession() : null;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -147,6 +147,38 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	 */
 	private static Widget[] NO_WIDGETS = new Widget[0];
 
+	// RAP: incremental refresh, see setIncrementalRefresh(boolean)
+	/**
+	 * The key under which the label input of the last label update is stored
+	 * in the data of an item.
+	 */
+	private static final String LABEL_INPUT_KEY = "org.eclipse.jface.viewers.labelInput"; //$NON-NLS-1$
+
+	/**
+	 * Indicates whether a full refresh updates only the items of changed
+	 * elements.
+	 */
+	private boolean incrementalRefresh;
+
+	/**
+	 * The provider of the label inputs of the elements, or <code>null</code>
+	 * to always update the labels of existing elements.
+	 */
+	private ILabelInputProvider labelInputProvider;
+
+	/**
+	 * Incremented whenever the recorded label inputs become invalid, e.g.
+	 * because a label provider was replaced.
+	 */
+	private int labelGeneration;
+
+	// RAP: parallel sorting and filtering, see setParallelThreshold(int)
+	/**
+	 * The minimum number of elements that are sorted and filtered in
+	 * parallel, <code>0</code> if disabled.
+	 */
+	private int parallelThreshold;
+
 	/**
 	 * The ColorAndFontCollector is a helper class for viewers
 	 * that have color and font support ad optionally decorators.
@@ -481,6 +513,32 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 
 		public void run() {
 			doUpdateItem(widget, element, fullMap);
+			recordLabelInput(widget, element);
+		}
+	}
+
+	/**
+	 * The label input of an element at the time of the last label update of
+	 * its item. Label inputs need not be serializable, the input is not
+	 * serialized with the item and a deserialized item is relabeled on the
+	 * next incremental refresh.
+	 */
+	private static final class LabelInput implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int generation;
+
+		private final transient Object input;
+
+		LabelInput(int generation, Object input) {
+			this.generation = generation;
+			this.input = input;
+		}
+
+		boolean matches(int generation, Object input) {
+			return this.generation == generation && this.input != null
+					&& this.input.equals(input);
 		}
 	}
 	
@@ -1195,6 +1253,7 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 		if (elements != null) {
 			update(elements, null);
 		} else {
+			invalidateLabelInputs();
 			super.handleLabelProviderChanged(event);
 		}
 	}
@@ -1833,6 +1892,154 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 		}
 	}
 
+	/**
+	 * Configures whether a refresh of this viewer updates the items
+	 * incrementally. An incremental refresh matches the elements of the
+	 * existing items and the elements returned by the content provider with
+	 * the viewer's comparer. It only inserts items for added elements,
+	 * removes the items of removed elements and moves the items of elements
+	 * whose order changed. Refreshing the labels of existing elements can be
+	 * restricted to changed elements with an {@link ILabelInputProvider}.
+	 * <p>
+	 * Incremental refreshes are supported by {@link AbstractTableViewer} and
+	 * {@link AbstractTreeViewer}. If the elements contain duplicates, the
+	 * viewer falls back to a regular refresh. Virtual tables are always
+	 * refreshed as before.
+	 * </p>
+	 *
+	 * @param incremental
+	 *            <code>true</code> to refresh incrementally, and
+	 *            <code>false</code> to refresh all items
+	 * @see #setLabelInputProvider(ILabelInputProvider)
+	 * @since 4.5
+	 */
+	public void setIncrementalRefresh(boolean incremental) {
+		this.incrementalRefresh = incremental;
+		invalidateLabelInputs();
+	}
+
+	/**
+	 * Returns whether a refresh of this viewer updates the items
+	 * incrementally.
+	 *
+	 * @return <code>true</code> if the viewer refreshes incrementally
+	 * @see #setIncrementalRefresh(boolean)
+	 * @since 4.5
+	 */
+	public boolean isIncrementalRefresh() {
+		return incrementalRefresh;
+	}
+
+	/**
+	 * Sets the provider of the label inputs of the elements. During an
+	 * incremental refresh, the labels of existing elements are only updated if
+	 * their label input has changed since the last label update.
+	 *
+	 * @param provider
+	 *            the label input provider, or <code>null</code> to always
+	 *            update the labels of existing elements
+	 * @see #setIncrementalRefresh(boolean)
+	 * @since 4.5
+	 */
+	public void setLabelInputProvider(ILabelInputProvider provider) {
+		this.labelInputProvider = provider;
+		invalidateLabelInputs();
+	}
+
+	/**
+	 * Returns the provider of the label inputs of the elements.
+	 *
+	 * @return the label input provider, or <code>null</code> if none
+	 * @see #setLabelInputProvider(ILabelInputProvider)
+	 * @since 4.5
+	 */
+	public ILabelInputProvider getLabelInputProvider() {
+		return labelInputProvider;
+	}
+
+	/**
+	 * Configures whether this viewer sorts and filters large inputs in
+	 * parallel. The default is <code>0</code>, i.e. all inputs are sorted and
+	 * filtered sequentially.
+	 * <p>
+	 * When enabled, a {@link ViewerComparator} that does not override
+	 * <code>compare</code> computes the category and the label of every
+	 * element only once, in the calling thread. Inputs with at least the
+	 * given number of elements are then sorted on the threads of the common
+	 * fork-join pool. The string comparator of the viewer comparator and the
+	 * <code>select</code> method of {@link ViewerFilter}s that do not override
+	 * <code>filter</code> are called concurrently for these inputs, in the
+	 * context of the viewer's UI session. Comparators and filters must not
+	 * access widgets and must be safe to call from several threads. The
+	 * results are the same as with sequential sorting and filtering.
+	 * </p>
+	 * <p>
+	 * Viewers with an {@link ILazyContentProvider} do not sort or filter their
+	 * elements. Lazy content providers can sort and filter their model with
+	 * <code>getComparator().sort(viewer, elements)</code> and
+	 * <code>filter.filter(viewer, parent, elements)</code> to use the
+	 * parallel implementation.
+	 * </p>
+	 *
+	 * @param threshold
+	 *            the minimum number of elements to sort and filter in
+	 *            parallel, or <code>0</code> to disable parallel sorting and
+	 *            filtering
+	 * @since 4.5
+	 */
+	public void setParallelThreshold(int threshold) {
+		Assert.isTrue(threshold >= 0, "Threshold must not be negative"); //$NON-NLS-1$
+		this.parallelThreshold = threshold;
+	}
+
+	/**
+	 * Returns the minimum number of elements that this viewer sorts and
+	 * filters in parallel.
+	 *
+	 * @return the threshold, or <code>0</code> if parallel sorting and
+	 *         filtering is disabled
+	 * @see #setParallelThreshold(int)
+	 * @since 4.5
+	 */
+	public int getParallelThreshold() {
+		return parallelThreshold;
+	}
+
+	/**
+	 * Returns whether a refresh that updates labels needs to update the label
+	 * of the given item, i.e. whether incremental refreshes are disabled or
+	 * the label input of the element has changed since the last label update.
+	 */
+	boolean needsLabelUpdate(Item item, Object element) {
+		if (!incrementalRefresh || labelInputProvider == null) {
+			return true;
+		}
+		Object recorded = item.getData(LABEL_INPUT_KEY);
+		if (recorded == null) {
+			return true;
+		}
+		Object input = labelInputProvider.getLabelInput(element);
+		return input == null
+				|| !((LabelInput) recorded).matches(labelGeneration, input);
+	}
+
+	/**
+	 * Discards the recorded label inputs, the next incremental refresh updates
+	 * all labels.
+	 */
+	void invalidateLabelInputs() {
+		labelGeneration++;
+	}
+
+	private void recordLabelInput(Widget widget, Object element) {
+		if (incrementalRefresh && labelInputProvider != null
+				&& widget instanceof Item && !widget.isDisposed()) {
+			Object input = labelInputProvider.getLabelInput(element);
+			widget.setData(LABEL_INPUT_KEY, input == null ? null
+					: new LabelInput(labelGeneration, input));
+		}
+	}
+
 	/**
 	 * Sets the comparer to use for comparing elements, or <code>null</code>
 	 * to use the default <code>equals</code> and <code>hashCode</code>
@@ -2217,6 +2424,7 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 		} else {
 			colorAndFontCollector = new ColorAndFontCollector();
 		}
+		invalidateLabelInputs();
 		super.setLabelProvider(labelProvider);
 		
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2010 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -20,6 +20,7 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 
+import org.eclipse.core.runtime.Assert;
 import org.eclipse.jface.util.Policy;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.DisposeEvent;
@@ -53,9 +54,11 @@ import org.eclipse.swt.widgets.Widget;
  * Content providers for tree viewers must implement either the
  * {@link ITreeContentProvider} interface, (as of 3.2) the
  * {@link ILazyTreeContentProvider} interface, or (as of 3.3) the
- * {@link ILazyTreePathContentProvider}. If the content provider is an
- * <code>ILazyTreeContentProvider</code> or an
- * <code>ILazyTreePathContentProvider</code>, the underlying Tree must be
+ * {@link ILazyTreePathContentProvider}, or (as of 4.5) the
+ * {@link ILazyTreeRangeContentProvider}. If the content provider is an
+ * <code>ILazyTreeContentProvider</code>, an
+ * <code>ILazyTreePathContentProvider</code> or an
+ * <code>ILazyTreeRangeContentProvider</code>, the underlying Tree must be
  * created using the {@link SWT#VIRTUAL} style bit, the tree viewer will not
  * support sorting or filtering, and hash lookup must be enabled by calling
  * {@link #setUseHashlookup(boolean)}.
@@ -85,6 +88,15 @@ public class TreeViewer extends AbstractTreeViewer {
 
 	private boolean contentProviderIsTreeBased;
 
+	// RAP: answers the lazy updates for an ILazyTreeRangeContentProvider, the
+	// loader only caches fetched children and is recreated after
+	// deserialization, see getLazyTreeContentProvider()
+	private transient LazyTreeRangeLoader rangeLoader;
+
+	private int lazyRangeWindow = 1000;
+
+	private int lazyRangePrefetch = 100;
+
 	/**
 	 * The row object reused
 	 */
@@ -378,7 +390,8 @@ public class TreeViewer extends AbstractTreeViewer {
 
 	protected void assertContentProviderType(IContentProvider provider) {
 		if (provider instanceof ILazyTreeContentProvider
-				|| provider instanceof ILazyTreePathContentProvider) {
+				|| provider instanceof ILazyTreePathContentProvider
+				|| provider instanceof ILazyTreeRangeContentProvider) {
 			return;
 		}
 		super.assertContentProviderType(provider);
@@ -593,7 +606,7 @@ public class TreeViewer extends AbstractTreeViewer {
 		setBusy(true);
 		try {
 			if (contentProviderIsLazy && !contentProviderIsTreeBased && !(element instanceof TreePath)) {
-				ILazyTreeContentProvider lazyTreeContentProvider = (ILazyTreeContentProvider) getContentProvider();
+				ILazyTreeContentProvider lazyTreeContentProvider = getLazyTreeContentProvider();
 				return lazyTreeContentProvider.getParent(element);
 			}
 			if (contentProviderIsLazy && contentProviderIsTreeBased && !(element instanceof TreePath)) {
@@ -959,6 +972,9 @@ public class TreeViewer extends AbstractTreeViewer {
 			applyEditorValue();
 		}
 		
+		if (rangeLoader != null && event.item.getData() != null) {
+			rangeLoader.collapsed(event.item.getData());
+		}
 		super.handleTreeCollapse(event);
 	}
 
@@ -967,11 +983,98 @@ public class TreeViewer extends AbstractTreeViewer {
 	 */
 	public void setContentProvider(IContentProvider provider) {
 		contentProviderIsLazy = (provider instanceof ILazyTreeContentProvider)
-				|| (provider instanceof ILazyTreePathContentProvider);
+				|| (provider instanceof ILazyTreePathContentProvider)
+				|| (provider instanceof ILazyTreeRangeContentProvider);
 		contentProviderIsTreeBased = provider instanceof ILazyTreePathContentProvider;
+		rangeLoader = provider instanceof ILazyTreeRangeContentProvider
+				? new LazyTreeRangeLoader(this, (ILazyTreeRangeContentProvider) provider)
+				: null;
 		super.setContentProvider(provider);
 	}
 
+	/* (non-Javadoc)
+	 * @see org.eclipse.jface.viewers.AbstractTreeViewer#inputChanged(java.lang.Object, java.lang.Object)
+	 */
+	protected void inputChanged(Object input, Object oldInput) {
+		if (rangeLoader != null) {
+			rangeLoader.inputChanged(this, oldInput, input);
+		}
+		super.inputChanged(input, oldInput);
+	}
+
+	/**
+	 * Sets the number of children that a viewer with an
+	 * {@link ILazyTreeRangeContentProvider} keeps around the last requested
+	 * child of a parent. Fetched children and materialized items outside of
+	 * this window are discarded, expanded and selected items are kept. The
+	 * window is never smaller than the range that is fetched at once. The
+	 * default is 1000.
+	 *
+	 * @param window
+	 *            the number of children kept before and after the last
+	 *            requested child, must not be negative
+	 * @since 4.5
+	 */
+	public void setLazyRangeWindow(int window) {
+		Assert.isTrue(window >= 0, "Window must not be negative"); //$NON-NLS-1$
+		lazyRangeWindow = window;
+	}
+
+	/**
+	 * Returns the number of children that a viewer with an
+	 * {@link ILazyTreeRangeContentProvider} keeps around the last requested
+	 * child of a parent.
+	 *
+	 * @return the number of children kept before and after the last
+	 *         requested child
+	 * @see #setLazyRangeWindow(int)
+	 * @since 4.5
+	 */
+	public int getLazyRangeWindow() {
+		return lazyRangeWindow;
+	}
+
+	/**
+	 * Sets the number of children that a viewer with an
+	 * {@link ILazyTreeRangeContentProvider} fetches in addition to the visible
+	 * and preloaded items, in the direction the user scrolls. The default is
+	 * 100.
+	 *
+	 * @param prefetch
+	 *            the number of additional children to fetch, must not be
+	 *            negative
+	 * @since 4.5
+	 */
+	public void setLazyRangePrefetch(int prefetch) {
+		Assert.isTrue(prefetch >= 0, "Prefetch must not be negative"); //$NON-NLS-1$
+		lazyRangePrefetch = prefetch;
+	}
+
+	/**
+	 * Returns the number of children that a viewer with an
+	 * {@link ILazyTreeRangeContentProvider} fetches in addition to the visible
+	 * and preloaded items.
+	 *
+	 * @return the number of additional children to fetch
+	 * @see #setLazyRangePrefetch(int)
+	 * @since 4.5
+	 */
+	public int getLazyRangePrefetch() {
+		return lazyRangePrefetch;
+	}
+
+	private ILazyTreeContentProvider getLazyTreeContentProvider() {
+		IContentProvider provider = getContentProvider();
+		if (provider instanceof ILazyTreeRangeContentProvider) {
+			if (rangeLoader == null) {
+				rangeLoader = new LazyTreeRangeLoader(this,
+						(ILazyTreeRangeContentProvider) provider);
+			}
+			return rangeLoader;
+		}
+		return (ILazyTreeContentProvider) provider;
+	}
+
 	/**
 	 * For a TreeViewer with a tree with the VIRTUAL style bit set, inform the
 	 * viewer about whether the given element or tree path has children. Avoid
@@ -1047,8 +1150,7 @@ public class TreeViewer extends AbstractTreeViewer {
 				((ILazyTreePathContentProvider) getContentProvider())
 						.updateElement(treePath, index);
 			} else {
-				((ILazyTreeContentProvider) getContentProvider()).updateElement(
-						widget.getData(), index);
+				getLazyTreeContentProvider().updateElement(widget.getData(), index);
 			}
 		} finally {
 			setBusy(oldBusy);
@@ -1074,7 +1176,7 @@ public class TreeViewer extends AbstractTreeViewer {
 				((ILazyTreePathContentProvider) getContentProvider())
 				.updateChildCount(treePath, currentChildCount);
 			} else {
-				((ILazyTreeContentProvider) getContentProvider()).updateChildCount(widget.getData(), currentChildCount);
+				getLazyTreeContentProvider().updateChildCount(widget.getData(), currentChildCount);
 			}
 		} finally {
 			setBusy(oldBusy);
@@ -1102,7 +1204,7 @@ public class TreeViewer extends AbstractTreeViewer {
 					.updateChildCount(treePath, currentChildCount);
 				}
 			} else {
-				((ILazyTreeContentProvider) getContentProvider()).updateChildCount(item.getData(), currentChildCount);
+				getLazyTreeContentProvider().updateChildCount(item.getData(), currentChildCount);
 			}
 		} finally {
 			setBusy(oldBusy);
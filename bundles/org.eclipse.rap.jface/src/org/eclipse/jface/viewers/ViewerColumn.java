@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2009 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -106,6 +106,10 @@ public abstract class ViewerColumn implements Serializable {
 		}
 
 		this.labelProvider = labelProvider;
+		// RAP: labels recorded for incremental refreshes are outdated
+		if (viewer != null) {
+			viewer.invalidateLabelInputs();
+		}
 
 		if (registerListener) {
 			this.labelProvider.initialize(viewer, this);
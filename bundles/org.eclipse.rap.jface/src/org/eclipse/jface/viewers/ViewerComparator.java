@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,9 @@
 package org.eclipse.jface.viewers;
 
 import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.text.CollationKey;
+import java.text.Collator;
 import java.util.Arrays;
 import java.util.Comparator;
 
@@ -44,6 +47,13 @@ public class ViewerComparator implements Serializable {
 	 */
 	private Comparator comparator;
 
+	/**
+	 * Whether this comparator uses the default implementation of
+	 * <code>compare(Viewer, Object, Object)</code>, <code>null</code> if not
+	 * yet known.
+	 */
+	private transient Boolean defaultCompare;
+
 	/**
      * Creates a new {@link ViewerComparator}, which uses the default comparator
      * to sort strings.
@@ -176,6 +186,16 @@ public class ViewerComparator implements Serializable {
      * calling <code>compare</code> to compare elements.
      * </p>
      * <p>
+     * If the viewer sorts in parallel (see
+     * {@link StructuredViewer#setParallelThreshold(int)}) and
+     * <code>compare</code> is not overridden, the categories and labels of the
+     * elements are computed once per element in the calling thread, large
+     * inputs are then sorted on several threads. The comparator returned by
+     * <code>getComparator()</code> is called on these threads in the context
+     * of the viewer's UI session. The result is the same as the result of the
+     * sequential sort.
+     * </p>
+     * <p>
      * Subclasses may reimplement this method to provide a more optimized implementation.
      * </p>
      *
@@ -183,10 +203,101 @@ public class ViewerComparator implements Serializable {
      * @param elements the elements to sort
      */
     public void sort(final Viewer viewer, Object[] elements) {
+        // RAP: avoid calling the label provider twice per comparison
+        if (viewer instanceof StructuredViewer
+                && ((StructuredViewer) viewer).getParallelThreshold() > 0
+                && usesDefaultCompare()) {
+            sortByKeys((StructuredViewer) viewer, elements);
+            return;
+        }
         Arrays.sort(elements, new Comparator() {
             public int compare(Object a, Object b) {
                 return ViewerComparator.this.compare(viewer, a, b);
             }
         });
-    }	
+    }
+
+    /*
+     * Sorts by precomputed keys, equivalent to compare(Viewer, Object, Object).
+     * Collation keys compare like the collator compares the strings.
+     */
+    private void sortByKeys(StructuredViewer viewer, Object[] elements) {
+        IBaseLabelProvider prov = viewer.getLabelProvider();
+        ILabelProvider lprov = prov instanceof ILabelProvider ? (ILabelProvider) prov : null;
+        Comparator stringComparator = getComparator();
+        Collator collator = stringComparator instanceof Collator ? (Collator) stringComparator : null;
+        SortKey[] keys = new SortKey[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            Object element = elements[i];
+            int category = category(element);
+            String name = lprov != null ? lprov.getText(element) : element.toString();
+            if (name == null) {
+                name = "";//$NON-NLS-1$
+            }
+            Object key = collator != null ? (Object) collator.getCollationKey(name) : name;
+            keys[i] = new SortKey(element, category, key);
+        }
+        Comparator keyComparator = new SortKeyComparator(collator != null ? null : stringComparator);
+        // both sorts are stable, hence the order of equal elements is kept
+        if (ParallelViewerSupport.isParallel(viewer, elements.length)) {
+            ParallelViewerSupport.sort(viewer, keys, keyComparator);
+        } else {
+            Arrays.sort(keys, keyComparator);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            elements[i] = keys[i].element;
+        }
+    }
+
+    private boolean usesDefaultCompare() {
+        if (defaultCompare == null) {
+            boolean result;
+            try {
+                Method method = getClass().getMethod("compare", new Class[] { //$NON-NLS-1$
+                        Viewer.class, Object.class, Object.class });
+                result = method.getDeclaringClass() == ViewerComparator.class;
+            } catch (NoSuchMethodException e) {
+                result = false;
+            }
+            defaultCompare = Boolean.valueOf(result);
+        }
+        return defaultCompare.booleanValue();
+    }
+
+    private static final class SortKey {
+
+        final Object element;
+        final int category;
+        final Object key;
+
+        SortKey(Object element, int category, Object key) {
+            this.element = element;
+            this.category = category;
+            this.key = key;
+        }
+    }
+
+    private static final class SortKeyComparator implements Comparator {
+
+        private final Comparator stringComparator;
+
+        /*
+         * stringComparator is null for collation keys
+         */
+        SortKeyComparator(Comparator stringComparator) {
+            this.stringComparator = stringComparator;
+        }
+
+        public int compare(Object o1, Object o2) {
+            SortKey key1 = (SortKey) o1;
+            SortKey key2 = (SortKey) o2;
+            if (key1.category != key2.category) {
+                return key1.category - key2.category;
+            }
+            if (stringComparator == null) {
+                return ((CollationKey) key1.key).compareTo((CollationKey) key2.key);
+            }
+            return stringComparator.compare(key1.key, key2.key);
+        }
+    }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2006 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -39,12 +39,21 @@ public abstract class ViewerFilter implements Serializable {
      * and returns only those elements for which <code>select</code>
      * returns <code>true</code>.
      * </p>
+     * <p>
+     * If the viewer filters inputs of this size in parallel, <code>select</code>
+     * is called concurrently from several threads, see
+     * {@link StructuredViewer#setParallelThreshold(int)}.
+     * </p>
      * @param viewer the viewer
      * @param parent the parent element
      * @param elements the elements to filter
      * @return the filtered elements
      */
     public Object[] filter(Viewer viewer, Object parent, Object[] elements) {
+        // RAP: filter large inputs in parallel if the viewer opted in
+        if (ParallelViewerSupport.isParallel(viewer, elements.length)) {
+            return ParallelViewerSupport.filter(this, viewer, parent, elements);
+        }
         int size = elements.length;
         ArrayList out = new ArrayList(size);
         for (int i = 0; i < size; ++i) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2014 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -31,8 +31,16 @@ rwt.client.JavaScriptLoader = {
 
   _attachLoadedCallback : function( scriptElement ) {
     scriptElement.onload = function() {
+      scriptElement.onload = null;
+      scriptElement.onerror = null;
       rwt.remote.MessageProcessor.continueExecution();
+    };
+    // without the script, the message can't be processed any further
+    scriptElement.onerror = function() {
       scriptElement.onload = null;
+      scriptElement.onerror = null;
+      var file = scriptElement.getAttribute( "src" );
+      rwt.remote.MessageProcessor.failExecution( new Error( "Could not load script " + file ) );
     };
   }
 
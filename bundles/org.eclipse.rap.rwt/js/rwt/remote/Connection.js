@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2022 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -86,6 +86,42 @@ rwt.qx.Class.define( "rwt.remote.Connection", {
       return this._connectionId;
     },
 
+    setRequestCounter : function( requestCounter ) {
+      this._requestCounter = requestCounter;
+    },
+
+    getRequestCounter : function() {
+      return this._requestCounter;
+    },
+
+    /**
+     * Processes the message the server rendered into the startup page. Requests are held back
+     * until the message is processed, the first request has to use the request counter it contains.
+     */
+    processPrerenderedMessage : function( messageObject ) {
+      this._requestPending = true;
+      EventUtil.setSuspended( true );
+      var that = this;
+      var release = function() {
+        that._requestPending = false;
+        EventUtil.setSuspended( false );
+      };
+      try {
+        Processor.processMessage( messageObject, function() {
+          Widget.flushGlobalQueues();
+          rap._.notify( "render" );
+          release();
+          ServerPush.getInstance().sendServerPushRequest();
+        }, function( error ) {
+          release();
+          ErrorHandler.processJavaScriptError( error );
+        } );
+      } catch( ex ) {
+        release();
+        throw ex;
+      }
+    },
+
     _flushEvent : function() {
       if( this._event ) {
         var writer = this.getMessageWriter();
@@ -230,13 +266,21 @@ rwt.qx.Class.define( "rwt.remote.Connection", {
           ServerPush.getInstance().sendServerPushRequest();
           that.dispatchSimpleEvent( "received" );
           that._hideWaitHint();
+        }, function( error ) {
+          that._handleProcessingError( event, error );
         } );
       } catch( ex ) {
-        this._hideWaitHint();
-        ErrorHandler.processJavaScriptErrorInResponse( event.responseText, ex, event.target );
+        this._handleProcessingError( event, ex );
       }
     },
 
+    _handleProcessingError : function( event, error ) {
+      this._requestPending = false;
+      EventUtil.setSuspended( false );
+      this._hideWaitHint();
+      ErrorHandler.processJavaScriptErrorInResponse( event.responseText, error, event.target );
+    },
+
     _handleRedirect : function( event ) {
       Processor.processMessage( { head: { redirect: event.responseHeaders.location } } );
     },
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2017 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -15,30 +15,31 @@ namespace( "rwt.remote" );
 
 var paused = false;
 var pendingMessage = null;
+var yieldingMessage = null;
+var queue = [];
+var sliceDuration = 50;
+var blocking = false;
 
 rwt.remote.MessageProcessor = {
 
-  processMessage : function( messageObject, callback, startOffset ) {
-    var offset = 0;
-    if( typeof startOffset !== "undefined" ) {
-      offset = startOffset;
-    }
-    if( offset === 0 ) {
-      rap._.notify("receive", messageObject );
-      this.processHead( messageObject.head );
-    }
-    var operations = messageObject.operations || [];
-    while( offset < operations.length ) {
-      this.processOperationArray( operations[ offset ] );
-      offset++;
-      if( paused ) {
-        this._suspendMessageProcessing( messageObject, callback, offset );
-        return;
-      }
-    }
-    rap._.notify("process", messageObject );
-    if( callback ) {
-      callback();
+  /**
+   * Processes the given message. The message may be completed asynchronously, e.g. after a module
+   * is loaded or, if processed with a callback, in slices (see setSliceDuration). Errors that occur
+   * after this method returned are passed to the given error handler, or to the ErrorHandler of
+   * the client if none is given. A message that is given while another one is suspended or
+   * yielding is processed after the other one is completed.
+   */
+  processMessage : function( messageObject, callback, errorHandler ) {
+    var task = {
+      message : messageObject,
+      callback : callback,
+      errorHandler : errorHandler,
+      offset : 0
+    };
+    if( pendingMessage != null || yieldingMessage != null || queue.length > 0 ) {
+      queue.push( task );
+    } else {
+      this._startMessage( task );
     }
   },
 
@@ -50,6 +51,9 @@ rwt.remote.MessageProcessor = {
     if( head.cid ) {
       connection.setConnectionId( head.cid );
     }
+    if( typeof head.requestCounter === "number" ) {
+      connection.setRequestCounter( head.requestCounter );
+    }
     if( head.redirect ) {
       rwt.widgets.Display.getCurrent().setExitConfirmation( null );
       document.location = head.redirect;
@@ -109,16 +113,114 @@ rwt.remote.MessageProcessor = {
     return paused;
   },
 
+  /**
+   * Messages that are processed with a callback are processed in slices of the given duration
+   * (in milliseconds). Between two slices, the widget queues are flushed and the browser can
+   * render. User input is blocked until the message is processed completely. A duration of 0
+   * disables slicing.
+   */
+  setSliceDuration : function( duration ) {
+    sliceDuration = duration;
+  },
+
+  getSliceDuration : function() {
+    return sliceDuration;
+  },
+
   continueExecution : function() {
     paused = false;
-    var resumingMessage = pendingMessage;
+    var task = pendingMessage;
+    pendingMessage = null;
+    if( task != null ) {
+      this._resume( task );
+    }
+  },
+
+  /**
+   * Aborts the suspended message with the given error, e.g. if a script could not be loaded. The
+   * error is reported like an error in the message itself.
+   */
+  failExecution : function( error ) {
+    paused = false;
+    var task = pendingMessage;
     pendingMessage = null;
-    this.processMessage.apply( this, resumingMessage );
+    if( task != null ) {
+      this._fail( task, error );
+    } else {
+      rwt.runtime.ErrorHandler.processJavaScriptError( error );
+    }
   },
 
   ////////////
   // Internals
 
+  _startMessage : function( task ) {
+    rap._.notify("receive", task.message );
+    this.processHead( task.message.head );
+    this._processOperations( task );
+  },
+
+  _processOperations : function( task ) {
+    var operations = task.message.operations || [];
+    var sliceEnd = this._getSliceEnd( task.callback );
+    while( task.offset < operations.length ) {
+      if( this._loadModule( operations[ task.offset ] ) ) {
+        // the operation is processed once the module is loaded
+        this._suspendMessageProcessing( task );
+        return;
+      }
+      this.processOperationArray( operations[ task.offset ] );
+      task.offset++;
+      if( paused ) {
+        this._suspendMessageProcessing( task );
+        return;
+      }
+      if( task.offset < operations.length && this._getTime() >= sliceEnd ) {
+        this._yield( task );
+        return;
+      }
+    }
+    this._releaseBlocker();
+    rap._.notify("process", task.message );
+    if( task.callback ) {
+      task.callback();
+    }
+    this._processQueue();
+  },
+
+  // Continues a message after processMessage returned, the caller can't handle errors anymore
+  _resume : function( task ) {
+    try {
+      this._processOperations( task );
+    } catch( ex ) {
+      this._fail( task, ex );
+    }
+  },
+
+  _fail : function( task, error ) {
+    this._releaseBlocker();
+    try {
+      if( task.errorHandler ) {
+        task.errorHandler( error );
+      } else {
+        rwt.runtime.ErrorHandler.processJavaScriptError( error );
+      }
+    } finally {
+      this._processQueue();
+    }
+  },
+
+  _processQueue : function() {
+    if( queue.length > 0 ) {
+      var task = queue.shift();
+      try {
+        this._startMessage( task );
+      } catch( ex ) {
+        this._fail( task, ex );
+      }
+    }
+  },
+
   _processCreate : function( targetId, type, properties ) {
     var handler = rwt.remote.HandlerRegistry.getHandler( type );
     if( handler.service === true ) {
@@ -299,11 +401,44 @@ rwt.remote.MessageProcessor = {
     return "setHas" + rwt.util.Strings.toFirstUp( eventType ) + "Listener";
   },
 
-  _suspendMessageProcessing : function( message, callback, offset ) {
+  _loadModule : function( operation ) {
+    return operation[ 0 ] === "create" && rwt.remote.ModuleRegistry.load( operation[ 2 ] );
+  },
+
+  // Only callers that pass a callback can handle an asynchronous completion
+  _getSliceEnd : function( callback ) {
+    return callback && sliceDuration > 0 ? this._getTime() + sliceDuration : Infinity;
+  },
+
+  _getTime : function() {
+    return new Date().getTime();
+  },
+
+  _yield : function( task ) {
+    if( !blocking ) {
+      blocking = true;
+      rwt.widgets.base.ClientDocument.getInstance().blockInput();
+    }
+    rwt.widgets.base.Widget.flushGlobalQueues();
+    yieldingMessage = task;
+    rwt.client.Timer.once( function() {
+      yieldingMessage = null;
+      this._resume( task );
+    }, this, 0 );
+  },
+
+  _releaseBlocker : function() {
+    if( blocking ) {
+      blocking = false;
+      rwt.widgets.base.ClientDocument.getInstance().releaseInput();
+    }
+  },
+
+  _suspendMessageProcessing : function( task ) {
     if( pendingMessage != null ) {
       throw new Error( "A message is already suspended" );
     }
-    pendingMessage = [ message, callback, offset ];
+    pendingMessage = task;
   }
 
 
@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+
+namespace( "rwt.remote" );
+
+/**
+ * Knows the scripts that provide the handlers for types that are not part of the client core.
+ * The script of a type is loaded when the first object of this type is created.
+ */
+rwt.remote.ModuleRegistry = {
+
+  _registry : {},
+
+  add : function( type, location ) {
+    this._registry[ type ] = location;
+  },
+
+  remove : function( type ) {
+    delete this._registry[ type ];
+  },
+
+  getLocation : function( type ) {
+    var result = this._registry[ type ];
+    return result === undefined ? null : result;
+  },
+
+  /**
+   * Starts loading the module for the given type, unless there is no such module or a handler
+   * for the type is known already. Returns true if loading has been started, message
+   * processing is paused until the module is loaded in this case.
+   */
+  load : function( type ) {
+    var location = this._registry[ type ];
+    if( location === undefined || rwt.remote.HandlerRegistry.hasHandler( type ) ) {
+      return false;
+    }
+    rwt.client.JavaScriptLoader.load( { "files" : [ location ] } );
+    return true;
+  }
+
+};
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2013 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,12 +12,16 @@
 rwt.remote.HandlerRegistry.add( "rwt.scripting.Function", {
 
   factory : function( properties ) {
+    var FunctionFactory = rwt.scripting.FunctionFactory;
     var scriptCode = properties.scriptCode;
-    if( !scriptCode ) {
+    if( !scriptCode && properties.scriptId ) {
       scriptCode = rap.getObject( properties.scriptId ).getText();
     }
     var name = properties.name;
-    return rwt.scripting.FunctionFactory.createFunction( scriptCode, name );
+    if( properties.scriptHash ) {
+      return FunctionFactory.createFunctionForScript( properties.scriptHash, scriptCode, name );
+    }
+    return FunctionFactory.createFunction( scriptCode, name );
   },
 
   isPublic : true
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2014 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -38,6 +38,61 @@ rwt.scripting.FunctionFactory = {
     return result;
   },
 
+  /**
+   * Creates a function from a script that is identified by a hash of its code. The script is
+   * compiled only once, every call creates a new instance of the function with its own scope.
+   * The code may be omitted if the script is already known, either from a previous call or
+   * from a published script resource.
+   */
+  createFunctionForScript : function( scriptHash, functionScript, name ) {
+    var factory = this._scripts[ scriptHash ];
+    if( !factory ) {
+      if( !functionScript ) {
+        throw new Error( "Unknown script " + scriptHash );
+      }
+      factory = this._compileScript( functionScript, name );
+      this._scripts[ scriptHash ] = factory;
+    }
+    var result;
+    try {
+      result = factory.call( window );
+    } catch( ex ) {
+      var msg = "Could not parse Script for " + name + ":" + ( ex.message ? ex.message : ex );
+      throw new Error( msg );
+    }
+    if( typeof result !== "function" ) {
+      throw new Error( "Script does not define a function " + name );
+    }
+    return result;
+  },
+
+  /**
+   * Called by published script resources.
+   */
+  registerScript : function( scriptHash, factory ) {
+    this._scripts[ scriptHash ] = factory;
+  },
+
+  _scripts : {},
+
+  _compileScript : function( functionScript, name ) {
+    var code = [
+      "(function() {\n",
+      functionScript,
+      "\n\n",
+      "return typeof ",
+      name,
+      " === \"undefined\" ? null : ",
+      name,
+      ";\n})" ];
+    try {
+      return this._secureEval.apply( window, [ code.join( "" ) ] );
+    } catch( ex ) {
+      var msg = "Could not parse Script for " + name + ":" + ( ex.message ? ex.message : ex );
+      throw new Error( msg );
+    }
+  },
+
   _secureEval : function() {
     return eval( arguments[ 0 ] );
   }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2016 1&1 Internet AG, Germany, http://www.1und1.de,
+ * Copyright (c) 2004, 2026 1&1 Internet AG, Germany, http://www.1und1.de,
  *                          EclipseSource, and others.
  *
  * All rights reserved. This program and the accompanying materials
@@ -171,6 +171,8 @@ rwt.qx.Class.define( "rwt.widgets.base.ClientDocument", {
 
     _isInDom : true,
 
+    _inputBlocked : false,
+
     // ------------------------------------------------------------------------
     // BLOCKER AND DIALOG SUPPORT
     // ------------------------------------------------------------------------
@@ -198,7 +200,9 @@ rwt.qx.Class.define( "rwt.widgets.base.ClientDocument", {
       {
         this._modalWidgets.push( vActiveChild );
         var vOrigIndex = vActiveChild.getZIndex();
-        this._getBlocker().setZIndex( vOrigIndex );
+        if( !this._inputBlocked ) {
+          this._getBlocker().setZIndex( vOrigIndex );
+        }
         vActiveChild.setZIndex( vOrigIndex + 1 );
       }
     },
@@ -207,17 +211,34 @@ rwt.qx.Class.define( "rwt.widgets.base.ClientDocument", {
       if( vActiveChild ) {
         rwt.util.Arrays.remove( this._modalWidgets, vActiveChild );
       }
-      var l = this._modalWidgets.length;
-      if( l === 0 ) {
-        this._getBlocker().hide();
-      } else {
-        var oldActiveChild = this._modalWidgets[ l - 1 ];
-        var old = oldActiveChild.getZIndex();
-        this._getBlocker().setZIndex( old );
-        oldActiveChild.setZIndex( old + 1 );
+      // while all input is blocked, the blocker stays on top until releaseInput is called
+      if( !this._inputBlocked ) {
+        var l = this._modalWidgets.length;
+        if( l === 0 ) {
+          this._getBlocker().hide();
+        } else {
+          var oldActiveChild = this._modalWidgets[ l - 1 ];
+          var old = oldActiveChild.getZIndex();
+          this._getBlocker().setZIndex( old );
+          oldActiveChild.setZIndex( old + 1 );
+        }
       }
     },
 
+    /**
+     * Blocks all user input, including the input of modal windows, until releaseInput is called.
+     */
+    blockInput : function() {
+      this._inputBlocked = true;
+      this._getBlocker().show();
+      this._getBlocker().setZIndex( 1e8 );
+    },
+
+    releaseInput : function() {
+      this._inputBlocked = false;
+      this.release();
+    },
+
     _resetScrollPosition : function() {
       var overflow = this.getOverflow();
       if( overflow !== "scroll" && overflow !== "scrollX" ) {
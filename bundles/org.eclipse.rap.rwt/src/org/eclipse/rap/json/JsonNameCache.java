@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.json;
+
+
+/*
+ * A small direct-mapped cache of short strings, used to share the instances of names that occur
+ * in every message, like property names and widget ids. The cache is shared by all parsers.
+ * Concurrent access is safe without locking since entries are immutable strings and a lost
+ * update merely results in an additional string instance.
+ */
+final class JsonNameCache {
+
+  static final int MAX_LENGTH = 32;
+  private static final int SIZE = 1024;
+
+  static final JsonNameCache INSTANCE = new JsonNameCache();
+
+  private final String[] entries;
+
+  JsonNameCache() {
+    entries = new String[ SIZE ];
+  }
+
+  String get( char[] chars, int length ) {
+    if( length > MAX_LENGTH ) {
+      return new String( chars, 0, length );
+    }
+    int hash = 0;
+    for( int i = 0; i < length; i++ ) {
+      hash = 31 * hash + chars[ i ];
+    }
+    int slot = ( hash ^ ( hash >>> 16 ) ) & ( SIZE - 1 );
+    String entry = entries[ slot ];
+    if( entry != null && matches( entry, chars, length ) ) {
+      return entry;
+    }
+    String result = new String( chars, 0, length );
+    entries[ slot ] = result;
+    return result;
+  }
+
+  private static boolean matches( String entry, char[] chars, int length ) {
+    if( entry.length() != length ) {
+      return false;
+    }
+    for( int i = 0; i < length; i++ ) {
+      if( entry.charAt( i ) != chars[ i ] ) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+}
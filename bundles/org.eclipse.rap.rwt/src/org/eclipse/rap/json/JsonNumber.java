@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013 EclipseSource.
+ * Copyright (c) 2013, 2026 EclipseSource.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -16,23 +16,36 @@ import java.io.IOException;
 @SuppressWarnings( "serial" ) // use default serial UID
 class JsonNumber extends JsonValue {
 
-  private final String string;
+  private String string;
+  private final int intValue;
+  private final boolean isInt;
 
   JsonNumber( String string ) {
     if( string == null ) {
       throw new NullPointerException( "string is null" );
     }
     this.string = string;
+    intValue = 0;
+    isInt = false;
+  }
+
+  /*
+   * Creates a number from an integer literal that has already been decoded by the parser. The
+   * string representation is only created on demand.
+   */
+  JsonNumber( int value ) {
+    intValue = value;
+    isInt = true;
   }
 
   @Override
   public String toString() {
-    return string;
+    return getString();
   }
 
   @Override
   protected void write( JsonWriter writer ) throws IOException {
-    writer.write( string );
+    writer.write( getString() );
   }
 
   @Override
@@ -42,27 +55,27 @@ class JsonNumber extends JsonValue {
 
   @Override
   public int asInt() {
-    return Integer.parseInt( string, 10 );
+    return isInt ? intValue : Integer.parseInt( string, 10 );
   }
 
   @Override
   public long asLong() {
-    return Long.parseLong( string, 10 );
+    return isInt ? intValue : Long.parseLong( string, 10 );
   }
 
   @Override
   public float asFloat() {
-    return Float.parseFloat( string );
+    return isInt ? intValue : Float.parseFloat( string );
   }
 
   @Override
   public double asDouble() {
-    return Double.parseDouble( string );
+    return isInt ? intValue : Double.parseDouble( string );
   }
 
   @Override
   public int hashCode() {
-    return string.hashCode();
+    return getString().hashCode();
   }
 
   @Override
@@ -77,7 +90,17 @@ class JsonNumber extends JsonValue {
       return false;
     }
     JsonNumber other = (JsonNumber)object;
-    return string.equals( other.string );
+    if( isInt && other.isInt ) {
+      return intValue == other.intValue;
+    }
+    return getString().equals( other.getString() );
+  }
+
+  private String getString() {
+    if( string == null ) {
+      string = Integer.toString( intValue );
+    }
+    return string;
   }
 
 }
@@ -0,0 +1,549 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+
+/**
+ * A streaming reader for UTF-8 encoded JSON input. The input bytes are decoded directly, without
+ * an intermediate character stream. Names and the strings read by {@link #nextString()} are
+ * shared through a cache, and integer numbers are decoded without creating their string form.
+ * <p>
+ * The structure of the input is traversed with the <code>begin</code>, <code>end</code> and
+ * <code>next</code> methods. Before every element of an array or member of an object,
+ * {@link #hasNext()} must be called. Nested values can be read as a whole using
+ * {@link #nextValue()}. Error offsets reported by this reader are byte offsets.
+ * </p>
+ *
+ * @noreference This class is not intended to be referenced by clients.
+ * @since 4.5
+ */
+public final class Utf8JsonReader {
+
+  private static final int BUFFER_SIZE = 8192;
+  private static final byte START = 0;
+  private static final byte AFTER_ELEMENT = 1;
+  private static final byte AFTER_COMMA = 2;
+  private static final char REPLACEMENT_CHAR = '\uFFFD';
+
+  private final InputStream input;
+  private final byte[] buffer;
+  private final JsonNameCache names;
+  private char[] chars;
+  private int length;
+  private int bufferOffset;
+  private int index;
+  private int fill;
+  private int line;
+  private int lineOffset;
+  private int current;
+  private byte[] states;
+  private int depth;
+
+  public Utf8JsonReader( InputStream input ) throws IOException {
+    this.input = input;
+    buffer = new byte[ BUFFER_SIZE ];
+    names = JsonNameCache.INSTANCE;
+    chars = new char[ 64 ];
+    states = new byte[ 8 ];
+    line = 1;
+    read();
+  }
+
+  public void beginObject() throws IOException {
+    skipWhiteSpace();
+    if( !readChar( '{' ) ) {
+      throw expected( "'{'" );
+    }
+    push();
+  }
+
+  public void endObject() throws IOException {
+    skipWhiteSpace();
+    if( !readChar( '}' ) ) {
+      throw expected( "',' or '}'" );
+    }
+    pop();
+  }
+
+  public void beginArray() throws IOException {
+    skipWhiteSpace();
+    if( !readChar( '[' ) ) {
+      throw expected( "'['" );
+    }
+    push();
+  }
+
+  public void endArray() throws IOException {
+    skipWhiteSpace();
+    if( !readChar( ']' ) ) {
+      throw expected( "',' or ']'" );
+    }
+    pop();
+  }
+
+  /**
+   * Returns whether the current array or object has another element. If so, the element must be
+   * read next.
+   */
+  public boolean hasNext() throws IOException {
+    skipWhiteSpace();
+    switch( states[ depth ] ) {
+    case AFTER_ELEMENT:
+      if( readChar( ',' ) ) {
+        states[ depth ] = AFTER_COMMA;
+        skipWhiteSpace();
+        return true;
+      }
+      return false;
+    case AFTER_COMMA:
+      return true;
+    default:
+      return current != '}' && current != ']';
+    }
+  }
+
+  public String nextName() throws IOException {
+    skipWhiteSpace();
+    if( current != '"' ) {
+      throw expected( "name" );
+    }
+    String name = readString( true );
+    skipWhiteSpace();
+    if( !readChar( ':' ) ) {
+      throw expected( "':'" );
+    }
+    return name;
+  }
+
+  public String nextString() throws IOException {
+    skipWhiteSpace();
+    if( current != '"' ) {
+      throw expected( "string" );
+    }
+    String result = readString( true );
+    elementRead();
+    return result;
+  }
+
+  public JsonValue nextValue() throws IOException {
+    skipWhiteSpace();
+    JsonValue result = readValue();
+    elementRead();
+    return result;
+  }
+
+  /**
+   * Ensures that there is no more input after the value that has been read.
+   */
+  public void endDocument() throws IOException {
+    skipWhiteSpace();
+    if( !isEndOfText() ) {
+      throw error( "Unexpected character" );
+    }
+  }
+
+  private void push() {
+    depth++;
+    if( depth == states.length ) {
+      byte[] newStates = new byte[ states.length * 2 ];
+      System.arraycopy( states, 0, newStates, 0, states.length );
+      states = newStates;
+    }
+    states[ depth ] = START;
+  }
+
+  private void pop() {
+    depth--;
+    elementRead();
+  }
+
+  private void elementRead() {
+    states[ depth ] = AFTER_ELEMENT;
+  }
+
+  private JsonValue readValue() throws IOException {
+    switch( current ) {
+    case 'n':
+      return readNull();
+    case 't':
+      return readTrue();
+    case 'f':
+      return readFalse();
+    case '"':
+      return new JsonString( readString( false ) );
+    case '[':
+      return readArray();
+    case '{':
+      return readObject();
+    case '-':
+    case '0':
+    case '1':
+    case '2':
+    case '3':
+    case '4':
+    case '5':
+    case '6':
+    case '7':
+    case '8':
+    case '9':
+      return readNumber();
+    default:
+      throw expected( "value" );
+    }
+  }
+
+  private JsonArray readArray() throws IOException {
+    read();
+    JsonArray array = new JsonArray();
+    skipWhiteSpace();
+    if( readChar( ']' ) ) {
+      return array;
+    }
+    do {
+      skipWhiteSpace();
+      array.add( readValue() );
+      skipWhiteSpace();
+    } while( readChar( ',' ) );
+    if( !readChar( ']' ) ) {
+      throw expected( "',' or ']'" );
+    }
+    return array;
+  }
+
+  private JsonObject readObject() throws IOException {
+    read();
+    JsonObject object = new JsonObject();
+    skipWhiteSpace();
+    if( readChar( '}' ) ) {
+      return object;
+    }
+    do {
+      skipWhiteSpace();
+      if( current != '"' ) {
+        throw expected( "name" );
+      }
+      String name = readString( true );
+      skipWhiteSpace();
+      if( !readChar( ':' ) ) {
+        throw expected( "':'" );
+      }
+      skipWhiteSpace();
+      object.add( name, readValue() );
+      skipWhiteSpace();
+    } while( readChar( ',' ) );
+    if( !readChar( '}' ) ) {
+      throw expected( "',' or '}'" );
+    }
+    return object;
+  }
+
+  private JsonValue readNull() throws IOException {
+    read();
+    readRequiredChar( 'u' );
+    readRequiredChar( 'l' );
+    readRequiredChar( 'l' );
+    return JsonValue.NULL;
+  }
+
+  private JsonValue readTrue() throws IOException {
+    read();
+    readRequiredChar( 'r' );
+    readRequiredChar( 'u' );
+    readRequiredChar( 'e' );
+    return JsonValue.TRUE;
+  }
+
+  private JsonValue readFalse() throws IOException {
+    read();
+    readRequiredChar( 'a' );
+    readRequiredChar( 'l' );
+    readRequiredChar( 's' );
+    readRequiredChar( 'e' );
+    return JsonValue.FALSE;
+  }
+
+  private void readRequiredChar( char ch ) throws IOException {
+    if( !readChar( ch ) ) {
+      throw expected( "'" + ch + "'" );
+    }
+  }
+
+  private String readString( boolean shared ) throws IOException {
+    read();
+    length = 0;
+    while( current != '"' ) {
+      if( current == '\\' ) {
+        readEscape();
+      } else if( current < 0x20 ) {
+        throw expected( "valid string character" );
+      } else if( current < 0x80 ) {
+        append( ( char )current );
+        read();
+      } else {
+        readMultiByteChar();
+      }
+    }
+    read();
+    return shared ? names.get( chars, length ) : new String( chars, 0, length );
+  }
+
+  /*
+   * Malformed sequences are replaced with U+FFFD, like the decoder of an InputStreamReader does.
+   * Overlong encodings and code points above U+10FFFF are malformed, their lead byte only allows a
+   * narrower range of the second byte and a byte outside that range ends the sequence. An encoded
+   * surrogate is replaced as a whole.
+   */
+  private void readMultiByteChar() throws IOException {
+    int lead = current;
+    int count;
+    int codePoint;
+    if( lead >= 0xc2 && lead < 0xe0 ) {
+      count = 1;
+      codePoint = lead & 0x1f;
+    } else if( lead >= 0xe0 && lead < 0xf0 ) {
+      count = 2;
+      codePoint = lead & 0x0f;
+    } else if( lead >= 0xf0 && lead < 0xf5 ) {
+      count = 3;
+      codePoint = lead & 0x07;
+    } else {
+      append( REPLACEMENT_CHAR );
+      read();
+      return;
+    }
+    read();
+    for( int i = 0; i < count; i++ ) {
+      int min = i == 0 ? getMinSecondByte( lead ) : 0x80;
+      int max = i == 0 ? getMaxSecondByte( lead ) : 0xbf;
+      if( current < min || current > max ) {
+        append( REPLACEMENT_CHAR );
+        return;
+      }
+      codePoint = ( codePoint << 6 ) | ( current & 0x3f );
+      read();
+    }
+    if( codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE ) {
+      append( REPLACEMENT_CHAR );
+    } else if( Character.isSupplementaryCodePoint( codePoint ) ) {
+      append( Character.highSurrogate( codePoint ) );
+      append( Character.lowSurrogate( codePoint ) );
+    } else {
+      append( ( char )codePoint );
+    }
+  }
+
+  private static int getMinSecondByte( int lead ) {
+    if( lead == 0xe0 ) {
+      return 0xa0; // overlong three byte sequence
+    }
+    if( lead == 0xf0 ) {
+      return 0x90; // overlong four byte sequence
+    }
+    return 0x80;
+  }
+
+  private static int getMaxSecondByte( int lead ) {
+    if( lead == 0xf4 ) {
+      return 0x8f; // above 10FFFF
+    }
+    return 0xbf;
+  }
+
+  private void readEscape() throws IOException {
+    read();
+    switch( current ) {
+    case '"':
+    case '/':
+    case '\\':
+      append( ( char )current );
+      break;
+    case 'b':
+      append( '\b' );
+      break;
+    case 'f':
+      append( '\f' );
+      break;
+    case 'n':
+      append( '\n' );
+      break;
+    case 'r':
+      append( '\r' );
+      break;
+    case 't':
+      append( '\t' );
+      break;
+    case 'u':
+      int value = 0;
+      for( int i = 0; i < 4; i++ ) {
+        read();
+        if( !isHexDigit() ) {
+          throw expected( "hexadecimal digit" );
+        }
+        value = ( value << 4 ) | Character.digit( current, 16 );
+      }
+      append( ( char )value );
+      break;
+    default:
+      throw expected( "valid escape sequence" );
+    }
+    read();
+  }
+
+  /*
+   * Integers that fit into an int are decoded right away, all other numbers keep their literal
+   * and are only converted when accessed.
+   */
+  private JsonValue readNumber() throws IOException {
+    length = 0;
+    boolean negative = readNumberChar( '-' );
+    int firstDigit = current;
+    if( !readDigit() ) {
+      throw expected( "digit" );
+    }
+    if( firstDigit != '0' ) {
+      while( readDigit() ) {
+      }
+    }
+    int integerLength = length;
+    readFraction();
+    readExponent();
+    int digits = negative ? integerLength - 1 : integerLength;
+    if( length == integerLength && digits <= 9 && !( negative && firstDigit == '0' ) ) {
+      int value = 0;
+      for( int i = negative ? 1 : 0; i < length; i++ ) {
+        value = value * 10 + chars[ i ] - '0';
+      }
+      return new JsonNumber( negative ? -value : value );
+    }
+    return new JsonNumber( new String( chars, 0, length ) );
+  }
+
+  private void readFraction() throws IOException {
+    if( readNumberChar( '.' ) ) {
+      if( !readDigit() ) {
+        throw expected( "digit" );
+      }
+      while( readDigit() ) {
+      }
+    }
+  }
+
+  private void readExponent() throws IOException {
+    if( readNumberChar( 'e' ) || readNumberChar( 'E' ) ) {
+      if( !readNumberChar( '+' ) ) {
+        readNumberChar( '-' );
+      }
+      if( !readDigit() ) {
+        throw expected( "digit" );
+      }
+      while( readDigit() ) {
+      }
+    }
+  }
+
+  private boolean readNumberChar( char ch ) throws IOException {
+    if( current != ch ) {
+      return false;
+    }
+    append( ch );
+    read();
+    return true;
+  }
+
+  private boolean readDigit() throws IOException {
+    if( !isDigit() ) {
+      return false;
+    }
+    append( ( char )current );
+    read();
+    return true;
+  }
+
+  private boolean readChar( char ch ) throws IOException {
+    if( current != ch ) {
+      return false;
+    }
+    read();
+    return true;
+  }
+
+  private void skipWhiteSpace() throws IOException {
+    while( isWhiteSpace() ) {
+      read();
+    }
+  }
+
+  private void append( char ch ) {
+    if( length == chars.length ) {
+      char[] newChars = new char[ chars.length * 2 ];
+      System.arraycopy( chars, 0, newChars, 0, length );
+      chars = newChars;
+    }
+    chars[ length++ ] = ch;
+  }
+
+  private void read() throws IOException {
+    if( isEndOfText() ) {
+      throw error( "Unexpected end of input" );
+    }
+    if( current == '\n' ) {
+      line++;
+      lineOffset = bufferOffset + index;
+    }
+    if( index == fill ) {
+      bufferOffset += fill;
+      fill = input.read( buffer, 0, buffer.length );
+      index = 0;
+      if( fill == -1 ) {
+        fill = 0;
+        current = -1;
+        return;
+      }
+    }
+    current = buffer[ index++ ] & 0xff;
+  }
+
+  private ParseException expected( String expected ) {
+    if( isEndOfText() ) {
+      return error( "Unexpected end of input" );
+    }
+    return error( "Expected " + expected );
+  }
+
+  private ParseException error( String message ) {
+    int absIndex = bufferOffset + index;
+    int column = absIndex - lineOffset;
+    int offset = isEndOfText() ? absIndex : absIndex - 1;
+    return new ParseException( message, offset, line, column - 1 );
+  }
+
+  private boolean isWhiteSpace() {
+    return current == ' ' || current == '\t' || current == '\n' || current == '\r';
+  }
+
+  private boolean isDigit() {
+    return current >= '0' && current <= '9';
+  }
+
+  private boolean isHexDigit() {
+    return current >= '0' && current <= '9'
+        || current >= 'a' && current <= 'f'
+        || current >= 'A' && current <= 'F';
+  }
+
+  private boolean isEndOfText() {
+    return current == -1;
+  }
+
+}
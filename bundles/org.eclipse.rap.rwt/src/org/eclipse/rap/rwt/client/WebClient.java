@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2022 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -165,6 +165,32 @@ public class WebClient implements Client {
    */
   public static final String DISABLE_SHUTDOWN_REQUEST = PREFIX + ".disableShutdownRequest";
 
+  /**
+   * Entrypoint property name to render the initial UI while serving the startup page. Accepts
+   * only "true" as property value.
+   * <p>
+   * If enabled, the UI session is created and the entry point is executed when the startup page
+   * is requested. The resulting protocol message is embedded in the page, hence the UI can be
+   * displayed without waiting for an additional request. Only page requests of browsers that
+   * navigate to the application are prerendered, not those of crawlers, monitoring tools or
+   * speculative prefetches. Until the client connects, a new HTTP session expires after two
+   * minutes.
+   * </p>
+   * <p>
+   * <strong>Note:</strong> the information that is usually sent by the client with the first
+   * request, like the display size and the timezone offset, is not available while the entry
+   * point creates the UI. The display has a default size and is resized as soon as the client
+   * reports its actual size. Entry points that depend on the <code>ClientInfo</code> service
+   * should not enable this property.
+   * </p>
+   *
+   * @see Application#addEntryPoint(String, Class, Map)
+   * @see Application#addEntryPoint(String, EntryPointFactory, Map)
+   *
+   * @since 4.5
+   */
+  public static final String PRERENDER = PREFIX + ".prerender";
+
   public WebClient() {
     initializeServices();
   }
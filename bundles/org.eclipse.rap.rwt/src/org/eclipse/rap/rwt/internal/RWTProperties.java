@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2024 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -20,6 +20,9 @@ public final class RWTProperties {
   public static final String TEXT_SIZE_STORE_SIZE = "org.eclipse.rap.rwt.textSizeStoreSize";
   public static final String TEXT_SIZE_STORE_SESSION_SCOPED = "org.eclipse.rap.rwt.textSizeStoreSessionScoped";
   public static final String ENABLE_LOAD_TESTS = "org.eclipse.rap.rwt.enableLoadTests";
+  public static final String SPLIT_CLIENT = "org.eclipse.rap.rwt.splitClient";
+  public static final String LIFE_CYCLE_METRICS = "org.eclipse.rap.rwt.lifeCycleMetrics";
+  public static final String LIFE_CYCLE_METRICS_JFR = "org.eclipse.rap.rwt.lifeCycleMetrics.jfr";
 
   /*
    * Used in conjunction with <code>WidgetUtil#CUSTOM_WIDGET_ID</code>,
@@ -55,6 +58,18 @@ public final class RWTProperties {
     return getBooleanProperty( ENABLE_LOAD_TESTS, false );
   }
 
+  public static boolean isSplitClient() {
+    return getBooleanProperty( SPLIT_CLIENT, false );
+  }
+
+  public static boolean isLifeCycleMetricsEnabled() {
+    return getBooleanProperty( LIFE_CYCLE_METRICS, false );
+  }
+
+  public static boolean isLifeCycleMetricsJfrEnabled() {
+    return getBooleanProperty( LIFE_CYCLE_METRICS_JFR, false );
+  }
+
   public static boolean getBooleanProperty( String name, boolean defaultValue ) {
     String value = System.getProperty( name );
     return value == null ? defaultValue : value.equalsIgnoreCase( "true" );
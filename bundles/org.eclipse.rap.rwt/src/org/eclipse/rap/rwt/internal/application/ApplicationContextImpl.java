@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 Frank Appel and others.
+ * Copyright (c) 2011, 2026 Frank Appel and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -27,6 +27,7 @@ import org.eclipse.rap.rwt.internal.client.ClientSelector;
 import org.eclipse.rap.rwt.internal.lifecycle.EntryPointManager;
 import org.eclipse.rap.rwt.internal.lifecycle.LifeCycleFactory;
 import org.eclipse.rap.rwt.internal.lifecycle.PhaseListenerManager;
+import org.eclipse.rap.rwt.internal.metrics.LifeCycleMetrics;
 import org.eclipse.rap.rwt.internal.remote.MessageChainElement;
 import org.eclipse.rap.rwt.internal.remote.MessageChainReference;
 import org.eclipse.rap.rwt.internal.remote.MessageFilter;
@@ -86,6 +87,7 @@ public class ApplicationContextImpl implements ApplicationContext {
   private final ResourceManager resourceManager;
   private final PhaseListenerManager phaseListenerManager;
   private final LifeCycleFactory lifeCycleFactory;
+  private final LifeCycleMetrics lifeCycleMetrics;
   private final MessageChainReference messageChainReference;
   private final EntryPointManager entryPointManager;
   private final SettingStoreManager settingStoreManager;
@@ -120,6 +122,7 @@ public class ApplicationContextImpl implements ApplicationContext {
     phaseListenerManager = new PhaseListenerManager();
     entryPointManager = new EntryPointManager();
     lifeCycleFactory = new LifeCycleFactory( this );
+    lifeCycleMetrics = new LifeCycleMetrics();
     RWTMessageHandler rwtHandler = new RWTMessageHandler( lifeCycleFactory );
     messageChainReference = new MessageChainReference( new MessageChainElement( rwtHandler, null ) );
     themeManager = createThemeManager();
@@ -304,6 +307,10 @@ public class ApplicationContextImpl implements ApplicationContext {
     return lifeCycleFactory;
   }
 
+  public LifeCycleMetrics getLifeCycleMetrics() {
+    return lifeCycleMetrics;
+  }
+
   public ResourceFactory getResourceFactory() {
     return resourceFactory;
   }
@@ -374,6 +381,7 @@ public class ApplicationContextImpl implements ApplicationContext {
     setInternalSettingStoreFactory();
     startupPage.activate();
     lifeCycleFactory.activate();
+    lifeCycleMetrics.activate();
     // Note: order is crucial here
     themeManager.activate();
     if( !skipResoureRegistration ) {
@@ -387,6 +395,7 @@ public class ApplicationContextImpl implements ApplicationContext {
   void doDeactivate() {
     startupPage.deactivate();
     lifeCycleFactory.deactivate();
+    lifeCycleMetrics.deactivate();
     serviceManager.clear();
     themeManager.deactivate();
     if( !skipResoureDeletion ) {
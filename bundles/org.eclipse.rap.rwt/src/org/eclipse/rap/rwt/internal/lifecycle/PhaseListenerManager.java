@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -17,6 +17,8 @@ import java.text.MessageFormat;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.eclipse.rap.rwt.internal.metrics.RequestMetrics;
+import org.eclipse.rap.rwt.internal.metrics.Stage;
 import org.eclipse.rap.rwt.internal.service.ServletLog;
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
 
@@ -53,6 +55,7 @@ public class PhaseListenerManager {
   }
 
   void notifyBeforePhase( PhaseId phase, LifeCycle eventSource ) {
+    beginStage( phase );
     if( PhaseId.PROCESS_ACTION.equals( phase ) ) {
       getApplicationContext().notifyEnterUIThread( getUISession() );
     }
@@ -86,12 +89,29 @@ public class PhaseListenerManager {
         }
       }
     }
+    endStage( phase );
   }
 
   public void clear() {
     phaseListeners.clear();
   }
 
+  private static void beginStage( PhaseId phase ) {
+    RequestMetrics metrics = RequestMetrics.getCurrent();
+    Stage stage = Stage.forPhase( phase );
+    if( metrics != null && stage != null ) {
+      metrics.beginStage( stage );
+    }
+  }
+
+  private static void endStage( PhaseId phase ) {
+    RequestMetrics metrics = RequestMetrics.getCurrent();
+    Stage stage = Stage.forPhase( phase );
+    if( metrics != null && stage != null ) {
+      metrics.endStage( stage );
+    }
+  }
+
   private static boolean mustNotify( PhaseId phase, PhaseId listenerPhase ) {
     return listenerPhase == PhaseId.ANY || listenerPhase == phase;
   }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -330,11 +330,21 @@ public final class WidgetLCAUtil {
   }
 
   public static void preserveProperty( Widget widget, String property, int value ) {
-    preserveProperty( widget, property, Integer.valueOf( value ) );
+    RemoteAdapter adapter = getAdapter( widget );
+    if( adapter instanceof WidgetRemoteAdapter ) {
+      ( ( WidgetRemoteAdapter )adapter ).preserve( property, value );
+    } else {
+      adapter.preserve( property, Integer.valueOf( value ) );
+    }
   }
 
   public static void preserveProperty( Widget widget, String property, boolean value ) {
-    preserveProperty( widget, property, Boolean.valueOf( value ) );
+    RemoteAdapter adapter = getAdapter( widget );
+    if( adapter instanceof WidgetRemoteAdapter ) {
+      ( ( WidgetRemoteAdapter )adapter ).preserve( property, value );
+    } else {
+      adapter.preserve( property, Boolean.valueOf( value ) );
+    }
   }
 
   public static void renderProperty( Widget widget,
@@ -396,9 +406,7 @@ public final class WidgetLCAUtil {
                                      int newValue,
                                      int defaultValue )
   {
-    Integer newValueObject = Integer.valueOf( newValue );
-    Integer defaultValueObject = Integer.valueOf( defaultValue );
-    if( hasChanged( widget, property, newValueObject, defaultValueObject ) ) {
+    if( hasChanged( widget, property, newValue, defaultValue ) ) {
       getRemoteObject( widget ).set( property, newValue );
     }
   }
@@ -408,9 +416,7 @@ public final class WidgetLCAUtil {
                                      boolean newValue,
                                      boolean defaultValue )
   {
-    Boolean newValueObject = Boolean.valueOf( newValue );
-    Boolean defaultValueObject = Boolean.valueOf( defaultValue );
-    if( hasChanged( widget, property, newValueObject, defaultValueObject ) ) {
+    if( hasChanged( widget, property, newValue, defaultValue ) ) {
       getRemoteObject( widget ).set( property, newValue );
     }
   }
@@ -617,6 +623,36 @@ public final class WidgetLCAUtil {
     return changed( widget, actualValue, preservedValue, defaultValue );
   }
 
+  public static boolean hasChanged( Widget widget,
+                                    String property,
+                                    int actualValue,
+                                    int defaultValue )
+  {
+    RemoteAdapter adapter = getAdapter( widget );
+    if( adapter.isInitialized() ) {
+      if( adapter instanceof WidgetRemoteAdapter ) {
+        return !( ( WidgetRemoteAdapter )adapter ).isPreserved( property, actualValue );
+      }
+      return !equals( Integer.valueOf( actualValue ), adapter.getPreserved( property ) );
+    }
+    return actualValue != defaultValue;
+  }
+
+  public static boolean hasChanged( Widget widget,
+                                    String property,
+                                    boolean actualValue,
+                                    boolean defaultValue )
+  {
+    RemoteAdapter adapter = getAdapter( widget );
+    if( adapter.isInitialized() ) {
+      if( adapter instanceof WidgetRemoteAdapter ) {
+        return !( ( WidgetRemoteAdapter )adapter ).isPreserved( property, actualValue );
+      }
+      return !equals( Boolean.valueOf( actualValue ), adapter.getPreserved( property ) );
+    }
+    return actualValue != defaultValue;
+  }
+
   static boolean changed( Widget widget,
                           Object actualValue,
                           Object preservedValue,
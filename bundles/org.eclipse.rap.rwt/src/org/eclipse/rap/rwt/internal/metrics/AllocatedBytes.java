@@ -0,0 +1,53 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.metrics;
+
+import java.lang.management.ManagementFactory;
+
+import com.sun.management.ThreadMXBean;
+
+
+/*
+ * Reads the number of bytes allocated by the current thread. The extended thread MXBean is not
+ * available on all VMs, callers must check isSupported() and be prepared for a LinkageError when
+ * loading this class.
+ */
+final class AllocatedBytes {
+
+  private static final ThreadMXBean THREAD_MX_BEAN = findThreadMXBean();
+
+  private AllocatedBytes() {
+    // prevent instantiation
+  }
+
+  static boolean isSupported() {
+    return THREAD_MX_BEAN != null;
+  }
+
+  static long getCurrentThread() {
+    return THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+  }
+
+  private static ThreadMXBean findThreadMXBean() {
+    ThreadMXBean result = null;
+    java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    if( threadMXBean instanceof ThreadMXBean ) {
+      ThreadMXBean extendedMXBean = ( ThreadMXBean )threadMXBean;
+      if(    extendedMXBean.isThreadAllocatedMemorySupported()
+          && extendedMXBean.isThreadAllocatedMemoryEnabled() )
+      {
+        result = extendedMXBean;
+      }
+    }
+    return result;
+  }
+
+}
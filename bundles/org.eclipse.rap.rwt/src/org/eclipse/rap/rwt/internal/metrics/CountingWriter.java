@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+
+
+/**
+ * A writer that counts the bytes of the UTF-8 encoding of the characters written to the
+ * underlying writer.
+ */
+public final class CountingWriter extends Writer {
+
+  private final Writer writer;
+  private long byteCount;
+
+  public CountingWriter( Writer writer ) {
+    this.writer = writer;
+  }
+
+  public long getByteCount() {
+    return byteCount;
+  }
+
+  @Override
+  public void write( int ch ) throws IOException {
+    writer.write( ch );
+    byteCount += getUtf8Length( ( char )ch );
+  }
+
+  @Override
+  public void write( char[] buffer, int offset, int length ) throws IOException {
+    writer.write( buffer, offset, length );
+    for( int i = offset; i < offset + length; i++ ) {
+      byteCount += getUtf8Length( buffer[ i ] );
+    }
+  }
+
+  @Override
+  public void write( String string, int offset, int length ) throws IOException {
+    writer.write( string, offset, length );
+    for( int i = offset; i < offset + length; i++ ) {
+      byteCount += getUtf8Length( string.charAt( i ) );
+    }
+  }
+
+  @Override
+  public void flush() throws IOException {
+    writer.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    writer.close();
+  }
+
+  // a surrogate pair is encoded in four bytes, hence two for each of its chars
+  static int getUtf8Length( char ch ) {
+    int result;
+    if( ch < 0x80 ) {
+      result = 1;
+    } else if( ch < 0x800 || Character.isSurrogate( ch ) ) {
+      result = 2;
+    } else {
+      result = 3;
+    }
+    return result;
+  }
+
+}
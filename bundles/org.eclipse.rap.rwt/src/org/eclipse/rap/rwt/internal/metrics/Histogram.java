@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * A lock-free histogram of non-negative values with power of two buckets. Percentiles are
+ * reported as the upper bound of the bucket that contains them, hence they are accurate within
+ * a factor of two, which is sufficient to tell where the time of a request is spent.
+ */
+public final class Histogram {
+
+  private static final int BUCKET_COUNT = 64;
+
+  private final AtomicLongArray buckets;
+  private final LongAdder count;
+  private final LongAdder sum;
+  private final AtomicLong max;
+
+  public Histogram() {
+    buckets = new AtomicLongArray( BUCKET_COUNT );
+    count = new LongAdder();
+    sum = new LongAdder();
+    max = new AtomicLong();
+  }
+
+  public void record( long value ) {
+    long positiveValue = Math.max( 0, value );
+    buckets.incrementAndGet( getBucket( positiveValue ) );
+    count.increment();
+    sum.add( positiveValue );
+    long currentMax = max.get();
+    while( positiveValue > currentMax && !max.compareAndSet( currentMax, positiveValue ) ) {
+      currentMax = max.get();
+    }
+  }
+
+  public long getCount() {
+    return count.sum();
+  }
+
+  public long getSum() {
+    return sum.sum();
+  }
+
+  public long getMax() {
+    return max.get();
+  }
+
+  public long getMean() {
+    long currentCount = count.sum();
+    return currentCount == 0 ? 0 : sum.sum() / currentCount;
+  }
+
+  /**
+   * Returns an upper bound of the given percentile.
+   *
+   * @param percentile the percentile, between 0 and 100
+   */
+  public long getPercentile( double percentile ) {
+    long[] counts = new long[ BUCKET_COUNT ];
+    long total = 0;
+    for( int i = 0; i < BUCKET_COUNT; i++ ) {
+      counts[ i ] = buckets.get( i );
+      total += counts[ i ];
+    }
+    long result = 0;
+    if( total > 0 ) {
+      long rank = ( long )Math.ceil( total * Math.min( 100, Math.max( 0, percentile ) ) / 100 );
+      long seen = 0;
+      int bucket = 0;
+      while( bucket < BUCKET_COUNT - 1 && seen + counts[ bucket ] < Math.max( 1, rank ) ) {
+        seen += counts[ bucket ];
+        bucket++;
+      }
+      result = Math.min( getUpperBound( bucket ), max.get() );
+    }
+    return result;
+  }
+
+  public HistogramSnapshot getSnapshot() {
+    return new HistogramSnapshot( this );
+  }
+
+  public void reset() {
+    for( int i = 0; i < BUCKET_COUNT; i++ ) {
+      buckets.set( i, 0 );
+    }
+    count.reset();
+    sum.reset();
+    max.set( 0 );
+  }
+
+  // bucket 0 holds 0, bucket n holds values in [2^(n-1), 2^n - 1]
+  static int getBucket( long value ) {
+    return Math.min( BUCKET_COUNT - 1, Long.SIZE - Long.numberOfLeadingZeros( value ) );
+  }
+
+  static long getUpperBound( int bucket ) {
+    return bucket >= BUCKET_COUNT - 1 ? Long.MAX_VALUE : ( 1L << bucket ) - 1;
+  }
+
+}
@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.metrics;
+
+
+/**
+ * An immutable summary of a {@link Histogram}. The getters are mapped to the items of a
+ * composite type when published through JMX.
+ */
+public final class HistogramSnapshot {
+
+  private final long count;
+  private final long mean;
+  private final long max;
+  private final long p50;
+  private final long p90;
+  private final long p99;
+
+  HistogramSnapshot( Histogram histogram ) {
+    count = histogram.getCount();
+    mean = histogram.getMean();
+    max = histogram.getMax();
+    p50 = histogram.getPercentile( 50 );
+    p90 = histogram.getPercentile( 90 );
+    p99 = histogram.getPercentile( 99 );
+  }
+
+  public long getCount() {
+    return count;
+  }
+
+  public long getMean() {
+    return mean;
+  }
+
+  public long getMax() {
+    return max;
+  }
+
+  public long getP50() {
+    return p50;
+  }
+
+  public long getP90() {
+    return p90;
+  }
+
+  public long getP99() {
+    return p99;
+  }
+
+  @Override
+  public String toString() {
+    return "count=" + count
+         + ", mean=" + mean
+         + ", p50=" + p50
+         + ", p90=" + p90
+         + ", p99=" + p99
+         + ", max=" + max;
+  }
+
+}
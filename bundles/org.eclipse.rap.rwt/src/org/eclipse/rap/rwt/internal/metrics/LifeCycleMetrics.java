@@ -0,0 +1,289 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.eclipse.rap.rwt.internal.RWTProperties;
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
+import org.eclipse.rap.rwt.internal.service.ServiceStore;
+import org.eclipse.rap.rwt.internal.service.ServletLog;
+import org.eclipse.rap.rwt.internal.util.ParamCheck;
+
+
+/**
+ * Collects the per-stage measurements of the UI requests of an application.
+ * <p>
+ * Metrics are disabled unless the system property <code>org.eclipse.rap.rwt.lifeCycleMetrics</code>
+ * is set to <code>true</code>. If disabled, no measurements are attached to a request and the
+ * instrumented code only checks for their absence. If enabled, the histograms are published as
+ * an MXBean and every request is passed to the registered {@link LifeCycleMetricsListener}s.
+ * With <code>org.eclipse.rap.rwt.lifeCycleMetrics.jfr</code> set to <code>true</code>, a
+ * flight recorder event is emitted for every request in addition.
+ * </p>
+ */
+public class LifeCycleMetrics implements LifeCycleMetricsMXBean {
+
+  private static final String OBJECT_NAME = "org.eclipse.rap.rwt:type=LifeCycleMetrics,id=";
+  private static final String JFR_EVENT_CLASS = "jdk.jfr.Event";
+
+  private final boolean enabled;
+  private final boolean jfrEnabled;
+  private final boolean allocationsSupported;
+  private final Map<Stage, Histogram> stageTimes;
+  private final Map<Stage, Histogram> stageAllocations;
+  private final Histogram requestTime;
+  private final Histogram lockWaitTime;
+  private final Histogram allocatedBytes;
+  private final Histogram widgetCount;
+  private final Histogram operationsRead;
+  private final Histogram operationsWritten;
+  private final Histogram responseBytes;
+  private final List<LifeCycleMetricsListener> listeners;
+  private ObjectName objectName;
+
+  public LifeCycleMetrics() {
+    this( RWTProperties.isLifeCycleMetricsEnabled(), RWTProperties.isLifeCycleMetricsJfrEnabled() );
+  }
+
+  LifeCycleMetrics( boolean enabled, boolean jfrEnabled ) {
+    this.enabled = enabled;
+    this.jfrEnabled = enabled && jfrEnabled && isJfrAvailable();
+    allocationsSupported = enabled && isAllocationMeasurementSupported();
+    stageTimes = createStageHistograms();
+    stageAllocations = createStageHistograms();
+    requestTime = new Histogram();
+    lockWaitTime = new Histogram();
+    allocatedBytes = new Histogram();
+    widgetCount = new Histogram();
+    operationsRead = new Histogram();
+    operationsWritten = new Histogram();
+    responseBytes = new Histogram();
+    listeners = new CopyOnWriteArrayList<>();
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void addListener( LifeCycleMetricsListener listener ) {
+    ParamCheck.notNull( listener, "listener" );
+    listeners.add( listener );
+  }
+
+  public void removeListener( LifeCycleMetricsListener listener ) {
+    ParamCheck.notNull( listener, "listener" );
+    listeners.remove( listener );
+  }
+
+  public void activate() {
+    if( enabled ) {
+      registerMBean();
+    }
+  }
+
+  public void deactivate() {
+    unregisterMBean();
+    listeners.clear();
+  }
+
+  /**
+   * Attaches the measurements of a new request to the current service store.
+   *
+   * @param lockWaitTime the time in nanoseconds the request waited for the request lock
+   */
+  public RequestMetrics beginRequest( long lockWaitTime ) {
+    RequestMetrics result = new RequestMetrics( lockWaitTime, allocationsSupported );
+    if( jfrEnabled ) {
+      result.event = RequestEvent.start();
+    }
+    getServiceStore().setAttribute( RequestMetrics.ATTR_REQUEST_METRICS, result );
+    return result;
+  }
+
+  public void endRequest( RequestMetrics metrics ) {
+    getServiceStore().removeAttribute( RequestMetrics.ATTR_REQUEST_METRICS );
+    metrics.finish();
+    record( metrics );
+    if( metrics.event != null ) {
+      metrics.event.record( metrics );
+    }
+    for( LifeCycleMetricsListener listener : listeners ) {
+      try {
+        listener.requestCompleted( metrics );
+      } catch( RuntimeException exception ) {
+        ServletLog.log( "Failed to notify lifecycle metrics listener", exception );
+      }
+    }
+  }
+
+  @Override
+  public long getRequestCount() {
+    return requestTime.getCount();
+  }
+
+  @Override
+  public HistogramSnapshot getRequestTime() {
+    return requestTime.getSnapshot();
+  }
+
+  @Override
+  public HistogramSnapshot getLockWaitTime() {
+    return lockWaitTime.getSnapshot();
+  }
+
+  @Override
+  public Map<String, HistogramSnapshot> getStageTimes() {
+    return getSnapshots( stageTimes );
+  }
+
+  @Override
+  public Map<String, HistogramSnapshot> getStageAllocatedBytes() {
+    return getSnapshots( stageAllocations );
+  }
+
+  @Override
+  public HistogramSnapshot getAllocatedBytes() {
+    return allocatedBytes.getSnapshot();
+  }
+
+  @Override
+  public HistogramSnapshot getWidgetCount() {
+    return widgetCount.getSnapshot();
+  }
+
+  @Override
+  public HistogramSnapshot getOperationsRead() {
+    return operationsRead.getSnapshot();
+  }
+
+  @Override
+  public HistogramSnapshot getOperationsWritten() {
+    return operationsWritten.getSnapshot();
+  }
+
+  @Override
+  public HistogramSnapshot getResponseBytes() {
+    return responseBytes.getSnapshot();
+  }
+
+  @Override
+  public void reset() {
+    for( Stage stage : Stage.values() ) {
+      stageTimes.get( stage ).reset();
+      stageAllocations.get( stage ).reset();
+    }
+    requestTime.reset();
+    lockWaitTime.reset();
+    allocatedBytes.reset();
+    widgetCount.reset();
+    operationsRead.reset();
+    operationsWritten.reset();
+    responseBytes.reset();
+  }
+
+  ObjectName getObjectName() {
+    return objectName;
+  }
+
+  private void record( RequestMetrics metrics ) {
+    for( Stage stage : Stage.values() ) {
+      stageTimes.get( stage ).record( toMicros( metrics.getStageTime( stage ) ) );
+      if( allocationsSupported ) {
+        stageAllocations.get( stage ).record( metrics.getStageAllocatedBytes( stage ) );
+      }
+    }
+    requestTime.record( toMicros( metrics.getRequestTime() ) );
+    lockWaitTime.record( toMicros( metrics.getLockWaitTime() ) );
+    if( allocationsSupported ) {
+      allocatedBytes.record( metrics.getAllocatedBytes() );
+    }
+    widgetCount.record( metrics.getWidgetCount() );
+    operationsRead.record( metrics.getOperationsRead() );
+    operationsWritten.record( metrics.getOperationsWritten() );
+    responseBytes.record( metrics.getResponseBytes() );
+  }
+
+  private void registerMBean() {
+    MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+    try {
+      ObjectName name = new ObjectName( OBJECT_NAME + Integer.toHexString( hashCode() ) );
+      mBeanServer.registerMBean( this, name );
+      objectName = name;
+    } catch( JMException exception ) {
+      ServletLog.log( "Failed to register lifecycle metrics MBean", exception );
+    }
+  }
+
+  private void unregisterMBean() {
+    if( objectName != null ) {
+      MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+      try {
+        mBeanServer.unregisterMBean( objectName );
+      } catch( JMException exception ) {
+        ServletLog.log( "Failed to unregister lifecycle metrics MBean", exception );
+      }
+      objectName = null;
+    }
+  }
+
+  private static Map<Stage, Histogram> createStageHistograms() {
+    Map<Stage, Histogram> result = new EnumMap<>( Stage.class );
+    for( Stage stage : Stage.values() ) {
+      result.put( stage, new Histogram() );
+    }
+    return result;
+  }
+
+  private static Map<String, HistogramSnapshot> getSnapshots( Map<Stage, Histogram> histograms ) {
+    Map<String, HistogramSnapshot> result = new LinkedHashMap<>();
+    for( Stage stage : Stage.values() ) {
+      result.put( stage.name(), histograms.get( stage ).getSnapshot() );
+    }
+    return result;
+  }
+
+  private static long toMicros( long nanos ) {
+    return TimeUnit.NANOSECONDS.toMicros( nanos );
+  }
+
+  private static ServiceStore getServiceStore() {
+    return ContextProvider.getServiceStore();
+  }
+
+  private static boolean isJfrAvailable() {
+    try {
+      Class.forName( JFR_EVENT_CLASS, false, LifeCycleMetrics.class.getClassLoader() );
+      return true;
+    } catch( @SuppressWarnings( "unused" ) ClassNotFoundException | LinkageError exception ) {
+      return false;
+    }
+  }
+
+  private static boolean isAllocationMeasurementSupported() {
+    try {
+      return AllocatedBytes.isSupported();
+    } catch( @SuppressWarnings( "unused" ) LinkageError error ) {
+      return false;
+    }
+  }
+
+}
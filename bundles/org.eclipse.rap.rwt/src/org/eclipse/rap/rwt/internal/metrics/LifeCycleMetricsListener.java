@@ -0,0 +1,25 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.metrics;
+
+
+/**
+ * Receives the measurements of every UI request when lifecycle metrics are enabled. Listeners
+ * can forward the measurements to a metrics library. They are called on the request thread
+ * while the request lock of the UI session is held and must return quickly.
+ *
+ * @see LifeCycleMetrics#addListener(LifeCycleMetricsListener)
+ */
+public interface LifeCycleMetricsListener {
+
+  void requestCompleted( RequestMetrics metrics );
+
+}
@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.metrics;
+
+import java.util.Map;
+
+
+/**
+ * The management interface of the lifecycle metrics of an application. Times are reported in
+ * microseconds, allocations and response sizes in bytes.
+ */
+public interface LifeCycleMetricsMXBean {
+
+  long getRequestCount();
+
+  HistogramSnapshot getRequestTime();
+
+  HistogramSnapshot getLockWaitTime();
+
+  Map<String, HistogramSnapshot> getStageTimes();
+
+  Map<String, HistogramSnapshot> getStageAllocatedBytes();
+
+  HistogramSnapshot getAllocatedBytes();
+
+  HistogramSnapshot getWidgetCount();
+
+  HistogramSnapshot getOperationsRead();
+
+  HistogramSnapshot getOperationsWritten();
+
+  HistogramSnapshot getResponseBytes();
+
+  void reset();
+
+}
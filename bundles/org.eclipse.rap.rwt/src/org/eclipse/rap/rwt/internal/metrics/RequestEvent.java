@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+
+/*
+ * A flight recorder event for a UI request. This class is only loaded if flight recorder
+ * events are enabled and the jdk.jfr module is available.
+ */
+@Name( "org.eclipse.rap.rwt.Request" )
+@Label( "UI Request" )
+@Category( "RAP" )
+@Description( "A UI request processed by the RWT lifecycle" )
+@StackTrace( false )
+final class RequestEvent extends Event {
+
+  @Label( "Lock Wait" )
+  @Timespan
+  long lockWait;
+
+  @Label( "Parse" )
+  @Timespan
+  long parse;
+
+  @Label( "Prepare UI Root" )
+  @Timespan
+  long prepareUIRoot;
+
+  @Label( "Read Data" )
+  @Timespan
+  long readData;
+
+  @Label( "Process Action" )
+  @Timespan
+  long processAction;
+
+  @Label( "Render" )
+  @Timespan
+  long render;
+
+  @Label( "Write" )
+  @Timespan
+  long write;
+
+  @Label( "Widgets" )
+  int widgets;
+
+  @Label( "Operations Read" )
+  int operationsRead;
+
+  @Label( "Operations Written" )
+  int operationsWritten;
+
+  @Label( "Response Size" )
+  @DataAmount
+  long responseBytes;
+
+  @Label( "Allocated" )
+  @DataAmount
+  long allocatedBytes;
+
+  static RequestEvent start() {
+    RequestEvent result = new RequestEvent();
+    result.begin();
+    return result;
+  }
+
+  void record( RequestMetrics metrics ) {
+    end();
+    if( shouldCommit() ) {
+      lockWait = metrics.getLockWaitTime();
+      parse = metrics.getStageTime( Stage.PARSE );
+      prepareUIRoot = metrics.getStageTime( Stage.PREPARE_UI_ROOT );
+      readData = metrics.getStageTime( Stage.READ_DATA );
+      processAction = metrics.getStageTime( Stage.PROCESS_ACTION );
+      render = metrics.getStageTime( Stage.RENDER );
+      write = metrics.getStageTime( Stage.WRITE );
+      widgets = metrics.getWidgetCount();
+      operationsRead = metrics.getOperationsRead();
+      operationsWritten = metrics.getOperationsWritten();
+      responseBytes = metrics.getResponseBytes();
+      allocatedBytes = metrics.getAllocatedBytes();
+      commit();
+    }
+  }
+
+}
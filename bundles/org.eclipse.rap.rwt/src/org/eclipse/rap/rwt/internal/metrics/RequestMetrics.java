@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.metrics;
+
+import org.eclipse.rap.rwt.internal.service.ContextProvider;
+
+
+/**
+ * The measurements of a single UI request. An instance is attached to the service store while
+ * the request is processed, the lifecycle phases may run on the UI thread. Times are in
+ * nanoseconds. Allocated bytes are only available if the VM supports measuring the
+ * allocations of a thread, otherwise they are zero.
+ */
+public final class RequestMetrics {
+
+  static final String ATTR_REQUEST_METRICS = RequestMetrics.class.getName() + "#instance";
+
+  private static final int STAGE_COUNT = Stage.values().length;
+
+  private final long startTime;
+  private final long lockWaitTime;
+  private final boolean measureAllocations;
+  private final long[] stageStartTimes;
+  private final long[] stageTimes;
+  private final long[] stageStartAllocations;
+  private final long[] stageAllocations;
+  private long requestTime;
+  private int widgetCount;
+  private int operationsRead;
+  private int operationsWritten;
+  private long responseBytes;
+  RequestEvent event;
+
+  /**
+   * Returns the metrics of the request that is processed by the current thread or
+   * <code>null</code> if metrics are disabled.
+   */
+  public static RequestMetrics getCurrent() {
+    RequestMetrics result = null;
+    if( ContextProvider.hasContext() ) {
+      Object attribute = ContextProvider.getServiceStore().getAttribute( ATTR_REQUEST_METRICS );
+      result = ( RequestMetrics )attribute;
+    }
+    return result;
+  }
+
+  RequestMetrics( long lockWaitTime, boolean measureAllocations ) {
+    this.lockWaitTime = lockWaitTime;
+    this.measureAllocations = measureAllocations;
+    startTime = System.nanoTime();
+    stageStartTimes = new long[ STAGE_COUNT ];
+    stageTimes = new long[ STAGE_COUNT ];
+    stageStartAllocations = new long[ STAGE_COUNT ];
+    stageAllocations = new long[ STAGE_COUNT ];
+  }
+
+  public void beginStage( Stage stage ) {
+    int index = stage.ordinal();
+    stageStartTimes[ index ] = System.nanoTime();
+    if( measureAllocations ) {
+      stageStartAllocations[ index ] = AllocatedBytes.getCurrentThread();
+    }
+  }
+
+  public void endStage( Stage stage ) {
+    int index = stage.ordinal();
+    stageTimes[ index ] += System.nanoTime() - stageStartTimes[ index ];
+    if( measureAllocations ) {
+      stageAllocations[ index ] += AllocatedBytes.getCurrentThread() - stageStartAllocations[ index ];
+    }
+  }
+
+  public void addWidgetCount( int count ) {
+    widgetCount += count;
+  }
+
+  public void setOperationsRead( int count ) {
+    operationsRead = count;
+  }
+
+  public void setOperationsWritten( int count ) {
+    operationsWritten = count;
+  }
+
+  public void setResponseBytes( long bytes ) {
+    responseBytes = bytes;
+  }
+
+  /**
+   * Returns the time that the request waited for the request lock of the UI session.
+   */
+  public long getLockWaitTime() {
+    return lockWaitTime;
+  }
+
+  /**
+   * Returns the time between acquiring the request lock and the end of the request.
+   */
+  public long getRequestTime() {
+    return requestTime;
+  }
+
+  public long getStageTime( Stage stage ) {
+    return stageTimes[ stage.ordinal() ];
+  }
+
+  public long getStageAllocatedBytes( Stage stage ) {
+    return stageAllocations[ stage.ordinal() ];
+  }
+
+  public long getAllocatedBytes() {
+    long result = 0;
+    for( long allocation : stageAllocations ) {
+      result += allocation;
+    }
+    return result;
+  }
+
+  /**
+   * Returns the number of widgets visited when rendering the widget tree.
+   */
+  public int getWidgetCount() {
+    return widgetCount;
+  }
+
+  public int getOperationsRead() {
+    return operationsRead;
+  }
+
+  public int getOperationsWritten() {
+    return operationsWritten;
+  }
+
+  /**
+   * Returns the size of the UTF-8 encoded response message.
+   */
+  public long getResponseBytes() {
+    return responseBytes;
+  }
+
+  void finish() {
+    requestTime = System.nanoTime() - startTime;
+  }
+
+}
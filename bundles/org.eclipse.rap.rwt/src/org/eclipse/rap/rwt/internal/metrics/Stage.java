@@ -0,0 +1,48 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.metrics;
+
+import org.eclipse.rap.rwt.internal.lifecycle.PhaseId;
+
+
+/**
+ * The measured stages of a UI request: parsing the client message, the lifecycle phases and
+ * writing the response message.
+ */
+@SuppressWarnings( "deprecation" )
+public enum Stage {
+
+  PARSE,
+  PREPARE_UI_ROOT,
+  READ_DATA,
+  PROCESS_ACTION,
+  RENDER,
+  WRITE;
+
+  /**
+   * Returns the stage of the given lifecycle phase or <code>null</code> for
+   * <code>PhaseId.ANY</code>.
+   */
+  public static Stage forPhase( PhaseId phaseId ) {
+    Stage result = null;
+    if( phaseId == PhaseId.PREPARE_UI_ROOT ) {
+      result = PREPARE_UI_ROOT;
+    } else if( phaseId == PhaseId.READ_DATA ) {
+      result = READ_DATA;
+    } else if( phaseId == PhaseId.PROCESS_ACTION ) {
+      result = PROCESS_ACTION;
+    } else if( phaseId == PhaseId.RENDER ) {
+      result = RENDER;
+    }
+    return result;
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2015 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,6 +10,10 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.protocol;
 
+import static org.eclipse.rap.rwt.internal.protocol.OperationReader.readOperation;
+
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -17,6 +21,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.eclipse.rap.json.JsonObject;
+import org.eclipse.rap.json.Utf8JsonReader;
 import org.eclipse.rap.rwt.internal.protocol.Operation.CallOperation;
 import org.eclipse.rap.rwt.internal.protocol.Operation.NotifyOperation;
 import org.eclipse.rap.rwt.internal.protocol.Operation.SetOperation;
@@ -32,10 +37,66 @@ public class ClientMessage extends RequestMessage {
   }
 
   public ClientMessage( Message message ) {
-    super( message.getHead(), message.getOperations() );
+    this( message.getHead(), message.getOperations() );
+  }
+
+  private ClientMessage( JsonObject head, List<Operation> operations ) {
+    super( head, operations );
     createOperationsIndex();
   }
 
+  /**
+   * Reads a message from UTF-8 encoded JSON. The operations are created while the input is
+   * parsed, without building a JSON tree for the entire message.
+   */
+  public static ClientMessage readFrom( InputStream input ) throws IOException {
+    Utf8JsonReader reader = new Utf8JsonReader( input );
+    JsonObject head = null;
+    List<Operation> operations = null;
+    reader.beginObject();
+    while( reader.hasNext() ) {
+      String name = reader.nextName();
+      if( HEAD.equals( name ) ) {
+        head = readHead( reader );
+      } else if( OPERATIONS.equals( name ) ) {
+        operations = readOperations( reader );
+      } else {
+        reader.nextValue();
+      }
+    }
+    reader.endObject();
+    reader.endDocument();
+    if( head == null ) {
+      throw new IllegalArgumentException( "Failed to read head from JSON message" );
+    }
+    if( operations == null ) {
+      throw new IllegalArgumentException( "Failed to read operations from JSON message" );
+    }
+    return new ClientMessage( head, operations );
+  }
+
+  private static JsonObject readHead( Utf8JsonReader reader ) throws IOException {
+    try {
+      return reader.nextValue().asObject();
+    } catch( UnsupportedOperationException exception ) {
+      throw new IllegalArgumentException( "Failed to read head from JSON message", exception );
+    }
+  }
+
+  private static List<Operation> readOperations( Utf8JsonReader reader ) throws IOException {
+    List<Operation> operations = new ArrayList<>();
+    try {
+      reader.beginArray();
+      while( reader.hasNext() ) {
+        operations.add( readOperation( reader ) );
+      }
+      reader.endArray();
+    } catch( RuntimeException exception ) {
+      throw new IllegalArgumentException( "Failed to read operations from JSON message", exception );
+    }
+    return operations;
+  }
+
   private void createOperationsIndex() {
     index = new HashMap<>();
     for( Operation operation : getOperations() ) {
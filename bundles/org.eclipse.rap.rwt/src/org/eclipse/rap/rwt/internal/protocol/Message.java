@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015 EclipseSource and others.
+ * Copyright (c) 2015, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -24,8 +24,8 @@ import org.eclipse.rap.rwt.internal.util.ParamCheck;
 
 public class Message implements Serializable {
 
-  private static final String HEAD = "head";
-  private static final String OPERATIONS = "operations";
+  static final String HEAD = "head";
+  static final String OPERATIONS = "operations";
 
   private final JsonObject head;
   private final List<Operation> operations;
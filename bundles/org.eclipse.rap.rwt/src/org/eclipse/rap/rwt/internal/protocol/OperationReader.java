@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014 EclipseSource and others.
+ * Copyright (c) 2014, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,9 +10,12 @@
  ******************************************************************************/
 package org.eclipse.rap.rwt.internal.protocol;
 
+import java.io.IOException;
+
 import org.eclipse.rap.json.JsonArray;
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.json.JsonValue;
+import org.eclipse.rap.json.Utf8JsonReader;
 import org.eclipse.rap.rwt.internal.protocol.Operation.CallOperation;
 import org.eclipse.rap.rwt.internal.protocol.Operation.CreateOperation;
 import org.eclipse.rap.rwt.internal.protocol.Operation.DestroyOperation;
@@ -33,6 +36,50 @@ public class OperationReader {
     }
   }
 
+  /*
+   * Reads the next operation from the given reader without creating an intermediate JSON array.
+   */
+  static Operation readOperation( Utf8JsonReader reader ) throws IOException {
+    reader.beginArray();
+    String action = nextString( reader );
+    String target = nextString( reader );
+    Operation result;
+    if( action.equals( "create" ) ) {
+      result = new CreateOperation( target, nextString( reader ), nextObject( reader ) );
+    } else if( action.equals( "destroy" ) ) {
+      result = new DestroyOperation( target );
+    } else if( action.equals( "set" ) ) {
+      result = new SetOperation( target, nextObject( reader ) );
+    } else if( action.equals( "call" ) ) {
+      result = new CallOperation( target, nextString( reader ), nextObject( reader ) );
+    } else if( action.equals( "listen" ) ) {
+      result = new ListenOperation( target, nextObject( reader ) );
+    } else if( action.equals( "notify" ) ) {
+      result = new NotifyOperation( target, nextString( reader ), nextObject( reader ) );
+    } else {
+      throw new IllegalArgumentException( "Unknown operation type: " + action );
+    }
+    while( reader.hasNext() ) {
+      reader.nextValue();
+    }
+    reader.endArray();
+    return result;
+  }
+
+  private static String nextString( Utf8JsonReader reader ) throws IOException {
+    if( !reader.hasNext() ) {
+      throw new IllegalArgumentException( "Missing element in operation" );
+    }
+    return reader.nextString();
+  }
+
+  private static JsonObject nextObject( Utf8JsonReader reader ) throws IOException {
+    if( !reader.hasNext() ) {
+      throw new IllegalArgumentException( "Missing element in operation" );
+    }
+    return reader.nextValue().asObject();
+  }
+
   private static Operation readOperation( JsonArray json ) {
     String action = json.get( 0 ).asString();
     String target = json.get( 1 ).asString();
@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.resources;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+
+/*
+ * A part of the client code that is excluded from the client core when the split client is
+ * enabled. The module is loaded by the client when the first object of one of its types is
+ * created.
+ */
+final class ClientModule {
+
+  private static final String MODULE_KEYWORD = "module";
+
+  private final String name;
+  private final List<String> types;
+  private final List<String> files;
+
+  ClientModule( String name, List<String> types ) {
+    this.name = name;
+    this.types = types;
+    files = new ArrayList<>();
+  }
+
+  String getName() {
+    return name;
+  }
+
+  List<String> getTypes() {
+    return Collections.unmodifiableList( types );
+  }
+
+  List<String> getFiles() {
+    return Collections.unmodifiableList( files );
+  }
+
+  /*
+   * Creates the modules from the lines of a module list. A line "module <name> <type>..." starts
+   * a module, the following lines name the files of this module.
+   */
+  static List<ClientModule> parse( List<String> lines ) {
+    List<ClientModule> result = new ArrayList<>();
+    ClientModule current = null;
+    for( String line : lines ) {
+      String[] parts = line.split( "\\s+" );
+      if( MODULE_KEYWORD.equals( parts[ 0 ] ) ) {
+        if( parts.length < 3 ) {
+          throw new IllegalArgumentException( "Invalid module definition: " + line );
+        }
+        current = new ClientModule( parts[ 1 ], Arrays.asList( parts ).subList( 2, parts.length ) );
+        result.add( current );
+      } else if( current == null ) {
+        throw new IllegalArgumentException( "File does not belong to a module: " + line );
+      } else {
+        current.files.add( line );
+      }
+    }
+    return result;
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2016 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,16 +14,22 @@ package org.eclipse.rap.rwt.internal.resources;
 
 import static org.eclipse.rap.rwt.internal.resources.ClientFilesReader.getInputFiles;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
+import org.eclipse.rap.json.JsonValue;
 import org.eclipse.rap.rwt.internal.RWTProperties;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.theme.AppearanceWriter;
 import org.eclipse.rap.rwt.internal.theme.Theme;
 import org.eclipse.rap.rwt.internal.theme.ThemeManager;
 import org.eclipse.rap.rwt.internal.util.HTTP;
+import org.eclipse.rap.rwt.internal.util.HashUtil;
 import org.eclipse.rap.rwt.service.ResourceManager;
 import org.eclipse.swt.SWT;
 
@@ -32,6 +38,10 @@ public final class ClientResources {
 
   private static final String CLIENT_FILES = "client.files";
   private static final String CLIENT_JS = "client.js";
+  private static final String CLIENT_MODULES_FILES = "client-modules.files";
+  private static final String CLIENT_CORE_JS = "client-core.js";
+  static final String MODULE_PREFIX = "rwt-modules/";
+  private static final int HASH_LENGTH = 8;
 
   private static final List<String> JAVASCRIPT_FILES = getInputFiles( CLIENT_FILES );
 
@@ -83,11 +93,11 @@ public final class ClientResources {
   {
     ContentBuffer contentBuffer = new ContentBuffer();
     String appearanceCode = createAppearanceCode();
-    if( RWTProperties.isDevelopmentMode() ) {
+    if( RWTProperties.isSplitClient() ) {
+      appendSplitClient( contentBuffer );
+    } else if( RWTProperties.isDevelopmentMode() ) {
       append( contentBuffer, "debug-settings.js" );
-      for( String javascriptFile : JAVASCRIPT_FILES ) {
-        append( contentBuffer, javascriptFile );
-      }
+      append( contentBuffer, JAVASCRIPT_FILES );
     } else {
       append( contentBuffer, CLIENT_JS );
     }
@@ -95,11 +105,74 @@ public final class ClientResources {
     registerJavascriptResource( contentBuffer, SWT.getVersion() + "/rap-client.js" );
   }
 
+  private void appendSplitClient( ContentBuffer contentBuffer ) throws IOException {
+    List<ClientModule> modules = ClientModule.parse( getInputFiles( CLIENT_MODULES_FILES ) );
+    if( RWTProperties.isDevelopmentMode() ) {
+      append( contentBuffer, "debug-settings.js" );
+      append( contentBuffer, getCoreFiles( modules ) );
+    } else {
+      append( contentBuffer, CLIENT_CORE_JS );
+    }
+    StringBuilder registration = new StringBuilder();
+    for( ClientModule module : modules ) {
+      JsonValue location = JsonValue.valueOf( registerModule( module ) );
+      for( String type : module.getTypes() ) {
+        registration.append( "rwt.remote.ModuleRegistry.add( " );
+        registration.append( JsonValue.valueOf( type ) );
+        registration.append( ", " );
+        registration.append( location );
+        registration.append( " );\n" );
+      }
+    }
+    contentBuffer.append( registration.toString().getBytes( HTTP.CHARSET_UTF_8 ) );
+  }
+
+  private static List<String> getCoreFiles( List<ClientModule> modules ) {
+    Set<String> moduleFiles = new HashSet<>();
+    for( ClientModule module : modules ) {
+      moduleFiles.addAll( module.getFiles() );
+    }
+    List<String> result = new ArrayList<>();
+    for( String javascriptFile : JAVASCRIPT_FILES ) {
+      if( !moduleFiles.contains( javascriptFile ) ) {
+        result.add( javascriptFile );
+      }
+    }
+    return result;
+  }
+
+  /*
+   * Modules are registered with a hash of their content in the name, their URLs change whenever
+   * the content changes. Browsers can therefore cache them without revalidation.
+   */
+  private String registerModule( ClientModule module ) throws IOException {
+    ContentBuffer contentBuffer = new ContentBuffer();
+    if( RWTProperties.isDevelopmentMode() ) {
+      append( contentBuffer, module.getFiles() );
+    } else {
+      append( contentBuffer, "client-" + module.getName() + ".js" );
+    }
+    byte[] content = contentBuffer.getContent();
+    String name = MODULE_PREFIX + module.getName() + "-" + createHash( content ) + ".js";
+    resourceManager.register( name, new ByteArrayInputStream( content ) );
+    return resourceManager.getLocation( name );
+  }
+
+  static String createHash( byte[] content ) {
+    return HashUtil.sha256( content, HASH_LENGTH );
+  }
+
   private String createAppearanceCode() {
     List<String> customAppearances = themeManager.getAppearances();
     return AppearanceWriter.createAppearanceTheme( customAppearances );
   }
 
+  private void append( ContentBuffer contentBuffer, List<String> locations ) throws IOException {
+    for( String location : locations ) {
+      append( contentBuffer, location );
+    }
+  }
+
   private void append( ContentBuffer contentBuffer, String location ) throws IOException {
     InputStream inputStream = openResourceStream( location );
     if( inputStream == null ) {
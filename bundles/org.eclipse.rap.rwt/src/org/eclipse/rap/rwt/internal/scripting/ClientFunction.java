@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2017 EclipseSource and others.
+ * Copyright (c) 2013, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,12 +13,15 @@ package org.eclipse.rap.rwt.internal.scripting;
 import java.io.Serializable;
 
 import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.client.service.JavaScriptLoader;
+import org.eclipse.rap.rwt.internal.scripting.ClientScripts.ClientScript;
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
 import org.eclipse.rap.rwt.remote.RemoteObject;
 
 
 public class ClientFunction implements Serializable {
 
+  static final String FUNCTION_NAME = "handleEvent";
   private static final String REMOTE_TYPE = "rwt.scripting.Function";
 
   private final RemoteObject remoteObject;
@@ -26,8 +29,28 @@ public class ClientFunction implements Serializable {
   public ClientFunction( String scriptCode ) {
     ParamCheck.notNull( scriptCode, "scriptCode" );
     remoteObject = RWT.getUISession().getConnection().createRemoteObject( REMOTE_TYPE );
-    remoteObject.set( "name", "handleEvent" );
-    remoteObject.set( "scriptCode", scriptCode );
+    remoteObject.set( "name", FUNCTION_NAME );
+    ClientScript script = ClientScripts.getInstance().getScript( scriptCode );
+    remoteObject.set( "scriptHash", script.getHash() );
+    if( script.useInSession() && !requirePublishedScript( script ) ) {
+      remoteObject.set( "scriptCode", scriptCode );
+    }
+  }
+
+  /*
+   * Makes the client load a published script before the function is created. Operations that are
+   * written by the JavaScriptLoader precede those of remote objects.
+   */
+  private static boolean requirePublishedScript( ClientScript script ) {
+    String location = script.getLocation();
+    if( location != null ) {
+      JavaScriptLoader loader = RWT.getClient().getService( JavaScriptLoader.class );
+      if( loader != null ) {
+        loader.require( location );
+        return true;
+      }
+    }
+    return false;
   }
 
   String getRemoteId() {
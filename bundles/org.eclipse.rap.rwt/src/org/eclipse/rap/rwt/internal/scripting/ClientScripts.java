@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.scripting;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayInputStream;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.SingletonUtil;
+import org.eclipse.rap.rwt.internal.util.HashUtil;
+import org.eclipse.rap.rwt.service.ResourceManager;
+
+
+/**
+ * Keeps track of the scripts of client functions by their content.
+ * <p>
+ * Every script is identified by a hash of its code. Within a UI session, the code of a script is
+ * transferred only once, subsequent functions with the same code only refer to the hash and the
+ * client reuses the compiled script. Scripts that are used by more than one UI session are
+ * published as static resources, new sessions load them by URL, which allows the browser to cache
+ * them.
+ * </p>
+ */
+public class ClientScripts {
+
+  static final int PUBLISH_THRESHOLD = 2;
+  static final int MAX_SCRIPTS = 1000;
+  static final String RESOURCE_PREFIX = "rwt-scripts/";
+  private static final int HASH_LENGTH = 16;
+
+  private final Map<String, ClientScript> scripts;
+
+  public static ClientScripts getInstance() {
+    return SingletonUtil.getUniqueInstance( ClientScripts.class, RWT.getApplicationContext() );
+  }
+
+  private ClientScripts() {
+    scripts = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Returns the script for the given code. If too many different scripts are known already,
+   * the returned script is not shared.
+   */
+  ClientScript getScript( String code ) {
+    ClientScript script = scripts.get( code );
+    if( script == null ) {
+      script = new ClientScript( code );
+      if( scripts.size() < MAX_SCRIPTS ) {
+        ClientScript existing = scripts.putIfAbsent( code, script );
+        if( existing != null ) {
+          script = existing;
+        }
+      }
+    }
+    return script;
+  }
+
+  static String createHash( String code ) {
+    return HashUtil.sha256( code.getBytes( UTF_8 ), HASH_LENGTH );
+  }
+
+  static final class ClientScript {
+
+    private final String code;
+    private final String hash;
+    private final AtomicInteger sessionCount;
+    private volatile String location;
+
+    ClientScript( String code ) {
+      this.code = code;
+      hash = createHash( code );
+      sessionCount = new AtomicInteger();
+    }
+
+    String getCode() {
+      return code;
+    }
+
+    String getHash() {
+      return hash;
+    }
+
+    /**
+     * Returns <code>true</code> if the script is used for the first time in the current UI
+     * session, i.e. if the client does not know the script yet.
+     */
+    boolean useInSession() {
+      boolean result = TransferredScripts.getInstance().add( hash );
+      if( result ) {
+        sessionCount.incrementAndGet();
+      }
+      return result;
+    }
+
+    /**
+     * Returns the location of the published script, or <code>null</code> if the script has not
+     * been used by enough UI sessions. The script is published on demand.
+     */
+    String getLocation() {
+      if( location == null && sessionCount.get() >= PUBLISH_THRESHOLD ) {
+        synchronized( this ) {
+          if( location == null ) {
+            location = publish();
+          }
+        }
+      }
+      return location;
+    }
+
+    private String publish() {
+      ResourceManager resourceManager = RWT.getResourceManager();
+      String name = RESOURCE_PREFIX + hash + ".js";
+      if( !resourceManager.isRegistered( name ) ) {
+        byte[] content = createResource().getBytes( UTF_8 );
+        resourceManager.register( name, new ByteArrayInputStream( content ) );
+      }
+      return resourceManager.getLocation( name );
+    }
+
+    private String createResource() {
+      StringBuilder result = new StringBuilder();
+      result.append( "rwt.scripting.FunctionFactory.registerScript( \"" );
+      result.append( hash );
+      result.append( "\", function() {\n" );
+      result.append( code );
+      result.append( "\n\nreturn typeof " );
+      result.append( ClientFunction.FUNCTION_NAME );
+      result.append( " === \"undefined\" ? null : " );
+      result.append( ClientFunction.FUNCTION_NAME );
+      result.append( ";\n} );\n" );
+      return result.toString();
+    }
+
+  }
+
+  /*
+   * The hashes of all scripts whose code is known to the client of a UI session.
+   */
+  static final class TransferredScripts {
+
+    private final Set<String> hashes = new HashSet<>();
+
+    static TransferredScripts getInstance() {
+      return SingletonUtil.getSessionInstance( TransferredScripts.class );
+    }
+
+    private TransferredScripts() {
+      // prevent instantiation
+    }
+
+    synchronized boolean add( String hash ) {
+      return hashes.add( hash );
+    }
+
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -15,6 +15,7 @@ import static jakarta.servlet.http.HttpServletResponse.SC_FORBIDDEN;
 import static jakarta.servlet.http.HttpServletResponse.SC_PRECONDITION_FAILED;
 import static org.eclipse.rap.rwt.internal.protocol.ClientMessageConst.REQUEST_COUNTER;
 import static org.eclipse.rap.rwt.internal.protocol.ClientMessageConst.SHUTDOWN;
+import static org.eclipse.rap.rwt.internal.service.ContextProvider.getApplicationContext;
 import static org.eclipse.rap.rwt.internal.service.ContextProvider.getUISession;
 import static org.eclipse.rap.rwt.internal.util.HTTP.CHARSET_UTF_8;
 import static org.eclipse.rap.rwt.internal.util.HTTP.CONTENT_TYPE_JSON;
@@ -30,6 +31,10 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.json.JsonValue;
 import org.eclipse.rap.rwt.internal.lifecycle.RequestCounter;
+import org.eclipse.rap.rwt.internal.metrics.CountingWriter;
+import org.eclipse.rap.rwt.internal.metrics.LifeCycleMetrics;
+import org.eclipse.rap.rwt.internal.metrics.RequestMetrics;
+import org.eclipse.rap.rwt.internal.metrics.Stage;
 import org.eclipse.rap.rwt.internal.protocol.ClientMessage;
 import org.eclipse.rap.rwt.internal.protocol.ProtocolMessageWriter;
 import org.eclipse.rap.rwt.internal.protocol.RequestMessage;
@@ -60,14 +65,34 @@ public class LifeCycleServiceHandler implements ServiceHandler {
       setJsonResponseHeaders( response );
       writeSessionTimeoutError( response );
     } else {
+      LifeCycleMetrics metrics = getApplicationContext().getLifeCycleMetrics();
+      long lockRequestTime = metrics.isEnabled() ? System.nanoTime() : 0;
       // Do not use uiSession itself as a lock
       // see bug https://bugs.eclipse.org/bugs/show_bug.cgi?id=372946
       synchronized( uiSession.getRequestLock() ) {
-        synchronizedService( request, response );
+        if( metrics.isEnabled() ) {
+          measuredService( request, response, metrics, System.nanoTime() - lockRequestTime );
+        } else {
+          synchronizedService( request, response );
+        }
       }
     }
   }
 
+  private void measuredService( HttpServletRequest request,
+                                HttpServletResponse response,
+                                LifeCycleMetrics metrics,
+                                long lockWaitTime )
+    throws IOException
+  {
+    RequestMetrics requestMetrics = metrics.beginRequest( lockWaitTime );
+    try {
+      synchronizedService( request, response );
+    } finally {
+      metrics.endRequest( requestMetrics );
+    }
+  }
+
   void synchronizedService( HttpServletRequest request, HttpServletResponse response )
     throws IOException
   {
@@ -85,7 +110,8 @@ public class LifeCycleServiceHandler implements ServiceHandler {
   private void processUIRequest( HttpServletRequest request, HttpServletResponse response )
     throws IOException
   {
-    RequestMessage requestMessage = readRequestMessage( request );
+    RequestMetrics metrics = RequestMetrics.getCurrent();
+    RequestMessage requestMessage = readRequestMessage( request, metrics );
     setJsonResponseHeaders( response );
     if( isSessionShutdown( requestMessage ) ) {
       shutdownUISession();
@@ -97,20 +123,42 @@ public class LifeCycleServiceHandler implements ServiceHandler {
         writeInvalidRequestCounterError( response );
       }
     } else {
+      StartupPrerenderer.clientConnected( ( UISessionImpl )getUISession() );
       ResponseMessage responseMessage = processMessage( requestMessage );
-      writeResponseMessage( responseMessage, response );
+      writeResponseMessage( responseMessage, response, metrics );
       RequestCounter.getInstance().nextRequestId();
     }
   }
 
+  private static RequestMessage readRequestMessage( HttpServletRequest request,
+                                                    RequestMetrics metrics )
+  {
+    if( metrics == null ) {
+      return readRequestMessage( request );
+    }
+    metrics.beginStage( Stage.PARSE );
+    RequestMessage result = readRequestMessage( request );
+    metrics.endStage( Stage.PARSE );
+    metrics.setOperationsRead( result.getOperations().size() );
+    return result;
+  }
+
   private static RequestMessage readRequestMessage( HttpServletRequest request ) {
     try {
+      if( isUtf8Encoded( request ) ) {
+        return ClientMessage.readFrom( request.getInputStream() );
+      }
       return new ClientMessage( JsonObject.readFrom( getReader( request ) ) );
     } catch( IOException ioe ) {
       throw new IllegalStateException( "Unable to read the json message", ioe );
     }
   }
 
+  private static boolean isUtf8Encoded( HttpServletRequest request ) {
+    String encoding = request.getCharacterEncoding();
+    return encoding == null || CHARSET_UTF_8.equalsIgnoreCase( encoding );
+  }
+
   /*
    * Workaround for bug in certain servlet containers where the reader is sometimes empty.
    * 411616: Application crash with very long messages
@@ -182,11 +230,21 @@ public class LifeCycleServiceHandler implements ServiceHandler {
   }
 
   private static void writeResponseMessage( ResponseMessage responseMessage,
-                                            ServletResponse response )
+                                            ServletResponse response,
+                                            RequestMetrics metrics )
     throws IOException
   {
     bufferMessage( responseMessage );
-    responseMessage.toJson().writeTo( response.getWriter() );
+    if( metrics == null ) {
+      responseMessage.toJson().writeTo( response.getWriter() );
+    } else {
+      metrics.beginStage( Stage.WRITE );
+      CountingWriter writer = new CountingWriter( response.getWriter() );
+      responseMessage.toJson().writeTo( writer );
+      metrics.endStage( Stage.WRITE );
+      metrics.setOperationsWritten( responseMessage.getOperations().size() );
+      metrics.setResponseBytes( writer.getByteCount() );
+    }
   }
 
   private static void writeBufferedResponse( HttpServletResponse response ) throws IOException {
@@ -0,0 +1,396 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Writes changes of file based setting stores to append-only log files in the background.
+ * <p>
+ * Every store file is accompanied by a log file (same name with a <code>.log</code> suffix). Changes
+ * are queued in memory and appended to the log in batches, either when the batch size is reached or
+ * when the flush delay has elapsed. Once a log file grows beyond the compaction threshold, it is
+ * merged into the store file, which remains a regular {@link Properties} file.
+ * </p>
+ * <p>
+ * All file system access is performed by a single writer thread, hence log files are never written
+ * and compacted concurrently. Changes that cannot be written are kept and written again with the
+ * next flush. The journal must be closed when it is no longer used, which writes all pending
+ * changes and stops the writer thread.
+ * </p>
+ */
+public class SettingStoreJournal {
+
+  static final String LOG_SUFFIX = ".log";
+  static final String TEMP_SUFFIX = ".tmp";
+  static final int DEFAULT_BATCH_SIZE = 64;
+  static final long DEFAULT_FLUSH_DELAY = 500;
+  static final long DEFAULT_COMPACTION_THRESHOLD = 64 * 1024;
+
+  private static final byte SET = 1;
+  private static final byte REMOVE = 2;
+
+  private final int batchSize;
+  private final long flushDelay;
+  private final long compactionThreshold;
+  private final ScheduledExecutorService executor;
+  private final Map<File, List<Change>> pendingChanges;
+  private int pendingCount;
+  private ScheduledFuture<?> scheduledFlush;
+  private boolean closed;
+
+  public SettingStoreJournal() {
+    this( DEFAULT_BATCH_SIZE, DEFAULT_FLUSH_DELAY, DEFAULT_COMPACTION_THRESHOLD );
+  }
+
+  SettingStoreJournal( int batchSize, long flushDelay, long compactionThreshold ) {
+    this.batchSize = batchSize;
+    this.flushDelay = flushDelay;
+    this.compactionThreshold = compactionThreshold;
+    executor = Executors.newSingleThreadScheduledExecutor( runnable -> {
+      Thread thread = new Thread( runnable, "RAP SettingStore Writer" );
+      thread.setDaemon( true );
+      return thread;
+    } );
+    pendingChanges = new LinkedHashMap<>();
+  }
+
+  /**
+   * Queues a change for the given store file. A <code>null</code> value denotes a removal.
+   */
+  public void append( File storeFile, String name, String value ) {
+    synchronized( this ) {
+      if( !closed ) {
+        List<Change> changes = pendingChanges.get( storeFile );
+        if( changes == null ) {
+          changes = new ArrayList<>();
+          pendingChanges.put( storeFile, changes );
+        }
+        changes.add( new Change( name, value ) );
+        pendingCount++;
+        if( pendingCount >= batchSize ) {
+          cancelScheduledFlush();
+          executor.execute( this::flushAll );
+        } else {
+          scheduleFlush();
+        }
+        return;
+      }
+    }
+    // the writer thread is gone, write the change on the calling thread
+    List<Change> changes = new ArrayList<>();
+    changes.add( new Change( name, value ) );
+    try {
+      writePendingChanges( storeFile, changes );
+    } catch( IOException exception ) {
+      ServletLog.log( "Failed to write setting store: " + storeFile, exception );
+    }
+  }
+
+  /**
+   * Loads the contents of the given store file into <code>properties</code>. Pending changes for
+   * this file are written first, then the log is replayed on top of the store file.
+   */
+  public void load( File storeFile, Properties properties ) throws IOException {
+    execute( () -> {
+      List<Change> changes = takePendingChanges( storeFile );
+      try {
+        writePendingChanges( storeFile, changes );
+      } catch( IOException exception ) {
+        requeue( storeFile, changes );
+        throw exception;
+      }
+      read( storeFile, properties );
+      return null;
+    } );
+  }
+
+  /**
+   * Writes all pending changes and waits until they are written.
+   *
+   * @throws IOException if a change could not be written, the change is kept and written again
+   *           with the next flush
+   */
+  public void flush() throws IOException {
+    execute( () -> {
+      IOException exception = flushAll();
+      if( exception != null ) {
+        throw exception;
+      }
+      return null;
+    } );
+  }
+
+  /**
+   * Writes all pending changes and stops the writer thread. Changes that are appended after the
+   * journal has been closed are written immediately.
+   */
+  public void close() {
+    synchronized( this ) {
+      if( closed ) {
+        return;
+      }
+      closed = true;
+      cancelScheduledFlush();
+    }
+    try {
+      execute( () -> {
+        Map<File, List<Change>> lostChanges = writeAll();
+        for( File storeFile : lostChanges.keySet() ) {
+          ServletLog.log( "Discarded unwritten changes of setting store: " + storeFile, null );
+        }
+        return null;
+      } );
+    } catch( IOException exception ) {
+      ServletLog.log( "Failed to write setting stores", exception );
+    } finally {
+      executor.shutdown();
+    }
+    try {
+      executor.awaitTermination( 10, TimeUnit.SECONDS );
+    } catch( @SuppressWarnings( "unused" ) InterruptedException exception ) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  boolean isTerminated() {
+    return executor.isTerminated();
+  }
+
+  private void execute( IOCallable callable ) throws IOException {
+    try {
+      executor.submit( callable ).get();
+    } catch( @SuppressWarnings( "unused" ) RejectedExecutionException exception ) {
+      // the writer thread is gone, run on the calling thread
+      callable.call();
+    } catch( InterruptedException exception ) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException( exception.getMessage() );
+    } catch( ExecutionException exception ) {
+      Throwable cause = exception.getCause();
+      if( cause instanceof IOException ) {
+        throw ( IOException )cause;
+      }
+      throw new IOException( cause );
+    }
+  }
+
+  private IOException flushAll() {
+    IOException result = null;
+    Map<File, List<Change>> failedChanges = writeAll();
+    for( Entry<File, List<Change>> entry : failedChanges.entrySet() ) {
+      requeue( entry.getKey(), entry.getValue() );
+    }
+    if( !failedChanges.isEmpty() ) {
+      result = new IOException( "Failed to write setting stores: " + failedChanges.keySet() );
+    }
+    return result;
+  }
+
+  /*
+   * Writes all pending changes and returns the changes that could not be written.
+   */
+  private Map<File, List<Change>> writeAll() {
+    Map<File, List<Change>> changes;
+    synchronized( this ) {
+      cancelScheduledFlush();
+      changes = new LinkedHashMap<>( pendingChanges );
+      pendingChanges.clear();
+      pendingCount = 0;
+    }
+    Map<File, List<Change>> result = new LinkedHashMap<>();
+    for( Entry<File, List<Change>> entry : changes.entrySet() ) {
+      try {
+        writePendingChanges( entry.getKey(), entry.getValue() );
+      } catch( IOException exception ) {
+        ServletLog.log( "Failed to write setting store: " + entry.getKey(), exception );
+        result.put( entry.getKey(), entry.getValue() );
+      }
+    }
+    return result;
+  }
+
+  /*
+   * Puts changes that could not be written in front of the changes appended in the meantime. A
+   * partially written batch is appended again, replaying a change twice yields the same result.
+   */
+  private synchronized void requeue( File storeFile, List<Change> changes ) {
+    if( changes != null && !changes.isEmpty() ) {
+      List<Change> requeued = new ArrayList<>( changes );
+      List<Change> appended = pendingChanges.remove( storeFile );
+      if( appended != null ) {
+        requeued.addAll( appended );
+      }
+      pendingChanges.put( storeFile, requeued );
+      pendingCount += changes.size();
+      if( !closed ) {
+        scheduleFlush();
+      }
+    }
+  }
+
+  private synchronized List<Change> takePendingChanges( File storeFile ) {
+    List<Change> result = pendingChanges.remove( storeFile );
+    if( result != null ) {
+      pendingCount -= result.size();
+    }
+    return result;
+  }
+
+  private void scheduleFlush() {
+    if( scheduledFlush == null ) {
+      scheduledFlush = executor.schedule( this::flushAll, flushDelay, TimeUnit.MILLISECONDS );
+    }
+  }
+
+  private void cancelScheduledFlush() {
+    if( scheduledFlush != null ) {
+      scheduledFlush.cancel( false );
+      scheduledFlush = null;
+    }
+  }
+
+  private void writePendingChanges( File storeFile, List<Change> changes ) throws IOException {
+    if( changes != null && !changes.isEmpty() ) {
+      File logFile = getLogFile( storeFile );
+      try( DataOutputStream stream = createOutputStream( logFile, true ) ) {
+        for( Change change : changes ) {
+          change.write( stream );
+        }
+      }
+      if( logFile.length() > compactionThreshold ) {
+        compact( storeFile );
+      }
+    }
+  }
+
+  private void compact( File storeFile ) throws IOException {
+    Properties properties = new Properties();
+    read( storeFile, properties );
+    File tempFile = new File( storeFile.getParentFile(), storeFile.getName() + TEMP_SUFFIX );
+    try( OutputStream stream = new BufferedOutputStream( new FileOutputStream( tempFile ) ) ) {
+      properties.store( stream, SettingStoreJournal.class.getName() );
+    }
+    Files.move( tempFile.toPath(), storeFile.toPath(), StandardCopyOption.REPLACE_EXISTING );
+    Files.delete( getLogFile( storeFile ).toPath() );
+  }
+
+  private static void read( File storeFile, Properties properties ) throws IOException {
+    if( storeFile.exists() ) {
+      try( InputStream stream = new BufferedInputStream( new FileInputStream( storeFile ) ) ) {
+        properties.load( stream );
+      }
+    }
+    File logFile = getLogFile( storeFile );
+    if( logFile.exists() ) {
+      try( DataInputStream stream = createInputStream( logFile ) ) {
+        replay( stream, properties );
+      }
+    }
+  }
+
+  private static void replay( DataInputStream stream, Properties properties ) throws IOException {
+    try {
+      while( true ) {
+        byte type = stream.readByte();
+        String name = readString( stream );
+        if( type == SET ) {
+          properties.setProperty( name, readString( stream ) );
+        } else {
+          properties.remove( name );
+        }
+      }
+    } catch( @SuppressWarnings( "unused" ) EOFException eof ) {
+      // end of log reached, a truncated last change is discarded
+    }
+  }
+
+  static File getLogFile( File storeFile ) {
+    return new File( storeFile.getParentFile(), storeFile.getName() + LOG_SUFFIX );
+  }
+
+  private static DataOutputStream createOutputStream( File file, boolean append )
+    throws IOException
+  {
+    return new DataOutputStream( new BufferedOutputStream( new FileOutputStream( file, append ) ) );
+  }
+
+  private static DataInputStream createInputStream( File file ) throws IOException {
+    return new DataInputStream( new BufferedInputStream( new FileInputStream( file ) ) );
+  }
+
+  private static String readString( DataInputStream stream ) throws IOException {
+    byte[] bytes = new byte[ stream.readInt() ];
+    stream.readFully( bytes );
+    return new String( bytes, UTF_8 );
+  }
+
+  private static void writeString( DataOutputStream stream, String string ) throws IOException {
+    byte[] bytes = string.getBytes( UTF_8 );
+    stream.writeInt( bytes.length );
+    stream.write( bytes );
+  }
+
+  private interface IOCallable extends Callable<Void> {
+    @Override
+    Void call() throws IOException;
+  }
+
+  private static final class Change {
+
+    private final String name;
+    private final String value;
+
+    Change( String name, String value ) {
+      this.name = name;
+      this.value = value;
+    }
+
+    void write( DataOutputStream stream ) throws IOException {
+      stream.writeByte( value == null ? REMOVE : SET );
+      writeString( stream, name );
+      if( value != null ) {
+        writeString( stream, value );
+      }
+    }
+
+  }
+
+}
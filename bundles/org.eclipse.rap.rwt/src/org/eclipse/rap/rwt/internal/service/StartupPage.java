@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2022 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -23,9 +23,12 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.rwt.client.WebClient;
 import org.eclipse.rap.rwt.internal.RWTMessages;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
@@ -37,6 +40,10 @@ import org.eclipse.rap.rwt.internal.util.HTTP;
 
 
 public class StartupPage {
+
+  private static final Pattern CRAWLER_PATTERN
+    = Pattern.compile( "bot|crawl|spider|slurp|preview|monitor|curl|wget", Pattern.CASE_INSENSITIVE );
+
   private final ApplicationContextImpl applicationContext;
   private final List<String> jsLibraries;
   private String clientJsLibrary;
@@ -64,7 +71,8 @@ public class StartupPage {
   }
 
   public void send( HttpServletResponse response ) throws IOException {
-    StartupPageValueProvider valueProvider = new StartupPageValueProvider();
+    JsonObject prerenderedMessage = isPrerenderingEnabled() ? StartupPrerenderer.render() : null;
+    StartupPageValueProvider valueProvider = new StartupPageValueProvider( prerenderedMessage );
     setResponseHeaders( response );
     setContentSecurityPolicy( response, valueProvider.getNonceValue() );
     startupPageTemplate.writePage( response.getWriter(), valueProvider );
@@ -146,6 +154,14 @@ public class StartupPage {
     printWriter.write( code.toString() );
   }
 
+  protected void writePrerenderedMessage( PrintWriter printWriter, JsonObject message ) {
+    StringBuilder code = new StringBuilder();
+    code.append( "rwt.remote.Connection.getInstance().processPrerenderedMessage( " );
+    code.append( escapeScriptContent( message.toString() ) );
+    code.append( ");" );
+    printWriter.write( code.toString() );
+  }
+
   protected String getBackgroundImageLocation() {
     String resourceName = getBrackgroundImage().getResourcePath( applicationContext );
     return resourceName != null ? getResourceLocation( resourceName ) : "";
@@ -160,6 +176,39 @@ public class StartupPage {
                                     null );
   }
 
+  private boolean isPrerenderingEnabled() {
+    return    "true".equals( getCurrentEntryPointProperties().get( WebClient.PRERENDER ) )
+           && isClientBootstrap( getRequest() );
+  }
+
+  /*
+   * Prerendering creates a UI session and runs the entry point. Only do so for a browser that
+   * navigates to the application and will start the client, not for health checks, crawlers,
+   * link previews or speculative prefetches of the page.
+   */
+  static boolean isClientBootstrap( HttpServletRequest request ) {
+    if( !HTTP.METHOD_GET.equals( request.getMethod() ) ) {
+      return false;
+    }
+    String accept = request.getHeader( HTTP.HEADER_ACCEPT );
+    if( accept == null || !accept.contains( HTTP.CONTENT_TYPE_HTML ) ) {
+      return false;
+    }
+    if( isPrefetch( request.getHeader( "Sec-Purpose" ) ) || isPrefetch( request.getHeader( "Purpose" ) ) ) {
+      return false;
+    }
+    String destination = request.getHeader( "Sec-Fetch-Dest" );
+    if( destination != null && !"document".equals( destination ) ) {
+      return false;
+    }
+    String userAgent = request.getHeader( "User-Agent" );
+    return userAgent != null && !CRAWLER_PATTERN.matcher( userAgent ).find();
+  }
+
+  private static boolean isPrefetch( String purpose ) {
+    return purpose != null && purpose.contains( "prefetch" );
+  }
+
   private Map<String, String> getCurrentEntryPointProperties() {
     EntryPointManager entryPointManager = applicationContext.getEntryPointManager();
     return entryPointManager.getEntryPointRegistration( getRequest() ).getProperties();
@@ -169,6 +218,15 @@ public class StartupPage {
     return applicationContext.getResourceManager().getLocation( resourceName );
   }
 
+  /*
+   * The message is embedded in a script element and may contain arbitrary texts. In JSON, a '<'
+   * can only occur within strings, replacing it with a unicode escape does not change the message
+   * but prevents the browser from recognizing "</script>" or "<!--" in the script.
+   */
+  static String escapeScriptContent( String json ) {
+    return json.replace( "<", "\\u003c" );
+  }
+
   private void writeEntryPointProperty( PrintWriter printWriter, String property ) {
     String title = getCurrentEntryPointProperties().get( property );
     if( title != null ) {
@@ -179,8 +237,10 @@ public class StartupPage {
   private class StartupPageValueProvider implements VariableWriter {
 
     private final String nonceValue;
+    private final JsonObject prerenderedMessage;
 
-    public StartupPageValueProvider() {
+    public StartupPageValueProvider( JsonObject prerenderedMessage ) {
+      this.prerenderedMessage = prerenderedMessage;
       nonceValue = UUID.randomUUID().toString().replaceAll( "-", "" );
     }
 
@@ -204,6 +264,9 @@ public class StartupPage {
         writeNoScriptMessage( printWriter );
       } else if( variableName.equals( StartupPageTemplate.TOKEN_APP_SCRIPT ) ) {
         writeAppScript( printWriter );
+        if( prerenderedMessage != null ) {
+          writePrerenderedMessage( printWriter, prerenderedMessage );
+        }
       } else if( variableName.equals( StartupPageTemplate.TOKEN_NONCE_VALUE ) ) {
         printWriter.write( nonceValue );
       } else {
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import static org.eclipse.rap.rwt.internal.protocol.ClientMessageConst.REQUEST_COUNTER;
+import static org.eclipse.rap.rwt.internal.service.ContextProvider.getContext;
+
+import java.util.Map;
+import java.util.Map.Entry;
+
+import jakarta.servlet.http.HttpSession;
+
+import org.eclipse.rap.json.JsonArray;
+import org.eclipse.rap.json.JsonObject;
+import org.eclipse.rap.rwt.internal.lifecycle.RequestCounter;
+import org.eclipse.rap.rwt.internal.protocol.ClientMessage;
+import org.eclipse.rap.rwt.internal.protocol.ResponseMessage;
+
+
+/*
+ * Executes the first lifecycle of a new UI session while the startup page is served. The message
+ * that is created resembles the one the client would send after processing the startup JSON,
+ * without the information that only the client knows (display size, timezone, etc.). The client
+ * sends this information with its first request, the request counter in the head of the
+ * response tells it which request id to use.
+ *
+ * A page that is never executed by a browser leaves an orphaned UI session. Until the client
+ * connects, a new HTTP session therefore expires after a short time. The original timeout is
+ * restored with the first request of the client.
+ */
+final class StartupPrerenderer {
+
+  static final String STARTUP_PARAMETERS_TYPE = "rwt.client.StartupParameters";
+  static final String PROPERTY_PARAMETERS = "parameters";
+  static final int PENDING_SESSION_TIMEOUT = 120;
+
+  private static final String ATTR_SESSION_TIMEOUT
+    = StartupPrerenderer.class.getName() + "#sessionTimeout";
+
+  private StartupPrerenderer() {
+    // prevent instantiation
+  }
+
+  static JsonObject render() {
+    ServiceContext serviceContext = getContext();
+    UISessionImpl uiSession = new UISessionBuilder( serviceContext ).buildUISession();
+    synchronized( uiSession.getRequestLock() ) {
+      try {
+        ClientMessage initialMessage = createInitialMessage( serviceContext );
+        ResponseMessage responseMessage
+          = serviceContext.getApplicationContext().getHandlerChain().handleMessage( initialMessage );
+        int requestId = RequestCounter.getInstance().nextRequestId();
+        responseMessage.getHead().set( REQUEST_COUNTER, requestId );
+        shortenSessionTimeout( uiSession );
+        return responseMessage.toJson();
+      } catch( RuntimeException exception ) {
+        uiSession.shutdown();
+        throw exception;
+      }
+    }
+  }
+
+  /*
+   * Called for every valid request of a client, restores the session timeout once the client of a
+   * prerendered UI session has connected.
+   */
+  static void clientConnected( UISessionImpl uiSession ) {
+    Object timeout = uiSession.getAttribute( ATTR_SESSION_TIMEOUT );
+    if( timeout != null ) {
+      uiSession.removeAttribute( ATTR_SESSION_TIMEOUT );
+      uiSession.getHttpSession().setMaxInactiveInterval( ( ( Integer )timeout ).intValue() );
+    }
+  }
+
+  private static void shortenSessionTimeout( UISessionImpl uiSession ) {
+    HttpSession httpSession = uiSession.getHttpSession();
+    // a session that already existed may be shared with the UI sessions of other browser tabs
+    int timeout = httpSession.getMaxInactiveInterval();
+    if( httpSession.isNew() && ( timeout <= 0 || timeout > PENDING_SESSION_TIMEOUT ) ) {
+      uiSession.setAttribute( ATTR_SESSION_TIMEOUT, Integer.valueOf( timeout ) );
+      httpSession.setMaxInactiveInterval( PENDING_SESSION_TIMEOUT );
+    }
+  }
+
+  private static ClientMessage createInitialMessage( ServiceContext serviceContext ) {
+    JsonObject head = new JsonObject().add( REQUEST_COUNTER, 0 );
+    JsonArray operations = new JsonArray();
+    Map<String, String[]> parameterMap = serviceContext.getRequest().getParameterMap();
+    if( !parameterMap.isEmpty() ) {
+      JsonObject parameters = new JsonObject();
+      for( Entry<String, String[]> entry : parameterMap.entrySet() ) {
+        JsonArray values = new JsonArray();
+        for( String value : entry.getValue() ) {
+          values.add( value );
+        }
+        parameters.add( entry.getKey(), values );
+      }
+      JsonObject properties = new JsonObject().add( PROPERTY_PARAMETERS, parameters );
+      operations.add( new JsonArray().add( "set" ).add( STARTUP_PARAMETERS_TYPE ).add( properties ) );
+    }
+    return new ClientMessage( new JsonObject().add( "head", head ).add( "operations", operations ) );
+  }
+
+}
@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+
+import org.eclipse.rap.rwt.internal.util.ParamCheck;
+import org.eclipse.rap.rwt.service.FileSettingStore;
+import org.eclipse.rap.rwt.service.SettingStore;
+import org.eclipse.rap.rwt.service.SettingStoreEvent;
+import org.eclipse.rap.rwt.service.SettingStoreListener;
+
+
+/**
+ * A file based setting store that does not write to disk on the request thread. Changes are
+ * appended to a log file by a {@link SettingStoreJournal} in the background, the log is replayed
+ * when the store is loaded.
+ * <p>
+ * The store files are compatible with those of {@link FileSettingStore}, however, changes that are
+ * still kept in a log file will only be seen by this implementation.
+ * </p>
+ */
+public final class WriteBehindFileSettingStore implements SettingStore {
+
+  private final File workDir;
+  private final SettingStoreJournal journal;
+  private final Properties props;
+  private final Set<SettingStoreListener> listeners;
+  private String id;
+
+  public WriteBehindFileSettingStore( File baseDirectory, SettingStoreJournal journal ) {
+    ParamCheck.notNull( baseDirectory, "baseDirectory" );
+    ParamCheck.notNull( journal, "journal" );
+    if( !baseDirectory.isDirectory() ) {
+      throw new IllegalArgumentException( "workDir is not a directory: " + baseDirectory );
+    }
+    workDir = baseDirectory;
+    this.journal = journal;
+    props = new Properties();
+    listeners = new LinkedHashSet<>();
+  }
+
+  @Override
+  public String getId() {
+    return id;
+  }
+
+  @Override
+  public synchronized String getAttribute( String name ) {
+    ParamCheck.notNull( name, "name" );
+    return props.getProperty( name );
+  }
+
+  @Override
+  public synchronized void setAttribute( String name, String value ) {
+    ParamCheck.notNull( name, "name" );
+    if( value == null ) {
+      removeAttribute( name );
+    } else {
+      String oldValue = ( String )props.setProperty( name, value );
+      if( !value.equals( oldValue ) ) {
+        notifyListeners( name, oldValue, value );
+        journal.append( getStoreFile(), name, value );
+      }
+    }
+  }
+
+  @Override
+  public synchronized Enumeration<String> getAttributeNames() {
+    List<String> names = new ArrayList<>( props.stringPropertyNames() );
+    return Collections.enumeration( names );
+  }
+
+  @Override
+  public synchronized void loadById( String id ) throws IOException {
+    ParamCheck.notNullOrEmpty( id, "id" );
+    this.id = id;
+    notifyForEachAttribute( true );
+    props.clear();
+    journal.load( getStoreFile(), props );
+    notifyForEachAttribute( false );
+  }
+
+  @Override
+  public synchronized void removeAttribute( String name ) {
+    String oldValue = ( String )props.remove( name );
+    if( oldValue != null ) {
+      notifyListeners( name, oldValue, null );
+      journal.append( getStoreFile(), name, null );
+    }
+  }
+
+  @Override
+  public synchronized void addSettingStoreListener( SettingStoreListener listener ) {
+    ParamCheck.notNull( listener, "listener" );
+    listeners.add( listener );
+  }
+
+  @Override
+  public synchronized void removeSettingStoreListener( SettingStoreListener listener ) {
+    ParamCheck.notNull( listener, "listener" );
+    listeners.remove( listener );
+  }
+
+  private File getStoreFile() {
+    return new File( workDir, id );
+  }
+
+  private void notifyForEachAttribute( boolean removed ) {
+    for( String attribute : props.stringPropertyNames() ) {
+      String value = props.getProperty( attribute );
+      if( removed ) {
+        notifyListeners( attribute, value, null );
+      } else {
+        notifyListeners( attribute, null, value );
+      }
+    }
+  }
+
+  private void notifyListeners( String attribute, String oldValue, String newValue ) {
+    SettingStoreEvent event = new SettingStoreEvent( this, attribute, oldValue, newValue );
+    for( SettingStoreListener listener : new ArrayList<>( listeners ) ) {
+      try {
+        listener.settingChanged( event );
+      } catch( Exception exc ) {
+        String msg = "Exception when invoking listener " + listener.getClass().getName();
+        ServletLog.log( msg, exc );
+      } catch( LinkageError le ) {
+        String msg = "Linkage error when invoking listener " + listener.getClass().getName();
+        ServletLog.log( msg, le );
+      }
+    }
+  }
+
+}
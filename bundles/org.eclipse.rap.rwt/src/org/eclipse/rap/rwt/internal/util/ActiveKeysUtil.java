@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -124,7 +124,7 @@ public final class ActiveKeysUtil {
   public static void renderActiveKeys( Display display ) {
     if( !display.isDisposed() ) {
       RemoteAdapter adapter = DisplayUtil.getAdapter( display );
-      String[] actual = getActiveKeys( display );
+      String[] actual = readActiveKeys( display );
       String[] preserved = ( String[] )adapter.getPreserved( PROP_ACTIVE_KEYS );
       if( !Arrays.equals( actual, preserved ) ) {
         getRemoteObject( display ).set( PROP_ACTIVE_KEYS, translateKeySequences( actual ) );
@@ -136,7 +136,7 @@ public final class ActiveKeysUtil {
     if( !control.isDisposed() ) {
       ControlRemoteAdapter adapter = ( ControlRemoteAdapter )WidgetUtil.getAdapter( control );
       if( adapter.hasPreservedActiveKeys() ) {
-        String[] actual = getActiveKeys( control );
+        String[] actual = readActiveKeys( control );
         String[] preserved = adapter.getPreservedActiveKeys();
         if( !Arrays.equals( actual, preserved ) ) {
           getRemoteObject( control ).set( PROP_ACTIVE_KEYS, translateKeySequences( actual ) );
@@ -148,7 +148,7 @@ public final class ActiveKeysUtil {
   public static void renderCancelKeys( Display display ) {
     if( !display.isDisposed() ) {
       RemoteAdapter adapter = DisplayUtil.getAdapter( display );
-      String[] actual = getCancelKeys( display );
+      String[] actual = readCancelKeys( display );
       String[] preserved = ( String[] )adapter.getPreserved( PROP_CANCEL_KEYS );
       if( !Arrays.equals( actual, preserved ) ) {
         getRemoteObject( display ).set( PROP_CANCEL_KEYS, translateKeySequences( actual ) );
@@ -160,7 +160,7 @@ public final class ActiveKeysUtil {
     if( !control.isDisposed() ) {
       ControlRemoteAdapter adapter = ( ControlRemoteAdapter )WidgetUtil.getAdapter( control );
       if( adapter.hasPreservedCancelKeys() ) {
-        String[] actual = getCancelKeys( control );
+        String[] actual = readCancelKeys( control );
         String[] preserved = adapter.getPreservedCancelKeys();
         if( !Arrays.equals( actual, preserved ) ) {
           getRemoteObject( control ).set( PROP_CANCEL_KEYS, translateKeySequences( actual ) );
@@ -185,12 +185,31 @@ public final class ActiveKeysUtil {
     }
   }
 
+  // Preserved values must be copies, as the data array could be modified in place. Rendering
+  // only compares against the preserved copy and can use the data array directly.
+
   private static String[] getActiveKeys( Display display ) {
+    return getArrayCopy( readActiveKeys( display ) );
+  }
+
+  private static String[] getActiveKeys( Control control ) {
+    return getArrayCopy( readActiveKeys( control ) );
+  }
+
+  private static String[] getCancelKeys( Display display ) {
+    return getArrayCopy( readCancelKeys( display ) );
+  }
+
+  private static String[] getCancelKeys( Control control ) {
+    return getArrayCopy( readCancelKeys( control ) );
+  }
+
+  private static String[] readActiveKeys( Display display ) {
     Object data = display.getData( RWT.ACTIVE_KEYS );
     String[] result = null;
     if( data != null ) {
       if( data instanceof String[] ) {
-        result = getArrayCopy( ( String[] )data );
+        result = ( String[] )data;
       } else {
         String mesg = "Illegal value for RWT.ACTIVE_KEYS in display data, must be a string array";
         throw new IllegalArgumentException( mesg );
@@ -199,17 +218,16 @@ public final class ActiveKeysUtil {
     return result;
   }
 
-  private static String[] getActiveKeys( Control control ) {
-    Object data = control.getData( RWT.ACTIVE_KEYS );
-    return data != null ? getArrayCopy( ( String[] )data ) : null;
+  private static String[] readActiveKeys( Control control ) {
+    return ( String[] )control.getData( RWT.ACTIVE_KEYS );
   }
 
-  private static String[] getCancelKeys( Display display ) {
+  private static String[] readCancelKeys( Display display ) {
     String[] result = null;
     Object data = display.getData( RWT.CANCEL_KEYS );
     if( data != null ) {
       if( data instanceof String[] ) {
-        result = getArrayCopy( ( String[] )data );
+        result = ( String[] )data;
       } else {
         String mesg = "Illegal value for RWT.CANCEL_KEYS in display data, must be a string array";
         throw new IllegalArgumentException( mesg );
@@ -218,9 +236,8 @@ public final class ActiveKeysUtil {
     return result;
   }
 
-  private static String[] getCancelKeys( Control control ) {
-    Object data = control.getData( RWT.CANCEL_KEYS );
-    return data != null ? getArrayCopy( ( String[] )data ) : null;
+  private static String[] readCancelKeys( Control control ) {
+    return ( String[] )control.getData( RWT.CANCEL_KEYS );
   }
 
   private static String getMnemonicActivator( Display display ) {
@@ -310,7 +327,7 @@ public final class ActiveKeysUtil {
   }
 
   private static String[] getArrayCopy( String[] data ) {
-    return Arrays.copyOf( data, data.length );
+    return data != null ? Arrays.copyOf( data, data.length ) : null;
   }
 
   private static boolean equals( Object object1, Object object2 ) {
@@ -0,0 +1,47 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.util;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+
+public final class HashUtil {
+
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+  /**
+   * Returns the first <code>length</code> bytes of the SHA-256 digest of the given content as a
+   * lower case hex string, e.g. to create resource names that change with their content.
+   */
+  public static String sha256( byte[] content, int length ) {
+    ParamCheck.notNull( content, "content" );
+    if( length < 1 || length > 32 ) {
+      throw new IllegalArgumentException( "Length must be between 1 and 32: " + length );
+    }
+    try {
+      byte[] digest = MessageDigest.getInstance( "SHA-256" ).digest( content );
+      char[] result = new char[ length * 2 ];
+      for( int i = 0; i < length; i++ ) {
+        result[ i * 2 ] = HEX_DIGITS[ ( digest[ i ] >> 4 ) & 0xF ];
+        result[ i * 2 + 1 ] = HEX_DIGITS[ digest[ i ] & 0xF ];
+      }
+      return new String( result );
+    } catch( NoSuchAlgorithmException exception ) {
+      throw new IllegalStateException( "SHA-256 not available", exception );
+    }
+  }
+
+  private HashUtil() {
+    // prevent instantiation
+  }
+
+}
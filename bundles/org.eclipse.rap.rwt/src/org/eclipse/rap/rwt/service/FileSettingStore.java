@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -42,6 +42,17 @@ public final class FileSettingStore implements SettingStore {
   public static final String FILE_SETTING_STORE_DIR
     = "org.eclipse.rap.rwt.service.FileSettingStore.dir";
 
+  /**
+   * This key (value "org.eclipse.rap.rwt.service.FileSettingStore.writeBehind") can be used to
+   * enable the write-behind mode for file settings stores. In this mode, changes are appended to a
+   * log file in the background instead of rewriting the entire store file on every change. See
+   * {@link FileSettingStoreFactory}.
+   *
+   * @since 4.5
+   */
+  public static final String FILE_SETTING_STORE_WRITE_BEHIND
+    = "org.eclipse.rap.rwt.service.FileSettingStore.writeBehind";
+
   private final File workDir;
   private final Properties props;
   private final Set<SettingStoreListener> listeners;
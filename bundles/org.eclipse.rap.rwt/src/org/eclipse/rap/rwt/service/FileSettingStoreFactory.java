@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -19,6 +19,8 @@ import jakarta.servlet.http.HttpSession;
 
 import org.eclipse.rap.rwt.internal.service.ContextProvider;
 import org.eclipse.rap.rwt.internal.service.ServletLog;
+import org.eclipse.rap.rwt.internal.service.SettingStoreJournal;
+import org.eclipse.rap.rwt.internal.service.WriteBehindFileSettingStore;
 import org.eclipse.rap.rwt.internal.util.ParamCheck;
 
 
@@ -37,17 +39,25 @@ import org.eclipse.rap.rwt.internal.util.ParamCheck;
  * The first path that can be obtained from the above choices (in the order given above) will be
  * used. If the path determined does not exist it will be created.
  * </p>
+ * <p>
+ * If the init-parameter <code>"org.eclipse.rap.rwt.service.FileSettingStore.writeBehind"</code> is
+ * set to <code>true</code>, the created stores do not write to disk on every change. Instead,
+ * changes are appended to a log file in the background and merged into the store file from time to
+ * time. Changes are written within a fraction of a second and when the application is stopped,
+ * but may be lost if the VM is terminated in the meantime.
+ * </p>
  *
  * @since 2.0
  */
 public final class FileSettingStoreFactory implements SettingStoreFactory {
 
   private File directory;
+  private SettingStoreJournal journal;
 
   @Override
   public SettingStore createSettingStore( String id ) {
     ParamCheck.notNullOrEmpty( id, "id" );
-    SettingStore store = new FileSettingStore( getWorkingDir() );
+    SettingStore store = createStore( getWorkingDir() );
     try {
       store.loadById( id );
     } catch( IOException sse ) {
@@ -56,6 +66,29 @@ public final class FileSettingStoreFactory implements SettingStoreFactory {
     return store;
   }
 
+  private SettingStore createStore( File workingDir ) {
+    if( getJournal() != null ) {
+      return new WriteBehindFileSettingStore( workingDir, journal );
+    }
+    return new FileSettingStore( workingDir );
+  }
+
+  private synchronized SettingStoreJournal getJournal() {
+    if( journal == null && isWriteBehindEnabled() ) {
+      journal = new SettingStoreJournal();
+      // write pending changes and stop the writer thread when the application is stopped
+      ContextProvider.getApplicationContext().addApplicationContextListener( event -> closeJournal() );
+    }
+    return journal;
+  }
+
+  private synchronized void closeJournal() {
+    if( journal != null ) {
+      journal.close();
+      journal = null;
+    }
+  }
+
   private File getWorkingDir() {
     if( directory == null ) {
       directory = selectWorkingDir();
@@ -96,6 +129,12 @@ public final class FileSettingStoreFactory implements SettingStoreFactory {
     return path != null ? new File( path ) : null;
   }
 
+  private static boolean isWriteBehindEnabled() {
+    String value
+      = getServletContext().getInitParameter( FileSettingStore.FILE_SETTING_STORE_WRITE_BEHIND );
+    return Boolean.parseBoolean( value );
+  }
+
   private static File getDirectoryFromServletContextTempDir() {
     File parent = ( File )getServletContext().getAttribute( "jakarta.servlet.context.tempdir" );
     return parent != null ? new File( parent, FileSettingStore.class.getName() ) : null;
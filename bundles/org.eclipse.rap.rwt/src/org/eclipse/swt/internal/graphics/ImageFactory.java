@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -22,6 +22,7 @@ import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer.InstanceCreator;
 import org.eclipse.rap.rwt.internal.util.StreamUtil;
 import org.eclipse.swt.graphics.Device;
 import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
 
 
 public class ImageFactory {
@@ -85,6 +86,20 @@ public class ImageFactory {
     return createImageInstance( device, internalImage );
   }
 
+  /**
+   * Creates an image that is composed from other images. The internal image is shared by all
+   * compositions with an equal key, see
+   * {@link InternalImageFactory#findComposedImage(Object, InstanceCreator)}.
+   */
+  public Image createComposedImage( Device device,
+                                    Object key,
+                                    InstanceCreator<Object, ImageData> imageDataCreator )
+  {
+    InternalImageFactory internalImageFactory = getApplicationContext().getInternalImageFactory();
+    InternalImage internalImage = internalImageFactory.findComposedImage( key, imageDataCreator );
+    return createImageInstance( device, internalImage );
+  }
+
   static Image createImageInstance( Device device, InternalImage internalImage ) {
     Class[] paramTypes = new Class[] { Device.class, InternalImage.class };
     Object[] paramValues = new Object[] { device, internalImage };
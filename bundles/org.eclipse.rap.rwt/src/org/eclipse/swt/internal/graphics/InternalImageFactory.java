@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2023 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -17,6 +17,11 @@ import java.io.ByteArrayOutputStream;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.zip.CRC32;
 
 import org.eclipse.rap.rwt.RWT;
@@ -31,10 +36,14 @@ import org.eclipse.swt.graphics.RGB;
 
 public class InternalImageFactory {
 
+  static final int MAX_COMPOSED_IMAGES = 5000;
+
   private final SharedInstanceBuffer<String, InternalImage> cache;
+  private final ComposedImageCache composedImages;
 
   public InternalImageFactory() {
     cache = new SharedInstanceBuffer<String, InternalImage>();
+    composedImages = new ComposedImageCache();
   }
 
   public InternalImage findInternalImage( final String fileName ) {
@@ -81,8 +90,28 @@ public class InternalImageFactory {
     } );
   }
 
+  /**
+   * Returns the internal image for an image that is composed from other images. The key has to
+   * describe the composition completely and must only refer to objects that can be shared between
+   * UI sessions. The image data is only computed if no image has been found for an equal key
+   * before, hence the pixels of a composition are computed once per application. The least
+   * recently used compositions are forgotten when the cache is full, their images stay registered.
+   * Compositions of a destroyed image are forgotten with it.
+   */
+  public InternalImage findComposedImage( Object key,
+                                          InstanceCreator<Object, ImageData> imageDataCreator )
+  {
+    InternalImage result = composedImages.get( key );
+    if( result == null ) {
+      result = findInternalImage( imageDataCreator.createInstance( key ) );
+      composedImages.put( key, result );
+    }
+    return result;
+  }
+
   public void destroyInternalImage( String key ) {
     InternalImage internalImage = cache.remove( key );
+    composedImages.removeImage( internalImage.getResourceName() );
     RWT.getResourceManager().unregister( internalImage.getResourceName() );
   }
 
@@ -237,4 +266,65 @@ public class InternalImageFactory {
     crc32.update( imageData.disposalMethod );
     return Long.toHexString( crc32.getValue() );
   }
+
+  /*
+   * Access ordered and bounded, the keys are indexed by the resource names of their images to
+   * forget them when an image is destroyed.
+   */
+  private static final class ComposedImageCache {
+
+    private final Map<Object, InternalImage> images;
+    private final Map<String, Set<Object>> keysByResourceName;
+
+    ComposedImageCache() {
+      images = new LinkedHashMap<Object, InternalImage>( 16, 0.75f, true ) {
+        @Override
+        protected boolean removeEldestEntry( Map.Entry<Object, InternalImage> eldest ) {
+          if( size() > MAX_COMPOSED_IMAGES ) {
+            unindex( eldest.getKey(), eldest.getValue() );
+            return true;
+          }
+          return false;
+        }
+      };
+      keysByResourceName = new HashMap<>();
+    }
+
+    synchronized InternalImage get( Object key ) {
+      return images.get( key );
+    }
+
+    synchronized void put( Object key, InternalImage image ) {
+      InternalImage replaced = images.put( key, image );
+      if( replaced != null && replaced != image ) {
+        unindex( key, replaced );
+      }
+      String resourceName = image.getResourceName();
+      Set<Object> keys = keysByResourceName.get( resourceName );
+      if( keys == null ) {
+        keys = new HashSet<>();
+        keysByResourceName.put( resourceName, keys );
+      }
+      keys.add( key );
+    }
+
+    synchronized void removeImage( String resourceName ) {
+      Set<Object> keys = keysByResourceName.remove( resourceName );
+      if( keys != null ) {
+        images.keySet().removeAll( keys );
+      }
+    }
+
+    private void unindex( Object key, InternalImage image ) {
+      Set<Object> keys = keysByResourceName.get( image.getResourceName() );
+      if( keys != null ) {
+        keys.remove( key );
+        if( keys.isEmpty() ) {
+          keysByResourceName.remove( image.getResourceName() );
+        }
+      }
+    }
+
+  }
+
 }
@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+
+/**
+ * A binary indexed tree over a fixed number of non-negative values. Updating a value, computing
+ * a prefix sum and finding the value that contains a given offset are O(log n).
+ */
+public final class FenwickTree {
+
+  private final int[] tree;
+
+  public FenwickTree( int[] values ) {
+    int size = values.length;
+    tree = new int[ size + 1 ];
+    System.arraycopy( values, 0, tree, 1, size );
+    for( int i = 1; i <= size; i++ ) {
+      int parent = i + ( i & -i );
+      if( parent <= size ) {
+        tree[ parent ] += tree[ i ];
+      }
+    }
+  }
+
+  public int size() {
+    return tree.length - 1;
+  }
+
+  public void add( int index, int delta ) {
+    checkIndex( index, size() - 1 );
+    for( int i = index + 1; i < tree.length; i += i & -i ) {
+      tree[ i ] += delta;
+    }
+  }
+
+  /**
+   * Returns the sum of the values before the given index.
+   */
+  public int getPrefixSum( int index ) {
+    checkIndex( index, size() );
+    int result = 0;
+    for( int i = index; i > 0; i -= i & -i ) {
+      result += tree[ i ];
+    }
+    return result;
+  }
+
+  public int getTotal() {
+    return getPrefixSum( size() );
+  }
+
+  /**
+   * Returns the index of the value that covers the given offset, i.e. the index for which
+   * <code>getPrefixSum( index ) &lt;= offset &lt; getPrefixSum( index + 1 )</code>. Returns
+   * <code>size()</code> if the offset is not less than the total.
+   */
+  public int findIndex( int offset ) {
+    int size = size();
+    int result = 0;
+    int remaining = offset;
+    for( int step = Integer.highestOneBit( Math.max( 1, size ) ); step > 0; step >>= 1 ) {
+      int next = result + step;
+      if( next <= size && tree[ next ] <= remaining ) {
+        result = next;
+        remaining -= tree[ next ];
+      }
+    }
+    return result;
+  }
+
+  private static void checkIndex( int index, int max ) {
+    if( index < 0 || index > max ) {
+      throw new IndexOutOfBoundsException( "Index out of bounds: " + index );
+    }
+  }
+
+}
@@ -0,0 +1,572 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import java.text.MessageFormat;
+
+
+/**
+ * A streaming scanner that checks markup text against the subset of XML that RWT supports. It
+ * works directly on the given string and reports the same errors as a SAX parser that is fed the
+ * text wrapped in an <code>html</code> element with the entities that RWT declares.
+ * <p>
+ * The scanner only allocates on error paths, for the element stack of deeply nested markup and for
+ * elements with many attributes.
+ * </p>
+ */
+final class MarkupScanner {
+
+  static final String PARSE_ERROR = "Failed to parse markup text";
+
+  private static final String[] ENTITIES = {
+    "quot", "amp", "apos", "lt", "gt", "nbsp", "ensp", "emsp", "ndash", "mdash"
+  };
+  private static final String[] COMMON_ATTRIBUTES = { "style", "class", "id" };
+  private static final String[] TITLE_ATTRIBUTES = { "style", "class", "id", "title" };
+  private static final String[] IMG_ATTRIBUTES
+    = { "style", "class", "id", "src", "width", "height", "title", "alt" };
+  private static final String[] A_ATTRIBUTES
+    = { "style", "class", "id", "href", "target", "title" };
+  private static final String[] NO_ATTRIBUTES = new String[ 0 ];
+  private static final String[] ELEMENTS = {
+    "html", "br", "b", "strong", "i", "em", "sub", "sup", "big", "small", "del", "ins", "code",
+    "samp", "kbd", "var", "cite", "dfn", "q", "abbr", "span", "img", "a"
+  };
+  private static final String[][] ELEMENT_ATTRIBUTES = {
+    NO_ATTRIBUTES, NO_ATTRIBUTES, COMMON_ATTRIBUTES, COMMON_ATTRIBUTES, COMMON_ATTRIBUTES,
+    COMMON_ATTRIBUTES, COMMON_ATTRIBUTES, COMMON_ATTRIBUTES, COMMON_ATTRIBUTES, COMMON_ATTRIBUTES,
+    COMMON_ATTRIBUTES, COMMON_ATTRIBUTES, COMMON_ATTRIBUTES, COMMON_ATTRIBUTES, COMMON_ATTRIBUTES,
+    COMMON_ATTRIBUTES, COMMON_ATTRIBUTES, COMMON_ATTRIBUTES, COMMON_ATTRIBUTES, TITLE_ATTRIBUTES,
+    TITLE_ATTRIBUTES, IMG_ATTRIBUTES, A_ATTRIBUTES
+  };
+  private static final int IMG = 21;
+
+  private final String text;
+  private final int length;
+  private int pos;
+  // element stack, two ints (start, end of name) per open element
+  private int[] elements;
+  private int depth;
+  // attributes of the current start tag, four ints (name start/end, value start/end) each
+  private int[] attributes;
+  private int attributeCount;
+
+  private MarkupScanner( String text ) {
+    this.text = text;
+    length = text.length();
+  }
+
+  /**
+   * Checks the given markup text.
+   *
+   * @throws IllegalArgumentException if the text is not well-formed or uses an unsupported
+   *   element or attribute
+   */
+  static void scan( String text ) {
+    new MarkupScanner( text ).scanContent();
+  }
+
+  /**
+   * Returns <code>true</code> if the given text contains neither markup nor references nor any
+   * character that needs a closer look. Such a text is always valid.
+   */
+  static boolean isPlainText( String text ) {
+    int length = text.length();
+    for( int i = 0; i < length; i++ ) {
+      char ch = text.charAt( i );
+      if( ch == '<' || ch == '&' || ch == ']' || !isPlainChar( ch ) ) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void scanContent() {
+    while( pos < length ) {
+      char ch = text.charAt( pos );
+      if( ch == '<' ) {
+        scanMarkup();
+      } else if( ch == '&' ) {
+        pos = scanReference( pos );
+      } else if( ch == ']' && text.startsWith( "]]>", pos ) ) {
+        throw parseError();
+      } else {
+        pos = scanChar( pos );
+      }
+    }
+    if( depth > 0 ) {
+      throw parseError();
+    }
+  }
+
+  private void scanMarkup() {
+    if( text.startsWith( "</", pos ) ) {
+      scanEndTag();
+    } else if( text.startsWith( "<!--", pos ) ) {
+      scanComment();
+    } else if( text.startsWith( "<![CDATA[", pos ) ) {
+      scanCData();
+    } else if( text.startsWith( "<?", pos ) ) {
+      scanProcessingInstruction();
+    } else {
+      scanStartTag();
+    }
+  }
+
+  private void scanStartTag() {
+    int nameStart = pos + 1;
+    int nameEnd = scanName( nameStart );
+    pos = nameEnd;
+    attributeCount = 0;
+    boolean empty = false;
+    while( true ) {
+      int afterSpace = skipSpace( pos );
+      if( afterSpace >= length ) {
+        throw parseError();
+      }
+      char ch = text.charAt( afterSpace );
+      if( ch == '>' ) {
+        pos = afterSpace + 1;
+        break;
+      }
+      if( ch == '/' ) {
+        if( afterSpace + 1 >= length || text.charAt( afterSpace + 1 ) != '>' ) {
+          throw parseError();
+        }
+        pos = afterSpace + 2;
+        empty = true;
+        break;
+      }
+      if( afterSpace == pos ) {
+        // attributes must be separated by white space
+        throw parseError();
+      }
+      pos = scanAttribute( afterSpace );
+    }
+    checkElement( nameStart, nameEnd );
+    if( !empty ) {
+      pushElement( nameStart, nameEnd );
+    }
+  }
+
+  private int scanAttribute( int start ) {
+    int nameEnd = scanName( start );
+    int index = skipSpace( nameEnd );
+    if( index >= length || text.charAt( index ) != '=' ) {
+      throw parseError();
+    }
+    index = skipSpace( index + 1 );
+    if( index >= length ) {
+      throw parseError();
+    }
+    char quote = text.charAt( index );
+    if( quote != '"' && quote != '\'' ) {
+      throw parseError();
+    }
+    int valueStart = index + 1;
+    index = valueStart;
+    while( true ) {
+      if( index >= length ) {
+        throw parseError();
+      }
+      char ch = text.charAt( index );
+      if( ch == quote ) {
+        break;
+      } else if( ch == '<' ) {
+        throw parseError();
+      } else if( ch == '&' ) {
+        index = scanReference( index );
+      } else {
+        index = scanChar( index );
+      }
+    }
+    for( int i = 0; i < attributeCount; i++ ) {
+      int offset = i * 4;
+      if( regionEquals( attributes[ offset ], attributes[ offset + 1 ], start, nameEnd ) ) {
+        throw parseError();
+      }
+    }
+    addAttribute( start, nameEnd, valueStart, index );
+    return index + 1;
+  }
+
+  private void scanEndTag() {
+    int nameStart = pos + 2;
+    int nameEnd = scanName( nameStart );
+    int index = skipSpace( nameEnd );
+    if( index >= length || text.charAt( index ) != '>' ) {
+      throw parseError();
+    }
+    if( depth == 0 ) {
+      throw parseError();
+    }
+    depth--;
+    if( !regionEquals( elements[ depth * 2 ], elements[ depth * 2 + 1 ], nameStart, nameEnd ) ) {
+      throw parseError();
+    }
+    pos = index + 1;
+  }
+
+  private void scanComment() {
+    int index = pos + 4;
+    while( true ) {
+      if( index + 1 >= length ) {
+        throw parseError();
+      }
+      if( text.charAt( index ) == '-' && text.charAt( index + 1 ) == '-' ) {
+        if( index + 2 >= length || text.charAt( index + 2 ) != '>' ) {
+          throw parseError();
+        }
+        pos = index + 3;
+        return;
+      }
+      index = scanChar( index );
+    }
+  }
+
+  private void scanCData() {
+    int index = pos + 9;
+    while( true ) {
+      if( index >= length ) {
+        throw parseError();
+      }
+      if( text.startsWith( "]]>", index ) ) {
+        pos = index + 3;
+        return;
+      }
+      index = scanChar( index );
+    }
+  }
+
+  private void scanProcessingInstruction() {
+    int targetStart = pos + 2;
+    int targetEnd = scanName( targetStart );
+    if( targetEnd - targetStart == 3 && text.regionMatches( true, targetStart, "xml", 0, 3 ) ) {
+      throw parseError();
+    }
+    int index = targetEnd;
+    if( !text.startsWith( "?>", index ) ) {
+      int afterSpace = skipSpace( index );
+      if( afterSpace == index ) {
+        throw parseError();
+      }
+      index = afterSpace;
+    }
+    while( true ) {
+      if( index >= length ) {
+        throw parseError();
+      }
+      if( text.startsWith( "?>", index ) ) {
+        pos = index + 2;
+        return;
+      }
+      index = scanChar( index );
+    }
+  }
+
+  /*
+   * Checks an entity or character reference, returns the index after the reference.
+   */
+  private int scanReference( int start ) {
+    int end = text.indexOf( ';', start + 1 );
+    if( end == -1 ) {
+      throw parseError();
+    }
+    if( end > start + 1 && text.charAt( start + 1 ) == '#' ) {
+      checkCharReference( start + 2, end );
+    } else if( !isEntity( start + 1, end ) ) {
+      throw parseError();
+    }
+    return end + 1;
+  }
+
+  private void checkCharReference( int start, int end ) {
+    int radix = 10;
+    int digitsStart = start;
+    if( start < end && text.charAt( start ) == 'x' ) {
+      radix = 16;
+      digitsStart++;
+    }
+    if( digitsStart == end ) {
+      throw parseError();
+    }
+    int codePoint = 0;
+    for( int i = digitsStart; i < end; i++ ) {
+      int digit = getDigit( text.charAt( i ), radix );
+      if( digit == -1 ) {
+        throw parseError();
+      }
+      codePoint = codePoint * radix + digit;
+      if( codePoint > Character.MAX_CODE_POINT ) {
+        throw parseError();
+      }
+    }
+    if( !isXmlChar( codePoint ) ) {
+      throw parseError();
+    }
+  }
+
+  private static int getDigit( char ch, int radix ) {
+    if( ch >= '0' && ch <= '9' ) {
+      return ch - '0';
+    }
+    if( radix == 16 && ch >= 'a' && ch <= 'f' ) {
+      return ch - 'a' + 10;
+    }
+    if( radix == 16 && ch >= 'A' && ch <= 'F' ) {
+      return ch - 'A' + 10;
+    }
+    return -1;
+  }
+
+  private boolean isEntity( int start, int end ) {
+    int nameLength = end - start;
+    for( String entity : ENTITIES ) {
+      if( entity.length() == nameLength && text.startsWith( entity, start ) ) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /*
+   * Checks a single (possibly supplementary) character, returns the index after it.
+   */
+  private int scanChar( int index ) {
+    char ch = text.charAt( index );
+    if( isPlainChar( ch ) ) {
+      return index + 1;
+    }
+    if( Character.isHighSurrogate( ch )
+        && index + 1 < length
+        && Character.isLowSurrogate( text.charAt( index + 1 ) ) )
+    {
+      return index + 2;
+    }
+    throw parseError();
+  }
+
+  private int scanName( int start ) {
+    if( start >= length || !isNameStartChar( text.charAt( start ) ) ) {
+      throw parseError();
+    }
+    int index = start + 1;
+    while( index < length && isNameChar( text.charAt( index ) ) ) {
+      index++;
+    }
+    return index;
+  }
+
+  private int skipSpace( int start ) {
+    int index = start;
+    while( index < length && isSpace( text.charAt( index ) ) ) {
+      index++;
+    }
+    return index;
+  }
+
+  private void checkElement( int nameStart, int nameEnd ) {
+    int element = findElement( nameStart, nameEnd );
+    if( element == -1 ) {
+      String name = text.substring( nameStart, nameEnd );
+      throw new IllegalArgumentException( "Unsupported element in markup text: " + name );
+    }
+    String[] supportedAttributes = ELEMENT_ATTRIBUTES[ element ];
+    for( int i = 0; i < attributeCount; i++ ) {
+      int attributeStart = attributes[ i * 4 ];
+      int attributeEnd = attributes[ i * 4 + 1 ];
+      if( !contains( supportedAttributes, attributeStart, attributeEnd ) ) {
+        String message = "Unsupported attribute \"{0}\" for element \"{1}\" in markup text";
+        Object[] arguments = new Object[] {
+          text.substring( attributeStart, attributeEnd ),
+          ELEMENTS[ element ]
+        };
+        throw new IllegalArgumentException( MessageFormat.format( message, arguments ) );
+      }
+    }
+    if( element == IMG ) {
+      checkIntAttribute( "img", "width" );
+      checkIntAttribute( "img", "height" );
+    }
+  }
+
+  private void checkIntAttribute( String elementName, String attributeName ) {
+    for( int i = 0; i < attributeCount; i++ ) {
+      int offset = i * 4;
+      int nameStart = attributes[ offset ];
+      int nameEnd = attributes[ offset + 1 ];
+      if(    nameEnd - nameStart == attributeName.length()
+          && text.startsWith( attributeName, nameStart ) )
+      {
+        if( isInt( attributes[ offset + 2 ], attributes[ offset + 3 ] ) ) {
+          return;
+        }
+        break;
+      }
+    }
+    String message
+      = "Mandatory attribute \"{0}\" for element \"{1}\" is missing or not a valid integer";
+    Object[] arguments = new Object[] { attributeName, elementName };
+    throw new IllegalArgumentException( MessageFormat.format( message, arguments ) );
+  }
+
+  private boolean isInt( int start, int end ) {
+    int reference = text.indexOf( '&', start );
+    if( reference != -1 && reference < end ) {
+      // rare case, references need to be resolved first
+      return isInt( decodeAttribute( start, end ) );
+    }
+    for( int i = start; i < end; i++ ) {
+      if( isSpace( text.charAt( i ) ) ) {
+        // attribute value normalization turns white space into blanks
+        return false;
+      }
+    }
+    try {
+      Integer.parseInt( text, start, end, 10 );
+      return true;
+    } catch( @SuppressWarnings( "unused" ) NumberFormatException exception ) {
+      return false;
+    }
+  }
+
+  private static boolean isInt( String value ) {
+    try {
+      Integer.parseInt( value );
+      return true;
+    } catch( @SuppressWarnings( "unused" ) NumberFormatException exception ) {
+      return false;
+    }
+  }
+
+  private String decodeAttribute( int start, int end ) {
+    StringBuilder result = new StringBuilder();
+    int index = start;
+    while( index < end ) {
+      char ch = text.charAt( index );
+      if( ch == '&' ) {
+        int referenceEnd = text.indexOf( ';', index );
+        if( text.charAt( index + 1 ) == '#' ) {
+          boolean hex = text.charAt( index + 2 ) == 'x';
+          int digitsStart = hex ? index + 3 : index + 2;
+          String digits = text.substring( digitsStart, referenceEnd );
+          result.appendCodePoint( Integer.parseInt( digits, hex ? 16 : 10 ) );
+        } else {
+          // named entities never resolve to digits
+          result.append( ' ' );
+        }
+        index = referenceEnd + 1;
+      } else {
+        result.append( isSpace( ch ) ? ' ' : ch );
+        index++;
+      }
+    }
+    return result.toString();
+  }
+
+  private int findElement( int start, int end ) {
+    for( int i = 0; i < ELEMENTS.length; i++ ) {
+      String element = ELEMENTS[ i ];
+      if( element.length() == end - start && text.startsWith( element, start ) ) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private boolean contains( String[] names, int start, int end ) {
+    for( String name : names ) {
+      if( name.length() == end - start && text.startsWith( name, start ) ) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean regionEquals( int start1, int end1, int start2, int end2 ) {
+    int regionLength = end1 - start1;
+    return regionLength == end2 - start2 && text.regionMatches( start1, text, start2, regionLength );
+  }
+
+  private void pushElement( int nameStart, int nameEnd ) {
+    if( elements == null ) {
+      elements = new int[ 16 ];
+    } else if( depth * 2 == elements.length ) {
+      int[] newElements = new int[ elements.length * 2 ];
+      System.arraycopy( elements, 0, newElements, 0, elements.length );
+      elements = newElements;
+    }
+    elements[ depth * 2 ] = nameStart;
+    elements[ depth * 2 + 1 ] = nameEnd;
+    depth++;
+  }
+
+  private void addAttribute( int nameStart, int nameEnd, int valueStart, int valueEnd ) {
+    if( attributes == null ) {
+      attributes = new int[ 16 ];
+    } else if( attributeCount * 4 == attributes.length ) {
+      int[] newAttributes = new int[ attributes.length * 2 ];
+      System.arraycopy( attributes, 0, newAttributes, 0, attributes.length );
+      attributes = newAttributes;
+    }
+    int offset = attributeCount * 4;
+    attributes[ offset ] = nameStart;
+    attributes[ offset + 1 ] = nameEnd;
+    attributes[ offset + 2 ] = valueStart;
+    attributes[ offset + 3 ] = valueEnd;
+    attributeCount++;
+  }
+
+  private static boolean isPlainChar( char ch ) {
+    if( ch < 0x20 ) {
+      return ch == '\t' || ch == '\n' || ch == '\r';
+    }
+    return ch < 0xD800 || ( ch > 0xDFFF && ch < 0xFFFE );
+  }
+
+  private static boolean isXmlChar( int codePoint ) {
+    if( codePoint < 0x20 ) {
+      return codePoint == '\t' || codePoint == '\n' || codePoint == '\r';
+    }
+    return    codePoint < 0xD800
+           || ( codePoint > 0xDFFF && codePoint < 0xFFFE )
+           || ( codePoint >= 0x10000 && codePoint <= Character.MAX_CODE_POINT );
+  }
+
+  private static boolean isSpace( char ch ) {
+    return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\r';
+  }
+
+  private static boolean isNameStartChar( char ch ) {
+    if( ch < 0x80 ) {
+      return ( ch >= 'a' && ch <= 'z' ) || ( ch >= 'A' && ch <= 'Z' ) || ch == '_' || ch == ':';
+    }
+    return Character.isLetter( ch );
+  }
+
+  private static boolean isNameChar( char ch ) {
+    if( ch < 0x80 ) {
+      return    ( ch >= 'a' && ch <= 'z' )
+             || ( ch >= 'A' && ch <= 'Z' )
+             || ( ch >= '0' && ch <= '9' )
+             || ch == '_'
+             || ch == ':'
+             || ch == '-'
+             || ch == '.';
+    }
+    return Character.isLetterOrDigit( ch ) || ch == 0xB7;
+  }
+
+  private static IllegalArgumentException parseError() {
+    return new IllegalArgumentException( PARSE_ERROR );
+  }
+
+}
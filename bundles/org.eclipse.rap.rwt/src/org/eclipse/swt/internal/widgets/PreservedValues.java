@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import java.util.Arrays;
+
+
+/*
+ * Compact storage for the values that are preserved for a widget during one request. Every
+ * property occupies a slot in parallel arrays, int and boolean values are kept in a primitive
+ * array without boxing. A bit set marks the slots that hold a value of the current request.
+ *
+ * Slots are stable: clearing only resets the bit set and releases the object references, the
+ * names and kinds stay. A widget that preserves the same properties in every request therefore
+ * finds its slots at the same positions and does not allocate once they are established.
+ *
+ * Property names are interned when a slot is created and looked up by identity. The LCAs use
+ * constant names, which are interned already. Other names are interned on a lookup that misses.
+ */
+final class PreservedValues {
+
+  private static final int INITIAL_CAPACITY = 8;
+  private static final byte OBJECT = 0;
+  private static final byte INT = 1;
+  private static final byte BOOLEAN = 2;
+
+  private String[] names;
+  private Object[] objects;
+  private int[] primitives;
+  private byte[] kinds;
+  private long[] preserved;
+  private int size;
+
+  void put( String name, Object value ) {
+    int slot = getOrCreateSlot( name );
+    kinds[ slot ] = OBJECT;
+    objects[ slot ] = value;
+  }
+
+  void putInt( String name, int value ) {
+    int slot = getOrCreateSlot( name );
+    kinds[ slot ] = INT;
+    objects[ slot ] = null;
+    primitives[ slot ] = value;
+  }
+
+  void putBoolean( String name, boolean value ) {
+    int slot = getOrCreateSlot( name );
+    kinds[ slot ] = BOOLEAN;
+    objects[ slot ] = null;
+    primitives[ slot ] = value ? 1 : 0;
+  }
+
+  Object get( String name ) {
+    int slot = findPreservedSlot( name );
+    if( slot == -1 ) {
+      return null;
+    }
+    switch( kinds[ slot ] ) {
+      case INT:
+        return Integer.valueOf( primitives[ slot ] );
+      case BOOLEAN:
+        return Boolean.valueOf( primitives[ slot ] != 0 );
+      default:
+        return objects[ slot ];
+    }
+  }
+
+  /*
+   * Returns true if an int value equal to the given one has been preserved for the property.
+   */
+  boolean containsInt( String name, int value ) {
+    int slot = findPreservedSlot( name );
+    if( slot == -1 ) {
+      return false;
+    }
+    if( kinds[ slot ] == INT ) {
+      return primitives[ slot ] == value;
+    }
+    Object object = objects[ slot ];
+    return object instanceof Integer && ( ( Integer )object ).intValue() == value;
+  }
+
+  /*
+   * Returns true if a boolean value equal to the given one has been preserved for the property.
+   */
+  boolean containsBoolean( String name, boolean value ) {
+    int slot = findPreservedSlot( name );
+    if( slot == -1 ) {
+      return false;
+    }
+    if( kinds[ slot ] == BOOLEAN ) {
+      return ( primitives[ slot ] != 0 ) == value;
+    }
+    Object object = objects[ slot ];
+    return object instanceof Boolean && ( ( Boolean )object ).booleanValue() == value;
+  }
+
+  void clear() {
+    if( size > 0 ) {
+      Arrays.fill( preserved, 0L );
+      Arrays.fill( objects, 0, size, null );
+    }
+  }
+
+  private int findPreservedSlot( String name ) {
+    int slot = findSlot( name );
+    if( slot != -1 && ( preserved[ slot >> 6 ] & ( 1L << slot ) ) == 0 ) {
+      return -1;
+    }
+    return slot;
+  }
+
+  private int findSlot( String name ) {
+    int slot = indexOf( name );
+    if( slot == -1 ) {
+      String internedName = name.intern();
+      if( internedName != name ) {
+        slot = indexOf( internedName );
+      }
+    }
+    return slot;
+  }
+
+  private int indexOf( String name ) {
+    for( int i = 0; i < size; i++ ) {
+      if( names[ i ] == name ) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private int getOrCreateSlot( String name ) {
+    int slot = findSlot( name );
+    if( slot == -1 ) {
+      ensureCapacity( size + 1 );
+      slot = size++;
+      names[ slot ] = name.intern();
+    }
+    preserved[ slot >> 6 ] |= 1L << slot;
+    return slot;
+  }
+
+  private void ensureCapacity( int capacity ) {
+    if( names == null ) {
+      int length = Math.max( INITIAL_CAPACITY, capacity );
+      names = new String[ length ];
+      objects = new Object[ length ];
+      primitives = new int[ length ];
+      kinds = new byte[ length ];
+      preserved = new long[ getWordCount( length ) ];
+    } else if( capacity > names.length ) {
+      int length = Math.max( names.length * 2, capacity );
+      names = Arrays.copyOf( names, length );
+      objects = Arrays.copyOf( objects, length );
+      primitives = Arrays.copyOf( primitives, length );
+      kinds = Arrays.copyOf( kinds, length );
+      preserved = Arrays.copyOf( preserved, getWordCount( length ) );
+    }
+  }
+
+  private static int getWordCount( int length ) {
+    return ( length + 63 ) >> 6;
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,9 +11,6 @@
  ******************************************************************************/
 package org.eclipse.swt.internal.widgets;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import org.eclipse.rap.rwt.internal.lifecycle.DisposedWidgets;
 import org.eclipse.rap.rwt.internal.lifecycle.RemoteAdapter;
 import org.eclipse.rap.rwt.internal.protocol.RemoteObjectFactory;
@@ -33,7 +30,7 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
   private Widget parent;
   private boolean initialized;
   private transient int preserved;
-  private transient Map<String, Object> preservedValues;
+  private transient PreservedValues preservedValues;
   private transient long preservedListeners;
   private transient Runnable[] renderRunnables;
   private transient Object[] data;
@@ -45,7 +42,7 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
   }
 
   void initialize() {
-    preservedValues = new HashMap<>();
+    preservedValues = new PreservedValues();
   }
 
   @Override
@@ -81,6 +78,29 @@ public class WidgetRemoteAdapter implements RemoteAdapter, SerializableCompatibi
     return preservedValues.get( propertyName );
   }
 
+  public void preserve( String propertyName, int value ) {
+    preservedValues.putInt( propertyName, value );
+  }
+
+  public void preserve( String propertyName, boolean value ) {
+    preservedValues.putBoolean( propertyName, value );
+  }
+
+  /**
+   * Returns <code>true</code> if the given int value has been preserved for the property. Unlike
+   * <code>getPreserved</code>, this method does not box the preserved value.
+   */
+  public boolean isPreserved( String propertyName, int value ) {
+    return preservedValues.containsInt( propertyName, value );
+  }
+
+  /**
+   * Returns <code>true</code> if the given boolean value has been preserved for the property.
+   */
+  public boolean isPreserved( String propertyName, boolean value ) {
+    return preservedValues.containsBoolean( propertyName, value );
+  }
+
   public void preserveListeners( long eventList ) {
     markPreserved( LISTENERS );
     preservedListeners = eventList;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -40,6 +40,7 @@ import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.internal.SerializableCompatibility;
+import org.eclipse.swt.internal.widgets.FenwickTree;
 import org.eclipse.swt.internal.widgets.ICellToolTipAdapter;
 import org.eclipse.swt.internal.widgets.ICellToolTipProvider;
 import org.eclipse.swt.internal.widgets.IControlAdapter;
@@ -143,8 +144,11 @@ public class Tree extends Composite {
   private boolean hasHScrollBar;
   private Point itemImageSize;
   LayoutCache layoutCache;
-  boolean isFlatIndexValid;
+  // the number of rows of the expanded tree, maintained incrementally
   private int visibleItemsCount;
+  // the row counts of the root items, rebuilt lazily after items were added or removed
+  private FenwickTree rowIndex;
+  private boolean isTopItemIndexValid = true;
   private int preloadedItems;
 
   /**
@@ -289,7 +293,7 @@ public class Tree extends Composite {
         }
       }
       itemCount = newItemCount;
-      invalidateFlatIndex();
+      updateRowCounts( null );
       updateScrollBars();
       redraw();
     }
@@ -435,6 +439,7 @@ public class Tree extends Composite {
       }
     }
     setTreeEmpty();
+    updateRowCounts( null );
     selection = EMPTY_SELECTION;
   }
 
@@ -538,8 +543,7 @@ public class Tree extends Composite {
     checkWidget();
     TreeItem result = null;
     if( itemCount > 0 ) {
-      List<TreeItem> visibleItems = collectVisibleItems( null );
-      result = visibleItems.get( getTopItemIndex() );
+      result = getVisibleItem( getTopItemIndex() );
     }
     return result;
   }
@@ -553,7 +557,7 @@ public class Tree extends Composite {
   }
 
   int getTopItemIndex() {
-    if( !isVisibleItemsCountValid() ) {
+    if( !isTopItemIndexValid ) {
       adjustTopItemIndex();
     }
     return topItemIndex;
@@ -1012,9 +1016,8 @@ public class Tree extends Composite {
     }
     TreeItem result = null;
     int index = ( point.y - getHeaderHeight() ) / getItemHeight() + getTopItemIndex();
-    List<TreeItem> visibleItems = collectVisibleItems( null );
-    if( 0 <= index && index < visibleItems.size() ) {
-      result = visibleItems.get( index );
+    if( 0 <= index && index < visibleItemsCount ) {
+      result = getVisibleItem( index );
     }
     return result;
   }
@@ -2179,7 +2182,8 @@ public class Tree extends Composite {
   }
 
   private void adjustTopItemIndex() {
-    int visibleItems = getVisibleItemsCount();
+    isTopItemIndexValid = true;
+    int visibleItems = visibleItemsCount;
     int visibleRows = getVisibleRowCount( false );
     int correction = visibleRows == 0 ? 1 : 0;
     if( topItemIndex > visibleItems - visibleRows - correction ) {
@@ -2200,67 +2204,151 @@ public class Tree extends Composite {
     return result;
   }
 
-  private int getVisibleItemsCount() {
-    if( !isVisibleItemsCountValid() ) {
-      visibleItemsCount = collectVisibleItems( null ).size();
+  /*
+   * Resolves the items in the preload range of a virtual tree. The first row of the range is
+   * located through the row indices, from there the rows are walked in display order.
+   */
+  void updateAllItems() {
+    if( isVirtual() ) {
+      int topIndex = getTopItemIndex();
+      int startIndex = Math.max( 0, topIndex - preloadedItems );
+      int endIndex = Math.min( visibleItemsCount,
+                               topIndex + getVisibleRowCount( true ) + preloadedItems );
+      if( startIndex < endIndex ) {
+        resolveItems( startIndex, endIndex );
+      }
     }
-    return visibleItemsCount;
   }
 
-  private boolean isVisibleItemsCountValid() {
-    return visibleItemsCount != -1;
+  private void resolveItems( int startIndex, int endIndex ) {
+    TreeItem parentItem = null;
+    int index = 0;
+    int offset = startIndex;
+    while( offset > 0 ) {
+      FenwickTree levelIndex = getRowIndex( parentItem );
+      index = levelIndex.findIndex( offset );
+      offset -= levelIndex.getPrefixSum( index );
+      if( offset > 0 ) {
+        parentItem = parentItem == null ? items[ index ] : parentItem.items[ index ];
+        index = 0;
+        offset--;
+      }
+    }
+    for( int flatIndex = startIndex; flatIndex < endIndex; flatIndex++ ) {
+      TreeItem item = parentItem == null ? _getItem( index ) : parentItem._getItem( index );
+      if( !checkData( item, index ) ) {
+        break;
+      }
+      if( item.getExpanded() && item.itemCount > 0 ) {
+        parentItem = item;
+        index = 0;
+      } else {
+        index++;
+        while( parentItem != null && index == parentItem.itemCount ) {
+          index = parentItem.index + 1;
+          parentItem = parentItem.getParentItem();
+        }
+        if( parentItem == null && index == itemCount ) {
+          break;
+        }
+      }
+    }
   }
 
-  private List<TreeItem> collectVisibleItems( TreeItem parentItem ) {
-    List<TreeItem> result = new ArrayList<>();
-    TreeItem[] items = parentItem == null ? this.items : parentItem.items;
-    int itemCount = parentItem == null ? this.itemCount : parentItem.itemCount;
-    for( int i = 0; i < itemCount; i++ ) {
-      TreeItem item = items[ i ];
-      result.add( item );
-      if( item != null && item.getExpanded() ) {
-        result.addAll( collectVisibleItems( item ) );
+  /*
+   * Returns the item at the given row of the expanded tree, or null if the row is not resolved
+   * yet in a virtual tree.
+   */
+  TreeItem getVisibleItem( int flatIndex ) {
+    TreeItem result = null;
+    TreeItem parentItem = null;
+    int offset = flatIndex;
+    boolean found = false;
+    while( !found ) {
+      FenwickTree levelIndex = getRowIndex( parentItem );
+      int index = levelIndex.findIndex( offset );
+      if( index == levelIndex.size() ) {
+        found = true;
+      } else {
+        offset -= levelIndex.getPrefixSum( index );
+        result = parentItem == null ? items[ index ] : parentItem.items[ index ];
+        if( offset == 0 || result == null ) {
+          found = true;
+        } else {
+          parentItem = result;
+          result = null;
+          offset--;
+        }
       }
     }
     return result;
   }
 
-  void updateAllItems() {
-    int flatIndex = 0;
-    for( int index = 0; index < itemCount; index++ ) {
-      flatIndex = updateAllItemsRecursively( null, index, flatIndex );
-    }
-    isFlatIndexValid = true;
-    visibleItemsCount = flatIndex;
+  int getRowOffset( TreeItem parentItem, int index ) {
+    return getRowIndex( parentItem ).getPrefixSum( index );
   }
 
-  private int updateAllItemsRecursively( TreeItem parent, int index, int flatIndex ) {
-    int newFlatIndex = flatIndex;
-    TreeItem item = parent == null ? items[ index ] : parent.items[ index ];
-    if( shouldResolveItem( flatIndex ) ) {
-      if( item == null ) {
-        item = parent == null ? _getItem( index ) : parent._getItem( index );
+  private FenwickTree getRowIndex( TreeItem parentItem ) {
+    FenwickTree result;
+    if( parentItem == null ) {
+      if( rowIndex == null ) {
+        rowIndex = createRowIndex( items, itemCount );
       }
-      checkData( item, index );
+      result = rowIndex;
+    } else {
+      if( parentItem.rowIndex == null ) {
+        parentItem.rowIndex = createRowIndex( parentItem.items, parentItem.itemCount );
+      }
+      result = parentItem.rowIndex;
     }
-    if( item != null ) {
-      item.setFlatIndex( newFlatIndex );
+    return result;
+  }
+
+  private static FenwickTree createRowIndex( TreeItem[] items, int itemCount ) {
+    int[] rowCounts = new int[ itemCount ];
+    for( int i = 0; i < itemCount; i++ ) {
+      rowCounts[ i ] = getRowCount( items[ i ] );
     }
-    newFlatIndex++;
-    if( item != null && item.getExpanded() ) {
-      for( int i = 0; i < item.itemCount; i++ ) {
-        newFlatIndex = updateAllItemsRecursively( item, i, newFlatIndex );
-      }
+    return new FenwickTree( rowCounts );
+  }
+
+  // an item that is not created yet in a virtual tree occupies a single row
+  static int getRowCount( TreeItem item ) {
+    return item == null ? 1 : item.getRowCount();
+  }
+
+  /*
+   * Recounts the rows of all children of the given item (or of the root items if null) after
+   * their number changed in bulk.
+   */
+  void updateRowCounts( TreeItem parentItem ) {
+    TreeItem[] items = parentItem == null ? this.items : parentItem.items;
+    int itemCount = parentItem == null ? this.itemCount : parentItem.itemCount;
+    int rowCount = 0;
+    for( int i = 0; i < itemCount; i++ ) {
+      rowCount += getRowCount( items[ i ] );
+    }
+    if( parentItem == null ) {
+      updateVisibleItemsCount( -1, rowCount - visibleItemsCount );
+    } else {
+      parentItem.updateInnerItemCount( -1, rowCount - parentItem.innerItemCount );
     }
-    return newFlatIndex;
   }
 
-  private boolean shouldResolveItem( int flatIndex ) {
-    int visibleRows = getVisibleRowCount( true );
-    int topIndex = getTopItemIndex();
-    int startIndex = topIndex - preloadedItems;
-    int endIndex = topIndex + visibleRows + preloadedItems;
-    return isVirtual() ? flatIndex >= startIndex && flatIndex < endIndex : false;
+  /*
+   * Called when the rows of the root item at the given index changed by delta. An index of -1
+   * denotes that root items were added or removed.
+   */
+  void updateVisibleItemsCount( int index, int delta ) {
+    if( index == -1 ) {
+      rowIndex = null;
+    } else if( rowIndex != null ) {
+      rowIndex.add( index, delta );
+    }
+    if( delta != 0 ) {
+      visibleItemsCount += delta;
+      isTopItemIndexValid = false;
+    }
   }
 
   final boolean checkData( TreeItem item, int index ) {
@@ -2279,11 +2367,6 @@ public class Tree extends Composite {
     return result;
   }
 
-  void invalidateFlatIndex() {
-    visibleItemsCount = -1;
-    isFlatIndexValid = false;
-  }
-
   private static int checkStyle( int style ) {
     int result = style;
     if( ( style & SWT.NO_SCROLL ) == 0 ) {
@@ -2338,13 +2421,7 @@ public class Tree extends Composite {
   boolean needsVScrollBar() {
     int availableHeight = getClientArea().height;
     int height = getHeaderHeight();
-    height += itemCount * getItemHeight();
-    for( int i = 0; i < itemCount; i++ ) {
-      TreeItem item = items[ i ];
-      if( item != null && item.getExpanded() ) {
-        height += item.getInnerHeight();
-      }
-    }
+    height += visibleItemsCount * getItemHeight();
     return height > availableHeight;
   }
 
@@ -2411,9 +2488,11 @@ public class Tree extends Composite {
     items[ index ] = item;
     itemCount++;
     adjustItemIndices( index );
+    updateVisibleItemsCount( -1, 1 );
   }
 
   void destroyItem( int index ) {
+    int rowCount = getRowCount( items[ index ] );
     itemCount--;
     if( itemCount == 0 ) {
       setTreeEmpty();
@@ -2422,6 +2501,9 @@ public class Tree extends Composite {
       items[ itemCount ] = null;
     }
     adjustItemIndices( index );
+    if( !isInDispose() ) {
+      updateVisibleItemsCount( -1, -rowCount );
+    }
   }
 
   private void adjustItemIndices( int start ) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2019 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -27,6 +27,7 @@ import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.internal.SerializableCompatibility;
+import org.eclipse.swt.internal.widgets.FenwickTree;
 import org.eclipse.swt.internal.widgets.IItemHolderAdapter;
 import org.eclipse.swt.internal.widgets.ITreeItemAdapter;
 import org.eclipse.swt.internal.widgets.IWidgetColorAdapter;
@@ -67,7 +68,10 @@ public class TreeItem extends Item {
   private boolean grayed;
   int depth;
   private boolean cached;
-  private int flatIndex;
+  // the number of rows of the child items when the receiver is expanded
+  int innerItemCount;
+  // the row counts of the child items, rebuilt lazily after items were added or removed
+  FenwickTree rowIndex;
 
   /**
    * Constructs a new instance of this class given its parent (which must be a
@@ -222,7 +226,6 @@ public class TreeItem extends Item {
     if( parentItem != null ) {
       depth = parentItem.depth + 1;
     }
-    parent.invalidateFlatIndex();
     setEmpty();
     if( create ) {
       int numberOfItems;
@@ -266,9 +269,11 @@ public class TreeItem extends Item {
     items[ index ] = item;
     itemCount++;
     adjustItemIndices( index );
+    updateInnerItemCount( -1, 1 );
   }
 
   private void destroyItem( int index ) {
+    int rowCount = Tree.getRowCount( items[ index ] );
     itemCount--;
     if( itemCount == 0 ) {
       setEmpty();
@@ -277,6 +282,9 @@ public class TreeItem extends Item {
       items[ itemCount ] = null;
     }
     adjustItemIndices( index );
+    if( !parent.isInDispose() ) {
+      updateInnerItemCount( -1, -rowCount );
+    }
   }
 
   private void adjustItemIndices( int start ) {
@@ -364,7 +372,7 @@ public class TreeItem extends Item {
         updateSelection();
       }
       markCached();
-      parent.invalidateFlatIndex();
+      updateRowCount( expanded ? innerItemCount : -innerItemCount );
       parent.updateScrollBars();
       parent.updateAllItems();
     }
@@ -1391,6 +1399,7 @@ public class TreeItem extends Item {
       }
     }
     setEmpty();
+    parent.updateRowCounts( this );
   }
 
   /**
@@ -1426,7 +1435,7 @@ public class TreeItem extends Item {
         }
       }
       itemCount = newItemCount;
-      parent.invalidateFlatIndex();
+      parent.updateRowCounts( this );
       parent.updateScrollBars();
       parent.redraw();
     }
@@ -1452,7 +1461,6 @@ public class TreeItem extends Item {
       parent.destroyItem( index );
     }
     if( !parent.isInDispose() ) {
-      parent.invalidateFlatIndex();
       parent.removeFromSelection( this );
       parent.updateScrollBars();
     }
@@ -1478,14 +1486,43 @@ public class TreeItem extends Item {
   }
 
   int getFlatIndex() {
-    if( !parent.isFlatIndexValid ) {
-      parent.updateAllItems();
+    int result = parent.getRowOffset( parentItem, index );
+    TreeItem item = parentItem;
+    while( item != null ) {
+      result += parent.getRowOffset( item.parentItem, item.index ) + 1;
+      item = item.parentItem;
     }
-    return flatIndex;
+    return result;
+  }
+
+  int getRowCount() {
+    return expanded ? innerItemCount + 1 : 1;
   }
 
-  void setFlatIndex( int flatIndex ) {
-    this.flatIndex = flatIndex;
+  /*
+   * Called when the rows of the child item at the given index changed by delta. An index of -1
+   * denotes that child items were added or removed.
+   */
+  void updateInnerItemCount( int index, int delta ) {
+    if( index == -1 ) {
+      rowIndex = null;
+    } else if( rowIndex != null ) {
+      rowIndex.add( index, delta );
+    }
+    innerItemCount += delta;
+    if( expanded ) {
+      updateRowCount( delta );
+    }
+  }
+
+  private void updateRowCount( int delta ) {
+    if( delta != 0 ) {
+      if( parentItem != null ) {
+        parentItem.updateInnerItemCount( index, delta );
+      } else {
+        parent.updateVisibleItemsCount( index, delta );
+      }
+    }
   }
 
   boolean hasPreferredWidthBuffer( int index ) {
@@ -1524,14 +1561,7 @@ public class TreeItem extends Item {
   }
 
   int getInnerHeight() {
-    int innerHeight = itemCount * parent.getItemHeight();
-    for( int i = 0; i < itemCount; i++ ) {
-      TreeItem item = items[ i ];
-      if( item != null && item.getExpanded() ) {
-        innerHeight += item.getInnerHeight();
-      }
-    }
-    return innerHeight;
+    return innerItemCount * parent.getItemHeight();
   }
 
   void markCached() {
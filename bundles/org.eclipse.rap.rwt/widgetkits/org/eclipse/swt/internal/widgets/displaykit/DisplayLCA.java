@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2022 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -36,6 +36,7 @@ import org.eclipse.rap.rwt.internal.lifecycle.EntryPointRegistration;
 import org.eclipse.rap.rwt.internal.lifecycle.RemoteAdapter;
 import org.eclipse.rap.rwt.internal.lifecycle.ReparentedControls;
 import org.eclipse.rap.rwt.internal.lifecycle.UITestUtil;
+import org.eclipse.rap.rwt.internal.metrics.RequestMetrics;
 import org.eclipse.rap.rwt.internal.protocol.ClientMessage;
 import org.eclipse.rap.rwt.internal.protocol.Operation;
 import org.eclipse.rap.rwt.internal.protocol.ProtocolUtil;
@@ -186,6 +187,10 @@ public class DisplayLCA {
       WidgetTreeUtil.accept( shell, visitor );
       visitor.reThrowProblem();
     }
+    RequestMetrics metrics = RequestMetrics.getCurrent();
+    if( metrics != null ) {
+      metrics.addWidgetCount( visitor.widgetCount );
+    }
   }
 
   private static void renderExitConfirmation( Display display ) {
@@ -305,10 +310,12 @@ public class DisplayLCA {
   private static final class RenderVisitor implements WidgetTreeVisitor {
 
     private IOException ioProblem;
+    private int widgetCount;
 
     @Override
     public boolean visit( Widget widget ) {
       ioProblem = null;
+      widgetCount++;
       try {
         render( widget );
         runRenderRunnables( widget );
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2007, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -36,10 +36,15 @@ import org.eclipse.ui.internal.progress.ProgressManager;
 import org.eclipse.ui.progress.UIJob;
 
 
+/*
+ * The only job change listener and progress provider that is registered with the job manager. Job
+ * events are routed to the progress manager of the UI session that scheduled the job, jobs that
+ * do not belong to a session are handled by a default progress manager.
+ */
 public class JobManagerAdapter extends ProgressProvider implements IJobChangeListener {
 
   private static JobManagerAdapter _instance;
-  private final Map jobs;
+  private final Map<Job, SessionBinding> jobs;
   private final ProgressManager defaultProgressManager;
   final Object lock;
 
@@ -63,7 +68,7 @@ public class JobManagerAdapter extends ProgressProvider implements IJobChangeLis
       String msg = "Could not initialize synchronization lock.";
       throw new IllegalStateException( msg );
     }
-    jobs = new HashMap();
+    jobs = new HashMap<>();
     defaultProgressManager = new ProgressManager();
     Job.getJobManager().setProgressProvider( this );
     Job.getJobManager().addJobChangeListener( this );
@@ -122,7 +127,8 @@ public class JobManagerAdapter extends ProgressProvider implements IJobChangeLis
     synchronized( lock ) {
       try {
         manager[ 0 ] = findProgressManager( event.getJob() );
-        display = ( Display )jobs.get( event.getJob() );
+        SessionBinding binding = jobs.get( event.getJob() );
+        display = binding == null ? null : binding.display;
       } finally {
         jobs.remove( event.getJob() );
       }
@@ -153,7 +159,7 @@ public class JobManagerAdapter extends ProgressProvider implements IJobChangeLis
     Display display = findDisplay( event.getJob() );
     synchronized( lock ) {
       if( display != null && !display.isDisposed() ) {
-        jobs.put( event.getJob(), display );
+        jobs.put( event.getJob(), new SessionBinding( display, getProgressManager( display ) ) );
         Runnable runnable = new Runnable() {
 
           @Override
@@ -188,24 +194,26 @@ public class JobManagerAdapter extends ProgressProvider implements IJobChangeLis
 
   private ProgressManager findSessionProgressManager( final Job job ) {
     synchronized( lock ) {
-      final ProgressManager result[] = new ProgressManager[ 1 ];
-      Display display = ( Display )jobs.get( job );
-      if( display != null ) {
-        RWT.getUISession( display ).exec( new Runnable() {
-          @Override
-          public void run() {
-            result[ 0 ] = ProgressManager.getInstance();
-          }
-        } );
-        if( result[ 0 ] == null ) {
-          String msg = "ProgressManager must not be null.";
-          throw new IllegalStateException( msg );
-        }
-      } else {
-        result[ 0 ] = null;
+      SessionBinding binding = jobs.get( job );
+      return binding == null ? null : binding.progressManager;
+    }
+  }
+
+  // The progress manager is looked up once when the job is scheduled, subsequent events of the
+  // job do not need to enter the UI session
+  private static ProgressManager getProgressManager( Display display ) {
+    final ProgressManager result[] = new ProgressManager[ 1 ];
+    RWT.getUISession( display ).exec( new Runnable() {
+      @Override
+      public void run() {
+        result[ 0 ] = ProgressManager.getInstance();
       }
-      return result[ 0 ];
+    } );
+    if( result[ 0 ] == null ) {
+      String msg = "ProgressManager must not be null.";
+      throw new IllegalStateException( msg );
     }
+    return result[ 0 ];
   }
 
   private static Display findDisplay( final Job job ) {
@@ -253,7 +261,8 @@ public class JobManagerAdapter extends ProgressProvider implements IJobChangeLis
         // can be catched in the set on session timeouts.
         // Don't know a proper solution yet.
         // Note that this is still under investigation.
-        Display display = ( Display )jobs.get( jobToRemove );
+        SessionBinding binding = jobs.get( jobToRemove );
+        Display display = binding == null ? null : binding.display;
         if( display != null ) {
           RWT.getUISession( display ).exec( new Runnable() {
             @Override
@@ -297,4 +306,17 @@ public class JobManagerAdapter extends ProgressProvider implements IJobChangeLis
       }
     } );
   }
+
+  private static final class SessionBinding {
+
+    final Display display;
+    final ProgressManager progressManager;
+
+    SessionBinding( Display display, ProgressManager progressManager ) {
+      this.display = display;
+      this.progressManager = progressManager;
+    }
+
+  }
+
 }
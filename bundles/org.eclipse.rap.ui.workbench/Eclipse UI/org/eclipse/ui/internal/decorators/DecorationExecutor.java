@@ -0,0 +1,217 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.ui.internal.decorators;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.SingletonUtil;
+import org.eclipse.rap.rwt.service.ApplicationContextEvent;
+import org.eclipse.rap.rwt.service.ApplicationContextListener;
+import org.eclipse.swt.widgets.Display;
+
+
+/**
+ * Computes decorations for the decoration schedulers of all UI sessions of an application.
+ * <p>
+ * A bounded number of worker threads is shared by all sessions. A scheduler with pending
+ * elements is queued at most once and decorates a limited number of elements per turn. If there
+ * are more elements left, it is queued again behind the other sessions, hence a session with many
+ * elements cannot starve the others. Finished decorations are delivered to the UI thread of a
+ * session with a single <code>asyncExec</code> after a short delay that collects further results.
+ * </p>
+ * <p>
+ * The workers are stopped when the application is stopped.
+ * </p>
+ * <p>
+ * The queue depth and the latency between the request for a decoration and the delivery of its
+ * result to the UI thread are exposed for monitoring.
+ * </p>
+ */
+public final class DecorationExecutor {
+
+  static final int WORKER_COUNT
+    = Math.max( 1, Math.min( 4, Runtime.getRuntime().availableProcessors() / 2 ) );
+  static final int ELEMENTS_PER_TURN = 20;
+  private static final long KEEP_ALIVE_SECONDS = 60;
+
+  private final ScheduledThreadPoolExecutor workers;
+  private final Set<DecorationScheduler> queuedSchedulers;
+  private final AtomicLong decorationCount;
+  private final AtomicLong totalLatency;
+  private final AtomicLong maxLatency;
+
+  public static DecorationExecutor getInstance() {
+    return SingletonUtil.getUniqueInstance( DecorationExecutor.class, RWT.getApplicationContext() );
+  }
+
+  private DecorationExecutor() {
+    this( WORKER_COUNT );
+    RWT.getApplicationContext().addApplicationContextListener( new ApplicationContextListener() {
+      public void beforeDestroy( ApplicationContextEvent event ) {
+        shutdown();
+      }
+    } );
+  }
+
+  /**
+   * Creates an executor with the given number of workers. This constructor is public for testing
+   * purposes only, clients use the application scoped instance returned by {@link #getInstance()}.
+   */
+  public DecorationExecutor( int workerCount ) {
+    workers = new ScheduledThreadPoolExecutor( workerCount, new WorkerFactory() );
+    workers.setKeepAliveTime( KEEP_ALIVE_SECONDS, TimeUnit.SECONDS );
+    workers.allowCoreThreadTimeOut( true );
+    queuedSchedulers = ConcurrentHashMap.newKeySet();
+    decorationCount = new AtomicLong();
+    totalLatency = new AtomicLong();
+    maxLatency = new AtomicLong();
+  }
+
+  /**
+   * Returns the number of UI sessions that wait for the computation of decorations.
+   */
+  public int getQueuedSessionCount() {
+    return queuedSchedulers.size();
+  }
+
+  /**
+   * Returns the number of elements of all UI sessions that wait for their decoration.
+   */
+  public int getQueueDepth() {
+    int result = 0;
+    for( DecorationScheduler scheduler : queuedSchedulers ) {
+      result += scheduler.getAwaitingCount();
+    }
+    return result;
+  }
+
+  /**
+   * Returns the number of decorated elements whose results have been delivered so far.
+   */
+  public long getDecorationCount() {
+    return decorationCount.get();
+  }
+
+  /**
+   * Returns the average time in milliseconds between the request for the decoration of an
+   * element and the delivery of its result to the UI thread.
+   */
+  public long getAverageLatency() {
+    long count = decorationCount.get();
+    return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis( totalLatency.get() / count );
+  }
+
+  /**
+   * Returns the longest time in milliseconds between the request for the decoration of an
+   * element and the delivery of its result to the UI thread.
+   */
+  public long getMaxLatency() {
+    return TimeUnit.NANOSECONDS.toMillis( maxLatency.get() );
+  }
+
+  /**
+   * Stops the workers. Decorations that are requested afterwards are not computed anymore. Called
+   * when the application is stopped.
+   */
+  public void shutdown() {
+    workers.shutdownNow();
+    queuedSchedulers.clear();
+  }
+
+  /*
+   * Queues a turn of the given scheduler. Callers ensure that a scheduler is queued only once.
+   */
+  void queue( DecorationScheduler scheduler ) {
+    queue( scheduler, 0 );
+  }
+
+  /*
+   * Queues a turn of the given scheduler after the given delay in milliseconds.
+   */
+  void queue( final DecorationScheduler scheduler, long delay ) {
+    Runnable turn = new Runnable() {
+      public void run() {
+        scheduler.runTurn( ELEMENTS_PER_TURN );
+      }
+    };
+    queuedSchedulers.add( scheduler );
+    if( !execute( turn, delay ) ) {
+      queuedSchedulers.remove( scheduler );
+    }
+  }
+
+  void dequeue( DecorationScheduler scheduler ) {
+    queuedSchedulers.remove( scheduler );
+  }
+
+  /*
+   * Runs the given runnable on the UI thread of the display after the given delay in milliseconds.
+   */
+  void deliver( final Display display, final Runnable runnable, long delay ) {
+    execute( new Runnable() {
+      public void run() {
+        if( !display.isDisposed() ) {
+          display.asyncExec( runnable );
+        }
+      }
+    }, delay );
+  }
+
+  /*
+   * Records the delivery of the given number of decorations, with the sum and the maximum of their
+   * latencies in nanoseconds.
+   */
+  void delivered( int count, long latencySum, long latencyMax ) {
+    decorationCount.addAndGet( count );
+    totalLatency.addAndGet( latencySum );
+    long max = maxLatency.get();
+    while( latencyMax > max && !maxLatency.compareAndSet( max, latencyMax ) ) {
+      max = maxLatency.get();
+    }
+  }
+
+  private boolean execute( Runnable runnable, long delay ) {
+    try {
+      if( delay == 0 ) {
+        workers.execute( runnable );
+      } else {
+        workers.schedule( runnable, delay, TimeUnit.MILLISECONDS );
+      }
+      return true;
+    } catch( RejectedExecutionException exception ) {
+      // the application is stopping, its sessions are about to be destroyed
+      return false;
+    }
+  }
+
+  private static final class WorkerFactory implements ThreadFactory {
+
+    private final AtomicInteger threadCount = new AtomicInteger();
+
+    public Thread newThread( Runnable runnable ) {
+      String name = "Decoration Worker " + threadCount.incrementAndGet();
+      Thread result = new Thread( runnable, name );
+      result.setDaemon( true );
+      result.setPriority( Thread.MIN_PRIORITY );
+      return result;
+    }
+
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2006 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -30,11 +30,15 @@ class DecorationReference {
 
 	IDecorationContext[] contexts;
 
+	// RAP: time of the first request, used for the decoration latency
+	final long queueTime;
+
     DecorationReference(Object object, Object adaptedObject, IDecorationContext context) {
         this.contexts = new IDecorationContext[] { context} ;
 		Assert.isNotNull(object);
         element = object;
         this.adaptedElement = adaptedObject;
+        queueTime = System.nanoTime();
     }
 
     /**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2009 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -32,18 +32,21 @@ import org.eclipse.jface.viewers.IDecorationContext;
 import org.eclipse.jface.viewers.ILabelProviderListener;
 import org.eclipse.jface.viewers.LabelProviderChangedEvent;
 import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.serverpush.ServerPushManager;
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.ui.PlatformUI;
 import org.eclipse.ui.internal.WorkbenchMessages;
-import org.eclipse.ui.progress.UIJob;
-import org.eclipse.ui.progress.WorkbenchJob;
 
 /**
  * The DecorationScheduler is the class that handles the decoration of elements
  * using a background thread.
+ * <p>
+ * RAP: the decorations are computed by the worker threads of the
+ * {@link DecorationExecutor} that is shared by all sessions of the application.
+ * </p>
  */
 public class DecorationScheduler {
 
@@ -68,13 +71,27 @@ public class DecorationScheduler {
 
 	boolean shutdown = false;
 
-	Job decorationJob;
+	// RAP: whether a turn of this scheduler is queued in the executor
+	boolean queued = false;
 
-	UIJob updateJob;
+	// RAP: whether an update is waiting for or running in the UI thread
+	volatile boolean updateScheduled = false;
+
+	// RAP: queue times of the decorated elements that await their delivery,
+	// guarded by pendingKey
+	private int undeliveredCount;
+
+	private long undeliveredQueueTimeSum;
+
+	private long undeliveredMinQueueTime;
+
+	UpdateRunnable updateRunnable;
 
 	// RAP [rh] need display to be able to later fake service context
   private final Display display;
 
+  private final DecorationExecutor executor;
+
   private Collection removedListeners = Collections
 			.synchronizedSet(new HashSet());
 
@@ -93,10 +110,23 @@ public class DecorationScheduler {
 	 * @param manager
 	 */
 	DecorationScheduler(DecoratorManager manager) {
+		this(manager, DecorationExecutor.getInstance());
+	}
+
+	/**
+	 * Return a new instance of the receiver that computes its decorations
+	 * with the given executor. This constructor is public for testing purposes
+	 * only.
+	 * 
+	 * @param manager
+	 * @param executor
+	 */
+	public DecorationScheduler(DecoratorManager manager,
+			DecorationExecutor executor) {
 		decoratorManager = manager;
 		//RAP [rh] assign current display
 		display = Display.getCurrent();
-		createDecorationJob();
+		this.executor = executor;
 	}
 
 	/**
@@ -163,20 +193,11 @@ public class DecorationScheduler {
 			if (shutdown) {
 				return;
 			}
-            if (decorationJob.getState() == Job.SLEEPING) {
-                // RAP [rh] fake service context
-                RWT.getUISession( display ).exec( new Runnable() {
-                  public void run() {
-                    decorationJob.wakeUp();
-                  }
-                } );
-            }
-            // RAP [rh] fake service context
-            RWT.getUISession( display ).exec( new Runnable() {
-              public void run() {
-                decorationJob.schedule();
-              }
-            } );
+			// RAP: pending elements are coalesced into a single turn
+			if (!queued) {
+				queued = true;
+				executor.queue(this);
+			}
 		}
 
 	}
@@ -266,18 +287,21 @@ public class DecorationScheduler {
 			return;
 		}
 
-		// Lazy initialize the job
-		if (updateJob == null) {
-			updateJob = getUpdateJob();
+		// RAP: an update that has not yet run also delivers the new results
+		if (updateScheduled) {
+			return;
+		}
+
+		// Lazy initialize the runnable
+		if (updateRunnable == null) {
+			updateRunnable = new UpdateRunnable();
 		}
 
-		// RAP [rh] fake service context
-		RWT.getUISession( display ).exec( new Runnable() {
-          public void run() {
-            // Give it a bit of a lag for other updates to occur
-            updateJob.schedule(UPDATE_DELAY);
-          }
-		} );
+		updateScheduled = true;
+		// RAP: keep the client informed until the results are delivered
+		ServerPushManager.getInstance().activateServerPushFor(updateRunnable);
+		// Give it a bit of a lag for other updates to occur
+		executor.deliver(display, updateRunnable, UPDATE_DELAY);
 	}
 
 	/**
@@ -303,180 +327,163 @@ public class DecorationScheduler {
 	}
 
 	/**
-	 * Create the Thread used for running decoration.
+	 * Return the number of elements that are waiting for their decoration.
+	 * 
+	 * @return int
 	 */
-	private void createDecorationJob() {
-    decorationJob = new Job(
-        WorkbenchMessages.get().DecorationScheduler_CalculationJobName) {
-      /*
-       * (non-Javadoc)
-       * 
-       * @see org.eclipse.core.runtime.jobs.Job#run(org.eclipse.core.runtime.IProgressMonitor)
-       */
-        public IStatus run(final IProgressMonitor monitor) {
-          final IStatus[] result = { null };
-          // RAP [rh] fake service context
-          RWT.getUISession( display ).exec( new Runnable() {
-            public void run() {
-              result[ 0 ] = doRun( monitor );
-            }
-          } );
-          return result[ 0 ];
-        }
-        
-      public IStatus doRun(IProgressMonitor monitor) {
-        
-        synchronized (DecorationScheduler.this) {
-          if (shutdown) {
-            return Status.CANCEL_STATUS;
-          }
-        }
-
-        while (updatesPending()) {
-          try {
-            Thread.sleep(100);
-          } catch (InterruptedException e) {
-            // Cancel and try again if there was an error
-            // RAP [rh] fake service context
-            RWT.getUISession( display ).exec( new Runnable() {
-              public void run() {
-                decorationJob.schedule();
-              }
-            });
-
-            return Status.CANCEL_STATUS;
-          }
-        }
-
-        // RAP [if] Scheduler could be shutdown at this point
-        synchronized (DecorationScheduler.this) {
-          if( shutdown ) {
-            return Status.CANCEL_STATUS;
-          }
-        }
-
-        monitor.beginTask(
-            WorkbenchMessages.get().DecorationScheduler_CalculatingTask,
-            100);
-        // will block if there are no resources to be decorated
-        DecorationReference reference;
-        monitor.worked(5);
-        int workCount = 5;
-        while ((reference = nextElement()) != null) {
-
-          // Count up to 90 to give the appearance of updating
-          if (workCount < 90) {
-            monitor.worked(1);
-            workCount++;
-          }
-
-          monitor.subTask(reference.getSubTask());
-          Object element = reference.getElement();
-          boolean force = reference.shouldForceUpdate();
-          IDecorationContext[] contexts = reference.getContexts();
-          for (int i = 0; i < contexts.length; i++) {
-            IDecorationContext context = contexts[i];
-            ensureResultCached(element, force, context);
-          }
-
-          // Only notify listeners when we have exhausted the
-          // queue of decoration requests.
-          synchronized (DecorationScheduler.this) {
-            if (awaitingDecoration.isEmpty()) {
-              decorated();
-            }
-          }
-        }
-        monitor.worked(100 - workCount);
-        monitor.done();
-        return Status.OK_STATUS;
-			}
+	synchronized int getAwaitingCount() {
+		return awaitingDecoration.size();
+	}
 
-			/**
-			 * Ensure that a result is cached for the given element and context
-			 * 
-			 * @param element
-			 *            the elements
-			 * @param force
-			 *            whether an update should be forced
-			 * @param context
-			 *            the decoration context
-			 */
-			private void ensureResultCached(Object element, boolean force,
-					IDecorationContext context) {
-				boolean elementIsCached = internalGetResult(element, context) != null;
-				if (elementIsCached) {
-					synchronized (pendingKey) {
-						pendingUpdate.add(element);
+	/**
+	 * Decorate up to maxCount of the waiting elements. Called by a worker of
+	 * the executor, the receiver is queued again if elements are left.
+	 * 
+	 * @param maxCount
+	 */
+	void runTurn(final int maxCount) {
+		// Wait for a pending update to finish
+		boolean deferred = updatesPending();
+		try {
+			if (!deferred && !display.isDisposed()) {
+				// RAP [rh] fake service context
+				RWT.getUISession(display).exec(new Runnable() {
+					public void run() {
+						if (PlatformUI.isWorkbenchRunning()) {
+							decorate(maxCount);
+						}
 					}
-
+				});
+			}
+		} finally {
+			synchronized (this) {
+				if (shutdown || display.isDisposed()) {
+					awaitingDecoration.clear();
+					awaitingDecorationValues.clear();
 				}
+				if (awaitingDecoration.isEmpty()) {
+					queued = false;
+					executor.dequeue(this);
+				} else if (deferred || updatesPending()) {
+					executor.queue(this, UPDATE_DELAY);
+				} else {
+					executor.queue(this);
+				}
+			}
+		}
+	}
 
-				if (!elementIsCached) {
-					DecorationBuilder cacheResult = new DecorationBuilder(
-							context);
-					// Calculate the decoration
-					decoratorManager.getLightweightManager().getDecorations(
-							element, cacheResult);
-
-					// If we should update regardless then put a result
-					// anyways
-					if (cacheResult.hasValue() || force) {
-
-						// Synchronize on the result lock as we want to
-						// be sure that we do not try and decorate during
-						// label update servicing.
-						// Note: resultCache and pendingUpdate modifications
-						// must be done atomically.
-
-						// Add the decoration even if it's empty in
-						// order to indicate that the decoration is
-						// ready
-						internalPutResult(element, context, cacheResult
-								.createResult());
-
-						// Add an update for only the original element
-						// to
-						// prevent multiple updates and clear the cache.
-						synchronized (pendingKey) {
-							pendingUpdate.add(element);
-						}
-						
+	private void decorate(int maxCount) {
+		DecorationReference reference;
+		int count = 0;
+		while (count < maxCount && (reference = nextElement()) != null) {
+			count++;
+			Object element = reference.getElement();
+			boolean force = reference.shouldForceUpdate();
+			IDecorationContext[] contexts = reference.getContexts();
+			for (int i = 0; i < contexts.length; i++) {
+				IDecorationContext context = contexts[i];
+				ensureResultCached(element, force, context);
+			}
+			decorated(reference);
 
-					}
+			// Only notify listeners when we have exhausted the
+			// queue of decoration requests.
+			synchronized (this) {
+				if (awaitingDecoration.isEmpty()) {
+					decorated();
 				}
 			}
+		}
+	}
 
-			/*
-			 * (non-Javadoc)
-			 * 
-			 * @see org.eclipse.core.runtime.jobs.Job#belongsTo(java.lang.Object)
-			 */
-			public boolean belongsTo(Object family) {
-				return DecoratorManager.FAMILY_DECORATE == family;
+	/*
+	 * RAP: remembers the queue time of the decorated reference until its result
+	 * is delivered.
+	 */
+	private void decorated(DecorationReference reference) {
+		synchronized (pendingKey) {
+			if (undeliveredCount == 0
+					|| reference.queueTime - undeliveredMinQueueTime < 0) {
+				undeliveredMinQueueTime = reference.queueTime;
 			}
+			undeliveredCount++;
+			undeliveredQueueTimeSum += reference.queueTime;
+		}
+	}
 
-			/*
-			 * (non-Javadoc)
-			 * 
-			 * @see org.eclipse.core.runtime.jobs.Job#shouldRun()
-			 */
-			public boolean shouldRun() {
-        final boolean[] result = { false };
-        // RAP [rh] fake service context
-        RWT.getUISession( display ).exec( new Runnable() {
-          public void run() {
-            // result[ 0 ] = PatformUI.isWorkbenchRunning();
-            result[ 0 ] = !shutdown && PlatformUI.isWorkbenchRunning();
-          }
-        });
-        return result[ 0 ];
+	/*
+	 * RAP: reports the latencies of the decorations that are delivered now.
+	 */
+	private void reportDelivery() {
+		int count;
+		long latencySum;
+		long latencyMax;
+		synchronized (pendingKey) {
+			if (undeliveredCount == 0) {
+				return;
+			}
+			long now = System.nanoTime();
+			count = undeliveredCount;
+			latencySum = count * now - undeliveredQueueTimeSum;
+			latencyMax = now - undeliveredMinQueueTime;
+			undeliveredCount = 0;
+			undeliveredQueueTimeSum = 0;
+		}
+		executor.delivered(count, latencySum, latencyMax);
+	}
+
+	/**
+	 * Ensure that a result is cached for the given element and context
+	 * 
+	 * @param element
+	 *            the elements
+	 * @param force
+	 *            whether an update should be forced
+	 * @param context
+	 *            the decoration context
+	 */
+	// RAP: protected for testing purposes only
+	protected void ensureResultCached(Object element, boolean force,
+			IDecorationContext context) {
+		boolean elementIsCached = internalGetResult(element, context) != null;
+		if (elementIsCached) {
+			synchronized (pendingKey) {
+				pendingUpdate.add(element);
 			}
-		};
 
-		decorationJob.setSystem(true);
-		decorationJob.setPriority(Job.DECORATE);
-		decorationJob.schedule();
+		}
+
+		if (!elementIsCached) {
+			DecorationBuilder cacheResult = new DecorationBuilder(context);
+			// Calculate the decoration
+			decoratorManager.getLightweightManager().getDecorations(element,
+					cacheResult);
+
+			// If we should update regardless then put a result
+			// anyways
+			if (cacheResult.hasValue() || force) {
+
+				// Synchronize on the result lock as we want to
+				// be sure that we do not try and decorate during
+				// label update servicing.
+				// Note: resultCache and pendingUpdate modifications
+				// must be done atomically.
+
+				// Add the decoration even if it's empty in
+				// order to indicate that the decoration is
+				// ready
+				internalPutResult(element, context, cacheResult.createResult());
+
+				// Add an update for only the original element
+				// to
+				// prevent multiple updates and clear the cache.
+				synchronized (pendingKey) {
+					pendingUpdate.add(element);
+				}
+
+			}
+		}
 	}
 
 	/**
@@ -489,7 +496,7 @@ public class DecorationScheduler {
 	  if( shutdown )
 	    return false;
 	  // RAP END
-		if (updateJob != null && updateJob.getState() != Job.NONE) {
+		if (updateScheduled) {
 			return true;
 		}
 		if (clearJob != null && clearJob.getState() != Job.NONE) {
@@ -546,143 +553,112 @@ public class DecorationScheduler {
 	}
 
 	/**
-	 * Get the update WorkbenchJob.
-	 * 
-	 * @return WorkbenchJob
+	 * Notifies the label provider listeners about the decorated elements.
+	 * RAP: replaces the update WorkbenchJob, runs in the UI thread.
 	 */
-	private WorkbenchJob getUpdateJob() {
-		WorkbenchJob job = new WorkbenchJob(
-				WorkbenchMessages.get().DecorationScheduler_UpdateJobName) {
+	final class UpdateRunnable implements Runnable {
 
-			int currentIndex = NEEDS_INIT;
+		int currentIndex = NEEDS_INIT;
 
-			LabelProviderChangedEvent labelProviderChangedEvent;
+		LabelProviderChangedEvent labelProviderChangedEvent;
 
-			ILabelProviderListener[] listeners;
+		ILabelProviderListener[] listeners;
 
-			public IStatus runInUIThread(IProgressMonitor monitor) {
+		public void run() {
 
-				synchronized (DecorationScheduler.this) {
-					if (shutdown) {
-						return Status.CANCEL_STATUS;
-					}
-				}
-
-				// If this is the first one check again in case
-				// someone has already cleared it out.
-				if (currentIndex == NEEDS_INIT) {
-					if (hasPendingUpdates()) {
-					    resetState();
-						return Status.OK_STATUS;
-					}
-					setUpUpdates();
+			synchronized (DecorationScheduler.this) {
+				if (shutdown || !PlatformUI.isWorkbenchRunning()) {
+					finishUpdate();
+					return;
 				}
+			}
 
-				if (listeners.length == 0) {
-				    resetState();
-				    return Status.OK_STATUS;
+			// If this is the first one check again in case
+			// someone has already cleared it out.
+			if (currentIndex == NEEDS_INIT) {
+				reportDelivery();
+				if (hasPendingUpdates()) {
+					resetState();
+					finishUpdate();
+					return;
 				}
+				setUpUpdates();
+			}
 
-				monitor.beginTask(
-						WorkbenchMessages.get().DecorationScheduler_UpdatingTask,
-						IProgressMonitor.UNKNOWN);
-
-				long startTime = System.currentTimeMillis();
-				while (currentIndex < listeners.length) {
-					ILabelProviderListener listener = listeners[currentIndex];
-					currentIndex++;
+			if (listeners.length == 0) {
+				resetState();
+				finishUpdate();
+				return;
+			}
 
-					// If it was removed in the meantime then skip it.
-					if (!removedListeners.contains(listener)) {
-						decoratorManager.fireListener(
-								labelProviderChangedEvent, listener);
-					}
+			long startTime = System.currentTimeMillis();
+			while (currentIndex < listeners.length) {
+				ILabelProviderListener listener = listeners[currentIndex];
+				currentIndex++;
 
-					// If it is taking long enough for the user to notice then
-					// cancel the
-					// updates.
-					if ((System.currentTimeMillis() - startTime) >= UPDATE_DELAY / 2) {
-						break;
-					}
+				// If it was removed in the meantime then skip it.
+				if (!removedListeners.contains(listener)) {
+					decoratorManager.fireListener(labelProviderChangedEvent,
+							listener);
 				}
 
-				monitor.done();
-
-				if (currentIndex >= listeners.length) {
-				    resetState();
-					if (!hasPendingUpdates()) {
-						decorated();
-					}
-					labelProviderChangedEvent = null;
-					listeners = EMPTY_LISTENER_LIST;
-				} else {
-				  // RAP [rh] fake service context
-				  RWT.getUISession( display ).exec( new Runnable() {
-                    public void run() {
-                      schedule(UPDATE_DELAY);// Reschedule if we are not done
-                    }
-                  } );
+				// If it is taking long enough for the user to notice then
+				// cancel the
+				// updates.
+				if ((System.currentTimeMillis() - startTime) >= UPDATE_DELAY / 2) {
+					break;
 				}
-				return Status.OK_STATUS;
 			}
 
-            /**
-             * Clear any cached information.
-             */
-            private void resetState() {
-                currentIndex = NEEDS_INIT;// Reset
-                removedListeners.clear();
-                // Other decoration requests may have occurred due to
-                // updates or we may have timed out updating listeners.
-                // Only clear the results if there are none pending.
-                if (awaitingDecoration.isEmpty()) {
-                    resultCache.clear();
-                }
-            }
-            
-			private void setUpUpdates() {
-				// Get the elements awaiting update and then
-				// clear the list
-				removedListeners.clear();
-				currentIndex = 0;
-				synchronized (pendingKey) {
-					Object[] elements = pendingUpdate
-							.toArray(new Object[pendingUpdate.size()]);
-					pendingUpdate.clear();
-					labelProviderChangedEvent = new LabelProviderChangedEvent(
-							decoratorManager, elements);
+			if (currentIndex >= listeners.length) {
+				resetState();
+				labelProviderChangedEvent = null;
+				listeners = EMPTY_LISTENER_LIST;
+				finishUpdate();
+				if (!hasPendingUpdates()) {
+					decorated();
 				}
-				listeners = decoratorManager.getListeners();
+			} else {
+				// Reschedule if we are not done
+				executor.deliver(display, this, UPDATE_DELAY);
 			}
+		}
 
-			/*
-			 * (non-Javadoc)
-			 * 
-			 * @see org.eclipse.core.runtime.jobs.Job#belongsTo(java.lang.Object)
-			 */
-			public boolean belongsTo(Object family) {
-				return DecoratorManager.FAMILY_DECORATE == family;
+		/**
+		 * Clear any cached information.
+		 */
+		private void resetState() {
+			currentIndex = NEEDS_INIT;// Reset
+			removedListeners.clear();
+			// Other decoration requests may have occurred due to
+			// updates or we may have timed out updating listeners.
+			// Only clear the results if there are none pending.
+			if (awaitingDecoration.isEmpty()) {
+				resultCache.clear();
 			}
+		}
 
-			/*
-			 * (non-Javadoc)
-			 * 
-			 * @see org.eclipse.core.runtime.jobs.Job#shouldRun()
-			 */
-			public boolean shouldRun() {
-        final boolean[] result = { false };
-        // RAP [rh] fake service context
-        RWT.getUISession( display ).exec( new Runnable() {
-          public void run() {
-            result[ 0 ] = PlatformUI.isWorkbenchRunning();
-          }
-        });
-        return result[ 0 ];
+		private void finishUpdate() {
+			synchronized (DecorationScheduler.this) {
+				updateScheduled = false;
 			}
-		};
+			ServerPushManager.getInstance().deactivateServerPushFor(this);
+		}
 
-		job.setSystem(true);
-		return job;
+		private void setUpUpdates() {
+			// Get the elements awaiting update and then
+			// clear the list
+			removedListeners.clear();
+			currentIndex = 0;
+			synchronized (pendingKey) {
+				Object[] elements = pendingUpdate
+						.toArray(new Object[pendingUpdate.size()]);
+				pendingUpdate.clear();
+				labelProviderChangedEvent = new LabelProviderChangedEvent(
+						decoratorManager, elements);
+			}
+			listeners = decoratorManager.getListeners();
+		}
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2003, 2012 IBM Corporation and others.
+ * Copyright (c) 2003, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -18,7 +18,9 @@ import java.util.Iterator;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobChangeAdapter;
 import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.SingletonUtil;
 import org.eclipse.rap.rwt.internal.lifecycle.LifeCycleUtil;
@@ -271,8 +273,8 @@ public class ProgressViewUpdater implements IJobProgressManagerListener {
 		}
     }
 
-    /** keep track of how often we schedule the job to avoid overloading the JobManager */
-    private long lastUpdateJobScheduleRequest = 0;
+    // RAP: updates are collected until the pending update job runs, guarded by updateLock
+    private boolean updateScheduled;
     
     /**
      * Schedule an update.
@@ -284,13 +286,18 @@ public class ProgressViewUpdater implements IJobProgressManagerListener {
 //            updateJob.schedule(100);
 //        }
         if (ProgressUtil.isWorkbenchRunning( display )) {
-          // make sure we don't schedule too often
-          final long now = System.currentTimeMillis();
+          // make sure we don't schedule too often, all updates of the session that arrive until
+          // the job runs are processed in one batch
+          synchronized (updateLock) {
+            if (updateScheduled) {
+              return;
+            }
+            updateScheduled = true;
+          }
           RWT.getUISession( display ).exec( new Runnable() {
             public void run() {
 	          //Add in a 100ms delay so as to keep priority low
               updateJob.schedule(100);
-        	  lastUpdateJobScheduleRequest = now;
             }
           } );
         }
@@ -308,6 +315,11 @@ public class ProgressViewUpdater implements IJobProgressManagerListener {
              */
             public IStatus runInUIThread(IProgressMonitor monitor) {
 
+                // RAP: updates that arrive from now on need another run
+                synchronized (updateLock) {
+                    updateScheduled = false;
+                }
+
                 //Abort the job if there isn't anything
                 if (collectors.length == 0) {
 					return Status.CANCEL_STATUS;
@@ -354,6 +366,17 @@ public class ProgressViewUpdater implements IJobProgressManagerListener {
                 return Status.OK_STATUS;
             }
         };
+        // RAP: a canceled job has not processed the pending updates, allow to schedule again
+        updateJob.addJobChangeListener(new JobChangeAdapter() {
+            public void done(IJobChangeEvent event) {
+                if (event.getResult() != null
+                        && event.getResult().getSeverity() == IStatus.CANCEL) {
+                    synchronized (updateLock) {
+                        updateScheduled = false;
+                    }
+                }
+            }
+        });
         updateJob.setSystem(true);
         updateJob.setPriority(Job.DECORATE);
         updateJob.setProperty(ProgressManagerUtil.INFRASTRUCTURE_PROPERTY, new Object());
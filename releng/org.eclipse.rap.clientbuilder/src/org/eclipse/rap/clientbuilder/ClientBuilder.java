@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2015 EclipseSource and others.
+ * Copyright (c) 2010, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,11 +11,16 @@
 package org.eclipse.rap.clientbuilder;
 
 import static org.eclipse.rap.clientbuilder.InputListReader.getInputFiles;
+import static org.eclipse.rap.clientbuilder.ModuleListReader.getModules;
 
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
 
 
 /**
@@ -30,6 +35,11 @@ import java.util.List;
  *   --output-file <file>
  *       compressed javascript file
  *
+ *   --module-list <file>
+ *       file that defines modules, see ModuleListReader. The files of all modules are excluded
+ *       from the output file, every module is written to a separate file client-<name>.js next
+ *       to the output file
+ *
  *   --no-compress
  *       concatenate only, do not compress
  */
@@ -39,6 +49,7 @@ public class ClientBuilder {
   private static final String OPT_INPUT_LIST = "--input-list";
   private static final String OPT_OUTPUT_FILE = "--output-file";
   private static final String OPT_NO_COMPRESS = "--no-compress";
+  private static final String OPT_MODULE_LIST = "--module-list";
 
   private static final boolean CREATE_DEBUG_FILES
     = "true".equals( System.getProperty( "jscompressor.debug" ) );
@@ -48,6 +59,7 @@ public class ClientBuilder {
     List<File> inputPaths = new ArrayList<>();
     File inputListFile = null;
     File outputFile = null;
+    File moduleListFile = null;
     boolean compress = true;
     String last = null;
     for( int i = 0; i < args.length; i++ ) {
@@ -60,6 +72,8 @@ public class ClientBuilder {
         inputListFile = new File( arg );
       } else if( OPT_OUTPUT_FILE.equals( last ) ) {
         outputFile = new File( arg );
+      } else if( OPT_MODULE_LIST.equals( last ) ) {
+        moduleListFile = new File( arg );
       } else if( !isValidOption( arg ) ) {
         System.err.println( "Illegal parameter: " + arg );
       }
@@ -71,10 +85,17 @@ public class ClientBuilder {
       System.err.println( "Output file missing, use parameter " + OPT_OUTPUT_FILE );
     } else if( !inputListFile.exists() ) {
       System.err.println( "Input list file not found: " + inputListFile.getAbsolutePath() );
+    } else if( moduleListFile != null && !moduleListFile.exists() ) {
+      System.err.println( "Module list file not found: " + moduleListFile.getAbsolutePath() );
     } else {
       List<JSFile> inputFiles = getInputFiles( inputListFile, inputPaths );
       ClientBuilder builder = new ClientBuilder();
-      builder.build( inputFiles, outputFile, compress );
+      if( moduleListFile == null ) {
+        builder.build( inputFiles, outputFile, compress );
+      } else {
+        Map<String, List<JSFile>> modules = getModules( moduleListFile, inputPaths );
+        builder.buildModules( inputFiles, modules, outputFile, compress );
+      }
     }
   }
 
@@ -96,6 +117,30 @@ public class ClientBuilder {
     }
   }
 
+  public void buildModules( List<JSFile> inputFiles,
+                            Map<String, List<JSFile>> modules,
+                            File outputFile,
+                            boolean compress )
+  {
+    Set<File> moduleFiles = new HashSet<>();
+    for( List<JSFile> files : modules.values() ) {
+      for( JSFile file : files ) {
+        moduleFiles.add( file.getFile().getAbsoluteFile() );
+      }
+    }
+    List<JSFile> coreFiles = new ArrayList<>();
+    for( JSFile inputFile : inputFiles ) {
+      if( !moduleFiles.contains( inputFile.getFile().getAbsoluteFile() ) ) {
+        coreFiles.add( inputFile );
+      }
+    }
+    build( coreFiles, outputFile, compress );
+    for( Entry<String, List<JSFile>> entry : modules.entrySet() ) {
+      File moduleFile = new File( outputFile.getParentFile(), "client-" + entry.getKey() + ".js" );
+      build( entry.getValue(), moduleFile, compress );
+    }
+  }
+
   private String build( List<JSFile> inputFiles, boolean compress  ) throws IOException {
     StringReplacer stringReplacer = new StringReplacer();
     for( JSFile inputFile : inputFiles ) {
@@ -128,7 +173,8 @@ public class ClientBuilder {
     return    OPT_INPUT_PATH.equals( arg )
            || OPT_INPUT_LIST.equals( arg )
            || OPT_OUTPUT_FILE.equals( arg )
-           || OPT_NO_COMPRESS.equals( arg );
+           || OPT_NO_COMPRESS.equals( arg )
+           || OPT_MODULE_LIST.equals( arg );
   }
 
   private static DebugFileWriter createDebugFileWriter() {
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.clientbuilder;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Reads a module list file. A line <code>module &lt;name&gt; &lt;type&gt;...</code> starts a
+ * module, the following lines name the files that belong to this module.
+ */
+public class ModuleListReader {
+
+  private static final String CHARSET = "UTF-8";
+  private static final String MODULE_KEYWORD = "module";
+
+  private final File inputFile;
+  private final List<File> basePaths;
+  private final Map<String, List<JSFile>> modules;
+  private List<JSFile> currentModule;
+
+  public static final Map<String, List<JSFile>> getModules( File inputFile, List<File> basePaths ) {
+    ModuleListReader reader = new ModuleListReader( inputFile, basePaths );
+    try {
+      reader.read();
+    } catch( IOException exception ) {
+      String message = "Failed to read module list file " + inputFile.getAbsolutePath();
+      throw new RuntimeException( message, exception );
+    }
+    return reader.getModules();
+  }
+
+  ModuleListReader( File inputFile, List<File> basePaths ) {
+    this.inputFile = inputFile;
+    this.basePaths = basePaths;
+    modules = new LinkedHashMap<>();
+  }
+
+  void read() throws IOException {
+    modules.clear();
+    currentModule = null;
+    InputStream inputStream = new FileInputStream( inputFile );
+    try {
+      readLines( inputStream );
+    } finally {
+      inputStream.close();
+    }
+  }
+
+  Map<String, List<JSFile>> getModules() {
+    return modules;
+  }
+
+  private void readLines( InputStream inputStream ) throws IOException {
+    BufferedReader reader = new BufferedReader( new InputStreamReader( inputStream, CHARSET ) );
+    String line = reader.readLine();
+    while( line != null ) {
+      readLine( line );
+      line = reader.readLine();
+    }
+  }
+
+  private void readLine( String line ) throws IOException {
+    String text = line.trim();
+    if( text.length() > 0 && !text.startsWith( "#" ) ) {
+      String[] parts = text.split( "\\s+" );
+      if( MODULE_KEYWORD.equals( parts[ 0 ] ) ) {
+        if( parts.length < 3 ) {
+          throw new IOException( "Invalid module definition: " + text );
+        }
+        currentModule = new ArrayList<>();
+        modules.put( parts[ 1 ], currentModule );
+      } else if( currentModule == null ) {
+        throw new IOException( "File does not belong to a module: " + text );
+      } else {
+        addFile( text );
+      }
+    }
+  }
+
+  private void addFile( String filename ) throws IOException {
+    for( File path : basePaths ) {
+      File file = new File( path, filename );
+      if( file.exists() ) {
+        currentModule.add( new JSFile( file ) );
+        break;
+      }
+    }
+  }
+
+}
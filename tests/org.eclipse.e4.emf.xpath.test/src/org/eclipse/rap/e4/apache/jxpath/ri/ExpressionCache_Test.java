@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.e4.apache.jxpath.ri;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+import org.eclipse.rap.e4.apache.jxpath.ri.compiler.Expression;
+import org.junit.Test;
+
+public class ExpressionCache_Test {
+
+    private final Expression expression1 = mock(Expression.class);
+    private final Expression expression2 = mock(Expression.class);
+    private final Expression expression3 = mock(Expression.class);
+
+    @Test
+    public void testGet() {
+        ExpressionCache cache = new ExpressionCache(2);
+
+        cache.put("a", expression1);
+
+        assertSame(expression1, cache.get("a"));
+        assertNull(cache.get("b"));
+    }
+
+    @Test
+    public void testEvictsEldestExpression() {
+        ExpressionCache cache = new ExpressionCache(2);
+
+        cache.put("a", expression1);
+        cache.put("b", expression2);
+        cache.put("c", expression3);
+
+        assertEquals(2, cache.size());
+        assertNull(cache.get("a"));
+        assertSame(expression2, cache.get("b"));
+        assertSame(expression3, cache.get("c"));
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsedExpression() {
+        ExpressionCache cache = new ExpressionCache(2);
+        cache.put("a", expression1);
+        cache.put("b", expression2);
+
+        cache.get("a");
+        cache.put("c", expression3);
+
+        assertEquals(2, cache.size());
+        assertSame(expression1, cache.get("a"));
+        assertNull(cache.get("b"));
+        assertSame(expression3, cache.get("c"));
+    }
+
+    @Test
+    public void testPutReplacesExpression() {
+        ExpressionCache cache = new ExpressionCache(2);
+        cache.put("a", expression1);
+
+        cache.put("a", expression2);
+
+        assertEquals(1, cache.size());
+        assertSame(expression2, cache.get("a"));
+    }
+
+    @Test
+    public void testClear() {
+        ExpressionCache cache = new ExpressionCache(2);
+        cache.put("a", expression1);
+
+        cache.clear();
+
+        assertEquals(0, cache.size());
+        assertNull(cache.get("a"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsZeroSize() {
+        new ExpressionCache(0);
+    }
+
+    @Test
+    public void testParseMaxSize() {
+        assertEquals(42, ExpressionCache.parseMaxSize("42"));
+        assertEquals(42, ExpressionCache.parseMaxSize(" 42 "));
+    }
+
+    @Test
+    public void testParseMaxSizeWithoutValue() {
+        assertEquals(ExpressionCache.FALLBACK_MAX_SIZE,
+            ExpressionCache.parseMaxSize(null));
+    }
+
+    @Test
+    public void testParseMaxSizeWithInvalidValues() {
+        assertEquals(ExpressionCache.FALLBACK_MAX_SIZE,
+            ExpressionCache.parseMaxSize("0"));
+        assertEquals(ExpressionCache.FALLBACK_MAX_SIZE,
+            ExpressionCache.parseMaxSize("-1"));
+        assertEquals(ExpressionCache.FALLBACK_MAX_SIZE,
+            ExpressionCache.parseMaxSize("many"));
+    }
+
+    @Test
+    public void testDefaultMaxSizeIsReadFromProperty() {
+        assertEquals(ExpressionCache.parseMaxSize(
+            System.getProperty(ExpressionCache.SIZE_PROPERTY)),
+            ExpressionCache.DEFAULT_MAX_SIZE);
+    }
+}
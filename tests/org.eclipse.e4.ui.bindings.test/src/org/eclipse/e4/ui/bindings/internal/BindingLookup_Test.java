@@ -0,0 +1,405 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.e4.ui.bindings.internal;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import org.eclipse.core.commands.CommandManager;
+import org.eclipse.core.commands.ParameterizedCommand;
+import org.eclipse.core.commands.contexts.Context;
+import org.eclipse.core.commands.contexts.ContextManager;
+import org.eclipse.e4.core.contexts.ContextInjectionFactory;
+import org.eclipse.e4.core.contexts.EclipseContextFactory;
+import org.eclipse.jface.bindings.Binding;
+import org.eclipse.jface.bindings.TriggerSequence;
+import org.eclipse.jface.bindings.keys.KeyBinding;
+import org.eclipse.jface.bindings.keys.KeySequence;
+import org.eclipse.jface.bindings.keys.KeyStroke;
+import org.eclipse.jface.bindings.keys.ParseException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BindingLookup_Test {
+
+	private static final String DEFAULT_SCHEME = "org.eclipse.ui.defaultAcceleratorConfiguration"; //$NON-NLS-1$
+	private static final String EMACS_SCHEME = "org.eclipse.ui.emacsAcceleratorConfiguration"; //$NON-NLS-1$
+	private static final String CUSTOM_SCHEME = "custom"; //$NON-NLS-1$
+
+	private Comparator<Context> oldComparator;
+	private CommandManager commandManager;
+	private ContextManager contextManager;
+	private BindingTableManager manager;
+	private Context dialogAndWindow;
+	private Context window;
+	private Context editor;
+
+	@Before
+	public void setUp() {
+		commandManager = new CommandManager();
+		contextManager = new ContextManager();
+		oldComparator = ContextSet.getComparator();
+		ContextSet.setComparator(new ContextSet.CComp(contextManager));
+		dialogAndWindow = defineContext("org.eclipse.ui.contexts.dialogAndWindow", null); //$NON-NLS-1$
+		window = defineContext("org.eclipse.ui.contexts.window", dialogAndWindow); //$NON-NLS-1$
+		editor = defineContext("org.eclipse.ui.textEditorScope", window); //$NON-NLS-1$
+		manager = ContextInjectionFactory.make(BindingTableManager.class, EclipseContextFactory.create());
+		manager.addTable(new BindingTable(dialogAndWindow));
+		manager.addTable(new BindingTable(window));
+		manager.addTable(new BindingTable(editor));
+	}
+
+	@After
+	public void tearDown() {
+		ContextSet.setComparator(oldComparator);
+	}
+
+	@Test
+	public void testPerfectMatch_mostSpecificContextWins() throws ParseException {
+		addBinding("CTRL+A", "window.command", DEFAULT_SCHEME, window); //$NON-NLS-1$ //$NON-NLS-2$
+		Binding expected = addBinding("CTRL+A", "editor.command", DEFAULT_SCHEME, editor); //$NON-NLS-1$ //$NON-NLS-2$
+
+		ContextSet contextSet = createContextSet(editor, window, dialogAndWindow);
+
+		assertSame(expected, manager.getPerfectMatch(contextSet, sequence("CTRL+A"))); //$NON-NLS-1$
+		assertMatchesPerTableLookup(contextSet, sequence("CTRL+A")); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testPerfectMatch_onlyContextsOfSet() throws ParseException {
+		Binding expected = addBinding("CTRL+A", "window.command", DEFAULT_SCHEME, window); //$NON-NLS-1$ //$NON-NLS-2$
+		addBinding("CTRL+A", "editor.command", DEFAULT_SCHEME, editor); //$NON-NLS-1$ //$NON-NLS-2$
+
+		ContextSet contextSet = createContextSet(window, dialogAndWindow);
+
+		assertSame(expected, manager.getPerfectMatch(contextSet, sequence("CTRL+A"))); //$NON-NLS-1$
+		assertNull(manager.getPerfectMatch(createContextSet(dialogAndWindow), sequence("CTRL+A"))); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testPerfectMatch_mostActiveSchemeWins() throws ParseException {
+		manager.setActiveSchemes(new String[] { EMACS_SCHEME, DEFAULT_SCHEME });
+		Binding expected = addBinding("CTRL+A", "window.command", EMACS_SCHEME, window); //$NON-NLS-1$ //$NON-NLS-2$
+		addBinding("CTRL+A", "editor.command", DEFAULT_SCHEME, editor); //$NON-NLS-1$ //$NON-NLS-2$
+
+		ContextSet contextSet = createContextSet(editor, window, dialogAndWindow);
+
+		// a binding of the most active scheme beats a more specific context
+		assertSame(expected, manager.getPerfectMatch(contextSet, sequence("CTRL+A"))); //$NON-NLS-1$
+		assertMatchesPerTableLookup(contextSet, sequence("CTRL+A")); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testPerfectMatch_schemePreferenceWithoutMostActiveScheme() throws ParseException {
+		manager.setActiveSchemes(new String[] { CUSTOM_SCHEME, EMACS_SCHEME, DEFAULT_SCHEME });
+		addBinding("CTRL+A", "dialog.command", EMACS_SCHEME, dialogAndWindow); //$NON-NLS-1$ //$NON-NLS-2$
+		addBinding("CTRL+A", "window.command", DEFAULT_SCHEME, window); //$NON-NLS-1$ //$NON-NLS-2$
+		addBinding("CTRL+A", "editor.command", EMACS_SCHEME, editor); //$NON-NLS-1$ //$NON-NLS-2$
+		addBinding("CTRL+B", "dialog.command", DEFAULT_SCHEME, dialogAndWindow); //$NON-NLS-1$ //$NON-NLS-2$
+		addBinding("CTRL+B", "editor.command", EMACS_SCHEME, editor); //$NON-NLS-1$ //$NON-NLS-2$
+
+		ContextSet contextSet = createContextSet(editor, window, dialogAndWindow);
+
+		assertMatchesPerTableLookup(contextSet, sequence("CTRL+A")); //$NON-NLS-1$
+		assertMatchesPerTableLookup(contextSet, sequence("CTRL+B")); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testPerfectMatch_schemeChange() throws ParseException {
+		Binding emacs = addBinding("CTRL+A", "window.command", EMACS_SCHEME, window); //$NON-NLS-1$ //$NON-NLS-2$
+		Binding defaults = addBinding("CTRL+A", "editor.command", DEFAULT_SCHEME, editor); //$NON-NLS-1$ //$NON-NLS-2$
+		ContextSet contextSet = createContextSet(editor, window, dialogAndWindow);
+		manager.setActiveSchemes(new String[] { EMACS_SCHEME, DEFAULT_SCHEME });
+		assertSame(emacs, manager.getPerfectMatch(contextSet, sequence("CTRL+A"))); //$NON-NLS-1$
+
+		manager.setActiveSchemes(new String[] { DEFAULT_SCHEME, EMACS_SCHEME });
+
+		assertSame(defaults, manager.getPerfectMatch(contextSet, sequence("CTRL+A"))); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testPartialMatches_multiStroke() throws ParseException {
+		Binding save = addBinding("CTRL+X CTRL+S", "save", DEFAULT_SCHEME, window); //$NON-NLS-1$ //$NON-NLS-2$
+		Binding find = addBinding("CTRL+X F", "find", DEFAULT_SCHEME, editor); //$NON-NLS-1$ //$NON-NLS-2$
+		Binding findNext = addBinding("CTRL+X F N", "findNext", DEFAULT_SCHEME, editor); //$NON-NLS-1$ //$NON-NLS-2$
+
+		ContextSet contextSet = createContextSet(editor, window, dialogAndWindow);
+
+		assertTrue(manager.isPartialMatch(contextSet, sequence("CTRL+X"))); //$NON-NLS-1$
+		assertNull(manager.getPerfectMatch(contextSet, sequence("CTRL+X"))); //$NON-NLS-1$
+		assertEquals(Arrays.asList(find, findNext, save),
+				manager.getPartialMatches(contextSet, sequence("CTRL+X"))); //$NON-NLS-1$
+		// a sequence can be a perfect and a partial match at the same time
+		assertSame(find, manager.getPerfectMatch(contextSet, sequence("CTRL+X F"))); //$NON-NLS-1$
+		assertEquals(Arrays.asList(findNext),
+				manager.getPartialMatches(contextSet, sequence("CTRL+X F"))); //$NON-NLS-1$
+		assertFalse(manager.isPartialMatch(contextSet, sequence("CTRL+X CTRL+S"))); //$NON-NLS-1$
+		assertFalse(manager.isPartialMatch(contextSet, sequence("CTRL+S"))); //$NON-NLS-1$
+		assertTrue(manager.getPartialMatches(contextSet, sequence("CTRL+S")).isEmpty()); //$NON-NLS-1$
+		for (String keys : new String[] { "CTRL+X", "CTRL+X F", "CTRL+X F N", "CTRL+X CTRL+S", "CTRL+S" }) { //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+			assertMatchesPerTableLookup(contextSet, sequence(keys));
+			assertMatchesPerTableLookup(createContextSet(window), sequence(keys));
+		}
+	}
+
+	@Test
+	public void testLookup_afterBindingChange() throws ParseException {
+		Binding window1 = addBinding("CTRL+A", "window.command", DEFAULT_SCHEME, window); //$NON-NLS-1$ //$NON-NLS-2$
+		Binding editor1 = addBinding("CTRL+A", "editor.command", DEFAULT_SCHEME, editor); //$NON-NLS-1$ //$NON-NLS-2$
+		ContextSet contextSet = createContextSet(editor, window, dialogAndWindow);
+		assertSame(editor1, manager.getPerfectMatch(contextSet, sequence("CTRL+A"))); //$NON-NLS-1$
+
+		manager.getTable(editor.getId()).removeBinding(editor1);
+
+		assertSame(window1, manager.getPerfectMatch(contextSet, sequence("CTRL+A"))); //$NON-NLS-1$
+		assertMatchesPerTableLookup(contextSet, sequence("CTRL+A")); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testLookup_matchesPerTableLookup() throws ParseException {
+		manager.setActiveSchemes(new String[] { CUSTOM_SCHEME, EMACS_SCHEME, DEFAULT_SCHEME });
+		Context[] contexts = { dialogAndWindow, window, editor };
+		String[] schemes = { DEFAULT_SCHEME, EMACS_SCHEME, CUSTOM_SCHEME };
+		String[] keys = { "CTRL+A", "CTRL+X A", "CTRL+X B", "CTRL+X A B", "ALT+F4", "ESC" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+		for (int i = 0; i < 3 * keys.length; i++) {
+			Context context = contexts[i % contexts.length];
+			String scheme = schemes[(i / contexts.length) % schemes.length];
+			addBinding(keys[i % keys.length], "command" + i, scheme, context); //$NON-NLS-1$
+		}
+
+		List<ContextSet> contextSets = Arrays.asList(createContextSet(dialogAndWindow),
+				createContextSet(window, dialogAndWindow), createContextSet(editor, window, dialogAndWindow),
+				createContextSet(editor, dialogAndWindow));
+		String[] lookups = { "CTRL+A", "CTRL+X", "CTRL+X A", "CTRL+X B", "CTRL+X A B", "ALT+F4", "ESC", "CTRL+B" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$
+		for (ContextSet contextSet : contextSets) {
+			for (String lookup : lookups) {
+				assertMatchesPerTableLookup(contextSet, sequence(lookup));
+			}
+		}
+	}
+
+	@Test
+	public void testGetActiveKeys() throws ParseException {
+		addBinding("CTRL+X F", "find", DEFAULT_SCHEME, editor); //$NON-NLS-1$ //$NON-NLS-2$
+		addBinding("CTRL+X CTRL+S", "save", DEFAULT_SCHEME, window); //$NON-NLS-1$ //$NON-NLS-2$
+		addBinding("ALT+F4", "close", DEFAULT_SCHEME, dialogAndWindow); //$NON-NLS-1$ //$NON-NLS-2$
+		addBinding("CTRL+A", "selectAll", EMACS_SCHEME, window); //$NON-NLS-1$ //$NON-NLS-2$
+
+		String[] expected = { format("ALT+F4"), format("CTRL+A"), format("CTRL+X") }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		Arrays.sort(expected);
+
+		// only the first strokes of all defined tables, without duplicates
+		assertArrayEquals(expected, manager.getActiveKeys());
+	}
+
+	@Test
+	public void testGetActiveKeys_withoutBindings() {
+		assertEquals(0, manager.getActiveKeys().length);
+	}
+
+	@Test
+	public void testGetActiveKeys_sameArrayWhileUnchanged() throws ParseException {
+		addBinding("CTRL+A", "selectAll", DEFAULT_SCHEME, window); //$NON-NLS-1$ //$NON-NLS-2$
+		String[] activeKeys = manager.getActiveKeys();
+
+		manager.getPerfectMatch(createContextSet(window), sequence("CTRL+A")); //$NON-NLS-1$
+
+		assertSame(activeKeys, manager.getActiveKeys());
+	}
+
+	@Test
+	public void testGetActiveKeys_afterBindingChange() throws ParseException {
+		Binding binding = addBinding("CTRL+A", "selectAll", DEFAULT_SCHEME, window); //$NON-NLS-1$ //$NON-NLS-2$
+		addBinding("CTRL+B", "bold", DEFAULT_SCHEME, editor); //$NON-NLS-1$ //$NON-NLS-2$
+		String[] activeKeys = manager.getActiveKeys();
+
+		manager.getTable(window.getId()).removeBinding(binding);
+
+		assertNotSame(activeKeys, manager.getActiveKeys());
+		assertArrayEquals(new String[] { format("CTRL+B") }, manager.getActiveKeys()); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testGetActiveKeys_equalAfterSchemeChange() throws ParseException {
+		addBinding("CTRL+A", "selectAll", DEFAULT_SCHEME, window); //$NON-NLS-1$ //$NON-NLS-2$
+		String[] activeKeys = manager.getActiveKeys();
+
+		manager.setActiveSchemes(new String[] { EMACS_SCHEME, DEFAULT_SCHEME });
+
+		// a new array with the same keys, which does not need to be rendered again
+		assertArrayEquals(activeKeys, manager.getActiveKeys());
+	}
+
+	@Test
+	public void testChangeListener() throws ParseException {
+		CountingListener listener = new CountingListener();
+		manager.addChangeListener(listener);
+
+		Binding binding = addBinding("CTRL+A", "selectAll", DEFAULT_SCHEME, window); //$NON-NLS-1$ //$NON-NLS-2$
+		manager.getTable(window.getId()).removeBinding(binding);
+		manager.setActiveSchemes(new String[] { DEFAULT_SCHEME });
+
+		assertEquals(3, listener.count);
+	}
+
+	@Test
+	public void testRemoveChangeListener() throws ParseException {
+		CountingListener listener = new CountingListener();
+		manager.addChangeListener(listener);
+
+		manager.removeChangeListener(listener);
+		addBinding("CTRL+A", "selectAll", DEFAULT_SCHEME, window); //$NON-NLS-1$ //$NON-NLS-2$
+
+		assertEquals(0, listener.count);
+	}
+
+	@Test
+	public void testChangeListener_canRemoveItselfWhileNotified() throws ParseException {
+		final CountingListener other = new CountingListener();
+		Runnable listener = new Runnable() {
+			@Override
+			public void run() {
+				manager.removeChangeListener(this);
+			}
+		};
+		manager.addChangeListener(listener);
+		manager.addChangeListener(other);
+
+		addBinding("CTRL+A", "selectAll", DEFAULT_SCHEME, window); //$NON-NLS-1$ //$NON-NLS-2$
+		addBinding("CTRL+B", "bold", DEFAULT_SCHEME, window); //$NON-NLS-1$ //$NON-NLS-2$
+
+		assertEquals(2, other.count);
+	}
+
+	private void assertMatchesPerTableLookup(ContextSet contextSet, TriggerSequence sequence) {
+		String message = contextSet.getContexts() + " " + sequence; //$NON-NLS-1$
+		assertSame(message, getPerfectMatchPerTable(contextSet, sequence),
+				manager.getPerfectMatch(contextSet, sequence));
+		assertEquals(message, isPartialMatchPerTable(contextSet, sequence),
+				manager.isPartialMatch(contextSet, sequence));
+		assertEquals(message, getPartialMatchesPerTable(contextSet, sequence),
+				manager.getPartialMatches(contextSet, sequence));
+	}
+
+	/*
+	 * The lookups BindingTableManager used before the bindings of a context
+	 * set were merged into a BindingLookup.
+	 */
+	private Binding getPerfectMatchPerTable(ContextSet contextSet, TriggerSequence triggerSequence) {
+		Binding result = null;
+		Binding currentResult = null;
+		List<Context> contexts = contextSet.getContexts();
+		ListIterator<Context> it = contexts.listIterator(contexts.size());
+		while (it.hasPrevious()) {
+			Context c = it.previous();
+			BindingTable table = manager.getTable(c.getId());
+			if (table != null) {
+				currentResult = table.getPerfectMatch(triggerSequence);
+			}
+			if (currentResult != null) {
+				if (manager.isMostActiveScheme(currentResult)) {
+					return currentResult;
+				}
+				if (result == null) {
+					result = currentResult;
+				} else {
+					int rc = manager.compareSchemes(result.getSchemeId(), currentResult.getSchemeId());
+					if (rc < 0) {
+						result = currentResult;
+					}
+				}
+			}
+		}
+		return result;
+	}
+
+	private boolean isPartialMatchPerTable(ContextSet contextSet, TriggerSequence sequence) {
+		List<Context> contexts = contextSet.getContexts();
+		ListIterator<Context> it = contexts.listIterator(contexts.size());
+		while (it.hasPrevious()) {
+			Context c = it.previous();
+			BindingTable table = manager.getTable(c.getId());
+			if (table != null) {
+				if (table.isPartialMatch(sequence)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private Collection<Binding> getPartialMatchesPerTable(ContextSet contextSet, TriggerSequence sequence) {
+		ArrayList<Binding> bindings = new ArrayList<Binding>();
+		List<Context> contexts = contextSet.getContexts();
+		ListIterator<Context> it = contexts.listIterator(contexts.size());
+		while (it.hasPrevious()) {
+			Context c = it.previous();
+			BindingTable table = manager.getTable(c.getId());
+			if (table != null) {
+				Collection<Binding> partialMatches = table.getPartialMatches(sequence);
+				if (partialMatches != null) {
+					bindings.addAll(partialMatches);
+				}
+			}
+		}
+		return bindings;
+	}
+
+	private Context defineContext(String id, Context parent) {
+		Context context = contextManager.getContext(id);
+		context.define(id, null, parent == null ? null : parent.getId());
+		return context;
+	}
+
+	private ContextSet createContextSet(Context... contexts) {
+		return manager.createContextSet(Arrays.asList(contexts));
+	}
+
+	private Binding addBinding(String keys, String commandId, String schemeId, Context context)
+			throws ParseException {
+		ParameterizedCommand command = new ParameterizedCommand(commandManager.getCommand(commandId), null);
+		Binding binding = new KeyBinding(sequence(keys), command, schemeId, context.getId(), null, null, null,
+				Binding.SYSTEM);
+		manager.getTable(context.getId()).addBinding(binding);
+		return binding;
+	}
+
+	private static KeySequence sequence(String keys) throws ParseException {
+		return KeySequence.getInstance(keys);
+	}
+
+	private static String format(String keyStroke) throws ParseException {
+		return KeyStroke.getInstance(keyStroke).toString();
+	}
+
+	private static class CountingListener implements Runnable {
+
+		int count;
+
+		@Override
+		public void run() {
+			count++;
+		}
+	}
+}
@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.e4.ui.workbench.addons.minmax;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.eclipse.e4.ui.model.application.ui.basic.MPart;
+import org.eclipse.e4.ui.model.application.ui.basic.MPartStack;
+import org.eclipse.e4.ui.model.application.ui.basic.impl.BasicFactoryImpl;
+import org.eclipse.e4.ui.workbench.UIEvents;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.rap.rwt.testfixture.TestContext;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.custom.CTabFolder;
+import org.eclipse.swt.custom.CTabItem;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Tests the selection handling of a minimized stack that is shown as an overlay.
+ */
+public class TrimStack_Test {
+
+	@Rule
+	public TestContext context = new TestContext();
+
+	private Shell shell;
+	private CTabFolder ctf;
+	private MPartStack stack;
+	private MPart part;
+	private List<Object> selections;
+
+	@Before
+	public void setUp() {
+		shell = new Shell(new Display());
+		ctf = new CTabFolder(shell, SWT.NONE);
+		stack = BasicFactoryImpl.eINSTANCE.createPartStack();
+		part = BasicFactoryImpl.eINSTANCE.createPart();
+		stack.getChildren().add(part);
+		stack.getChildren().add(BasicFactoryImpl.eINSTANCE.createPart());
+		stack.setSelectedElement(part);
+		selections = new ArrayList<Object>();
+		((EObject) stack).eAdapters().add(new AdapterImpl() {
+			@Override
+			public void notifyChanged(Notification msg) {
+				EStructuralFeature feature = (EStructuralFeature) msg.getFeature();
+				if (UIEvents.ElementContainer.SELECTEDELEMENT.equals(feature.getName())) {
+					selections.add(msg.getNewValue());
+				}
+			}
+		});
+	}
+
+	@Test
+	public void testReselectLazyElement_selectionChangedWhileMinimized() {
+		selectTab();
+
+		TrimStack.reselectLazyElement(stack, ctf);
+
+		assertEquals(Arrays.asList(null, part), selections);
+		assertSame(part, stack.getSelectedElement());
+	}
+
+	@Test
+	public void testReselectLazyElement_withoutTabSelection() {
+		part.setWidget(new Composite(ctf, SWT.NONE));
+
+		TrimStack.reselectLazyElement(stack, ctf);
+
+		assertEquals(Arrays.asList(null, part), selections);
+		assertSame(part, stack.getSelectedElement());
+	}
+
+	@Test
+	public void testReselectLazyElement_renderedSelection() {
+		part.setWidget(new Composite(ctf, SWT.NONE));
+		selectTab();
+
+		TrimStack.reselectLazyElement(stack, ctf);
+
+		assertTrue(selections.isEmpty());
+		assertSame(part, stack.getSelectedElement());
+	}
+
+	@Test
+	public void testReselectLazyElement_withoutSelectedElement() {
+		stack.setSelectedElement(null);
+		selections.clear();
+		selectTab();
+
+		TrimStack.reselectLazyElement(stack, ctf);
+
+		assertTrue(selections.isEmpty());
+	}
+
+	private void selectTab() {
+		ctf.setSelection(new CTabItem(ctf, SWT.NONE));
+	}
+}
@@ -0,0 +1,283 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.e4.ui.workbench.renderers.swt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.e4.core.services.events.IEventBroker;
+import org.eclipse.e4.ui.model.application.ui.MUIElement;
+import org.eclipse.e4.ui.model.application.ui.advanced.MPerspective;
+import org.eclipse.e4.ui.model.application.ui.advanced.MPerspectiveStack;
+import org.eclipse.e4.ui.model.application.ui.advanced.impl.AdvancedFactoryImpl;
+import org.eclipse.e4.ui.model.application.ui.basic.MPart;
+import org.eclipse.e4.ui.model.application.ui.basic.MPartStack;
+import org.eclipse.e4.ui.model.application.ui.basic.MTrimmedWindow;
+import org.eclipse.e4.ui.model.application.ui.basic.impl.BasicFactoryImpl;
+import org.eclipse.e4.ui.workbench.IPresentationEngine;
+import org.eclipse.e4.ui.workbench.UIEvents;
+import org.eclipse.rap.rwt.testfixture.TestContext;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.custom.CTabFolder;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventHandler;
+
+/**
+ * Tests that the selected element of a part stack that is not shown is rendered
+ * once the stack is shown again.
+ */
+public class LazyStackRenderer_Test {
+
+	@Rule
+	public TestContext context = new TestContext();
+
+	private Shell shell;
+	private Shell limbo;
+	private MTrimmedWindow window;
+	private RecordingStackRenderer renderer;
+	private EventHandler selectionHandler;
+	private EventHandler visibilityHandler;
+
+	@Before
+	public void setUp() {
+		Display display = new Display();
+		shell = new Shell(display);
+		limbo = new Shell(display);
+		window = BasicFactoryImpl.eINSTANCE.createTrimmedWindow();
+		window.setWidget(shell);
+		renderer = new RecordingStackRenderer();
+		IEventBroker eventBroker = mock(IEventBroker.class);
+		renderer.init(eventBroker);
+		selectionHandler = getHandler(eventBroker, UIEvents.ElementContainer.TOPIC_SELECTEDELEMENT);
+		visibilityHandler = getHandler(eventBroker, UIEvents.UIElement.TOPIC_VISIBLE);
+	}
+
+	@Test
+	public void testSelectionChange_shownStack() {
+		MPartStack stack = createStack(window, shell);
+		MPart oldSelection = select(stack, 0);
+		MPart part = select(stack, 1);
+
+		selectionHandler.handleEvent(createSelectionEvent(stack, oldSelection));
+
+		assertEquals(Collections.singletonList(part), renderer.shownTabs);
+	}
+
+	@Test
+	public void testSelectionChange_minimizedStack() {
+		MPartStack stack = createMinimizedStack();
+		MPart oldSelection = select(stack, 0);
+		select(stack, 1);
+
+		selectionHandler.handleEvent(createSelectionEvent(stack, oldSelection));
+
+		assertTrue(renderer.shownTabs.isEmpty());
+	}
+
+	@Test
+	public void testRestore_showsPendingSelection() {
+		MPartStack stack = createMinimizedStack();
+		MPart oldSelection = select(stack, 0);
+		MPart part = select(stack, 1);
+		selectionHandler.handleEvent(createSelectionEvent(stack, oldSelection));
+
+		restore(stack);
+		visibilityHandler.handleEvent(createVisibilityEvent(stack));
+
+		assertEquals(Collections.singletonList(part), renderer.shownTabs);
+	}
+
+	@Test
+	public void testRestore_withRenderedSelection() {
+		MPartStack stack = createMinimizedStack();
+		MPart part = select(stack, 1);
+		part.setWidget(new Composite((Composite) stack.getWidget(), SWT.NONE));
+
+		restore(stack);
+		visibilityHandler.handleEvent(createVisibilityEvent(stack));
+
+		assertTrue(renderer.shownTabs.isEmpty());
+	}
+
+	@Test
+	public void testVisibilityChange_hiddenStack() {
+		MPartStack stack = createMinimizedStack();
+		select(stack, 1);
+		stack.setVisible(false);
+
+		visibilityHandler.handleEvent(createVisibilityEvent(stack));
+
+		assertTrue(renderer.shownTabs.isEmpty());
+	}
+
+	@Test
+	public void testVisibilityChange_stackOfOtherRenderer() {
+		MPartStack stack = createMinimizedStack();
+		select(stack, 1);
+		stack.setRenderer(new RecordingStackRenderer());
+
+		visibilityHandler.handleEvent(createVisibilityEvent(stack));
+
+		assertTrue(renderer.shownTabs.isEmpty());
+	}
+
+	@Test
+	public void testPostProcess_shownStack() {
+		MPartStack stack = createStack(window, shell);
+		MPart part = select(stack, 0);
+
+		renderer.postProcess(stack);
+
+		assertEquals(Collections.singletonList(part), renderer.shownTabs);
+	}
+
+	@Test
+	public void testPostProcess_stackOfHiddenPerspective() {
+		MPerspectiveStack perspectiveStack = AdvancedFactoryImpl.eINSTANCE.createPerspectiveStack();
+		window.getChildren().add(perspectiveStack);
+		MPerspective perspective = AdvancedFactoryImpl.eINSTANCE.createPerspective();
+		perspectiveStack.getChildren().add(perspective);
+		MPartStack stack = createStack(perspective, new Composite(limbo, SWT.NONE));
+		select(stack, 0);
+
+		renderer.postProcess(stack);
+
+		assertTrue(renderer.shownTabs.isEmpty());
+	}
+
+	@Test
+	public void testPerspectiveSwitch_showsPendingSelection() {
+		MPerspectiveStack perspectiveStack = AdvancedFactoryImpl.eINSTANCE.createPerspectiveStack();
+		window.getChildren().add(perspectiveStack);
+		LazyStackRenderer perspectiveRenderer = new LazyStackRenderer() {
+			@Override
+			public Object createWidget(MUIElement element, Object parent) {
+				return null;
+			}
+		};
+		perspectiveStack.setRenderer(perspectiveRenderer);
+		IEventBroker eventBroker = mock(IEventBroker.class);
+		perspectiveRenderer.init(eventBroker);
+		EventHandler perspectiveHandler = getHandler(eventBroker,
+				UIEvents.ElementContainer.TOPIC_SELECTEDELEMENT);
+		MPerspective shownPerspective = AdvancedFactoryImpl.eINSTANCE.createPerspective();
+		perspectiveStack.getChildren().add(shownPerspective);
+		perspectiveStack.setSelectedElement(shownPerspective);
+		MPerspective hiddenPerspective = AdvancedFactoryImpl.eINSTANCE.createPerspective();
+		perspectiveStack.getChildren().add(hiddenPerspective);
+		Composite perspectiveControl = new Composite(limbo, SWT.NONE);
+		hiddenPerspective.setWidget(perspectiveControl);
+		MPartStack stack = createStack(hiddenPerspective, perspectiveControl);
+		MPart oldSelection = select(stack, 0);
+		MPart part = select(stack, 1);
+		selectionHandler.handleEvent(createSelectionEvent(stack, oldSelection));
+
+		perspectiveControl.setParent(shell);
+		perspectiveStack.setSelectedElement(hiddenPerspective);
+		perspectiveHandler.handleEvent(createSelectionEvent(perspectiveStack, shownPerspective));
+
+		assertEquals(Collections.singletonList(part), renderer.shownTabs);
+	}
+
+	private MPartStack createMinimizedStack() {
+		MPartStack stack = createStack(window, limbo);
+		stack.getTags().add(IPresentationEngine.MINIMIZED);
+		return stack;
+	}
+
+	private MPartStack createStack(MTrimmedWindow parent, Composite parentControl) {
+		MPartStack stack = createStack(parentControl);
+		parent.getChildren().add(stack);
+		return stack;
+	}
+
+	private MPartStack createStack(MPerspective parent, Composite parentControl) {
+		MPartStack stack = createStack(parentControl);
+		parent.getChildren().add(stack);
+		return stack;
+	}
+
+	private MPartStack createStack(Composite parentControl) {
+		MPartStack stack = BasicFactoryImpl.eINSTANCE.createPartStack();
+		stack.getChildren().add(BasicFactoryImpl.eINSTANCE.createPart());
+		stack.getChildren().add(BasicFactoryImpl.eINSTANCE.createPart());
+		stack.setRenderer(renderer);
+		stack.setWidget(new CTabFolder(parentControl, SWT.NONE));
+		return stack;
+	}
+
+	/*
+	 * The minimized stack is shown in the window again.
+	 */
+	private void restore(MPartStack stack) {
+		stack.getTags().remove(IPresentationEngine.MINIMIZED);
+		((CTabFolder) stack.getWidget()).setParent(shell);
+	}
+
+	private static MPart select(MPartStack stack, int index) {
+		MPart part = (MPart) stack.getChildren().get(index);
+		stack.setSelectedElement(part);
+		return part;
+	}
+
+	private static Event createSelectionEvent(MUIElement stack, MUIElement oldSelection) {
+		Map<String, Object> properties = new HashMap<String, Object>();
+		properties.put(UIEvents.EventTags.ELEMENT, stack);
+		properties.put(UIEvents.EventTags.OLD_VALUE, oldSelection);
+		return new Event(UIEvents.ElementContainer.TOPIC_SELECTEDELEMENT, properties);
+	}
+
+	private static Event createVisibilityEvent(MUIElement stack) {
+		Map<String, Object> properties = new HashMap<String, Object>();
+		properties.put(UIEvents.EventTags.ELEMENT, stack);
+		properties.put(UIEvents.EventTags.NEW_VALUE, Boolean.TRUE);
+		return new Event(UIEvents.UIElement.TOPIC_VISIBLE, properties);
+	}
+
+	private static EventHandler getHandler(IEventBroker eventBroker, String topic) {
+		ArgumentCaptor<EventHandler> captor = ArgumentCaptor.forClass(EventHandler.class);
+		verify(eventBroker).subscribe(eq(topic), captor.capture());
+		return captor.getValue();
+	}
+
+	/*
+	 * Records the elements to be shown instead of creating their tabs.
+	 */
+	private static class RecordingStackRenderer extends StackRenderer {
+
+		final List<MUIElement> shownTabs = new ArrayList<MUIElement>();
+
+		@Override
+		protected void showTab(MUIElement element) {
+			shownTabs.add(element);
+		}
+
+		@Override
+		public void adjustTopRight(CTabFolder ctf) {
+		}
+	}
+}
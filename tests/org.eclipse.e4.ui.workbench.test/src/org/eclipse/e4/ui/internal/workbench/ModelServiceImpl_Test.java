@@ -0,0 +1,306 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.e4.ui.internal.workbench;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.core.runtime.IExtensionRegistry;
+import org.eclipse.e4.core.contexts.EclipseContextFactory;
+import org.eclipse.e4.core.contexts.IEclipseContext;
+import org.eclipse.e4.core.services.events.IEventBroker;
+import org.eclipse.e4.ui.model.application.MApplication;
+import org.eclipse.e4.ui.model.application.MApplicationElement;
+import org.eclipse.e4.ui.model.application.ui.MUIElement;
+import org.eclipse.e4.ui.model.application.ui.advanced.MArea;
+import org.eclipse.e4.ui.model.application.ui.advanced.MPerspective;
+import org.eclipse.e4.ui.model.application.ui.advanced.MPerspectiveStack;
+import org.eclipse.e4.ui.model.application.ui.advanced.MPlaceholder;
+import org.eclipse.e4.ui.model.application.ui.advanced.impl.AdvancedFactoryImpl;
+import org.eclipse.e4.ui.model.application.ui.basic.MPart;
+import org.eclipse.e4.ui.model.application.ui.basic.MPartStack;
+import org.eclipse.e4.ui.model.application.ui.basic.MTrimBar;
+import org.eclipse.e4.ui.model.application.ui.basic.MTrimmedWindow;
+import org.eclipse.e4.ui.model.application.ui.basic.MWindow;
+import org.eclipse.e4.ui.model.application.ui.basic.impl.BasicFactoryImpl;
+import org.eclipse.e4.ui.model.application.ui.menu.MMenu;
+import org.eclipse.e4.ui.model.application.ui.menu.MToolBar;
+import org.eclipse.e4.ui.model.application.ui.menu.MToolItem;
+import org.eclipse.e4.ui.model.application.ui.menu.impl.MenuFactoryImpl;
+import org.eclipse.e4.ui.model.application.impl.ApplicationFactoryImpl;
+import org.eclipse.e4.ui.workbench.Selector;
+import org.eclipse.e4.ui.workbench.UIEvents;
+import org.eclipse.e4.ui.workbench.modeling.EModelService;
+import org.eclipse.emf.ecore.EObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventHandler;
+
+public class ModelServiceImpl_Test {
+
+	private static final String TAG = "tag"; //$NON-NLS-1$
+
+	private static final int[] SEARCH_FLAGS = { EModelService.ANYWHERE,
+			EModelService.PRESENTATION, EModelService.GLOBAL, EModelService.OUTSIDE_PERSPECTIVE,
+			EModelService.IN_ACTIVE_PERSPECTIVE, EModelService.IN_ANY_PERSPECTIVE,
+			EModelService.IN_SHARED_AREA, EModelService.IN_TRIM, EModelService.IN_MAIN_MENU,
+			EModelService.IN_PART, EModelService.IN_ACTIVE_PERSPECTIVE | EModelService.IN_PART,
+			EModelService.IN_ANY_PERSPECTIVE | EModelService.IN_TRIM };
+
+	private IEclipseContext context;
+	private UIEventPublisher publisher;
+	private ModelServiceImpl modelService;
+	private EventHandler modelHandler;
+	private MApplication application;
+	private MTrimmedWindow window;
+	private MPerspectiveStack perspectiveStack;
+	private MPart activePart;
+
+	@Before
+	public void setUp() {
+		context = EclipseContextFactory.create();
+		context.set(IExtensionRegistry.class, mock(IExtensionRegistry.class));
+		context.set(IEventBroker.class, mockEventBroker());
+		modelService = new ModelServiceImpl(context);
+		ArgumentCaptor<EventHandler> handler = ArgumentCaptor.forClass(EventHandler.class);
+		verify(context.get(IEventBroker.class)).subscribe(eq(UIEvents.UIModelTopicBase
+				+ UIEvents.TOPIC_SEP + UIEvents.ALL_SUB_TOPICS), handler.capture());
+		modelHandler = handler.getValue();
+		application = createModel();
+		context.set(MApplication.class, application);
+		publisher = new UIEventPublisher(context);
+		((EObject) application).eAdapters().add(publisher);
+	}
+
+	@After
+	public void tearDown() {
+		context.dispose();
+	}
+
+	@Test
+	public void testFindByIdEqualsRecursiveSearch() {
+		for (String id : new String[] { "active.part", "inactive.part", "shared.part", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				"area.part", "part.toolbar", "trim.toolbar", "main.menu", "detached.part" }) { //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+			assertFindEqualsRecursiveSearch(id, MUIElement.class, null);
+		}
+	}
+
+	@Test
+	public void testFindByTagEqualsRecursiveSearch() {
+		assertFindEqualsRecursiveSearch(null, MUIElement.class, Collections.singletonList(TAG));
+		assertFindEqualsRecursiveSearch(null, MPart.class, Collections.singletonList(TAG));
+		assertFindEqualsRecursiveSearch(null, null, Arrays.asList(TAG, "other")); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testFindByTypeEqualsRecursiveSearch() {
+		assertFindEqualsRecursiveSearch(null, MPart.class, null);
+		assertFindEqualsRecursiveSearch(null, MToolBar.class, null);
+		assertFindEqualsRecursiveSearch(null, MPlaceholder.class, null);
+		assertFindEqualsRecursiveSearch(null, MWindow.class, null);
+	}
+
+	@Test
+	public void testFindFromInnerSearchRootEqualsRecursiveSearch() {
+		for (int flags : SEARCH_FLAGS) {
+			assertEquals(findRecursively(perspectiveStack, null, MPart.class, null, flags),
+					modelService.findElements(perspectiveStack, null, MPart.class, null, flags));
+			assertEquals(findRecursively(activePart, null, MToolItem.class, null, flags),
+					modelService.findElements(activePart, null, MToolItem.class, null, flags));
+		}
+	}
+
+	@Test
+	public void testFindAfterPerspectiveSwitchEqualsRecursiveSearch() {
+		modelService.findElements(application, null, MPart.class, null);
+
+		perspectiveStack.setSelectedElement(perspectiveStack.getChildren().get(1));
+
+		assertFindEqualsRecursiveSearch(null, MPart.class, null);
+	}
+
+	@Test
+	public void testFindsAddedElements() {
+		modelService.findElements(application, null, MPart.class, null);
+		MPart part = BasicFactoryImpl.eINSTANCE.createPart();
+		part.setElementId("added.part"); //$NON-NLS-1$
+		part.getTags().add(TAG);
+
+		((MPartStack) activePart.getParent()).getChildren().add(part);
+
+		assertEquals(Collections.singletonList(part),
+				modelService.findElements(application, "added.part", MPart.class, null)); //$NON-NLS-1$
+		assertFindEqualsRecursiveSearch(null, MPart.class, Collections.singletonList(TAG));
+	}
+
+	@Test
+	public void testFindsReplacedTag() {
+		modelService.findElements(application, null, null, Collections.singletonList(TAG));
+
+		activePart.getTags().set(0, "replaced"); //$NON-NLS-1$
+
+		assertEquals(Collections.singletonList(activePart), modelService.findElements(
+				application, null, null, Collections.singletonList("replaced"))); //$NON-NLS-1$
+		assertFindEqualsRecursiveSearch(null, null, Collections.singletonList("replaced")); //$NON-NLS-1$
+		assertFindEqualsRecursiveSearch(null, null, Collections.singletonList(TAG));
+	}
+
+	@Test
+	public void testSearchUsesIndex() {
+		CountingSelector selector = new CountingSelector();
+
+		List<MToolBar> toolBars = modelService.findElements(application, MToolBar.class,
+				EModelService.IN_ACTIVE_PERSPECTIVE | EModelService.IN_PART, selector);
+
+		// the index matches all tool bars before it checks whether the search reaches them
+		assertEquals(Collections.singletonList(activePart.getToolbar()), toolBars);
+		assertEquals(3, selector.count);
+	}
+
+	private <T> void assertFindEqualsRecursiveSearch(String id, Class<T> clazz,
+			List<String> tags) {
+		for (int flags : SEARCH_FLAGS) {
+			List<T> expected = findRecursively(application, id, clazz, tags, flags);
+			List<T> actual = modelService.findElements(application, id, clazz, tags, flags);
+			assertEquals("flags " + flags, expected, actual); //$NON-NLS-1$
+		}
+	}
+
+	// without the publisher the model service cannot keep an index and walks the model
+	private <T> List<T> findRecursively(MUIElement searchRoot, String id, Class<T> clazz,
+			List<String> tags, int flags) {
+		((EObject) application).eAdapters().remove(publisher);
+		try {
+			return modelService.findElements(searchRoot, id, clazz, tags, flags);
+		} finally {
+			((EObject) application).eAdapters().add(publisher);
+		}
+	}
+
+	private MApplication createModel() {
+		MApplication result = ApplicationFactoryImpl.eINSTANCE.createApplication();
+		window = BasicFactoryImpl.eINSTANCE.createTrimmedWindow();
+		window.setElementId("window"); //$NON-NLS-1$
+		result.getChildren().add(window);
+
+		perspectiveStack = AdvancedFactoryImpl.eINSTANCE.createPerspectiveStack();
+		window.getChildren().add(perspectiveStack);
+		MPerspective activePerspective = AdvancedFactoryImpl.eINSTANCE.createPerspective();
+		MPerspective inactivePerspective = AdvancedFactoryImpl.eINSTANCE.createPerspective();
+		perspectiveStack.getChildren().add(activePerspective);
+		perspectiveStack.getChildren().add(inactivePerspective);
+		perspectiveStack.setSelectedElement(activePerspective);
+
+		MPartStack partStack = BasicFactoryImpl.eINSTANCE.createPartStack();
+		activePerspective.getChildren().add(partStack);
+		activePart = createPart("active.part"); //$NON-NLS-1$
+		partStack.getChildren().add(activePart);
+		MToolBar partToolBar = createToolBar("part.toolbar"); //$NON-NLS-1$
+		partToolBar.getChildren().add(MenuFactoryImpl.eINSTANCE.createDirectToolItem());
+		activePart.setToolbar(partToolBar);
+		activePart.getMenus().add(createMenu("part.menu")); //$NON-NLS-1$
+		MPart inactivePart = createPart("inactive.part"); //$NON-NLS-1$
+		inactivePart.setToolbar(createToolBar("inactive.toolbar")); //$NON-NLS-1$
+		inactivePerspective.getChildren().add(inactivePart);
+
+		// a part shared by placeholders in both perspectives
+		MPart sharedPart = createPart("shared.part"); //$NON-NLS-1$
+		window.getSharedElements().add(sharedPart);
+		partStack.getChildren().add(createPlaceholder(sharedPart));
+		inactivePerspective.getChildren().add(createPlaceholder(sharedPart));
+
+		// the shared area
+		MArea area = AdvancedFactoryImpl.eINSTANCE.createArea();
+		area.setElementId("area"); //$NON-NLS-1$
+		area.getChildren().add(createPart("area.part")); //$NON-NLS-1$
+		window.getSharedElements().add(area);
+		activePerspective.getChildren().add(createPlaceholder(area));
+
+		MTrimBar trimBar = BasicFactoryImpl.eINSTANCE.createTrimBar();
+		trimBar.getChildren().add(createToolBar("trim.toolbar")); //$NON-NLS-1$
+		window.getTrimBars().add(trimBar);
+		window.setMainMenu(createMenu("main.menu")); //$NON-NLS-1$
+
+		MWindow detachedWindow = BasicFactoryImpl.eINSTANCE.createWindow();
+		detachedWindow.getChildren().add(createPart("detached.part")); //$NON-NLS-1$
+		window.getWindows().add(detachedWindow);
+		return result;
+	}
+
+	private static MPart createPart(String id) {
+		MPart result = BasicFactoryImpl.eINSTANCE.createPart();
+		result.setElementId(id);
+		result.getTags().add(TAG);
+		return result;
+	}
+
+	private static MMenu createMenu(String id) {
+		MMenu result = MenuFactoryImpl.eINSTANCE.createMenu();
+		result.setElementId(id);
+		result.getTags().add(TAG);
+		return result;
+	}
+
+	private static MToolBar createToolBar(String id) {
+		MToolBar result = MenuFactoryImpl.eINSTANCE.createToolBar();
+		result.setElementId(id);
+		result.getTags().add(TAG);
+		return result;
+	}
+
+	private static MPlaceholder createPlaceholder(MUIElement ref) {
+		MPlaceholder result = AdvancedFactoryImpl.eINSTANCE.createPlaceholder();
+		result.setRef(ref);
+		return result;
+	}
+
+	// delivers the events of the publisher to the model service
+	private IEventBroker mockEventBroker() {
+		IEventBroker result = mock(IEventBroker.class);
+		doAnswer(new Answer<Boolean>() {
+			@Override
+			public Boolean answer(InvocationOnMock invocation) {
+				String topic = invocation.getArgument(0);
+				Map<String, ?> properties = invocation.getArgument(1);
+				modelHandler.handleEvent(new Event(topic, properties));
+				return Boolean.TRUE;
+			}
+		}).when(result).send(anyString(), any());
+		return result;
+	}
+
+	private static final class CountingSelector implements Selector {
+
+		int count;
+
+		@Override
+		public boolean select(MApplicationElement element) {
+			count++;
+			return true;
+		}
+	}
+}
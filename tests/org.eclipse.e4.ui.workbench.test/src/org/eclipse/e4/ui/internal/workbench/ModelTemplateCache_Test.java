@@ -0,0 +1,204 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.e4.ui.internal.workbench;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Iterator;
+import org.eclipse.core.runtime.IConfigurationElement;
+import org.eclipse.core.runtime.IContributor;
+import org.eclipse.core.runtime.IExtension;
+import org.eclipse.core.runtime.IExtensionPoint;
+import org.eclipse.core.runtime.IExtensionRegistry;
+import org.eclipse.e4.core.contexts.ContextInjectionFactory;
+import org.eclipse.e4.core.contexts.EclipseContextFactory;
+import org.eclipse.e4.core.contexts.IEclipseContext;
+import org.eclipse.e4.core.services.log.Logger;
+import org.eclipse.e4.ui.model.application.MApplication;
+import org.eclipse.e4.ui.model.application.commands.MCommand;
+import org.eclipse.e4.ui.model.application.commands.MHandler;
+import org.eclipse.e4.ui.model.application.ui.MUIElement;
+import org.eclipse.e4.ui.model.fragment.impl.FragmentPackageImpl;
+import org.eclipse.e4.ui.model.internal.ModelUtils;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.URIConverter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.wiring.BundleRevision;
+
+public class ModelTemplateCache_Test {
+
+	private static final String BUNDLE_NAME = "org.eclipse.e4.ui.workbench.test"; //$NON-NLS-1$
+	private static final URI BUNDLE_URI = URI.createURI("platform:/plugin/" + BUNDLE_NAME + "/"); //$NON-NLS-1$ //$NON-NLS-2$
+
+	private Activator activator;
+	private IEclipseContext context;
+	private IConfigurationElement element;
+	private URI applicationURI;
+
+	@Before
+	public void setUp() throws Exception {
+		// the fragment package is registered by an extension when running in OSGi
+		FragmentPackageImpl.eINSTANCE.getNsURI();
+		applicationURI = URI.createURI(getClass().getResource("Application.e4xmi").toString()); //$NON-NLS-1$
+		URIConverter.URI_MAP.put(BUNDLE_URI, applicationURI.trimSegments(1).appendSegment("")); //$NON-NLS-1$
+		activator = new Activator();
+		activator.start(mockBundleContext());
+		context = EclipseContextFactory.create();
+		context.set(Logger.class, mock(Logger.class));
+		element = mockConfigurationElement("fragment"); //$NON-NLS-1$
+		when(element.getAttribute("uri")).thenReturn("fragment.e4xmi"); //$NON-NLS-1$ //$NON-NLS-2$
+		context.set(IExtensionRegistry.class, mockExtensionRegistry(element));
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		activator.stop(activator.getContext());
+		context.dispose();
+		URIConverter.URI_MAP.remove(BUNDLE_URI);
+		ModelTemplateCache.clear();
+	}
+
+	@Test
+	public void testCopyEqualsAssembledModel() {
+		MApplication assembled = assembleModel();
+
+		MApplication copy = copyTemplate();
+
+		assertTrue(EcoreUtil.equals((EObject) assembled, (EObject) copy));
+	}
+
+	@Test
+	public void testCopyHasIdsOfAssembledModel() {
+		MApplication assembled = assembleModel();
+
+		MApplication copy = copyTemplate();
+
+		E4XMIResource assembledResource = (E4XMIResource) ((EObject) assembled).eResource();
+		E4XMIResource copiedResource = (E4XMIResource) ((EObject) copy).eResource();
+		Iterator<EObject> assembledContents = assembledResource.getAllContents();
+		Iterator<EObject> copiedContents = copiedResource.getAllContents();
+		while (assembledContents.hasNext()) {
+			EObject assembledObject = assembledContents.next();
+			EObject copiedObject = copiedContents.next();
+			assertEquals(assembledResource.getID(assembledObject),
+					copiedResource.getID(copiedObject));
+		}
+		assertFalse(copiedContents.hasNext());
+	}
+
+	@Test
+	public void testCopyContainsFragmentElements() {
+		MApplication copy = copyTemplate();
+
+		MUIElement part = (MUIElement) ModelUtils.findElementById(copy, "test.fragment.part"); //$NON-NLS-1$
+		assertNotNull(part);
+		assertEquals("platform:/plugin/" + BUNDLE_NAME, part.getContributorURI()); //$NON-NLS-1$
+		assertEquals("test.partstack", part.getParent().getElementId()); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testCopyHasResolvedImports() {
+		MApplication copy = copyTemplate();
+
+		MHandler handler = copy.getHandlers().get(0);
+		MCommand command = copy.getCommands().get(0);
+		assertEquals("test.handler", handler.getElementId()); //$NON-NLS-1$
+		assertSame(command, handler.getCommand());
+	}
+
+	@Test
+	public void testCopiesAreIndependent() {
+		MApplication copy1 = copyTemplate();
+		MApplication copy2 = copyTemplate();
+
+		assertNotSame(copy1.getCommands().get(0), copy2.getCommands().get(0));
+		copy1.getCommands().get(0).setCommandName("changed"); //$NON-NLS-1$
+		assertEquals("Command", copy2.getCommands().get(0).getCommandName()); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testDoesNotCopyWithProcessorBeforeFragments() {
+		IConfigurationElement processor = mockConfigurationElement("processor"); //$NON-NLS-1$
+		when(processor.getAttribute("beforefragment")).thenReturn("true"); //$NON-NLS-1$ //$NON-NLS-2$
+		context.set(IExtensionRegistry.class, mockExtensionRegistry(element, processor));
+
+		Resource target = ResourceHandler.createResourceSet().createResource(
+				URI.createURI("copy.e4xmi")); //$NON-NLS-1$
+		boolean copied = ModelTemplateCache.copyTemplate(applicationURI, context, target);
+
+		assertFalse(copied);
+		assertTrue(target.getContents().isEmpty());
+	}
+
+	// assembles the model like ResourceHandler does without the cache
+	private MApplication assembleModel() {
+		Resource resource = ResourceHandler.createResourceSet().getResource(applicationURI, true);
+		ResourceHandler.setContributorURI(resource, applicationURI);
+		MApplication application = (MApplication) resource.getContents().get(0);
+		IEclipseContext assemblyContext = context.createChild();
+		assemblyContext.set(MApplication.class, application);
+		ContextInjectionFactory.make(ModelAssembler.class, assemblyContext).processModel(true);
+		return application;
+	}
+
+	private MApplication copyTemplate() {
+		Resource target = ResourceHandler.createResourceSet().createResource(
+				URI.createURI("copy.e4xmi")); //$NON-NLS-1$
+		assertTrue(ModelTemplateCache.copyTemplate(applicationURI, context, target));
+		return (MApplication) target.getContents().get(0);
+	}
+
+	private static IConfigurationElement mockConfigurationElement(String name) {
+		IContributor contributor = mock(IContributor.class);
+		when(contributor.getName()).thenReturn(BUNDLE_NAME);
+		IConfigurationElement result = mock(IConfigurationElement.class);
+		when(result.getName()).thenReturn(name);
+		when(result.getContributor()).thenReturn(contributor);
+		return result;
+	}
+
+	private static IExtensionRegistry mockExtensionRegistry(IConfigurationElement... elements) {
+		IExtension extension = mock(IExtension.class);
+		when(extension.getConfigurationElements()).thenReturn(elements);
+		IExtensionPoint extensionPoint = mock(IExtensionPoint.class);
+		when(extensionPoint.getExtensions()).thenReturn(new IExtension[] { extension });
+		IExtensionRegistry result = mock(IExtensionRegistry.class);
+		when(result.getExtensionPoint(ModelAssembler.extensionPointID)).thenReturn(extensionPoint);
+		return result;
+	}
+
+	// the contributor URIs of the fragment elements are derived from the resolved bundles
+	private static BundleContext mockBundleContext() {
+		BundleRevision revision = mock(BundleRevision.class);
+		Bundle bundle = mock(Bundle.class);
+		when(bundle.getSymbolicName()).thenReturn(BUNDLE_NAME);
+		when(bundle.getState()).thenReturn(Bundle.RESOLVED);
+		when(bundle.adapt(BundleRevision.class)).thenReturn(revision);
+		BundleContext result = mock(BundleContext.class);
+		when(result.getBundles()).thenReturn(new Bundle[] { bundle });
+		return result;
+	}
+}
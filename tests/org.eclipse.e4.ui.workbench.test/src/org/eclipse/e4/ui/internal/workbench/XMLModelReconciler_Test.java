@@ -0,0 +1,265 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.e4.ui.internal.workbench;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.e4.ui.model.application.MApplication;
+import org.eclipse.e4.ui.model.application.MApplicationElement;
+import org.eclipse.e4.ui.model.application.impl.ApplicationFactoryImpl;
+import org.eclipse.e4.ui.model.application.ui.MUIElement;
+import org.eclipse.e4.ui.model.application.ui.basic.MPart;
+import org.eclipse.e4.ui.model.application.ui.basic.MPartSashContainer;
+import org.eclipse.e4.ui.model.application.ui.basic.MPartStack;
+import org.eclipse.e4.ui.model.application.ui.basic.MTrimmedWindow;
+import org.eclipse.e4.ui.model.application.ui.basic.impl.BasicFactoryImpl;
+import org.eclipse.e4.ui.workbench.modeling.ModelDelta;
+import org.eclipse.e4.ui.workbench.modeling.ModelReconciler;
+import org.eclipse.emf.common.util.ECollections;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.junit.Test;
+import org.w3c.dom.Document;
+
+/**
+ * Compares the delta documents and deltas of {@link XMLModelReconciler} with those of
+ * {@link XMLModelReconcilerBaseline}, the implementation before its lookups were indexed.
+ */
+public class XMLModelReconciler_Test {
+
+	@Test
+	public void testSerialize_moves() throws Exception {
+		MApplication application = createModel();
+		ModelReconciler reconciler = record(new XMLModelReconciler(), application);
+		ModelReconciler baseline = record(new XMLModelReconcilerBaseline(), application);
+
+		MPartStack stackB = find(application, "stackB"); //$NON-NLS-1$
+		stackB.getChildren().add((MPart) find(application, "partA2")); //$NON-NLS-1$
+		ECollections.move(stackB.getChildren(), 0, 1);
+
+		assertSerializedEquals(baseline, reconciler);
+	}
+
+	@Test
+	public void testSerialize_referenceChanges() throws Exception {
+		MApplication application = createModel();
+		ModelReconciler reconciler = record(new XMLModelReconciler(), application);
+		ModelReconciler baseline = record(new XMLModelReconcilerBaseline(), application);
+
+		MPartStack stackA = find(application, "stackA"); //$NON-NLS-1$
+		stackA.setSelectedElement((MPart) find(application, "partA2")); //$NON-NLS-1$
+		MPartStack stackB = find(application, "stackB"); //$NON-NLS-1$
+		stackB.setSelectedElement(null);
+
+		assertSerializedEquals(baseline, reconciler);
+	}
+
+	@Test
+	public void testSerialize_nestedContainment() throws Exception {
+		MApplication application = createModel();
+		ModelReconciler reconciler = record(new XMLModelReconciler(), application);
+		ModelReconciler baseline = record(new XMLModelReconcilerBaseline(), application);
+
+		MPartSashContainer sash = find(application, "sash"); //$NON-NLS-1$
+		sash.getChildren().add(createNestedSash());
+
+		assertSerializedEquals(baseline, reconciler);
+	}
+
+	@Test
+	public void testRoundTrip() throws Exception {
+		MApplication application = createModel();
+		ModelReconciler reconciler = record(new XMLModelReconciler(), application);
+		ModelReconciler baseline = record(new XMLModelReconcilerBaseline(), application);
+		changeModel(application);
+
+		Document document = assertSerializedEquals(baseline, reconciler);
+
+		MApplication expected = createModel();
+		applyDeltas(new XMLModelReconcilerBaseline().constructDeltas(expected, document));
+		MApplication actual = createModel();
+		Collection<ModelDelta> deltas = new XMLModelReconciler().constructDeltas(actual, document);
+		assertFalse(deltas.isEmpty());
+		applyDeltas(deltas);
+
+		assertTrue(EcoreUtil.equals((EObject) expected, (EObject) actual));
+		MPartStack stackB = find(actual, "stackB"); //$NON-NLS-1$
+		MPart partA2 = find(actual, "partA2"); //$NON-NLS-1$
+		assertSame(partA2, stackB.getChildren().get(0));
+		assertSame(partA2, stackB.getSelectedElement());
+		assertEquals("Renamed", ((MPart) find(actual, "partB1")).getLabel()); //$NON-NLS-1$ //$NON-NLS-2$
+		MPartSashContainer sash = find(actual, "sash"); //$NON-NLS-1$
+		assertEquals(3, sash.getChildren().size());
+		MPartSashContainer nestedSash = (MPartSashContainer) sash.getChildren().get(2);
+		MPartStack nestedStack = (MPartStack) nestedSash.getChildren().get(0);
+		assertEquals("New", ((MPart) nestedStack.getChildren().get(0)).getLabel()); //$NON-NLS-1$
+		assertSame(nestedStack.getChildren().get(0), nestedStack.getSelectedElement());
+	}
+
+	@Test
+	public void testRoundTrip_unchangedModel() throws Exception {
+		MApplication application = createModel();
+		ModelReconciler reconciler = record(new XMLModelReconciler(), application);
+		ModelReconciler baseline = record(new XMLModelReconcilerBaseline(), application);
+
+		Document document = assertSerializedEquals(baseline, reconciler);
+
+		assertTrue(new XMLModelReconciler().constructDeltas(createModel(), document).isEmpty());
+	}
+
+	/*
+	 * Moves a part into another stack, changes selected elements, renames a part and adds a new
+	 * sash with a stack and a part.
+	 */
+	private static void changeModel(MApplication application) {
+		MPartStack stackA = find(application, "stackA"); //$NON-NLS-1$
+		MPartStack stackB = find(application, "stackB"); //$NON-NLS-1$
+		MPart partA2 = find(application, "partA2"); //$NON-NLS-1$
+		stackB.getChildren().add(partA2);
+		ECollections.move(stackB.getChildren(), 0, partA2);
+		stackB.setSelectedElement(partA2);
+		stackA.setSelectedElement((MPart) find(application, "partA1")); //$NON-NLS-1$
+		((MPart) find(application, "partB1")).setLabel("Renamed"); //$NON-NLS-1$ //$NON-NLS-2$
+		MPartSashContainer sash = find(application, "sash"); //$NON-NLS-1$
+		sash.getChildren().add(createNestedSash());
+	}
+
+	private static MPartSashContainer createNestedSash() {
+		MPartSashContainer nestedSash = BasicFactoryImpl.eINSTANCE.createPartSashContainer();
+		nestedSash.setElementId("nestedSash"); //$NON-NLS-1$
+		MPartStack nestedStack = BasicFactoryImpl.eINSTANCE.createPartStack();
+		nestedStack.setElementId("nestedStack"); //$NON-NLS-1$
+		MPart part = BasicFactoryImpl.eINSTANCE.createPart();
+		part.setElementId("newPart"); //$NON-NLS-1$
+		part.setLabel("New"); //$NON-NLS-1$
+		nestedStack.getChildren().add(part);
+		nestedStack.setSelectedElement(part);
+		nestedSash.getChildren().add(nestedStack);
+		return nestedSash;
+	}
+
+	/*
+	 * Creates an application with a window that contains a sash with two part stacks. The
+	 * resource ids of the elements are their element ids.
+	 */
+	private static MApplication createModel() {
+		MApplication application = ApplicationFactoryImpl.eINSTANCE.createApplication();
+		application.setElementId("application"); //$NON-NLS-1$
+		MTrimmedWindow window = BasicFactoryImpl.eINSTANCE.createTrimmedWindow();
+		window.setElementId("window"); //$NON-NLS-1$
+		application.getChildren().add(window);
+		MPartSashContainer sash = BasicFactoryImpl.eINSTANCE.createPartSashContainer();
+		sash.setElementId("sash"); //$NON-NLS-1$
+		window.getChildren().add(sash);
+		MPartStack stackA = createPartStack(sash, "stackA", "partA1", "partA2"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		stackA.setSelectedElement(stackA.getChildren().get(1));
+		MPartStack stackB = createPartStack(sash, "stackB", "partB1"); //$NON-NLS-1$ //$NON-NLS-2$
+		stackB.setSelectedElement(stackB.getChildren().get(0));
+
+		E4XMIResource resource = new E4XMIResource();
+		resource.getContents().add((EObject) application);
+		resource.setID((EObject) application, application.getElementId());
+		Iterator<EObject> it = ((EObject) application).eAllContents();
+		while (it.hasNext()) {
+			EObject object = it.next();
+			if (object instanceof MApplicationElement) {
+				resource.setID(object, ((MApplicationElement) object).getElementId());
+			}
+		}
+		return application;
+	}
+
+	private static MPartStack createPartStack(MPartSashContainer parent, String id,
+			String... partIds) {
+		MPartStack stack = BasicFactoryImpl.eINSTANCE.createPartStack();
+		stack.setElementId(id);
+		for (String partId : partIds) {
+			MPart part = BasicFactoryImpl.eINSTANCE.createPart();
+			part.setElementId(partId);
+			part.setLabel(partId);
+			stack.getChildren().add(part);
+		}
+		parent.getChildren().add(stack);
+		return stack;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T find(MApplication application, String id) {
+		Iterator<EObject> it = ((EObject) application).eAllContents();
+		while (it.hasNext()) {
+			EObject object = it.next();
+			if (object instanceof MUIElement && id.equals(((MUIElement) object).getElementId())) {
+				return (T) object;
+			}
+		}
+		throw new IllegalArgumentException(id);
+	}
+
+	private static ModelReconciler record(ModelReconciler reconciler, MApplication application) {
+		reconciler.recordChanges(application);
+		return reconciler;
+	}
+
+	private static Document assertSerializedEquals(ModelReconciler baseline,
+			ModelReconciler reconciler) throws Exception {
+		Document expected = (Document) baseline.serialize();
+		Document actual = (Document) reconciler.serialize();
+		// the documents are compared as written to the delta file
+		assertEquals(toXml(expected), toXml(actual));
+		return actual;
+	}
+
+	private static String toXml(Document document) throws Exception {
+		Transformer transformer = TransformerFactory.newInstance().newTransformer();
+		transformer.setOutputProperty(OutputKeys.ENCODING, "UTF-8"); //$NON-NLS-1$
+		transformer.setOutputProperty(OutputKeys.INDENT, "yes"); //$NON-NLS-1$
+		StringWriter writer = new StringWriter();
+		transformer.transform(new DOMSource(document), new StreamResult(writer));
+		return writer.toString();
+	}
+
+	/*
+	 * Applies the deltas like ModelReconcilingService, deltas that cannot be applied yet are
+	 * applied last.
+	 */
+	private static void applyDeltas(Collection<ModelDelta> deltas) {
+		List<ModelDelta> delayedDeltas = new LinkedList<ModelDelta>();
+		for (ModelDelta delta : deltas) {
+			if (delta.apply().getSeverity() == IStatus.CANCEL) {
+				delayedDeltas.add(delta);
+			}
+		}
+		List<IStatus> failures = new ArrayList<IStatus>();
+		for (ModelDelta delta : delayedDeltas) {
+			IStatus status = delta.apply();
+			if (status.getSeverity() == IStatus.ERROR) {
+				failures.add(status);
+			}
+		}
+		assertEquals(new ArrayList<IStatus>(), failures);
+	}
+}
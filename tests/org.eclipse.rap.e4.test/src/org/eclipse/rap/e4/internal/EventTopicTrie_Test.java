@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.rap.e4.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+
+public class EventTopicTrie_Test {
+
+	private EventTopicTrie<String> trie;
+
+	@Before
+	public void setUp() {
+		trie = new EventTopicTrie<String>();
+	}
+
+	@Test
+	public void testCollect_exactTopic() {
+		trie.add("a/b/c", "value"); //$NON-NLS-1$ //$NON-NLS-2$
+
+		assertEquals(Collections.singletonList("value"), collect("a/b/c")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void testCollect_doesNotMatchOtherTopics() {
+		trie.add("a/b", "value"); //$NON-NLS-1$ //$NON-NLS-2$
+
+		assertTrue(collect("a/c").isEmpty()); //$NON-NLS-1$
+		assertTrue(collect("a").isEmpty()); //$NON-NLS-1$
+		assertTrue(collect("a/b/c").isEmpty()); //$NON-NLS-1$
+		assertTrue(collect("a/bc").isEmpty()); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testCollect_wildcardMatchesOneOrMoreSegments() {
+		trie.add("a/*", "value"); //$NON-NLS-1$ //$NON-NLS-2$
+
+		assertEquals(Collections.singletonList("value"), collect("a/b")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(Collections.singletonList("value"), collect("a/b/c")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertTrue(collect("a").isEmpty()); //$NON-NLS-1$
+		assertTrue(collect("b/a").isEmpty()); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testCollect_rootWildcardMatchesAllTopics() {
+		trie.add("*", "value"); //$NON-NLS-1$ //$NON-NLS-2$
+
+		assertEquals(Collections.singletonList("value"), collect("a")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(Collections.singletonList("value"), collect("a/b/c")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void testCollect_wildcardValuesBeforeExactValues() {
+		trie.add("a/b/c", "exact"); //$NON-NLS-1$ //$NON-NLS-2$
+		trie.add("a/b/*", "inner"); //$NON-NLS-1$ //$NON-NLS-2$
+		trie.add("a/*", "outer"); //$NON-NLS-1$ //$NON-NLS-2$
+
+		assertEquals(Arrays.asList("outer", "inner", "exact"), collect("a/b/c")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+	}
+
+	@Test
+	public void testCollect_keepsAllValuesOfTopic() {
+		trie.add("a/b", "first"); //$NON-NLS-1$ //$NON-NLS-2$
+		trie.add("a/b", "second"); //$NON-NLS-1$ //$NON-NLS-2$
+
+		assertEquals(Arrays.asList("first", "second"), collect("a/b")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	@Test
+	public void testRemove() {
+		trie.add("a/b", "first"); //$NON-NLS-1$ //$NON-NLS-2$
+		trie.add("a/b", "second"); //$NON-NLS-1$ //$NON-NLS-2$
+
+		assertTrue(trie.remove("a/b", "first")); //$NON-NLS-1$ //$NON-NLS-2$
+
+		assertEquals(Collections.singletonList("second"), collect("a/b")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void testRemove_unknownValue() {
+		trie.add("a/b", "value"); //$NON-NLS-1$ //$NON-NLS-2$
+
+		assertFalse(trie.remove("a/b", "other")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertFalse(trie.remove("a/c", "value")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertFalse(trie.remove("x/y/z", "value")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertFalse(trie.remove("a/*", "value")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(Collections.singletonList("value"), collect("a/b")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void testRemove_prunesEmptyNodes() {
+		trie.add("a/b/c", "exact"); //$NON-NLS-1$ //$NON-NLS-2$
+		trie.add("a/b/d/*", "wildcard"); //$NON-NLS-1$ //$NON-NLS-2$
+
+		trie.remove("a/b/c", "exact"); //$NON-NLS-1$ //$NON-NLS-2$
+		trie.remove("a/b/d/*", "wildcard"); //$NON-NLS-1$ //$NON-NLS-2$
+
+		assertTrue(trie.isEmpty());
+	}
+
+	@Test
+	public void testRemove_keepsNodesInUse() {
+		trie.add("a/b/c", "exact"); //$NON-NLS-1$ //$NON-NLS-2$
+		trie.add("a/b/*", "wildcard"); //$NON-NLS-1$ //$NON-NLS-2$
+
+		trie.remove("a/b/c", "exact"); //$NON-NLS-1$ //$NON-NLS-2$
+
+		assertFalse(trie.isEmpty());
+		assertEquals(Collections.singletonList("wildcard"), collect("a/b/c")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void testAdd_afterPrune() {
+		trie.add("a/b", "first"); //$NON-NLS-1$ //$NON-NLS-2$
+		trie.remove("a/b", "first"); //$NON-NLS-1$ //$NON-NLS-2$
+
+		trie.add("a/b", "second"); //$NON-NLS-1$ //$NON-NLS-2$
+
+		assertEquals(Collections.singletonList("second"), collect("a/b")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private List<String> collect(String topic) {
+		List<String> result = new ArrayList<String>();
+		trie.collect(topic, result);
+		return result;
+	}
+}
@@ -0,0 +1,453 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.rap.e4.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Dictionary;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.e4.core.services.events.IEventBroker;
+import org.eclipse.e4.core.services.log.Logger;
+import org.eclipse.e4.ui.di.UISynchronize;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.ServiceRegistration;
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventAdmin;
+import org.osgi.service.event.EventConstants;
+import org.osgi.service.event.EventHandler;
+
+public class SessionEventBroker_Test {
+
+	private static final long TIMEOUT = 5000;
+
+	private EventAdmin eventAdmin;
+	private BundleContext bundleContext;
+	private ServiceRegistration<?> serviceRegistration;
+	private RecordingUISynchronize uiSync;
+	private SessionEventBroker broker;
+
+	@Before
+	public void setUp() {
+		eventAdmin = mock(EventAdmin.class);
+		bundleContext = mock(BundleContext.class);
+		serviceRegistration = mock(ServiceRegistration.class);
+		doReturn(serviceRegistration).when(bundleContext).registerService(anyString(), any(), any());
+		uiSync = new RecordingUISynchronize();
+		broker = createBroker();
+	}
+
+	@After
+	public void tearDown() {
+		System.clearProperty(SessionEventBroker.GLOBAL_TOPICS_PROPERTY);
+		broker.dispose();
+	}
+
+	@Test
+	public void testSend_dispatchesToMatchingSubscribers() {
+		RecordingHandler exact = new RecordingHandler();
+		RecordingHandler wildcard = new RecordingHandler();
+		RecordingHandler other = new RecordingHandler();
+		broker.subscribe("a/b", null, exact, true); //$NON-NLS-1$
+		broker.subscribe("a/*", null, wildcard, true); //$NON-NLS-1$
+		broker.subscribe("a/c", null, other, true); //$NON-NLS-1$
+
+		assertTrue(broker.send("a/b", "data")); //$NON-NLS-1$ //$NON-NLS-2$
+
+		assertEquals(Collections.singletonList("a/b"), exact.getTopics()); //$NON-NLS-1$
+		assertEquals(Collections.singletonList("a/b"), wildcard.getTopics()); //$NON-NLS-1$
+		assertTrue(other.getTopics().isEmpty());
+		assertEquals("data", exact.getEvents().get(0).getProperty(IEventBroker.DATA)); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testSend_withFilter() {
+		RecordingHandler handler = new RecordingHandler();
+		broker.subscribe("a/b", "(kind=match)", handler, true); //$NON-NLS-1$ //$NON-NLS-2$
+
+		broker.send("a/b", createProperties("kind", "other")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		broker.send("a/b", createProperties("kind", "match")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+		assertEquals(1, handler.getEvents().size());
+		assertEquals("match", handler.getEvents().get(0).getProperty("kind")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void testSubscribe_withInvalidFilter() {
+		RecordingHandler handler = new RecordingHandler();
+
+		assertFalse(broker.subscribe("a/b", "(kind=", handler, true)); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void testSend_continuesAfterFailingHandler() {
+		RecordingHandler handler = new RecordingHandler();
+		broker.subscribe("a/*", null, event -> { //$NON-NLS-1$
+			throw new IllegalStateException();
+		}, true);
+		broker.subscribe("a/b", null, handler, true); //$NON-NLS-1$
+
+		broker.send("a/b", null); //$NON-NLS-1$
+
+		assertEquals(1, handler.getEvents().size());
+	}
+
+	@Test
+	public void testUnsubscribe() {
+		RecordingHandler handler = new RecordingHandler();
+		broker.subscribe("a/b", null, handler, true); //$NON-NLS-1$
+		broker.subscribe("c/*", null, handler, true); //$NON-NLS-1$
+
+		assertTrue(broker.unsubscribe(handler));
+		broker.send("a/b", null); //$NON-NLS-1$
+		broker.send("c/d", null); //$NON-NLS-1$
+
+		assertTrue(handler.getEvents().isEmpty());
+		assertFalse(broker.unsubscribe(handler));
+	}
+
+	@Test
+	public void testDispose_removesAllSubscriptions() {
+		RecordingHandler handler = new RecordingHandler();
+		broker.subscribe("a/b", null, handler, true); //$NON-NLS-1$
+
+		broker.dispose();
+		broker.send("a/b", null); //$NON-NLS-1$
+
+		assertTrue(handler.getEvents().isEmpty());
+	}
+
+	@Test
+	public void testPost_dispatchesInOrderOnDeliveryThread() throws InterruptedException {
+		int count = 100;
+		RecordingHandler handler = new RecordingHandler(count);
+		broker.subscribe("a/*", null, handler, true); //$NON-NLS-1$
+		List<String> expected = new ArrayList<String>();
+
+		for (int i = 0; i < count; i++) {
+			expected.add("a/" + i); //$NON-NLS-1$
+			assertTrue(broker.post("a/" + i, null)); //$NON-NLS-1$
+		}
+
+		assertTrue(handler.await());
+		assertEquals(expected, handler.getTopics());
+		assertNotSame(Thread.currentThread(), handler.getThread());
+	}
+
+	@Test
+	public void testPost_keepsOrderPerSession() throws InterruptedException {
+		SessionEventBroker otherBroker = createBroker();
+		RecordingHandler handler = new RecordingHandler(50);
+		RecordingHandler otherHandler = new RecordingHandler(50);
+		broker.subscribe("a/*", null, handler, true); //$NON-NLS-1$
+		otherBroker.subscribe("a/*", null, otherHandler, true); //$NON-NLS-1$
+		List<String> expected = new ArrayList<String>();
+
+		for (int i = 0; i < 50; i++) {
+			expected.add("a/" + i); //$NON-NLS-1$
+			broker.post("a/" + i, null); //$NON-NLS-1$
+			otherBroker.post("a/" + i, null); //$NON-NLS-1$
+		}
+
+		assertTrue(handler.await());
+		assertTrue(otherHandler.await());
+		assertEquals(expected, handler.getTopics());
+		assertEquals(expected, otherHandler.getTopics());
+		otherBroker.dispose();
+	}
+
+	@Test
+	public void testDeliveryExecutor_isBounded() {
+		ThreadPoolExecutor executor = SessionEventBroker.getDeliveryExecutor();
+
+		assertEquals(executor.getCorePoolSize(), executor.getMaximumPoolSize());
+		assertTrue(executor.getMaximumPoolSize() <= Math.max(2, Runtime.getRuntime().availableProcessors()));
+		assertTrue(executor.allowsCoreThreadTimeOut());
+	}
+
+	@Test
+	public void testSend_isUISynchronized() {
+		RecordingHandler handler = new RecordingHandler();
+		broker.subscribe("a/b", handler); //$NON-NLS-1$
+
+		broker.send("a/b", null); //$NON-NLS-1$
+
+		assertEquals(1, uiSync.getSyncExecCount());
+		assertEquals(1, handler.getEvents().size());
+		assertSame(Thread.currentThread(), handler.getThread());
+	}
+
+	@Test
+	public void testPost_isUISynchronizedAsynchronously() throws InterruptedException {
+		RecordingHandler handler = new RecordingHandler();
+		broker.subscribe("a/b", handler); //$NON-NLS-1$
+
+		broker.post("a/b", null); //$NON-NLS-1$
+
+		assertTrue(uiSync.awaitAsyncExec());
+		assertEquals(0, uiSync.getSyncExecCount());
+		assertTrue(handler.getEvents().isEmpty());
+		uiSync.runAsyncExecs();
+		assertEquals(1, handler.getEvents().size());
+		assertSame(Thread.currentThread(), handler.getThread());
+	}
+
+	@Test
+	public void testSend_globalTopicGoesThroughEventAdmin() {
+		System.setProperty(SessionEventBroker.GLOBAL_TOPICS_PROPERTY, "global/*, other"); //$NON-NLS-1$
+		broker = createBroker();
+		RecordingHandler handler = new RecordingHandler();
+		broker.subscribe("global/a", null, handler, true); //$NON-NLS-1$
+
+		assertTrue(broker.send("global/a", "data")); //$NON-NLS-1$ //$NON-NLS-2$
+
+		ArgumentCaptor<Event> captor = ArgumentCaptor.forClass(Event.class);
+		verify(eventAdmin).sendEvent(captor.capture());
+		assertEquals("global/a", captor.getValue().getTopic()); //$NON-NLS-1$
+		assertEquals("data", captor.getValue().getProperty(IEventBroker.DATA)); //$NON-NLS-1$
+		// the handler receives the event from the EventAdmin, not from the broker
+		assertTrue(handler.getEvents().isEmpty());
+	}
+
+	@Test
+	public void testPost_globalTopicGoesThroughEventAdmin() {
+		System.setProperty(SessionEventBroker.GLOBAL_TOPICS_PROPERTY, "global/*"); //$NON-NLS-1$
+		broker = createBroker();
+
+		assertTrue(broker.post("global/a", null)); //$NON-NLS-1$
+
+		ArgumentCaptor<Event> captor = ArgumentCaptor.forClass(Event.class);
+		verify(eventAdmin).postEvent(captor.capture());
+		assertEquals("global/a", captor.getValue().getTopic()); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testSend_localTopicDoesNotGoThroughEventAdmin() {
+		System.setProperty(SessionEventBroker.GLOBAL_TOPICS_PROPERTY, "global/*"); //$NON-NLS-1$
+		broker = createBroker();
+
+		broker.send("local/a", null); //$NON-NLS-1$
+		broker.post("global", null); //$NON-NLS-1$
+
+		verify(eventAdmin, never()).sendEvent(any(Event.class));
+		verify(eventAdmin, never()).postEvent(any(Event.class));
+	}
+
+	@Test
+	public void testSend_globalTopicWithoutEventAdmin() {
+		System.setProperty(SessionEventBroker.GLOBAL_TOPICS_PROPERTY, "global/*"); //$NON-NLS-1$
+		eventAdmin = null;
+		broker = createBroker();
+
+		assertFalse(broker.send("global/a", null)); //$NON-NLS-1$
+		assertFalse(broker.post("global/a", null)); //$NON-NLS-1$
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testSubscribe_toGlobalTopicRegistersEventHandlerService() {
+		System.setProperty(SessionEventBroker.GLOBAL_TOPICS_PROPERTY, "global/*"); //$NON-NLS-1$
+		broker = createBroker();
+		RecordingHandler handler = new RecordingHandler();
+
+		broker.subscribe("global/a", "(kind=match)", handler, true); //$NON-NLS-1$ //$NON-NLS-2$
+
+		ArgumentCaptor<Dictionary> captor = ArgumentCaptor.forClass(Dictionary.class);
+		verify(bundleContext).registerService(eq(EventHandler.class.getName()), any(), captor.capture());
+		String[] topics = (String[]) captor.getValue().get(EventConstants.EVENT_TOPIC);
+		assertEquals(1, topics.length);
+		assertEquals("global/a", topics[0]); //$NON-NLS-1$
+		assertEquals("(kind=match)", captor.getValue().get(EventConstants.EVENT_FILTER)); //$NON-NLS-1$
+		broker.unsubscribe(handler);
+		verify(serviceRegistration).unregister();
+	}
+
+	@Test
+	public void testSubscribe_toWildcardCoveringGlobalTopicRegistersEventHandlerService() {
+		System.setProperty(SessionEventBroker.GLOBAL_TOPICS_PROPERTY, "global/a/*"); //$NON-NLS-1$
+		broker = createBroker();
+
+		broker.subscribe("global/*", null, new RecordingHandler(), true); //$NON-NLS-1$
+
+		verify(bundleContext).registerService(eq(EventHandler.class.getName()), any(), any());
+	}
+
+	@Test
+	public void testSubscribe_toLocalTopicDoesNotRegisterService() {
+		System.setProperty(SessionEventBroker.GLOBAL_TOPICS_PROPERTY, "global/*"); //$NON-NLS-1$
+		broker = createBroker();
+
+		broker.subscribe("local/*", null, new RecordingHandler(), true); //$NON-NLS-1$
+
+		verify(bundleContext, never()).registerService(anyString(), any(), any());
+	}
+
+	@Test
+	public void testMatches() {
+		assertTrue(SessionEventBroker.matches("*", "a/b")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertTrue(SessionEventBroker.matches("a/*", "a/b/c")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertTrue(SessionEventBroker.matches("a/b", "a/b")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertFalse(SessionEventBroker.matches("a/*", "a")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertFalse(SessionEventBroker.matches("a/*", "ab/c")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertFalse(SessionEventBroker.matches("a/b", "a/b/c")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private SessionEventBroker createBroker() {
+		SessionEventBroker result = new SessionEventBroker() {
+			@Override
+			EventAdmin getEventAdmin() {
+				return eventAdmin;
+			}
+
+			@Override
+			BundleContext getBundleContext() {
+				return bundleContext;
+			}
+		};
+		result.logger = mock(Logger.class);
+		result.uiSync = uiSync;
+		return result;
+	}
+
+	private static Map<String, Object> createProperties(String key, Object value) {
+		Map<String, Object> result = new HashMap<String, Object>();
+		result.put(key, value);
+		return result;
+	}
+
+	private static final class RecordingHandler implements EventHandler {
+
+		private final List<Event> events = new ArrayList<Event>();
+		private final CountDownLatch latch;
+		private volatile Thread thread;
+
+		RecordingHandler() {
+			this(1);
+		}
+
+		RecordingHandler(int expectedCount) {
+			latch = new CountDownLatch(expectedCount);
+		}
+
+		@Override
+		public void handleEvent(Event event) {
+			synchronized (events) {
+				events.add(event);
+			}
+			thread = Thread.currentThread();
+			latch.countDown();
+		}
+
+		boolean await() throws InterruptedException {
+			return latch.await(TIMEOUT, TimeUnit.MILLISECONDS);
+		}
+
+		List<Event> getEvents() {
+			synchronized (events) {
+				return new ArrayList<Event>(events);
+			}
+		}
+
+		List<String> getTopics() {
+			List<String> result = new ArrayList<String>();
+			for (Event event : getEvents()) {
+				result.add(event.getTopic());
+			}
+			return result;
+		}
+
+		Thread getThread() {
+			return thread;
+		}
+	}
+
+	/*
+	 * Runs synchronous runnables in place and keeps asynchronous ones until
+	 * the test runs them, like a UI thread that is busy.
+	 */
+	private static final class RecordingUISynchronize extends UISynchronize {
+
+		private final List<Runnable> asyncExecs = new ArrayList<Runnable>();
+		private int syncExecCount;
+
+		@Override
+		public synchronized void syncExec(Runnable runnable) {
+			syncExecCount++;
+			runnable.run();
+		}
+
+		@Override
+		public synchronized void asyncExec(Runnable runnable) {
+			asyncExecs.add(runnable);
+			notifyAll();
+		}
+
+		@Override
+		public boolean isUIThread(Thread thread) {
+			return false;
+		}
+
+		@Override
+		protected void showBusyWhile(Runnable runnable) {
+			runnable.run();
+		}
+
+		@Override
+		protected boolean dispatchEvents() {
+			return false;
+		}
+
+		synchronized int getSyncExecCount() {
+			return syncExecCount;
+		}
+
+		synchronized boolean awaitAsyncExec() throws InterruptedException {
+			long end = System.currentTimeMillis() + TIMEOUT;
+			while (asyncExecs.isEmpty() && System.currentTimeMillis() < end) {
+				wait(TIMEOUT);
+			}
+			return !asyncExecs.isEmpty();
+		}
+
+		void runAsyncExecs() {
+			List<Runnable> runnables;
+			synchronized (this) {
+				runnables = new ArrayList<Runnable>(asyncExecs);
+				asyncExecs.clear();
+			}
+			for (Runnable runnable : runnables) {
+				runnable.run();
+			}
+		}
+	}
+}
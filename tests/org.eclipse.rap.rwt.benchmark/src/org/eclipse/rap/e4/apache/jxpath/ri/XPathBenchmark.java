@@ -0,0 +1,235 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.e4.apache.jxpath.ri;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.e4.emf.internal.xpath.JXPathContextImpl;
+import org.eclipse.e4.emf.xpath.EcoreXPathContextFactory;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.rap.e4.apache.jxpath.ClassFunctions;
+import org.eclipse.rap.e4.apache.jxpath.JXPathContext;
+import org.eclipse.rap.e4.apache.jxpath.ri.compiler.Expression;
+import org.eclipse.rap.e4.apache.jxpath.ri.compiler.TreeCompiler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+
+/*
+ * Compares evaluating the XPath expressions used by model processors with and without parsing
+ * them first. The model is a dynamic EMF model that mirrors the structure of an e4 application
+ * model: windows with sash containers, part stacks and parts, plus commands and handlers.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class XPathBenchmark {
+
+  private static final String[] EXPRESSIONS = {
+    "/children[@elementId='window.main']",
+    "//children[@elementId='stack.7']/children",
+    "//children['Editor'=tags]",
+    "//*[ecore:eClassName(.)='PartStack']",
+    "commands[@elementId='command.42']",
+    "handlers[command/@elementId='command.3']"
+  };
+
+  @Param( { "100", "1000" } )
+  public int partCount;
+
+  private EObject application;
+  private JXPathContextReferenceImpl context;
+  private Compiler compiler;
+
+  @Setup
+  public void setUp() {
+    // registers the EObject pointer factory
+    EcoreXPathContextFactory.newInstance();
+    application = new ApplicationModel().create( partCount );
+    context = ( JXPathContextReferenceImpl )JXPathContext.newContext( application );
+    context.setFunctions( new ClassFunctions( JXPathContextImpl.EMFFunctions.class, "ecore" ) );
+    compiler = new TreeCompiler();
+  }
+
+  @Benchmark
+  public void parse( Blackhole blackhole ) {
+    for( String xpath : EXPRESSIONS ) {
+      blackhole.consume( Parser.parseExpression( xpath, compiler ) );
+    }
+  }
+
+  @Benchmark
+  public void evaluate_parsed( Blackhole blackhole ) {
+    for( String xpath : EXPRESSIONS ) {
+      Expression expression = ( Expression )Parser.parseExpression( xpath, compiler );
+      consume( context.iterate( xpath, expression ), blackhole );
+    }
+  }
+
+  @Benchmark
+  public void evaluate_cached( Blackhole blackhole ) {
+    for( String xpath : EXPRESSIONS ) {
+      consume( context.iterate( xpath ), blackhole );
+    }
+  }
+
+  private static void consume( Iterator<?> iterator, Blackhole blackhole ) {
+    while( iterator.hasNext() ) {
+      blackhole.consume( iterator.next() );
+    }
+  }
+
+  private static final class ApplicationModel {
+
+    private static final int PARTS_PER_STACK = 10;
+    private static final int STACKS_PER_WINDOW = 20;
+
+    private final EcoreFactory factory = EcoreFactory.eINSTANCE;
+    private final EClass elementClass;
+    private final EClass containerClass;
+    private final EClass applicationClass;
+    private final EClass windowClass;
+    private final EClass sashClass;
+    private final EClass stackClass;
+    private final EClass partClass;
+    private final EClass commandClass;
+    private final EClass handlerClass;
+    private final EAttribute elementId;
+    private final EAttribute tags;
+    private final EReference children;
+    private final EReference commands;
+    private final EReference handlers;
+    private final EReference command;
+
+    ApplicationModel() {
+      EPackage ePackage = factory.createEPackage();
+      ePackage.setName( "application" );
+      ePackage.setNsURI( "http://www.eclipse.org/rap/benchmark/application" );
+      ePackage.setNsPrefix( "application" );
+      elementClass = createClass( ePackage, "ApplicationElement" );
+      elementClass.setAbstract( true );
+      elementId = createAttribute( elementClass, "elementId", false );
+      tags = createAttribute( elementClass, "tags", true );
+      containerClass = createClass( ePackage, "ElementContainer", elementClass );
+      containerClass.setAbstract( true );
+      children = createReference( containerClass, "children", elementClass, true );
+      applicationClass = createClass( ePackage, "Application", containerClass );
+      windowClass = createClass( ePackage, "TrimmedWindow", containerClass );
+      sashClass = createClass( ePackage, "PartSashContainer", containerClass );
+      stackClass = createClass( ePackage, "PartStack", containerClass );
+      partClass = createClass( ePackage, "Part", elementClass );
+      commandClass = createClass( ePackage, "Command", elementClass );
+      handlerClass = createClass( ePackage, "Handler", elementClass );
+      commands = createReference( applicationClass, "commands", commandClass, true );
+      handlers = createReference( applicationClass, "handlers", handlerClass, true );
+      command = createReference( handlerClass, "command", commandClass, false );
+    }
+
+    EObject create( int partCount ) {
+      EObject result = createElement( applicationClass, "application" );
+      int stackCount = Math.max( 1, partCount / PARTS_PER_STACK );
+      EObject window = null;
+      EObject sash = null;
+      for( int i = 0; i < stackCount; i++ ) {
+        if( i % STACKS_PER_WINDOW == 0 ) {
+          window = createElement( windowClass, i == 0 ? "window.main" : "window." + i );
+          getList( result, children ).add( window );
+          sash = createElement( sashClass, "sash." + i );
+          getList( window, children ).add( sash );
+        }
+        EObject stack = createElement( stackClass, "stack." + i );
+        getList( sash, children ).add( stack );
+        for( int j = 0; j < PARTS_PER_STACK; j++ ) {
+          EObject part = createElement( partClass, "part." + i + "." + j );
+          getList( part, tags ).add( j % 2 == 0 ? "View" : "Editor" );
+          getList( stack, children ).add( part );
+        }
+      }
+      for( int i = 0; i < partCount; i++ ) {
+        EObject commandElement = createElement( commandClass, "command." + i );
+        getList( result, commands ).add( commandElement );
+        EObject handler = createElement( handlerClass, "handler." + i );
+        handler.eSet( command, commandElement );
+        getList( result, handlers ).add( handler );
+      }
+      return result;
+    }
+
+    private EObject createElement( EClass eClass, String id ) {
+      EObject result = EcoreUtil.create( eClass );
+      result.eSet( elementId, id );
+      return result;
+    }
+
+    @SuppressWarnings( "unchecked" )
+    private static List<Object> getList( EObject eObject, EStructuralFeature feature ) {
+      return ( List<Object> )eObject.eGet( feature );
+    }
+
+    private EClass createClass( EPackage ePackage, String name, EClass... superTypes ) {
+      EClass result = factory.createEClass();
+      result.setName( name );
+      for( EClass superType : superTypes ) {
+        result.getESuperTypes().add( superType );
+      }
+      ePackage.getEClassifiers().add( result );
+      return result;
+    }
+
+    private EAttribute createAttribute( EClass eClass, String name, boolean many ) {
+      EAttribute result = factory.createEAttribute();
+      result.setName( name );
+      result.setEType( EcorePackage.Literals.ESTRING );
+      result.setUpperBound( many ? -1 : 1 );
+      eClass.getEStructuralFeatures().add( result );
+      return result;
+    }
+
+    private EReference createReference( EClass eClass,
+                                         String name,
+                                         EClass type,
+                                         boolean containment )
+    {
+      EReference result = factory.createEReference();
+      result.setName( name );
+      result.setEType( type );
+      result.setContainment( containment );
+      result.setUpperBound( containment ? -1 : 1 );
+      eClass.getEStructuralFeatures().add( result );
+      return result;
+    }
+
+  }
+
+}
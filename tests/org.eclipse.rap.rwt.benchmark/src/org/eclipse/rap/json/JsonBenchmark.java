@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.json;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rap.rwt.benchmark.BenchmarkMessages;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class JsonBenchmark {
+
+  @Param( { "10", "1000" } )
+  public int operationCount;
+
+  private String message;
+  private JsonObject messageObject;
+  private String plainString;
+  private String escapedString;
+
+  @Setup
+  public void setUp() {
+    messageObject = BenchmarkMessages.createClientMessage( operationCount );
+    message = messageObject.toString();
+    plainString = BenchmarkMessages.createText( 1000, false );
+    escapedString = BenchmarkMessages.createText( 1000, true );
+  }
+
+  @Benchmark
+  public JsonValue parseValue() {
+    return JsonValue.readFrom( message );
+  }
+
+  @Benchmark
+  public JsonObject parseObject() {
+    return JsonObject.readFrom( message );
+  }
+
+  @Benchmark
+  public String writeObject() {
+    return messageObject.toString();
+  }
+
+  @Benchmark
+  public StringWriter writeString_plain() throws IOException {
+    StringWriter output = new StringWriter( plainString.length() + 2 );
+    new JsonWriter( output ).writeString( plainString );
+    return output;
+  }
+
+  @Benchmark
+  public StringWriter writeString_escaped() throws IOException {
+    StringWriter output = new StringWriter( escapedString.length() * 2 );
+    new JsonWriter( output ).writeString( escapedString );
+    return output;
+  }
+
+}
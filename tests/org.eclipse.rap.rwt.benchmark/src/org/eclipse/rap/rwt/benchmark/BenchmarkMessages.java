@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.benchmark;
+
+import org.eclipse.rap.json.JsonArray;
+import org.eclipse.rap.json.JsonObject;
+
+
+/*
+ * Creates the input data of the benchmarks. The data is deterministic, hence results of
+ * different runs can be compared.
+ */
+public final class BenchmarkMessages {
+
+  private BenchmarkMessages() {
+    // prevent instantiation
+  }
+
+  /*
+   * Creates a client message with the given number of operations that resembles the messages
+   * sent by the web client: mostly set operations, every fifth operation is a notify.
+   */
+  public static JsonObject createClientMessage( int operationCount ) {
+    JsonObject head = new JsonObject()
+      .add( "requestCounter", 42 )
+      .add( "connectionId", "3f2a6c1e" );
+    JsonArray operations = new JsonArray();
+    for( int i = 0; i < operationCount; i++ ) {
+      String target = getWidgetId( i );
+      if( i % 5 == 4 ) {
+        JsonObject properties = new JsonObject()
+          .add( "shiftKey", false )
+          .add( "ctrlKey", false )
+          .add( "altKey", false )
+          .add( "detail", 0 );
+        operations.add( new JsonArray().add( "notify" ).add( target ).add( "Selection" ).add( properties ) );
+      } else {
+        JsonObject properties = new JsonObject()
+          .add( "text", "Item " + i )
+          .add( "selection", new JsonArray().add( i ).add( i + 3 ) )
+          .add( "bounds", new JsonArray().add( 10 ).add( i * 20 ).add( 200 ).add( 20 ) );
+        operations.add( new JsonArray().add( "set" ).add( target ).add( properties ) );
+      }
+    }
+    return new JsonObject().add( "head", head ).add( "operations", operations );
+  }
+
+  /*
+   * Creates a text of the given length, optionally with characters that need to be escaped in
+   * JSON strings.
+   */
+  public static String createText( int length, boolean escaped ) {
+    StringBuilder result = new StringBuilder( length );
+    String plain = "The quick brown fox jumps over the lazy dog. ";
+    String special = "Line\n\"quoted\"\ttab\\path\u2028 ";
+    String source = escaped ? special : plain;
+    while( result.length() < length ) {
+      result.append( source.charAt( result.length() % source.length() ) );
+    }
+    return result.toString();
+  }
+
+  public static String getWidgetId( int index ) {
+    return "w" + ( index + 2 );
+  }
+
+}
@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+import static org.eclipse.rap.rwt.internal.service.ContextProvider.getApplicationContext;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rap.rwt.application.EntryPoint;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.rap.rwt.testfixture.internal.TestRequest;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Shell;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/*
+ * Measures a complete request of a UI session with a widget tree of the given size. The
+ * lifecycle runs on the benchmark thread with the fake request and response of the test
+ * fixture, hence the numbers do not include network and servlet container overhead.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 5, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 1 )
+public class LifeCycleBenchmark {
+
+  private static final int LABELS_PER_COMPOSITE = 50;
+
+  // entry points are created by reflection, the size is passed in a static field
+  static int widgetCount;
+
+  @Param( { "1000", "10000", "50000" } )
+  public int size;
+
+  private SimpleLifeCycle lifeCycle;
+  private Label[] labels;
+  private int requestCount;
+
+  @Setup( Level.Trial )
+  public void setUp() throws IOException {
+    widgetCount = size;
+    Fixture.setUp();
+    getApplicationContext().getEntryPointManager()
+      .register( TestRequest.DEFAULT_SERVLET_PATH, TreeEntryPoint.class, null );
+    lifeCycle = new SimpleLifeCycle( getApplicationContext() );
+    Fixture.fakeNewRequest();
+    lifeCycle.execute();
+    labels = collectLabels( Display.getCurrent().getShells()[ 0 ] );
+  }
+
+  @TearDown( Level.Trial )
+  public void tearDown() {
+    Fixture.tearDown();
+  }
+
+  /*
+   * A request that does not change any widget, only the preserve and render phases have to
+   * visit the widget tree.
+   */
+  @Benchmark
+  public void execute_unchanged() throws IOException {
+    Fixture.fakeNewRequest();
+    lifeCycle.execute();
+  }
+
+  /*
+   * A request that changes the text of every tenth label.
+   */
+  @Benchmark
+  public void execute_changed() throws IOException {
+    Fixture.fakeNewRequest();
+    requestCount++;
+    for( int i = 0; i < labels.length; i += 10 ) {
+      labels[ i ].setText( "Label " + i + "/" + requestCount );
+    }
+    lifeCycle.execute();
+  }
+
+  private static Label[] collectLabels( Shell shell ) {
+    Label[] result = new Label[ widgetCount ];
+    int index = 0;
+    for( Control composite : shell.getChildren() ) {
+      for( Control label : ( ( Composite )composite ).getChildren() ) {
+        result[ index++ ] = ( Label )label;
+      }
+    }
+    return result;
+  }
+
+  public static class TreeEntryPoint implements EntryPoint {
+
+    @Override
+    public int createUI() {
+      Display display = new Display();
+      Shell shell = new Shell( display );
+      shell.setLayout( new FillLayout( SWT.VERTICAL ) );
+      Composite composite = null;
+      for( int i = 0; i < widgetCount; i++ ) {
+        if( i % LABELS_PER_COMPOSITE == 0 ) {
+          composite = new Composite( shell, SWT.NONE );
+        }
+        Label label = new Label( composite, SWT.NONE );
+        label.setText( "Label " + i );
+        label.setBounds( 0, ( i % LABELS_PER_COMPOSITE ) * 20, 200, 20 );
+      }
+      shell.setBounds( 0, 0, 800, 600 );
+      shell.open();
+      return 0;
+    }
+
+  }
+
+}
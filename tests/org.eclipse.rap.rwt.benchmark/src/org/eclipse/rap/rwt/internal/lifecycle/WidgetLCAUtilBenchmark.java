@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.lifecycle;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.internal.widgets.WidgetRemoteAdapter;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+
+/*
+ * Measures the preserve and render cycle of the widget LCAs for a number of widgets. Half of the
+ * widgets change between preserve and render, hence both code paths of the change detection are
+ * covered.
+ *
+ * preserveAndClear isolates the storage of the preserved values: every widget preserves the
+ * property set of a control, the values are compared and cleared again as at the end of a
+ * request. Compare it with a run of the parent commit to see the effect of a change to the
+ * preserved value slots.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class WidgetLCAUtilBenchmark {
+
+  @Param( { "100", "1000" } )
+  public int widgetCount;
+
+  private static final String[] PROPERTIES = {
+    "bounds", "text", "image", "alignment", "selection", "grayed", "enabled", "visible",
+    "toolTip", "foreground", "background", "font", "cursor", "tabIndex"
+  };
+
+  private Button[] buttons;
+  private WidgetRemoteAdapter[] adapters;
+  private Rectangle bounds;
+  private int cycle;
+
+  @Setup( Level.Trial )
+  public void setUp() {
+    Fixture.setUp();
+    Display display = new Display();
+    Shell shell = new Shell( display );
+    Fixture.markInitialized( display );
+    buttons = new Button[ widgetCount ];
+    adapters = new WidgetRemoteAdapter[ widgetCount ];
+    for( int i = 0; i < widgetCount; i++ ) {
+      buttons[ i ] = new Button( shell, SWT.PUSH );
+      buttons[ i ].setText( "Button " + i );
+      Fixture.markInitialized( buttons[ i ] );
+      adapters[ i ] = ( WidgetRemoteAdapter )WidgetUtil.getAdapter( buttons[ i ] );
+    }
+    bounds = new Rectangle( 0, 0, 100, 20 );
+  }
+
+  @TearDown( Level.Trial )
+  public void tearDown() {
+    Fixture.tearDown();
+  }
+
+  @Benchmark
+  public void preserveAndRender() {
+    cycle++;
+    Fixture.fakeResponseWriter();
+    Fixture.fakePhase( PhaseId.READ_DATA );
+    for( Button button : buttons ) {
+      WidgetLCAUtil.preserveProperty( button, "text", button.getText() );
+      WidgetLCAUtil.preserveProperty( button, "selection", button.getSelection() );
+      WidgetLCAUtil.preserveBounds( button, button.getBounds() );
+    }
+    for( int i = 0; i < buttons.length; i += 2 ) {
+      buttons[ i ].setText( "Button " + i + "/" + cycle );
+    }
+    Fixture.fakePhase( PhaseId.RENDER );
+    for( Button button : buttons ) {
+      WidgetLCAUtil.renderProperty( button, "text", button.getText(), "" );
+      WidgetLCAUtil.renderProperty( button, "selection", button.getSelection(), false );
+      WidgetLCAUtil.renderBounds( button, bounds );
+    }
+    Fixture.clearPreserved();
+  }
+
+  @Benchmark
+  public void preserveAndClear( Blackhole blackhole ) {
+    for( int i = 0; i < buttons.length; i++ ) {
+      Button button = buttons[ i ];
+      for( int j = 0; j < PROPERTIES.length; j++ ) {
+        preserve( button, j );
+      }
+      for( int j = 0; j < PROPERTIES.length; j++ ) {
+        blackhole.consume( hasChanged( button, j ) );
+      }
+      adapters[ i ].clearPreserved();
+    }
+  }
+
+  // object, int and boolean properties take turns
+  private static void preserve( Button button, int index ) {
+    switch( index % 3 ) {
+      case 0:
+        WidgetLCAUtil.preserveProperty( button, PROPERTIES[ index ], button.getText() );
+      break;
+      case 1:
+        WidgetLCAUtil.preserveProperty( button, PROPERTIES[ index ], index );
+      break;
+      default:
+        WidgetLCAUtil.preserveProperty( button, PROPERTIES[ index ], true );
+    }
+  }
+
+  private static boolean hasChanged( Button button, int index ) {
+    switch( index % 3 ) {
+      case 0:
+        return WidgetLCAUtil.hasChanged( button, PROPERTIES[ index ], button.getText() );
+      case 1:
+        return WidgetLCAUtil.hasChanged( button, PROPERTIES[ index ], index, 0 );
+      default:
+        return WidgetLCAUtil.hasChanged( button, PROPERTIES[ index ], true, false );
+    }
+  }
+
+}
@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.protocol;
+
+import static org.eclipse.rap.rwt.benchmark.BenchmarkMessages.getWidgetId;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rap.json.JsonArray;
+import org.eclipse.rap.json.JsonObject;
+import org.eclipse.rap.rwt.benchmark.BenchmarkMessages;
+import org.eclipse.rap.rwt.internal.protocol.Operation.NotifyOperation;
+import org.eclipse.rap.rwt.internal.protocol.Operation.SetOperation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class ProtocolMessageBenchmark {
+
+  @Param( { "100", "10000" } )
+  public int widgetCount;
+
+  private ClientMessage clientMessage;
+  private JsonObject clientMessageJson;
+  private byte[] clientMessageBytes;
+  private JsonArray bounds;
+
+  @Setup
+  public void setUp() {
+    clientMessageJson = BenchmarkMessages.createClientMessage( widgetCount );
+    clientMessage = new ClientMessage( clientMessageJson );
+    clientMessageBytes = clientMessageJson.toString().getBytes( StandardCharsets.UTF_8 );
+    bounds = new JsonArray().add( 0 ).add( 0 ).add( 100 ).add( 20 );
+  }
+
+  /*
+   * Writes the operations of an initial render of the widgets and serializes the message.
+   */
+  @Benchmark
+  public String writeResponseMessage() {
+    ProtocolMessageWriter writer = new ProtocolMessageWriter();
+    writer.appendHead( "requestCounter", 1 );
+    for( int i = 0; i < widgetCount; i++ ) {
+      String target = getWidgetId( i );
+      writer.appendCreate( target, "rwt.widgets.Label" );
+      writer.appendSet( target, "parent", "w1" );
+      writer.appendSet( target, "text", "Label " + i );
+      writer.appendSet( target, "bounds", bounds );
+      writer.appendSet( target, "enabled", true );
+      writer.appendListen( target, "Selection", true );
+    }
+    ResponseMessage message = writer.createMessage();
+    return message.toJson().toString();
+  }
+
+  @Benchmark
+  public ClientMessage createClientMessage() {
+    return new ClientMessage( clientMessageJson );
+  }
+
+  /*
+   * Decodes and parses a request body through a character reader into a JSON tree.
+   */
+  @Benchmark
+  public ClientMessage readClientMessage() throws IOException {
+    ByteArrayInputStream input = new ByteArrayInputStream( clientMessageBytes );
+    InputStreamReader reader = new InputStreamReader( input, StandardCharsets.UTF_8 );
+    return new ClientMessage( JsonObject.readFrom( reader ) );
+  }
+
+  /*
+   * Parses a request body from its UTF-8 bytes directly into operations.
+   */
+  @Benchmark
+  public ClientMessage readClientMessageUtf8() throws IOException {
+    return ClientMessage.readFrom( new ByteArrayInputStream( clientMessageBytes ) );
+  }
+
+  /*
+   * Looks up the operations of every widget, like the widget LCAs do when reading the data of a
+   * request.
+   */
+  @Benchmark
+  public void lookupOperations( Blackhole blackhole ) {
+    for( int i = 0; i < widgetCount; i++ ) {
+      String target = getWidgetId( i );
+      List<Operation> operations = clientMessage.getAllOperationsFor( target );
+      SetOperation text = clientMessage.getLastSetOperationFor( target, "text" );
+      NotifyOperation selection = clientMessage.getLastNotifyOperationFor( target, "Selection" );
+      blackhole.consume( operations );
+      blackhole.consume( text );
+      blackhole.consume( selection );
+    }
+  }
+
+}
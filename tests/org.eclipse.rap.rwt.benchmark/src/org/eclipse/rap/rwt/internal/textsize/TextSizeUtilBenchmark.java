@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.textsize;
+
+import static org.eclipse.rap.rwt.internal.service.ContextProvider.getApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.FontData;
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.widgets.Display;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/*
+ * Measures the lookup of text sizes that have already been measured by the client, which is the
+ * common case of a running application.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class TextSizeUtilBenchmark {
+
+  private static final FontData FONT_DATA = new FontData( "arial", 10, SWT.NORMAL );
+  private static final String TEXT = "The quick brown fox";
+
+  private Font font;
+
+  @Setup( Level.Trial )
+  public void setUp() {
+    Fixture.setUp();
+    Display display = new Display();
+    font = new Font( display, FONT_DATA );
+    ProbeResultStore.getInstance().createProbeResult( new Probe( FONT_DATA ), new Point( 10, 10 ) );
+    getApplicationContext().getTextSizeStorage().storeFont( FONT_DATA );
+    TextSizeStorageUtil.store( FONT_DATA, TEXT, SWT.DEFAULT, TextSizeUtil.STRING_EXTENT, new Point( 120, 10 ) );
+  }
+
+  @TearDown( Level.Trial )
+  public void tearDown() {
+    Fixture.tearDown();
+  }
+
+  @Benchmark
+  public Point stringExtent() {
+    return TextSizeUtil.stringExtent( font, TEXT );
+  }
+
+  @Benchmark
+  public int getCharHeight() {
+    return TextSizeUtil.getCharHeight( font );
+  }
+
+}
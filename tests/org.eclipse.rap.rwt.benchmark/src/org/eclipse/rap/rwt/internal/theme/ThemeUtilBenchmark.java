@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.theme;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/*
+ * Measures the lookup of themed values as done by the widgets when computing their sizes.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class ThemeUtilBenchmark {
+
+  private Button button;
+  private WidgetMatcher matcher;
+
+  @Setup( Level.Trial )
+  public void setUp() {
+    Fixture.setUp();
+    Display display = new Display();
+    button = new Button( new Shell( display ), SWT.PUSH | SWT.BORDER );
+    matcher = new WidgetMatcher();
+    matcher.addStyle( "PUSH", SWT.PUSH );
+    matcher.addStyle( "BORDER", SWT.BORDER );
+  }
+
+  @TearDown( Level.Trial )
+  public void tearDown() {
+    Fixture.tearDown();
+  }
+
+  @Benchmark
+  public CssValue getCssValue_default() {
+    return ThemeUtil.getCssValue( "Button", "color", SimpleSelector.DEFAULT );
+  }
+
+  @Benchmark
+  public CssValue getCssValue_widget() {
+    return ThemeUtil.getCssValue( "Button", "padding", matcher, button );
+  }
+
+}
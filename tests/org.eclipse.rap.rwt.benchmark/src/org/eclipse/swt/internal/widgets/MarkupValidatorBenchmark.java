@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+
+/*
+ * Measures the markup validation of the cells of a table with a few distinct markup patterns, as
+ * typically rendered by a label provider. Compares the former SAX based validation and scanning
+ * every cell with the validator that remembers validated texts.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class MarkupValidatorBenchmark {
+
+  private static final int CELLS = 10000;
+
+  private String[] cells;
+  private SAXMarkupValidator saxValidator;
+  private MarkupValidator validator;
+
+  @Setup
+  public void setUp() {
+    cells = createTableCells();
+    saxValidator = new SAXMarkupValidator();
+    validator = new MarkupValidator();
+  }
+
+  @Benchmark
+  public void validate_sax( Blackhole blackhole ) {
+    for( String cell : cells ) {
+      saxValidator.validate( cell );
+      blackhole.consume( cell );
+    }
+  }
+
+  @Benchmark
+  public void scan( Blackhole blackhole ) {
+    for( String cell : cells ) {
+      MarkupScanner.scan( cell );
+      blackhole.consume( cell );
+    }
+  }
+
+  @Benchmark
+  public void validate_cached( Blackhole blackhole ) {
+    for( String cell : cells ) {
+      validator.validate( cell );
+      blackhole.consume( cell );
+    }
+  }
+
+  private static String[] createTableCells() {
+    String[] result = new String[ CELLS ];
+    for( int i = 0; i < CELLS; i++ ) {
+      switch( i % 4 ) {
+        case 0:
+          result[ i ] = "Item " + i;
+        break;
+        case 1:
+          result[ i ] = "<b>Item</b> <i>" + ( i % 100 ) + "</i>";
+        break;
+        case 2:
+          result[ i ] = "<span style=\"color:red\" title=\"State\">&#9679;</span>&nbsp;active";
+        break;
+        default:
+          result[ i ] = "<img src=\"icons/item.png\" width=\"16\" height=\"16\"/>"
+                      + "<a href=\"#item" + ( i % 50 ) + "\" target=\"_self\">Open</a>";
+      }
+    }
+    return result;
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2022 EclipseSource and others.
+ * Copyright (c) 2009, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -73,6 +73,8 @@ org.eclipse.rwt.test.fixture.Fixture = {
     org.eclipse.rwt.test.fixture.TestUtil.initRequestLog();
     // prevent flush by timer
     this._disableAutoFlush();
+    // process messages synchronously, tests enable slicing explicitly
+    rwt.remote.MessageProcessor.setSliceDuration( 0 );
     org.eclipse.rwt.test.fixture.TestUtil.initRequestLog();
     org.eclipse.rwt.test.fixture.TestUtil.prepareTimerUse();
     // prevent actual dom-events
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2015 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -158,6 +158,77 @@ rwt.qx.Class.define( "org.eclipse.rwt.test.tests.ConnectionTest", {
       assertEquals( "foo?param=23&cid=bar", request._url );
     },
 
+    testProcessPrerenderedMessage_setsRequestCounter : function() {
+      connection.processPrerenderedMessage( { "head" : { "requestCounter" : 1 }, "operations" : [] } );
+
+      assertEquals( 1, connection.getRequestCounter() );
+      assertFalse( connection._requestPending );
+    },
+
+    testProcessPrerenderedMessage_holdsRequestsWhilePaused : function() {
+      var message = {
+        "head" : { "requestCounter" : 1 },
+        "operations" : [
+          [
+            "call",
+            "rwt.client.JavaScriptExecutor",
+            "execute",
+            { "content" : "rwt.remote.MessageProcessor.pauseExecution();" }
+          ]
+        ]
+      };
+
+      connection.processPrerenderedMessage( message );
+      var pendingWhilePaused = connection._requestPending;
+      rwt.remote.MessageProcessor.continueExecution();
+
+      assertTrue( pendingWhilePaused );
+      assertFalse( connection._requestPending );
+    },
+
+    testProcessPrerenderedMessage_releasesRequestsOnError : function() {
+      var message = {
+        "head" : { "requestCounter" : 1 },
+        "operations" : [ [ "create", "w2", "rwt.widgets.UnknownType", {} ] ]
+      };
+
+      try {
+        connection.processPrerenderedMessage( message );
+        fail();
+      } catch( ex ) {
+        // expected
+      }
+
+      assertFalse( connection._requestPending );
+    },
+
+    testHandleSuccess_releasesRequestOnAsynchronousError : function() {
+      var MessageProcessor = rwt.remote.MessageProcessor;
+      var ErrorHandler = rwt.runtime.ErrorHandler;
+      var originalProcessMessage = MessageProcessor.processMessage;
+      var originalProcessError = ErrorHandler.processJavaScriptErrorInResponse;
+      var errorHandler = null;
+      var log = [];
+      MessageProcessor.processMessage = function( message, callback, handler ) {
+        errorHandler = handler;
+      };
+      ErrorHandler.processJavaScriptErrorInResponse = function( script, error ) {
+        log.push( error );
+      };
+      connection._requestPending = true;
+
+      try {
+        connection._handleSuccess( { "responseText" : "{ \"head\" : {} }", "target" : null } );
+        errorHandler( "error" );
+      } finally {
+        MessageProcessor.processMessage = originalProcessMessage;
+        ErrorHandler.processJavaScriptErrorInResponse = originalProcessError;
+      }
+
+      assertEquals( [ "error" ], log );
+      assertFalse( connection._requestPending );
+    },
+
     testRetry : function() {
       var log = [];
       connection._retryHandler = function() { log.push( "retry" ); };
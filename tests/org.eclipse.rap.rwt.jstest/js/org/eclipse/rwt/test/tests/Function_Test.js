@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2013 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -110,6 +110,115 @@ rwt.qx.Class.define( "org.eclipse.rap.clientscripting.Function_Test", {
 
       assertEquals( 1, result );
 
+    },
+
+    testCreateFunctionForScript : function() {
+      var code = "var handleEvent = function( e ){ e.x++; };";
+      var listener = FunctionFactory.createFunctionForScript( "hash1", code, "handleEvent" );
+
+      var event = {
+        x : 1
+      };
+      listener( event );
+
+      assertEquals( 2, event.x );
+    },
+
+    testCreateFunctionForScript_reusesCompiledScript : function() {
+      var code = "var handleEvent = function(){};";
+      FunctionFactory.createFunctionForScript( "hash2", code, "handleEvent" );
+
+      var listener = FunctionFactory.createFunctionForScript( "hash2", null, "handleEvent" );
+
+      assertTrue( listener instanceof Function );
+    },
+
+    testCreateFunctionForScript_createsSeparateScopes : function() {
+      var code = "var count = 0;var handleEvent = function(){ return ++count; };";
+      var listener1 = FunctionFactory.createFunctionForScript( "hash3", code, "handleEvent" );
+      var listener2 = FunctionFactory.createFunctionForScript( "hash3", null, "handleEvent" );
+
+      listener1();
+
+      assertEquals( 2, listener1() );
+      assertEquals( 1, listener2() );
+    },
+
+    testCreateFunctionForScript_unknownScript : function() {
+      try {
+        FunctionFactory.createFunctionForScript( "unknownHash", null, "handleEvent" );
+        fail();
+      } catch( ex ) {
+        // expected
+      }
+    },
+
+    testCreateFunctionForScript_syntaxError : function() {
+      try {
+        FunctionFactory.createFunctionForScript( "hash4", "null.no!;", "handleEvent" );
+        fail();
+      } catch( ex ) {
+        // expected
+      }
+    },
+
+    testCreateFunctionForScript_noFunction : function() {
+      try {
+        FunctionFactory.createFunctionForScript( "hash5", "1", "handleEvent" );
+        fail();
+      } catch( ex ) {
+        // expected
+      }
+    },
+
+    testCreateFunctionForScript_strictSupport : function() {
+      var code =   "\"use strict\";\n"
+                 + "var handleEvent = function(){ return foo(); };\n"
+                 + "var foo = function(){ return 1; };\n";
+      var listener = FunctionFactory.createFunctionForScript( "hash6", code, "handleEvent" );
+
+      assertEquals( 1, listener() );
+    },
+
+    testRegisterScript : function() {
+      FunctionFactory.registerScript( "hash7", function() {
+        var handleEvent = function(){ return 7; };
+        return handleEvent;
+      } );
+
+      var listener = FunctionFactory.createFunctionForScript( "hash7", null, "handleEvent" );
+
+      assertEquals( 7, listener() );
+    },
+
+    testCreateFunctionByProtocol_withScriptHash : function() {
+      var ObjectManager = rwt.remote.ObjectRegistry;
+      var processor = rwt.remote.MessageProcessor;
+      var code = "var handleEvent = function(){};";
+
+      processor.processOperation( {
+        "target" : "w4",
+        "action" : "create",
+        "type" : "rwt.scripting.Function",
+        "properties" : {
+          "scriptCode" : code,
+          "scriptHash" : "hash8",
+          "name" : "handleEvent"
+        }
+      } );
+      processor.processOperation( {
+        "target" : "w5",
+        "action" : "create",
+        "type" : "rwt.scripting.Function",
+        "properties" : {
+          "scriptHash" : "hash8",
+          "name" : "handleEvent"
+        }
+      } );
+
+      assertTrue( ObjectManager.getObject( "w4" ) instanceof Function );
+      assertTrue( ObjectManager.getObject( "w5" ) instanceof Function );
+      assertTrue( ObjectManager.getObject( "w4" ) !== ObjectManager.getObject( "w5" ) );
     }
 
   }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2014 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -68,6 +68,29 @@ rwt.qx.Class.define( "org.eclipse.rwt.test.tests.JavaScriptLoaderTest", {
       assertFalse( MessageProcessor.isPaused() );
       assertNull( scriptEl.onload );
       head.removeChild( scriptEl ); // cleaning up
+    },
+
+    testLoad_addsOnErrorToScriptTagThatFailsExecution : function() {
+      var log = [];
+      var message = {
+        "head" : {},
+        "operations" : [
+          [ "call", "rwt.client.JavaScriptLoader", "load", { "files" : [ "rwt-resource/myJS" ] } ]
+        ]
+      };
+      MessageProcessor.processMessage( message, null, function( error ) {
+        log.push( error );
+      } );
+      var head = document.getElementsByTagName( "head" )[ 0 ];
+      var scriptEl = head.lastChild;
+
+      scriptEl.onerror();
+
+      assertFalse( MessageProcessor.isPaused() );
+      assertEquals( 1, log.length );
+      assertNull( scriptEl.onload );
+      assertNull( scriptEl.onerror );
+      head.removeChild( scriptEl ); // cleaning up
     }
 
   }
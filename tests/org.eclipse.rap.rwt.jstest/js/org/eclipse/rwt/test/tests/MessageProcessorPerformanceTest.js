@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+
+(function(){
+
+var MessageProcessor = rwt.remote.MessageProcessor;
+var TestUtil = org.eclipse.rwt.test.fixture.TestUtil;
+
+/*
+ * Measures how long the browser is blocked while a large message is processed. Not part of the
+ * regular test suite, add it to RWTTestsContribution to run it.
+ */
+rwt.qx.Class.define( "org.eclipse.rwt.test.tests.MessageProcessorPerformanceTest", {
+
+  extend : rwt.qx.Object,
+
+  members : {
+
+    testProcessLargeMessage : function() {
+      var operationCount = 20000;
+      var unsliced = this._process( operationCount, 0 );
+      var sliced = this._process( operationCount, 50 );
+      this._log( "operations: " + operationCount );
+      this._log( "unsliced: total " + unsliced.total + "ms, longest block " + unsliced.longest + "ms" );
+      this._log(   "sliced: total " + sliced.total + "ms, longest block " + sliced.longest + "ms, "
+                 + sliced.slices + " slices" );
+    },
+
+    /////////
+    // Helper
+
+    _process : function( operationCount, sliceDuration ) {
+      var composite = "w2";
+      var operations = [
+        [ "create", composite, "rwt.widgets.Composite", { "style" : [], "parent" : "w1" } ]
+      ];
+      for( var i = 0; i < operationCount; i++ ) {
+        var id = "b" + sliceDuration + "_" + i;
+        operations.push( [ "create", id, "rwt.widgets.Label", {
+          "style" : [],
+          "parent" : composite,
+          "text" : "label " + i,
+          "bounds" : [ 0, i * 20, 100, 20 ]
+        } ] );
+      }
+      operations.push( [ "destroy", composite ] );
+      var message = { "head" : {}, "operations" : operations };
+      var result = { total : 0, longest : 0, slices : 0 };
+      var done = false;
+      MessageProcessor.setSliceDuration( sliceDuration );
+      TestUtil.clearTimerOnceLog();
+      var start = new Date().getTime();
+      this._measure( result, function() {
+        MessageProcessor.processMessage( message, function() {
+          done = true;
+          TestUtil.flush();
+        } );
+      } );
+      // run one slice at a time, TestUtil.forceTimerOnce would also run the follow-up slices
+      var runNextSlice = function() {
+        var next = TestUtil.getTimerOnceLog().shift();
+        next[ 0 ].call( next[ 1 ] );
+      };
+      while( !done ) {
+        this._measure( result, runNextSlice );
+      }
+      result.total = new Date().getTime() - start;
+      MessageProcessor.setSliceDuration( 0 );
+      return result;
+    },
+
+    _measure : function( result, func ) {
+      var start = new Date().getTime();
+      func();
+      result.longest = Math.max( result.longest, new Date().getTime() - start );
+      result.slices++;
+    },
+
+    _log : function( text ) {
+      if( window.console ) {
+        window.console.log( "[MessageProcessorPerformanceTest] " + text );
+      }
+    }
+
+  }
+
+} );
+
+}());
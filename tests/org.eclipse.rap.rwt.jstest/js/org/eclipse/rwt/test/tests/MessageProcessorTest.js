@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2017 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -617,6 +617,18 @@ rwt.qx.Class.define( "org.eclipse.rwt.test.tests.MessageProcessorTest", {
       assertEquals( "foo", connection.getConnectionId() );
     },
 
+    testProcessHeadSetRequestCounter : function() {
+      var message = {
+        "head": {
+          "requestCounter": 1
+        },
+        "operations" : []
+      };
+      MessageProcessor.processMessage( message );
+      var connection = rwt.remote.Connection.getInstance();
+      assertEquals( 1, connection.getRequestCounter() );
+    },
+
     testProcessMessage_withoutOperationsArray : function() {
       var message = {
         "head": {
@@ -784,7 +796,7 @@ rwt.qx.Class.define( "org.eclipse.rwt.test.tests.MessageProcessorTest", {
       assertEquals( [ "width", 44, "width", 45 ], this._getTargetById( "dummyId" ).getLog() );
     },
 
-    testPauseExecutionWhileFirstMessageStillPendingFails : function() {
+    testProcessMessage_queuesMessageWhileSuspended : function() {
       HandlerRegistry.add( "dummyType", {
         factory : this._getDummyFactory(),
         properties : [ "width" ]
@@ -792,6 +804,7 @@ rwt.qx.Class.define( "org.eclipse.rwt.test.tests.MessageProcessorTest", {
       var message = {
         "head" : {},
         "operations" : [
+          [ "create", "dummyId", "dummyType", { "style" : [], "width" : 44 } ],
           [
             "call",
             "rwt.client.JavaScriptExecutor",
@@ -800,20 +813,276 @@ rwt.qx.Class.define( "org.eclipse.rwt.test.tests.MessageProcessorTest", {
           ]
         ]
       };
+      MessageProcessor.processMessage( message );
+
+      MessageProcessor.processMessage( {
+        "head" : {},
+        "operations" : [ [ "set", "dummyId", { "width" : 45 } ] ]
+      } );
+      var logWhilePaused = this._getTargetById( "dummyId" ).getLog().slice();
+      MessageProcessor.continueExecution();
+
+      assertEquals( [ "width", 44 ], logWhilePaused );
+      assertEquals( [ "width", 44, "width", 45 ], this._getTargetById( "dummyId" ).getLog() );
+      HandlerRegistry.remove( "dummyType" );
+    },
+
+    testProcessMessage_queuesMessageWhileYielding : function() {
+      this._fakeSlicing( 10, 6 );
+      var message = this._createSetMessage( 3 );
+      var log = [];
+      MessageProcessor.processMessage( message, function() {
+        log.push( "first" );
+      } );
+
+      MessageProcessor.processMessage( {
+        "head" : {},
+        "operations" : [ [ "set", "dummyId", { "width" : 10 } ] ]
+      }, function() {
+        log.push( "second" );
+      } );
+      var logWhileYielding = log.slice();
+      TestUtil.forceTimerOnce();
+
+      var expected = [ "width", 0, "width", 1, "width", 2, "width", 10 ];
+      assertEquals( [], logWhileYielding );
+      assertEquals( [ "first", "second" ], log );
+      assertEquals( expected, this._getTargetById( "dummyId" ).getLog() );
+      this._restoreSlicing();
+    },
+
+    testFailExecution_passesErrorToErrorHandler : function() {
+      var message = {
+        "head" : {},
+        "operations" : [
+          [
+            "call",
+            "rwt.client.JavaScriptExecutor",
+            "execute",
+            { "content" : "rwt.remote.MessageProcessor.pauseExecution();" }
+          ]
+        ]
+      };
+      var error = new Error( "foo" );
+      var log = [];
+      MessageProcessor.processMessage( message, function() {
+        log.push( "done" );
+      }, function( ex ) {
+        log.push( ex );
+      } );
+
+      MessageProcessor.failExecution( error );
+
+      assertFalse( MessageProcessor.isPaused() );
+      assertEquals( [ error ], log );
+    },
+
+    testFailExecution_processesQueuedMessages : function() {
+      var message = {
+        "head" : {},
+        "operations" : [
+          [
+            "call",
+            "rwt.client.JavaScriptExecutor",
+            "execute",
+            { "content" : "rwt.remote.MessageProcessor.pauseExecution();" }
+          ]
+        ]
+      };
+      var log = [];
+      MessageProcessor.processMessage( message, null, function() {} );
+      MessageProcessor.processMessage( { "head" : {}, "operations" : [] }, function() {
+        log.push( "second" );
+      } );
+
+      MessageProcessor.failExecution( new Error( "foo" ) );
+
+      assertEquals( [ "second" ], log );
+    },
+
+    testProcessMessage_withoutCallbackIgnoresSliceDuration : function() {
+      this._fakeSlicing( 10, 6 );
+      var message = this._createSetMessage( 5 );
 
       MessageProcessor.processMessage( message );
 
-      try {
-        MessageProcessor.processMessage( message );
-        fail();
-      } catch( ex ) {
-        MessageProcessor.continueExecution();
-      }
+      assertEquals( 5, this._getTargetById( "dummyId" ).getLog().length / 2 );
+      assertEquals( 0, TestUtil.getTimerOnceLog().length );
+      this._restoreSlicing();
+    },
+
+    testProcessMessage_yieldsAfterSliceDuration : function() {
+      this._fakeSlicing( 10, 6 );
+      var message = this._createSetMessage( 5 );
+      var log = [];
+
+      MessageProcessor.processMessage( message, function() {
+        log.push( "done" );
+      } );
+
+      assertEquals( [ "width", 0 ], this._getTargetById( "dummyId" ).getLog() );
+      assertEquals( 1, TestUtil.getTimerOnceLog().length );
+      assertEquals( [], log );
+      this._restoreSlicing();
+    },
+
+    testProcessMessage_continuesAfterYield : function() {
+      this._fakeSlicing( 10, 6 );
+      var message = this._createSetMessage( 5 );
+      var log = [];
+
+      MessageProcessor.processMessage( message, function() {
+        log.push( "done" );
+      } );
+      TestUtil.forceTimerOnce();
+
+      var expected = [ "width", 0, "width", 1, "width", 2, "width", 3, "width", 4 ];
+      assertEquals( expected, this._getTargetById( "dummyId" ).getLog() );
+      assertEquals( 0, TestUtil.getTimerOnceLog().length );
+      assertEquals( [ "done" ], log );
+      this._restoreSlicing();
+    },
+
+    testProcessMessage_blocksUserInputWhileYielding : function() {
+      this._fakeSlicing( 10, 6 );
+      var message = this._createSetMessage( 3 );
+      var blocker = rwt.widgets.base.ClientDocument.getInstance()._getBlocker();
+
+      MessageProcessor.processMessage( message, function() {} );
+      var blockedWhileYielding = blocker.getVisibility();
+      TestUtil.forceTimerOnce();
+
+      assertTrue( blockedWhileYielding );
+      assertFalse( blocker.getVisibility() );
+      this._restoreSlicing();
+    },
+
+    testProcessMessage_flushesQueuesAtSliceBoundary : function() {
+      this._fakeSlicing( 10, 6 );
+      var message = this._createSetMessage( 3 );
+      var log = [];
+      var that = this;
+      var Widget = rwt.widgets.base.Widget;
+      var originalFlush = Widget.flushGlobalQueues;
+      Widget.flushGlobalQueues = function() {
+        log.push( that._getTargetById( "dummyId" ).getLog().length / 2 );
+      };
+
+      MessageProcessor.processMessage( message, function() {} );
+      TestUtil.forceTimerOnce();
+
+      Widget.flushGlobalQueues = originalFlush;
+      assertEquals( [ 1 ], log );
+      this._restoreSlicing();
+    },
+
+    testProcessMessage_pauseExecutionWhileSlicing : function() {
+      this._fakeSlicing( 10, 6 );
+      var message = this._createSetMessage( 4 );
+      message.operations.splice( 3, 0, [
+        "call",
+        "rwt.client.JavaScriptExecutor",
+        "execute",
+        { "content" : "rwt.remote.MessageProcessor.pauseExecution();" }
+      ] );
+      var log = [];
+
+      MessageProcessor.processMessage( message, function() {
+        log.push( "done" );
+      } );
+      TestUtil.forceTimerOnce();
+      var pausedAfterYield = MessageProcessor.isPaused();
+      MessageProcessor.continueExecution();
+
+      assertTrue( pausedAfterYield );
+      assertEquals( 8, this._getTargetById( "dummyId" ).getLog().length );
+      assertEquals( [ "done" ], log );
+      this._restoreSlicing();
+    },
+
+    testProcessMessage_passesErrorInLaterSliceToErrorHandler : function() {
+      this._fakeSlicing( 10, 6 );
+      var message = this._createSetMessage( 3 );
+      message.operations.push( [ "set", "unknownId", { "width" : 1 } ] );
+      var blocker = rwt.widgets.base.ClientDocument.getInstance()._getBlocker();
+      var log = [];
+
+      MessageProcessor.processMessage( message, function() {
+        log.push( "done" );
+      }, function( error ) {
+        log.push( error );
+      } );
+      TestUtil.forceTimerOnce();
+
+      assertEquals( 1, log.length );
+      assertTrue( log[ 0 ] instanceof Error );
+      assertFalse( blocker.getVisibility() );
+      this._restoreSlicing();
+    },
+
+    testProcessMessage_blocksModalShellWhileYielding : function() {
+      TestUtil.fakeResponse( true );
+      var shell = new rwt.widgets.Shell( [ "APPLICATION_MODAL" ] );
+      shell.addState( "rwt_APPLICATION_MODAL" );
+      shell.initialize();
+      shell.open();
+      shell.setActive( true );
+      shell.setSpace( 50, 300, 50, 200 );
+      shell.setVisibility( true );
+      TestUtil.flush();
+      TestUtil.fakeResponse( false );
+      var blocker = rwt.widgets.base.ClientDocument.getInstance()._getBlocker();
+      this._fakeSlicing( 10, 6 );
+      var message = this._createSetMessage( 3 );
+
+      MessageProcessor.processMessage( message, function() {} );
+      var zIndexWhileYielding = blocker.getZIndex();
+      TestUtil.forceTimerOnce();
+
+      assertTrue( zIndexWhileYielding > shell.getZIndex() );
+      assertTrue( blocker.getZIndex() < shell.getZIndex() );
+      assertTrue( blocker.getVisibility() );
+      this._restoreSlicing();
+      shell.doClose();
+      blocker.hide();
+      TestUtil.flush();
+      shell.destroy();
+      TestUtil.flush();
     },
 
     /////////
     // Helper
 
+    // The fake clock advances on every call, i.e. once per operation and once per slice start
+    _fakeSlicing : function( duration, step ) {
+      var time = 0;
+      this._originalGetTime = MessageProcessor._getTime;
+      MessageProcessor.setSliceDuration( duration );
+      MessageProcessor._getTime = function() {
+        time += step;
+        return time;
+      };
+      TestUtil.clearTimerOnceLog();
+    },
+
+    _restoreSlicing : function() {
+      MessageProcessor.setSliceDuration( 0 );
+      MessageProcessor._getTime = this._originalGetTime;
+      HandlerRegistry.remove( "dummyType" );
+    },
+
+    _createSetMessage : function( count ) {
+      HandlerRegistry.add( "dummyType", {
+        factory : this._getDummyFactory(),
+        properties : [ "width" ]
+      } );
+      var operations = [ [ "create", "dummyId", "dummyType", {} ] ];
+      for( var i = 0; i < count; i++ ) {
+        operations.push( [ "set", "dummyId", { "width" : i } ] );
+      }
+      return { "head" : {}, "operations" : operations };
+    },
+
     _getDummyTarget : function( targetId ) {
       var log = [];
       var targetObject = {
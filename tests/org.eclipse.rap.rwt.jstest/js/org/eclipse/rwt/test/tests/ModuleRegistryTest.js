@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+
+(function(){
+
+var MessageProcessor = rwt.remote.MessageProcessor;
+var ModuleRegistry = rwt.remote.ModuleRegistry;
+var HandlerRegistry = rwt.remote.HandlerRegistry;
+var ObjectRegistry = rwt.remote.ObjectRegistry;
+
+rwt.qx.Class.define( "org.eclipse.rwt.test.tests.ModuleRegistryTest", {
+
+  extend : rwt.qx.Object,
+
+  members : {
+
+    testGetLocation : function() {
+      ModuleRegistry.add( "test.Module", "rwt-resources/module.js" );
+
+      assertEquals( "rwt-resources/module.js", ModuleRegistry.getLocation( "test.Module" ) );
+    },
+
+    testGetLocation_unknownType : function() {
+      assertNull( ModuleRegistry.getLocation( "test.Unknown" ) );
+    },
+
+    testLoad_unknownType : function() {
+      assertFalse( ModuleRegistry.load( "test.Unknown" ) );
+      assertFalse( MessageProcessor.isPaused() );
+    },
+
+    testLoad_withExistingHandler : function() {
+      ModuleRegistry.add( "test.Module", "rwt-resources/module.js" );
+      HandlerRegistry.add( "test.Module", {} );
+
+      assertFalse( ModuleRegistry.load( "test.Module" ) );
+      assertFalse( MessageProcessor.isPaused() );
+    },
+
+    testLoad_addsScriptTagAndPausesExecution : function() {
+      ModuleRegistry.add( "test.Module", "rwt-resources/module.js" );
+
+      assertTrue( ModuleRegistry.load( "test.Module" ) );
+
+      var script = getLastScript();
+      assertEquals( "rwt-resources/module.js", script.getAttribute( "src" ) );
+      assertTrue( MessageProcessor.isPaused() );
+      MessageProcessor.continueExecution();
+      script.parentNode.removeChild( script );
+    },
+
+    testProcessMessage_suspendsBeforeCreateOfModuleType : function() {
+      ModuleRegistry.add( "test.Module", "rwt-resources/module.js" );
+
+      MessageProcessor.processMessage( createMessage() );
+
+      assertTrue( MessageProcessor.isPaused() );
+      assertNull( ObjectRegistry.getObject( "w3" ) );
+      fakeModuleLoad();
+    },
+
+    testProcessMessage_createsObjectAfterModuleIsLoaded : function() {
+      ModuleRegistry.add( "test.Module", "rwt-resources/module.js" );
+      MessageProcessor.processMessage( createMessage() );
+
+      fakeModuleLoad();
+
+      assertFalse( MessageProcessor.isPaused() );
+      assertEquals( "bar", ObjectRegistry.getObject( "w3" ).foo );
+      assertEquals( "baz", ObjectRegistry.getObject( "w4" ).foo );
+    },
+
+    testProcessMessage_processesHeadOnlyOnce : function() {
+      var log = [];
+      var processHead = MessageProcessor.processHead;
+      MessageProcessor.processHead = function( head ) {
+        log.push( head );
+      };
+      ModuleRegistry.add( "test.Module", "rwt-resources/module.js" );
+
+      try {
+        MessageProcessor.processMessage( createMessage() );
+        fakeModuleLoad();
+      } finally {
+        MessageProcessor.processHead = processHead;
+      }
+
+      assertEquals( 1, log.length );
+    },
+
+    testProcessMessage_callsCallbackAfterModuleIsLoaded : function() {
+      var log = [];
+      ModuleRegistry.add( "test.Module", "rwt-resources/module.js" );
+
+      MessageProcessor.processMessage( createMessage(), function() {
+        log.push( "done" );
+      } );
+      var logBeforeLoad = log.slice();
+      fakeModuleLoad();
+
+      assertEquals( [], logBeforeLoad );
+      assertEquals( [ "done" ], log );
+    },
+
+    testProcessMessage_queuesMessageReceivedWhileModuleIsLoading : function() {
+      var log = [];
+      ModuleRegistry.add( "test.Module", "rwt-resources/module.js" );
+      MessageProcessor.processMessage( createMessage(), function() {
+        log.push( "first" );
+      } );
+
+      MessageProcessor.processMessage( {
+        "head" : {},
+        "operations" : [ [ "set", "w3", { "foo" : "qux" } ] ]
+      }, function() {
+        log.push( "second" );
+      } );
+      var logBeforeLoad = log.slice();
+      fakeModuleLoad();
+
+      assertEquals( [], logBeforeLoad );
+      assertEquals( [ "first", "second" ], log );
+      assertEquals( "qux", ObjectRegistry.getObject( "w3" ).foo );
+    },
+
+    testProcessMessage_reportsModuleThatCannotBeLoaded : function() {
+      var log = [];
+      ModuleRegistry.add( "test.Module", "rwt-resources/module.js" );
+      MessageProcessor.processMessage( createMessage(), function() {
+        log.push( "done" );
+      }, function( error ) {
+        log.push( error.message );
+      } );
+
+      var script = getLastScript();
+      script.onerror();
+      script.parentNode.removeChild( script );
+
+      assertFalse( MessageProcessor.isPaused() );
+      assertEquals( [ "Could not load script rwt-resources/module.js" ], log );
+      assertNull( ObjectRegistry.getObject( "w3" ) );
+    },
+
+    tearDown : function() {
+      ModuleRegistry.remove( "test.Module" );
+      HandlerRegistry.remove( "test.Module" );
+      ObjectRegistry.remove( "w3" );
+      ObjectRegistry.remove( "w4" );
+    }
+
+  }
+
+} );
+
+var createMessage = function() {
+  return {
+    "head" : {},
+    "operations" : [
+      [ "create", "w3", "test.Module", { "foo" : "bar" } ],
+      [ "create", "w4", "test.Module", { "foo" : "baz" } ]
+    ]
+  };
+};
+
+var getLastScript = function() {
+  var scripts = document.getElementsByTagName( "head" )[ 0 ].getElementsByTagName( "script" );
+  return scripts[ scripts.length - 1 ];
+};
+
+// simulates the execution of the module script, which registers the handler
+var fakeModuleLoad = function() {
+  var script = getLastScript();
+  HandlerRegistry.add( "test.Module", {
+    factory : function() {
+      return {};
+    },
+    properties : [ "foo" ],
+    propertyHandler : {
+      "foo" : function( target, value ) {
+        target.foo = value;
+      }
+    }
+  } );
+  script.onload();
+  script.parentNode.removeChild( script );
+};
+
+}());
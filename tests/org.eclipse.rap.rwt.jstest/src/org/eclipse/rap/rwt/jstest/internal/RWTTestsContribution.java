@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2014 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -92,6 +92,7 @@ public class RWTTestsContribution implements TestContribution {
     "tests/JavaScriptExecutorTest.js",
     "tests/UrlLauncherTest.js",
     "tests/JavaScriptLoaderTest.js",
+    "tests/ModuleRegistryTest.js",
     "tests/BrowserNavigationTest.js",
     "tests/FontSizeCalculationTest.js",
     "tests/MessageTest.js",
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013 EclipseSource.
+ * Copyright (c) 2013, 2026 EclipseSource.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -157,6 +157,27 @@ public class JsonNumber_Test {
     assertFalse( new JsonNumber( "23" ).hashCode() == new JsonNumber( "42" ).hashCode() );
   }
 
+  @Test
+  public void intConstructor_toString() {
+    assertEquals( "-23", new JsonNumber( -23 ).toString() );
+  }
+
+  @Test
+  public void intConstructor_asConversions() {
+    JsonNumber number = new JsonNumber( 23 );
+
+    assertEquals( 23, number.asInt() );
+    assertEquals( 23L, number.asLong() );
+    assertEquals( 23d, number.asDouble(), 0 );
+  }
+
+  @Test
+  public void intConstructor_equalsAndHashCodeMatchStringConstructor() {
+    assertTrue( new JsonNumber( 23 ).equals( new JsonNumber( "23" ) ) );
+    assertTrue( new JsonNumber( "23" ).equals( new JsonNumber( 23 ) ) );
+    assertTrue( new JsonNumber( 23 ).hashCode() == new JsonNumber( "23" ).hashCode() );
+  }
+
   @Test
   public void canBeSerializedAndDeserialized() throws Exception {
     JsonNumber number = new JsonNumber( "3.14" );
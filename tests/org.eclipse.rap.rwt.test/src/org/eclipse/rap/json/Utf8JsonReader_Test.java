@@ -0,0 +1,208 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.json;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+
+public class Utf8JsonReader_Test {
+
+  @Test
+  public void nextValue_matchesJsonParser() throws IOException {
+    String json = "{ \"a\" : [ 1, -2, 3.5, -0, 1e5, 2147483647, 12345678901 ],"
+                + " \"b\" : \"x\\u00e4\\n\", \"c\" : [ true, false, null, {} ] }";
+
+    JsonValue value = read( json ).nextValue();
+
+    assertEquals( JsonValue.readFrom( json ), value );
+  }
+
+  @Test
+  public void nextValue_decodesMultiByteCharacters() throws IOException {
+    String string = "\u00e4\u20ac\ud83d\ude00";
+
+    JsonValue value = read( "\"" + string + "\"" ).nextValue();
+
+    assertEquals( string, value.asString() );
+  }
+
+  @Test
+  public void nextValue_replacesMalformedSequences() throws IOException {
+    byte[] bytes = new byte[] { '"', 'a', ( byte )0xc3, '"' };
+
+    JsonValue value = new Utf8JsonReader( new ByteArrayInputStream( bytes ) ).nextValue();
+
+    assertEquals( "a\ufffd", value.asString() );
+  }
+
+  @Test
+  public void nextValue_replacesOverlongThreeByteSequence() throws IOException {
+    assertReplacesLikeDecoder( 0xe0, 0x80, 0xa2 );
+  }
+
+  @Test
+  public void nextValue_replacesOverlongFourByteSequence() throws IOException {
+    assertReplacesLikeDecoder( 0xf0, 0x80, 0x80, 0xa2 );
+  }
+
+  @Test
+  public void nextValue_replacesOverlongFourByteSequenceOfThreeByteCharacter() throws IOException {
+    assertReplacesLikeDecoder( 0xf0, 0x80, 0x98, 0x80 );
+  }
+
+  @Test
+  public void nextValue_replacesSurrogate() throws IOException {
+    assertReplacesLikeDecoder( 0xed, 0xa0, 0x80 );
+  }
+
+  @Test
+  public void nextValue_replacesIncompleteSurrogate() throws IOException {
+    assertReplacesLikeDecoder( 0xed, 0xa0, 'x' );
+  }
+
+  @Test
+  public void nextValue_replacesCodePointAboveMaximum() throws IOException {
+    assertReplacesLikeDecoder( 0xf4, 0x90, 0x80, 0x80 );
+  }
+
+  @Test
+  public void nextValue_decodesBoundaryCharacters() throws IOException {
+    String string = "\u0800\ud7ff\ue000\uffff\ud800\udc00\udbff\udfff";
+
+    JsonValue value = read( "\"" + string + "\"" ).nextValue();
+
+    assertEquals( string, value.asString() );
+  }
+
+  @Test
+  public void nextValue_decodesIntegers() throws IOException {
+    JsonValue value = read( "-42" ).nextValue();
+
+    assertEquals( new JsonNumber( "-42" ), value );
+    assertEquals( -42, value.asInt() );
+  }
+
+  @Test
+  public void nextValue_keepsLiteralOfNegativeZero() throws IOException {
+    assertEquals( "-0", read( "-0" ).nextValue().toString() );
+  }
+
+  @Test
+  public void nextName_sharesInstances() throws IOException {
+    Utf8JsonReader reader1 = read( "{ \"selection\" : 1 }" );
+    reader1.beginObject();
+    Utf8JsonReader reader2 = read( "{ \"selection\" : 1 }" );
+    reader2.beginObject();
+
+    assertSame( reader1.nextName(), reader2.nextName() );
+  }
+
+  @Test
+  public void traversesStructure() throws IOException {
+    Utf8JsonReader reader = read( "{ \"a\" : [ \"x\", \"y\" ], \"b\" : 1 }" );
+
+    reader.beginObject();
+    assertTrue( reader.hasNext() );
+    assertEquals( "a", reader.nextName() );
+    reader.beginArray();
+    assertTrue( reader.hasNext() );
+    assertEquals( "x", reader.nextString() );
+    assertTrue( reader.hasNext() );
+    assertEquals( "y", reader.nextString() );
+    assertFalse( reader.hasNext() );
+    reader.endArray();
+    assertTrue( reader.hasNext() );
+    assertEquals( "b", reader.nextName() );
+    assertEquals( 1, reader.nextValue().asInt() );
+    assertFalse( reader.hasNext() );
+    reader.endObject();
+    reader.endDocument();
+  }
+
+  @Test
+  public void hasNext_isIdempotent() throws IOException {
+    Utf8JsonReader reader = read( "[ 1, 2 ]" );
+    reader.beginArray();
+    reader.nextValue();
+
+    assertTrue( reader.hasNext() );
+    assertTrue( reader.hasNext() );
+    assertEquals( 2, reader.nextValue().asInt() );
+  }
+
+  @Test
+  public void rejectsTrailingComma() throws IOException {
+    Utf8JsonReader reader = read( "[ 1, ]" );
+    reader.beginArray();
+    reader.hasNext();
+    reader.nextValue();
+    reader.hasNext();
+
+    assertParseException( reader, "Expected value at 1:5" );
+  }
+
+  @Test
+  public void endDocument_rejectsAdditionalInput() throws IOException {
+    Utf8JsonReader reader = read( "[] x" );
+    reader.nextValue();
+
+    try {
+      reader.endDocument();
+      fail();
+    } catch( ParseException exception ) {
+      assertEquals( 3, exception.getOffset() );
+    }
+  }
+
+  private static void assertParseException( Utf8JsonReader reader, String message )
+    throws IOException
+  {
+    try {
+      reader.nextValue();
+      fail();
+    } catch( ParseException exception ) {
+      assertEquals( message, exception.getMessage() );
+    }
+  }
+
+  private static void assertReplacesLikeDecoder( int... sequence ) throws IOException {
+    byte[] bytes = new byte[ sequence.length + 4 ];
+    bytes[ 0 ] = '"';
+    bytes[ 1 ] = 'a';
+    for( int i = 0; i < sequence.length; i++ ) {
+      bytes[ i + 2 ] = ( byte )sequence[ i ];
+    }
+    bytes[ bytes.length - 2 ] = 'b';
+    bytes[ bytes.length - 1 ] = '"';
+    String expected = new String( bytes, 1, bytes.length - 2, StandardCharsets.UTF_8 );
+
+    JsonValue value = new Utf8JsonReader( new ByteArrayInputStream( bytes ) ).nextValue();
+
+    assertEquals( expected, value.asString() );
+    assertTrue( value.asString().indexOf( '\ufffd' ) != -1 );
+  }
+
+  private static Utf8JsonReader read( String json ) throws IOException {
+    byte[] bytes = json.getBytes( StandardCharsets.UTF_8 );
+    return new Utf8JsonReader( new ByteArrayInputStream( bytes ) );
+  }
+
+}
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class Histogram_Test {
+
+  private Histogram histogram;
+
+  @Before
+  public void setUp() {
+    histogram = new Histogram();
+  }
+
+  @Test
+  public void testEmpty() {
+    assertEquals( 0, histogram.getCount() );
+    assertEquals( 0, histogram.getMean() );
+    assertEquals( 0, histogram.getMax() );
+    assertEquals( 0, histogram.getPercentile( 99 ) );
+  }
+
+  @Test
+  public void testRecord() {
+    histogram.record( 10 );
+    histogram.record( 20 );
+    histogram.record( 30 );
+
+    assertEquals( 3, histogram.getCount() );
+    assertEquals( 60, histogram.getSum() );
+    assertEquals( 20, histogram.getMean() );
+    assertEquals( 30, histogram.getMax() );
+  }
+
+  @Test
+  public void testRecord_negativeValue() {
+    histogram.record( -5 );
+
+    assertEquals( 1, histogram.getCount() );
+    assertEquals( 0, histogram.getMax() );
+  }
+
+  @Test
+  public void testGetPercentile_isUpperBoundOfBucket() {
+    for( int i = 0; i < 90; i++ ) {
+      histogram.record( 5 );
+    }
+    for( int i = 0; i < 10; i++ ) {
+      histogram.record( 1000 );
+    }
+
+    assertEquals( 7, histogram.getPercentile( 50 ) );
+    assertEquals( 7, histogram.getPercentile( 90 ) );
+    assertEquals( 1000, histogram.getPercentile( 99 ) );
+  }
+
+  @Test
+  public void testGetPercentile_isWithinFactorTwo() {
+    for( int i = 1; i <= 1000; i++ ) {
+      histogram.record( i );
+    }
+
+    long median = histogram.getPercentile( 50 );
+
+    assertTrue( median >= 500 && median < 1000 );
+  }
+
+  @Test
+  public void testGetBucket() {
+    assertEquals( 0, Histogram.getBucket( 0 ) );
+    assertEquals( 1, Histogram.getBucket( 1 ) );
+    assertEquals( 2, Histogram.getBucket( 2 ) );
+    assertEquals( 2, Histogram.getBucket( 3 ) );
+    assertEquals( 3, Histogram.getBucket( 4 ) );
+    assertEquals( 63, Histogram.getBucket( Long.MAX_VALUE ) );
+  }
+
+  @Test
+  public void testReset() {
+    histogram.record( 10 );
+
+    histogram.reset();
+
+    assertEquals( 0, histogram.getCount() );
+    assertEquals( 0, histogram.getMax() );
+    assertEquals( 0, histogram.getPercentile( 50 ) );
+  }
+
+  @Test
+  public void testGetSnapshot() {
+    histogram.record( 4 );
+
+    HistogramSnapshot snapshot = histogram.getSnapshot();
+
+    assertEquals( 1, snapshot.getCount() );
+    assertEquals( 4, snapshot.getMean() );
+    assertEquals( 4, snapshot.getP99() );
+  }
+
+}
@@ -0,0 +1,189 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
+
+import javax.management.ObjectName;
+
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class LifeCycleMetrics_Test {
+
+  private LifeCycleMetrics metrics;
+
+  @Before
+  public void setUp() {
+    Fixture.setUp();
+    metrics = new LifeCycleMetrics( true, false );
+  }
+
+  @After
+  public void tearDown() {
+    metrics.deactivate();
+    Fixture.tearDown();
+  }
+
+  @Test
+  public void testIsDisabledByDefault() {
+    assertFalse( new LifeCycleMetrics().isEnabled() );
+  }
+
+  @Test
+  public void testGetCurrent_withoutRequest() {
+    assertNull( RequestMetrics.getCurrent() );
+  }
+
+  @Test
+  public void testBeginRequest_attachesMetrics() {
+    RequestMetrics requestMetrics = metrics.beginRequest( 0 );
+
+    assertSame( requestMetrics, RequestMetrics.getCurrent() );
+  }
+
+  @Test
+  public void testEndRequest_detachesMetrics() {
+    RequestMetrics requestMetrics = metrics.beginRequest( 0 );
+
+    metrics.endRequest( requestMetrics );
+
+    assertNull( RequestMetrics.getCurrent() );
+  }
+
+  @Test
+  public void testEndRequest_recordsMeasurements() {
+    RequestMetrics requestMetrics = metrics.beginRequest( 2000 );
+    requestMetrics.setOperationsRead( 3 );
+    requestMetrics.setOperationsWritten( 5 );
+    requestMetrics.setResponseBytes( 100 );
+    requestMetrics.addWidgetCount( 7 );
+
+    metrics.endRequest( requestMetrics );
+
+    assertEquals( 1, metrics.getRequestCount() );
+    assertEquals( 2, metrics.getLockWaitTime().getMax() );
+    assertEquals( 3, metrics.getOperationsRead().getMax() );
+    assertEquals( 5, metrics.getOperationsWritten().getMax() );
+    assertEquals( 100, metrics.getResponseBytes().getMax() );
+    assertEquals( 7, metrics.getWidgetCount().getMax() );
+  }
+
+  @Test
+  public void testStageTime() throws InterruptedException {
+    RequestMetrics requestMetrics = metrics.beginRequest( 0 );
+
+    requestMetrics.beginStage( Stage.RENDER );
+    Thread.sleep( 2 );
+    requestMetrics.endStage( Stage.RENDER );
+
+    assertTrue( requestMetrics.getStageTime( Stage.RENDER ) >= 2000000 );
+    assertEquals( 0, requestMetrics.getStageTime( Stage.READ_DATA ) );
+  }
+
+  @Test
+  public void testGetStageTimes_containsAllStages() {
+    assertEquals( Stage.values().length, metrics.getStageTimes().size() );
+    assertNotNull( metrics.getStageTimes().get( "RENDER" ) );
+  }
+
+  @Test
+  public void testEndRequest_notifiesListener() {
+    LifeCycleMetricsListener listener = mock( LifeCycleMetricsListener.class );
+    metrics.addListener( listener );
+    RequestMetrics requestMetrics = metrics.beginRequest( 0 );
+
+    metrics.endRequest( requestMetrics );
+
+    verify( listener ).requestCompleted( requestMetrics );
+  }
+
+  @Test
+  public void testEndRequest_ignoresFailingListener() {
+    LifeCycleMetricsListener listener = mock( LifeCycleMetricsListener.class );
+    RequestMetrics requestMetrics = metrics.beginRequest( 0 );
+    doThrow( new RuntimeException() ).when( listener ).requestCompleted( requestMetrics );
+    metrics.addListener( listener );
+
+    metrics.endRequest( requestMetrics );
+
+    assertEquals( 1, metrics.getRequestCount() );
+  }
+
+  @Test( expected = NullPointerException.class )
+  public void testAddListener_failsWithNull() {
+    metrics.addListener( null );
+  }
+
+  @Test
+  public void testReset() {
+    metrics.endRequest( metrics.beginRequest( 0 ) );
+
+    metrics.reset();
+
+    assertEquals( 0, metrics.getRequestCount() );
+  }
+
+  @Test
+  public void testActivate_registersMBean() throws Exception {
+    metrics.activate();
+
+    ObjectName objectName = metrics.getObjectName();
+    assertTrue( ManagementFactory.getPlatformMBeanServer().isRegistered( objectName ) );
+    Object requestCount = ManagementFactory.getPlatformMBeanServer()
+      .getAttribute( objectName, "RequestCount" );
+    assertEquals( Long.valueOf( 0 ), requestCount );
+  }
+
+  @Test
+  public void testDeactivate_unregistersMBean() {
+    metrics.activate();
+    ObjectName objectName = metrics.getObjectName();
+
+    metrics.deactivate();
+
+    assertFalse( ManagementFactory.getPlatformMBeanServer().isRegistered( objectName ) );
+  }
+
+  @Test
+  public void testActivate_doesNotRegisterMBeanWhenDisabled() {
+    LifeCycleMetrics disabledMetrics = new LifeCycleMetrics( false, false );
+
+    disabledMetrics.activate();
+
+    assertNull( disabledMetrics.getObjectName() );
+  }
+
+  @Test
+  public void testCountingWriter_countsUtf8Bytes() throws IOException {
+    CountingWriter writer = new CountingWriter( new StringWriter() );
+
+    writer.write( "a\u00e4\u20ac\ud83d\ude00" );
+
+    assertEquals( 1 + 2 + 3 + 4, writer.getByteCount() );
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2014 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,6 +14,10 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import org.eclipse.rap.json.JsonObject;
@@ -38,6 +42,38 @@ public class ClientMessage_Test {
     assertFalse( operations.isEmpty() );
   }
 
+  @Test
+  public void testReadFrom() throws IOException {
+    String json = "{ \"head\" : { \"requestCounter\" : 3 }, \"operations\" : ["
+                + "[ \"set\", \"w3\", { \"foo\" : 23 } ],"
+                + "[ \"call\", \"w4\", \"bar\", {} ]"
+                + "] }";
+
+    ClientMessage message = ClientMessage.readFrom( toStream( json ) );
+
+    assertEquals( new ClientMessage( JsonObject.readFrom( json ) ).toJson(), message.toJson() );
+    assertEquals( 1, message.getAllOperationsFor( "w3" ).size() );
+  }
+
+  @Test
+  public void testReadFrom_ignoresUnknownMembers() throws IOException {
+    String json = "{ \"foo\" : [ 1 ], \"head\" : {}, \"operations\" : [] }";
+
+    ClientMessage message = ClientMessage.readFrom( toStream( json ) );
+
+    assertTrue( message.getOperations().isEmpty() );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testReadFrom_failsWithoutHead() throws IOException {
+    ClientMessage.readFrom( toStream( "{ \"operations\" : [] }" ) );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testReadFrom_failsWithIncompleteOperation() throws IOException {
+    ClientMessage.readFrom( toStream( "{ \"head\" : {}, \"operations\" : [ [ \"set\" ] ] }" ) );
+  }
+
   @Test
   public void testConstructor_Message_createsIndex() {
     TestMessage testMessage = new TestMessage();
@@ -233,4 +269,8 @@ public class ClientMessage_Test {
     assertEquals( "w4", operation.getTarget() );
   }
 
+  private static InputStream toStream( String json ) {
+    return new ByteArrayInputStream( json.getBytes( StandardCharsets.UTF_8 ) );
+  }
+
 }
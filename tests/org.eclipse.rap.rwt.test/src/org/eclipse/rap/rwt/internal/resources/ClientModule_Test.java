@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.resources;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+
+public class ClientModule_Test {
+
+  @Test
+  public void testParse_emptyList() {
+    List<ClientModule> modules = ClientModule.parse( Collections.<String>emptyList() );
+
+    assertTrue( modules.isEmpty() );
+  }
+
+  @Test
+  public void testParse() {
+    List<ClientModule> modules = ClientModule.parse( Arrays.asList( "module foo foo.Type",
+                                                                    "foo/Foo.js",
+                                                                    "foo/FooHandler.js",
+                                                                    "module bar bar.Type1 bar.Type2",
+                                                                    "bar/Bar.js" ) );
+
+    assertEquals( 2, modules.size() );
+    assertEquals( "foo", modules.get( 0 ).getName() );
+    assertEquals( Arrays.asList( "foo.Type" ), modules.get( 0 ).getTypes() );
+    assertEquals( Arrays.asList( "foo/Foo.js", "foo/FooHandler.js" ), modules.get( 0 ).getFiles() );
+    assertEquals( "bar", modules.get( 1 ).getName() );
+    assertEquals( Arrays.asList( "bar.Type1", "bar.Type2" ), modules.get( 1 ).getTypes() );
+    assertEquals( Arrays.asList( "bar/Bar.js" ), modules.get( 1 ).getFiles() );
+  }
+
+  @Test
+  public void testParse_moduleWithoutFiles() {
+    List<ClientModule> modules = ClientModule.parse( Arrays.asList( "module foo foo.Type" ) );
+
+    assertTrue( modules.get( 0 ).getFiles().isEmpty() );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testParse_moduleWithoutType() {
+    ClientModule.parse( Arrays.asList( "module foo" ) );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testParse_fileOutsideOfModule() {
+    ClientModule.parse( Arrays.asList( "foo/Foo.js" ) );
+  }
+
+  @Test
+  public void testParse_clientModulesFile() {
+    List<String> clientFiles = ClientFilesReader.getInputFiles( "client.files" );
+
+    List<ClientModule> modules
+      = ClientModule.parse( ClientFilesReader.getInputFiles( "client-modules.files" ) );
+
+    for( ClientModule module : modules ) {
+      for( String file : module.getFiles() ) {
+        assertTrue( file, clientFiles.contains( file ) );
+      }
+    }
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2016 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,7 +11,9 @@
 package org.eclipse.rap.rwt.internal.resources;
 
 import static org.eclipse.rap.rwt.internal.service.ContextProvider.getApplicationContext;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
@@ -50,6 +52,7 @@ public class ClientResources_Test {
 
   @After
   public void tearDown() {
+    System.getProperties().remove( RWTProperties.SPLIT_CLIENT );
     Fixture.tearDown();
   }
 
@@ -108,6 +111,83 @@ public class ClientResources_Test {
     assertTrue( clientJs.contains( "Copyright" ) );
   }
 
+  @Test
+  public void testRegisteredContent_splitClient() throws IOException {
+    System.getProperties().remove( RWTProperties.DEVELOPMEMT_MODE );
+    System.setProperty( RWTProperties.SPLIT_CLIENT, "true" );
+    clientResources.registerResources();
+    String clientJs = getRegisteredContent( RAP_CLIENT_JS_PATH );
+
+    assertTrue( clientJs.contains( "qx.Class.define(\"rwt.runtime.System\"" ) );
+    assertFalse( clientJs.contains( "qx.Class.define(\"rwt.widgets.DateTimeDate\"" ) );
+    assertTrue( clientJs.contains( "rwt.remote.ModuleRegistry.add( \"rwt.widgets.DateTime\", " ) );
+  }
+
+  @Test
+  public void testRegisteredContentDebug_splitClient() throws IOException {
+    System.setProperty( RWTProperties.DEVELOPMEMT_MODE, "true" );
+    System.setProperty( RWTProperties.SPLIT_CLIENT, "true" );
+    clientResources.registerResources();
+    String clientJs = getRegisteredContent( RAP_CLIENT_JS_PATH );
+
+    assertTrue( clientJs.contains( "qx.Class.define( \"rwt.runtime.System\"" ) );
+    assertFalse( clientJs.contains( "qx.Class.define( \"rwt.widgets.DateTimeDate\"" ) );
+    assertTrue( clientJs.contains( "AppearanceManager.getInstance().setCurrentTheme( {" ) );
+  }
+
+  @Test
+  public void testRegistersModules_splitClient() throws IOException {
+    System.setProperty( RWTProperties.DEVELOPMEMT_MODE, "true" );
+    System.setProperty( RWTProperties.SPLIT_CLIENT, "true" );
+    clientResources.registerResources();
+    String clientJs = getRegisteredContent( RAP_CLIENT_JS_PATH );
+
+    String name = getModuleName( clientJs, "rwt.widgets.DateTime" );
+    assertTrue( name.matches( "rwt-modules/datetime-[0-9a-f]{16}\\.js" ) );
+    assertTrue( resourceManager.isRegistered( name ) );
+    String module = getRegisteredContent( name );
+    assertTrue( module.contains( "qx.Class.define( \"rwt.widgets.DateTimeDate\"" ) );
+    assertTrue( module.contains( "rwt.remote.HandlerRegistry.add( \"rwt.widgets.DateTime\"" ) );
+    assertFalse( module.contains( "qx.Class.define( \"rwt.runtime.System\"" ) );
+  }
+
+  @Test
+  public void testRegistersModules_sameModuleForAllTypes() throws IOException {
+    System.setProperty( RWTProperties.DEVELOPMEMT_MODE, "true" );
+    System.setProperty( RWTProperties.SPLIT_CLIENT, "true" );
+    clientResources.registerResources();
+    String clientJs = getRegisteredContent( RAP_CLIENT_JS_PATH );
+
+    String folderModule = getModuleName( clientJs, "rwt.widgets.CTabFolder" );
+    String itemModule = getModuleName( clientJs, "rwt.widgets.CTabItem" );
+    assertEquals( folderModule, itemModule );
+  }
+
+  @Test
+  public void testCreateHash() {
+    String hash = ClientResources.createHash( "foo".getBytes() );
+
+    assertEquals( "2c26b46b68ffc68f", hash );
+  }
+
+  @Test
+  public void testCreateHash_differsForDifferentContent() {
+    String hash1 = ClientResources.createHash( "foo".getBytes() );
+    String hash2 = ClientResources.createHash( "bar".getBytes() );
+
+    assertNotEquals( hash1, hash2 );
+  }
+
+  private String getModuleName( String clientJs, String type ) {
+    String prefix = "rwt.remote.ModuleRegistry.add( \"" + type + "\", \"";
+    int start = clientJs.indexOf( prefix ) + prefix.length();
+    String location = clientJs.substring( start, clientJs.indexOf( '"', start ) );
+    String clientLocation = resourceManager.getLocation( RAP_CLIENT_JS_PATH );
+    String resourcesPrefix = clientLocation.substring( 0, clientLocation.indexOf( RAP_CLIENT_JS_PATH ) );
+    assertTrue( location.startsWith( resourcesPrefix ) );
+    return location.substring( resourcesPrefix.length() );
+  }
+
   private String getRegisteredContent( String name ) throws IOException {
     InputStream inputStream = resourceManager.getRegisteredContent( name );
     try {
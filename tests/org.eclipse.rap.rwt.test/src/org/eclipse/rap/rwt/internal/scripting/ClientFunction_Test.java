@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2014 EclipseSource and others.
+ * Copyright (c) 2013, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,11 +11,16 @@
 package org.eclipse.rap.rwt.internal.scripting;
 
 import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import org.eclipse.rap.json.JsonObject;
+import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.client.WebClient;
 import org.eclipse.rap.rwt.remote.Connection;
 import org.eclipse.rap.rwt.remote.RemoteObject;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
@@ -78,6 +83,75 @@ public class ClientFunction_Test {
     assertEquals( "foo", clientFunction.getRemoteId() );
   }
 
+  @Test
+  public void testCreation_setsScriptHash() {
+    RemoteObject remoteObject = mock( RemoteObject.class );
+    fakeConnection( remoteObject );
+
+    new ClientFunction( "script code" );
+
+    verify( remoteObject ).set( eq( "scriptHash" ), eq( ClientScripts.createHash( "script code" ) ) );
+  }
+
+  @Test
+  public void testCreation_sendsScriptCodeOncePerSession() {
+    new ClientFunction( "script code" );
+    RemoteObject remoteObject = mock( RemoteObject.class );
+    fakeConnection( remoteObject );
+
+    new ClientFunction( "script code" );
+
+    verify( remoteObject ).set( eq( "scriptHash" ), anyString() );
+    verify( remoteObject, never() ).set( eq( "scriptCode" ), anyString() );
+  }
+
+  @Test
+  public void testCreation_sendsDifferentScriptCode() {
+    new ClientFunction( "script code" );
+    RemoteObject remoteObject = mock( RemoteObject.class );
+    fakeConnection( remoteObject );
+
+    new ClientFunction( "other script code" );
+
+    verify( remoteObject ).set( eq( "scriptCode" ), eq( "other script code" ) );
+  }
+
+  @Test
+  public void testCreation_doesNotSendPublishedScriptCode() {
+    new ClientFunction( "script code" );
+    fakeNewSession();
+    RemoteObject remoteObject = mock( RemoteObject.class );
+    fakeConnection( remoteObject );
+
+    new ClientFunction( "script code" );
+
+    verify( remoteObject, never() ).set( eq( "scriptCode" ), anyString() );
+  }
+
+  @Test
+  public void testCreation_loadsPublishedScriptInNewSession() {
+    new ClientFunction( "script code" );
+    fakeNewSession();
+    fakeConnection( mock( RemoteObject.class ) );
+
+    new ClientFunction( "script code" );
+
+    String resourceName = "rwt-scripts/" + ClientScripts.createHash( "script code" ) + ".js";
+    assertTrue( RWT.getResourceManager().isRegistered( resourceName ) );
+    JsonObject parameters = Fixture.getProtocolMessage()
+      .findCallOperation( "rwt.client.JavaScriptLoader", "load" )
+      .getParameters();
+    String location = RWT.getResourceManager().getLocation( resourceName );
+    assertEquals( location, parameters.get( "files" ).asArray().get( 0 ).asString() );
+  }
+
+  private static void fakeNewSession() {
+    Fixture.disposeOfServiceContext();
+    Fixture.createServiceContext();
+    Fixture.fakeClient( new WebClient() );
+    Fixture.fakeResponseWriter();
+  }
+
   private Connection fakeConnection( RemoteObject listenerRemoteObject ) {
     Connection connection = mock( Connection.class );
     when( connection.createRemoteObject( eq( CLIENT_LISTENER_TYPE ) ) ).thenReturn( listenerRemoteObject );
@@ -0,0 +1,197 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class SettingStoreJournal_Test {
+
+  private final List<SettingStoreJournal> journals = new ArrayList<>();
+  private File storeFile;
+
+  @Before
+  public void setUp() {
+    File directory = new File( Fixture.TEMP_DIR, UUID.randomUUID().toString() );
+    directory.mkdirs();
+    directory.deleteOnExit();
+    storeFile = new File( directory, "store" );
+  }
+
+  @After
+  public void tearDown() {
+    for( SettingStoreJournal journal : journals ) {
+      journal.close();
+    }
+  }
+
+  @Test
+  public void testAppend_isNotWrittenImmediately() {
+    SettingStoreJournal journal = createJournal( 100, 60000, 100000 );
+
+    journal.append( storeFile, "key", "value" );
+
+    assertFalse( SettingStoreJournal.getLogFile( storeFile ).exists() );
+  }
+
+  @Test
+  public void testLoad_includesPendingChanges() throws IOException {
+    SettingStoreJournal journal = createJournal( 100, 60000, 100000 );
+    journal.append( storeFile, "key", "value" );
+
+    Properties properties = load( journal, storeFile );
+
+    assertEquals( "value", properties.getProperty( "key" ) );
+  }
+
+  @Test
+  public void testLoad_replaysLogOnTopOfStoreFile() throws IOException {
+    Properties stored = new Properties();
+    stored.setProperty( "key1", "stored" );
+    stored.setProperty( "key2", "stored" );
+    try( OutputStream stream = new FileOutputStream( storeFile ) ) {
+      stored.store( stream, null );
+    }
+    SettingStoreJournal journal = createJournal( 100, 60000, 100000 );
+    journal.append( storeFile, "key1", "changed" );
+    journal.append( storeFile, "key2", null );
+    journal.flush();
+
+    Properties properties = load( createJournal(), storeFile );
+
+    assertEquals( "changed", properties.getProperty( "key1" ) );
+    assertNull( properties.getProperty( "key2" ) );
+  }
+
+  @Test
+  public void testLoad_handlesUnicode() throws IOException {
+    SettingStoreJournal journal = createJournal( 100, 60000, 100000 );
+    journal.append( storeFile, "keyä", "value€\n" );
+    journal.flush();
+
+    Properties properties = load( createJournal(), storeFile );
+
+    assertEquals( "value€\n", properties.getProperty( "keyä" ) );
+  }
+
+  @Test
+  public void testFlush_compactsLog() throws IOException {
+    SettingStoreJournal journal = createJournal( 100, 60000, 10 );
+    journal.append( storeFile, "key", "a value that exceeds the compaction threshold" );
+
+    journal.flush();
+
+    assertFalse( SettingStoreJournal.getLogFile( storeFile ).exists() );
+    assertTrue( storeFile.exists() );
+    Properties properties = load( createJournal(), storeFile );
+    assertEquals( "a value that exceeds the compaction threshold", properties.getProperty( "key" ) );
+  }
+
+  @Test
+  public void testClose_writesPendingChanges() throws IOException {
+    SettingStoreJournal journal = createJournal( 100, 60000, 100000 );
+    journal.append( storeFile, "key", "value" );
+
+    journal.close();
+
+    assertTrue( SettingStoreJournal.getLogFile( storeFile ).exists() );
+    assertEquals( "value", load( createJournal(), storeFile ).getProperty( "key" ) );
+  }
+
+  @Test
+  public void testClose_stopsWriterThread() {
+    SettingStoreJournal journal = createJournal( 100, 60000, 100000 );
+    journal.append( storeFile, "key", "value" );
+
+    journal.close();
+
+    assertTrue( journal.isTerminated() );
+  }
+
+  @Test
+  public void testAppend_afterCloseIsWrittenImmediately() throws IOException {
+    SettingStoreJournal journal = createJournal( 100, 60000, 100000 );
+    journal.close();
+
+    journal.append( storeFile, "key", "value" );
+
+    assertEquals( "value", load( createJournal(), storeFile ).getProperty( "key" ) );
+  }
+
+  @Test
+  public void testLoad_afterClose() throws IOException {
+    SettingStoreJournal journal = createJournal( 100, 60000, 100000 );
+    journal.append( storeFile, "key", "value" );
+    journal.close();
+
+    Properties properties = load( journal, storeFile );
+
+    assertEquals( "value", properties.getProperty( "key" ) );
+  }
+
+  @Test
+  public void testFlush_keepsChangesThatFailedToWrite() throws IOException {
+    File directory = storeFile.getParentFile();
+    File missingStoreFile = new File( new File( directory, "missing" ), "store" );
+    SettingStoreJournal journal = createJournal( 100, 60000, 100000 );
+    journal.append( missingStoreFile, "key1", "value1" );
+    try {
+      journal.flush();
+      fail();
+    } catch( @SuppressWarnings( "unused" ) IOException expected ) {
+    }
+    journal.append( missingStoreFile, "key2", "value2" );
+    missingStoreFile.getParentFile().mkdirs();
+
+    journal.flush();
+
+    Properties properties = load( createJournal(), missingStoreFile );
+    assertEquals( "value1", properties.getProperty( "key1" ) );
+    assertEquals( "value2", properties.getProperty( "key2" ) );
+  }
+
+  private SettingStoreJournal createJournal() {
+    return createJournal( SettingStoreJournal.DEFAULT_BATCH_SIZE,
+                          SettingStoreJournal.DEFAULT_FLUSH_DELAY,
+                          SettingStoreJournal.DEFAULT_COMPACTION_THRESHOLD );
+  }
+
+  private SettingStoreJournal createJournal( int batchSize, long flushDelay, long threshold ) {
+    SettingStoreJournal result = new SettingStoreJournal( batchSize, flushDelay, threshold );
+    journals.add( result );
+    return result;
+  }
+
+  private static Properties load( SettingStoreJournal journal, File file ) throws IOException {
+    Properties result = new Properties();
+    journal.load( file, result );
+    return result;
+  }
+
+}
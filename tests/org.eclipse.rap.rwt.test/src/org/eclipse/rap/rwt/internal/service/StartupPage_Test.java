@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2022 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2008, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,28 +14,39 @@ package org.eclipse.rap.rwt.internal.service;
 
 import static org.eclipse.rap.rwt.internal.service.ContextProvider.getApplicationContext;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 
 import java.io.IOException;
+import java.io.PrintWriter;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.eclipse.rap.json.JsonObject;
 import org.eclipse.rap.rwt.client.WebClient;
 import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
 import org.eclipse.rap.rwt.internal.lifecycle.EntryPointManager;
 import org.eclipse.rap.rwt.internal.lifecycle.TestEntryPoint;
+import org.eclipse.rap.rwt.internal.protocol.ProtocolMessageWriter;
+import org.eclipse.rap.rwt.internal.protocol.RequestMessage;
+import org.eclipse.rap.rwt.internal.protocol.ResponseMessage;
+import org.eclipse.rap.rwt.internal.remote.MessageFilter;
+import org.eclipse.rap.rwt.internal.remote.MessageFilterChain;
 import org.eclipse.rap.rwt.internal.theme.CssImage;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.rap.rwt.testfixture.internal.TestRequest;
 import org.eclipse.rap.rwt.testfixture.internal.TestResponse;
 import org.junit.After;
 import org.junit.Before;
@@ -278,6 +289,141 @@ public class StartupPage_Test {
     verify( startupPage ).writeAppScript( response.getWriter() );
   }
 
+  @Test
+  public void testSendReplacesAppScriptToken_withoutPrerendering() throws IOException {
+    registerEntryPoint( null, null );
+    startupPage.activate();
+    mockTemplate( variableFrom( StartupPageTemplate.TOKEN_APP_SCRIPT ) );
+
+    startupPage.send( response );
+
+    verify( startupPage, never() ).writePrerenderedMessage( any( PrintWriter.class ),
+                                                            any( JsonObject.class ) );
+  }
+
+  @Test
+  public void testSendReplacesAppScriptToken_withPrerendering() throws IOException {
+    fakeBrowserRequest();
+    registerEntryPoint( WebClient.PRERENDER, "true" );
+    applicationContext.addMessageFilter( new MessageFilter() {
+      @Override
+      public ResponseMessage handleMessage( RequestMessage request, MessageFilterChain chain ) {
+        return new ProtocolMessageWriter().createMessage();
+      }
+    } );
+    startupPage.activate();
+    mockTemplate( variableFrom( StartupPageTemplate.TOKEN_APP_SCRIPT ) );
+
+    startupPage.send( response );
+
+    InOrder order = inOrder( startupPage );
+    order.verify( startupPage ).writeAppScript( response.getWriter() );
+    order.verify( startupPage ).writePrerenderedMessage( same( response.getWriter() ),
+                                                         any( JsonObject.class ) );
+    assertTrue( response.getContent().contains( "\"requestCounter\":1" ) );
+  }
+
+  @Test
+  public void testSendDoesNotPrerender_forNonBrowserRequest() throws IOException {
+    fakeBrowserRequest().setHeader( "User-Agent", "kube-probe/1.29" );
+    registerEntryPoint( WebClient.PRERENDER, "true" );
+    startupPage.activate();
+    mockTemplate( variableFrom( StartupPageTemplate.TOKEN_APP_SCRIPT ) );
+
+    startupPage.send( response );
+
+    verify( startupPage, never() ).writePrerenderedMessage( any( PrintWriter.class ),
+                                                            any( JsonObject.class ) );
+  }
+
+  @Test
+  public void testWritePrerenderedMessage_holdsConnection() {
+    PrintWriter writer = mock( PrintWriter.class );
+
+    startupPage.writePrerenderedMessage( writer, new JsonObject() );
+
+    verify( writer ).write( "rwt.remote.Connection.getInstance().processPrerenderedMessage( {});" );
+  }
+
+  @Test
+  public void testIsClientBootstrap() {
+    assertTrue( StartupPage.isClientBootstrap( fakeBrowserRequest() ) );
+  }
+
+  @Test
+  public void testIsClientBootstrap_withoutUserAgent() {
+    TestRequest request = fakeBrowserRequest();
+    request.setHeader( "User-Agent", null );
+
+    assertFalse( StartupPage.isClientBootstrap( request ) );
+  }
+
+  @Test
+  public void testIsClientBootstrap_withCrawler() {
+    TestRequest request = fakeBrowserRequest();
+    request.setHeader( "User-Agent", "Mozilla/5.0 (compatible; Googlebot/2.1)" );
+
+    assertFalse( StartupPage.isClientBootstrap( request ) );
+  }
+
+  @Test
+  public void testIsClientBootstrap_withoutHtmlAccept() {
+    TestRequest request = fakeBrowserRequest();
+    request.setHeader( "Accept", "*/*" );
+
+    assertFalse( StartupPage.isClientBootstrap( request ) );
+  }
+
+  @Test
+  public void testIsClientBootstrap_withHeadRequest() {
+    TestRequest request = fakeBrowserRequest();
+    request.setMethod( "HEAD" );
+
+    assertFalse( StartupPage.isClientBootstrap( request ) );
+  }
+
+  @Test
+  public void testIsClientBootstrap_withPrefetch() {
+    TestRequest request = fakeBrowserRequest();
+    request.setHeader( "Sec-Purpose", "prefetch;prerender" );
+
+    assertFalse( StartupPage.isClientBootstrap( request ) );
+  }
+
+  @Test
+  public void testIsClientBootstrap_withLegacyPrefetch() {
+    TestRequest request = fakeBrowserRequest();
+    request.setHeader( "Purpose", "prefetch" );
+
+    assertFalse( StartupPage.isClientBootstrap( request ) );
+  }
+
+  @Test
+  public void testIsClientBootstrap_withIFrameDestination() {
+    TestRequest request = fakeBrowserRequest();
+    request.setHeader( "Sec-Fetch-Dest", "iframe" );
+
+    assertFalse( StartupPage.isClientBootstrap( request ) );
+  }
+
+  @Test
+  public void testIsClientBootstrap_withDocumentDestination() {
+    TestRequest request = fakeBrowserRequest();
+    request.setHeader( "Sec-Fetch-Dest", "document" );
+
+    assertTrue( StartupPage.isClientBootstrap( request ) );
+  }
+
+  @Test
+  public void testEscapeScriptContent() {
+    String json = new JsonObject().add( "text", "</script><!--" ).toString();
+
+    String escaped = StartupPage.escapeScriptContent( json );
+
+    assertEquals( "{\"text\":\"\\u003c/script>\\u003c!--\"}", escaped );
+    assertEquals( json, JsonObject.readFrom( escaped ).toString() );
+  }
+
   @Test
   public void testGetBackgroundImageLocationWithNoneBackgroundImage() {
     doReturn( CssImage.NONE ).when( startupPage ).getBrackgroundImage();
@@ -323,6 +469,14 @@ public class StartupPage_Test {
     return "${" + variableName + "}";
   }
 
+  private static TestRequest fakeBrowserRequest() {
+    TestRequest request = ( TestRequest )ContextProvider.getRequest();
+    request.setMethod( "GET" );
+    request.setHeader( "Accept", "text/html,application/xhtml+xml,*/*;q=0.8" );
+    request.setHeader( "User-Agent", "Mozilla/5.0 (X11; Linux x86_64; rv:128.0) Firefox/128.0" );
+    return request;
+  }
+
   private void registerEntryPoint( String propertyName, String propertyValue ) {
     Map<String,String> properties = new HashMap<String,String>();
     if( propertyName != null ) {
@@ -0,0 +1,212 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import static org.eclipse.rap.rwt.internal.service.ContextProvider.getApplicationContext;
+import static org.eclipse.rap.rwt.internal.service.ContextProvider.getProtocolWriter;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.servlet.http.HttpSession;
+
+import org.eclipse.rap.json.JsonArray;
+import org.eclipse.rap.json.JsonObject;
+import org.eclipse.rap.rwt.internal.lifecycle.RequestCounter;
+import org.eclipse.rap.rwt.internal.protocol.ProtocolUtil;
+import org.eclipse.rap.rwt.internal.protocol.RequestMessage;
+import org.eclipse.rap.rwt.internal.protocol.ResponseMessage;
+import org.eclipse.rap.rwt.internal.remote.MessageFilter;
+import org.eclipse.rap.rwt.internal.remote.MessageFilterChain;
+import org.eclipse.rap.rwt.service.UISession;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.rap.rwt.testfixture.internal.TestHttpSession;
+import org.eclipse.rap.rwt.testfixture.internal.TestRequest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class StartupPrerenderer_Test {
+
+  private List<RequestMessage> log;
+
+  @Before
+  public void setUp() {
+    Fixture.setUp();
+    log = new ArrayList<>();
+  }
+
+  @After
+  public void tearDown() {
+    Fixture.tearDown();
+  }
+
+  @Test
+  public void testRender_createsNewUISession() {
+    UISession oldUISession = ContextProvider.getUISession();
+    addLoggingFilter();
+
+    StartupPrerenderer.render();
+
+    UISessionImpl uiSession = ( UISessionImpl )ContextProvider.getUISession();
+    assertNotSame( oldUISession, uiSession );
+    assertSame( uiSession, getInstanceFromSession( uiSession ) );
+  }
+
+  @Test
+  public void testRender_handlesInitialMessage() {
+    addLoggingFilter();
+
+    StartupPrerenderer.render();
+
+    assertEquals( 1, log.size() );
+    assertTrue( ProtocolUtil.isInitialRequest( log.get( 0 ) ) );
+    assertTrue( log.get( 0 ).getOperations().isEmpty() );
+  }
+
+  @Test
+  public void testRender_includesStartupParameters() {
+    TestRequest request = ( TestRequest )ContextProvider.getRequest();
+    request.addParameter( "foo", "bar" );
+    request.addParameter( "foo", "baz" );
+    addLoggingFilter();
+
+    StartupPrerenderer.render();
+
+    JsonArray expected = new JsonArray()
+      .add( "set" )
+      .add( StartupPrerenderer.STARTUP_PARAMETERS_TYPE )
+      .add( new JsonObject().add( "parameters",
+                                  new JsonObject().add( "foo", new JsonArray().add( "bar" ).add( "baz" ) ) ) );
+    assertEquals( 1, log.get( 0 ).getOperations().size() );
+    assertEquals( expected, log.get( 0 ).getOperations().get( 0 ).toJson() );
+  }
+
+  @Test
+  public void testRender_returnsResponseMessage() {
+    addLoggingFilter();
+
+    JsonObject message = StartupPrerenderer.render();
+
+    JsonObject head = message.get( "head" ).asObject();
+    UISessionImpl uiSession = ( UISessionImpl )ContextProvider.getUISession();
+    assertEquals( uiSession.getConnectionId(), head.get( "cid" ).asString() );
+    assertEquals( 1, head.get( "requestCounter" ).asInt() );
+    assertEquals( 1, message.get( "operations" ).asArray().size() );
+  }
+
+  @Test
+  public void testRender_incrementsRequestCounter() {
+    addLoggingFilter();
+
+    StartupPrerenderer.render();
+
+    assertEquals( 1, RequestCounter.getInstance().currentRequestId() );
+  }
+
+  @Test
+  public void testRender_shutsDownUISessionOnException() {
+    final RuntimeException exception = new RuntimeException();
+    getApplicationContext().addMessageFilter( new MessageFilter() {
+      @Override
+      public ResponseMessage handleMessage( RequestMessage request, MessageFilterChain chain ) {
+        throw exception;
+      }
+    } );
+
+    try {
+      StartupPrerenderer.render();
+      fail();
+    } catch( RuntimeException expected ) {
+      assertEquals( exception, expected );
+    }
+
+    UISessionImpl uiSession = ( UISessionImpl )ContextProvider.getUISession();
+    assertNull( getInstanceFromSession( uiSession ) );
+  }
+
+  @Test
+  public void testRender_shortensTimeoutOfNewSession() {
+    TestHttpSession httpSession = ( TestHttpSession )ContextProvider.getRequest().getSession();
+    httpSession.setNew( true );
+    httpSession.setMaxInactiveInterval( 1800 );
+    addLoggingFilter();
+
+    StartupPrerenderer.render();
+
+    assertEquals( StartupPrerenderer.PENDING_SESSION_TIMEOUT, httpSession.getMaxInactiveInterval() );
+  }
+
+  @Test
+  public void testRender_keepsTimeoutOfExistingSession() {
+    TestHttpSession httpSession = ( TestHttpSession )ContextProvider.getRequest().getSession();
+    httpSession.setNew( false );
+    httpSession.setMaxInactiveInterval( 1800 );
+    addLoggingFilter();
+
+    StartupPrerenderer.render();
+
+    assertEquals( 1800, httpSession.getMaxInactiveInterval() );
+  }
+
+  @Test
+  public void testClientConnected_restoresTimeout() {
+    TestHttpSession httpSession = ( TestHttpSession )ContextProvider.getRequest().getSession();
+    httpSession.setNew( true );
+    httpSession.setMaxInactiveInterval( 1800 );
+    addLoggingFilter();
+    StartupPrerenderer.render();
+
+    StartupPrerenderer.clientConnected( ( UISessionImpl )ContextProvider.getUISession() );
+
+    assertEquals( 1800, httpSession.getMaxInactiveInterval() );
+  }
+
+  @Test
+  public void testClientConnected_restoresTimeoutOnlyOnce() {
+    TestHttpSession httpSession = ( TestHttpSession )ContextProvider.getRequest().getSession();
+    httpSession.setNew( true );
+    httpSession.setMaxInactiveInterval( 1800 );
+    addLoggingFilter();
+    StartupPrerenderer.render();
+    UISessionImpl uiSession = ( UISessionImpl )ContextProvider.getUISession();
+    StartupPrerenderer.clientConnected( uiSession );
+    httpSession.setMaxInactiveInterval( 600 );
+
+    StartupPrerenderer.clientConnected( uiSession );
+
+    assertEquals( 600, httpSession.getMaxInactiveInterval() );
+  }
+
+  private static UISessionImpl getInstanceFromSession( UISessionImpl uiSession ) {
+    HttpSession httpSession = ContextProvider.getRequest().getSession();
+    return UISessionImpl.getInstanceFromSession( httpSession, uiSession.getConnectionId() );
+  }
+
+  private void addLoggingFilter() {
+    getApplicationContext().addMessageFilter( new MessageFilter() {
+      @Override
+      public ResponseMessage handleMessage( RequestMessage request, MessageFilterChain chain ) {
+        log.add( request );
+        getProtocolWriter().appendCreate( "w2", "rwt.widgets.Shell" );
+        return getProtocolWriter().createMessage();
+      }
+    } );
+  }
+
+}
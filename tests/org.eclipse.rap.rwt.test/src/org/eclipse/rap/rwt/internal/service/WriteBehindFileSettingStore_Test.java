@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.eclipse.rap.rwt.service.FileSettingStore;
+import org.eclipse.rap.rwt.service.FileSettingStoreFactory;
+import org.eclipse.rap.rwt.service.FileSettingStore_Test;
+import org.eclipse.rap.rwt.service.SettingStore;
+import org.eclipse.rap.rwt.service.SettingStoreFactory;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.junit.After;
+import org.junit.Test;
+
+
+public class WriteBehindFileSettingStore_Test extends FileSettingStore_Test {
+
+  private final SettingStoreJournal journal = new SettingStoreJournal();
+  private final SettingStoreFactory factory = new SettingStoreFactory() {
+    @Override
+    public SettingStore createSettingStore( String id ) {
+      SettingStore store = new WriteBehindFileSettingStore( getWorkDir(), journal );
+      try {
+        store.loadById( id );
+      } catch( IOException exception ) {
+        throw new RuntimeException( exception );
+      }
+      return store;
+    }
+  };
+
+  @Override
+  protected SettingStoreFactory getFactory() {
+    return factory;
+  }
+
+  @Override
+  @After
+  public void tearDown() {
+    journal.close();
+    super.tearDown();
+  }
+
+  @Test
+  public void testSetAttribute_doesNotWriteStoreFile() throws IOException {
+    SettingStore store = factory.createSettingStore( "writeBehind" );
+
+    store.setAttribute( "key", "value" );
+
+    assertFalse( new File( getWorkDir(), "writeBehind" ).exists() );
+  }
+
+  @Test
+  public void testSetAttribute_writesLogFileOnFlush() throws IOException {
+    SettingStore store = factory.createSettingStore( "writeBehindFlush" );
+
+    store.setAttribute( "key", "value" );
+    journal.flush();
+
+    assertTrue( new File( getWorkDir(), "writeBehindFlush.log" ).exists() );
+  }
+
+  @Test
+  public void testLoadById_replaysLog() throws IOException {
+    SettingStore store = factory.createSettingStore( "writeBehindReplay" );
+    store.setAttribute( "key1", "value1" );
+    store.setAttribute( "key2", "value2" );
+    store.removeAttribute( "key1" );
+    journal.flush();
+
+    SettingStoreJournal otherJournal = new SettingStoreJournal();
+    SettingStore otherStore = new WriteBehindFileSettingStore( getWorkDir(), otherJournal );
+    try {
+      otherStore.loadById( "writeBehindReplay" );
+    } finally {
+      otherJournal.close();
+    }
+
+    assertEquals( null, otherStore.getAttribute( "key1" ) );
+    assertEquals( "value2", otherStore.getAttribute( "key2" ) );
+  }
+
+  @Test
+  public void testCreateSettingStore_withWriteBehindInitParameter() {
+    String key = FileSettingStore.FILE_SETTING_STORE_WRITE_BEHIND;
+    Fixture.getServletContext().setInitParameter( key, "true" );
+
+    SettingStore store = new FileSettingStoreFactory().createSettingStore( "id" );
+
+    assertSame( WriteBehindFileSettingStore.class, store.getClass() );
+  }
+
+  private static File getWorkDir() {
+    File result = new File( Fixture.TEMP_DIR, WriteBehindFileSettingStore.class.getName() );
+    result.mkdirs();
+    return result;
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2015 EclipseSource and others.
+ * Copyright (c) 2011, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -89,6 +89,18 @@ public class ActiveKeysUtil_Test {
     assertNull( findSetProperty() );
   }
 
+  @Test
+  public void testRender_unchangedInNewArray() {
+    markInitialized();
+    setData( new String[] { "CTRL+A", "ALT+B" } );
+
+    preserve();
+    setData( new String[] { "CTRL+A", "ALT+B" } );
+    render();
+
+    assertNull( findSetProperty() );
+  }
+
   @Test
   public void testRender_changed() {
     markInitialized();
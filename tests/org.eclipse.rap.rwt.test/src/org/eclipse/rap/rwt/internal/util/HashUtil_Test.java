@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.rap.rwt.internal.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import org.junit.Test;
+
+
+public class HashUtil_Test {
+
+  @Test
+  public void testSha256() {
+    String hash = HashUtil.sha256( "foo".getBytes(), 8 );
+
+    assertEquals( "2c26b46b68ffc68f", hash );
+  }
+
+  @Test
+  public void testSha256_withFullLength() {
+    String hash = HashUtil.sha256( "foo".getBytes(), 32 );
+
+    assertEquals( "2c26b46b68ffc68ff99b453c1d30413413422d706483bfa0f98a5e886266e7ae", hash );
+  }
+
+  @Test
+  public void testSha256_differsForDifferentContent() {
+    String hash1 = HashUtil.sha256( "foo".getBytes(), 8 );
+    String hash2 = HashUtil.sha256( "bar".getBytes(), 8 );
+
+    assertNotEquals( hash1, hash2 );
+  }
+
+  @Test( expected = NullPointerException.class )
+  public void testSha256_withNullContent() {
+    HashUtil.sha256( null, 8 );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testSha256_withZeroLength() {
+    HashUtil.sha256( "foo".getBytes(), 0 );
+  }
+
+  @Test( expected = IllegalArgumentException.class )
+  public void testSha256_withLengthExceedingDigest() {
+    HashUtil.sha256( "foo".getBytes(), 33 );
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2014 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -24,8 +24,12 @@ import java.io.InputStream;
 
 import org.eclipse.rap.rwt.RWT;
 import org.eclipse.rap.rwt.internal.resources.ResourceDirectory;
+import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer.InstanceCreator;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
 import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.RGB;
 import org.eclipse.swt.widgets.Display;
 import org.junit.After;
 import org.junit.Before;
@@ -127,6 +131,27 @@ public class ImageFactory_Test {
     assertEquals( url, ImageFactory.getImagePath( externalImage ) );
   }
 
+  @Test
+  public void testCreateComposedImage() {
+    Image image1 = imageFactory.createComposedImage( display, "key", createImageDataCreator() );
+    Image image2 = imageFactory.createComposedImage( display, "key", createImageDataCreator() );
+
+    assertNotSame( image1, image2 );
+    assertSame( image1.internalImage, image2.internalImage );
+    assertSame( display, image1.getDevice() );
+    assertTrue( RWT.getResourceManager().isRegistered( getRegisterPath( image1 ) ) );
+  }
+
+  private static InstanceCreator<Object, ImageData> createImageDataCreator() {
+    return new InstanceCreator<Object, ImageData>() {
+      @Override
+      public ImageData createInstance( Object key ) {
+        PaletteData palette = new PaletteData( new RGB[] { new RGB( 255, 0, 0 ) } );
+        return new ImageData( 16, 16, 8, palette );
+      }
+    };
+  }
+
   private static String getRegisterPath( Image image ) {
     String imagePath = ImageFactory.getImagePath( image );
     int prefixLength = ResourceDirectory.DIRNAME.length() + 1;
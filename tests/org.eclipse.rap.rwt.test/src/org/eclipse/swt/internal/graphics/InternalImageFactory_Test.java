@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2023 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -25,8 +25,11 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.eclipse.rap.rwt.RWT;
+import org.eclipse.rap.rwt.internal.util.SharedInstanceBuffer.InstanceCreator;
 import org.eclipse.rap.rwt.testfixture.internal.Fixture;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.ImageData;
@@ -243,6 +246,133 @@ public class InternalImageFactory_Test {
     assertNotSame( internalImage1, internalImage2 );
   }
 
+  @Test
+  public void testFindComposedImage() {
+    InternalImage internalImage
+      = internalImageFactory.findComposedImage( "key", createImageDataCreator( null ) );
+
+    assertTrue( RWT.getResourceManager().isRegistered( internalImage.getResourceName() ) );
+    assertEquals( 48, internalImage.getBounds().width );
+  }
+
+  @Test
+  public void testFindComposedImage_sharesImageWithEqualContent() {
+    InternalImage internalImage1 = internalImageFactory.findInternalImage( createImageDataWithoutType() );
+
+    InternalImage internalImage2
+      = internalImageFactory.findComposedImage( "key", createImageDataCreator( null ) );
+
+    assertSame( internalImage1, internalImage2 );
+  }
+
+  @Test
+  public void testFindComposedImage_isCached() {
+    List<Object> log = new ArrayList<>();
+    InternalImage internalImage1
+      = internalImageFactory.findComposedImage( "key", createImageDataCreator( log ) );
+
+    InternalImage internalImage2
+      = internalImageFactory.findComposedImage( "key", createImageDataCreator( log ) );
+
+    assertSame( internalImage1, internalImage2 );
+    assertEquals( 1, log.size() );
+  }
+
+  @Test
+  public void testFindComposedImage_withDifferentKeys() {
+    List<Object> log = new ArrayList<>();
+    internalImageFactory.findComposedImage( "key1", createImageDataCreator( log ) );
+
+    internalImageFactory.findComposedImage( "key2", createImageDataCreator( log ) );
+
+    assertEquals( 2, log.size() );
+  }
+
+  @Test
+  public void testFindComposedImage_keepsCachingWhenFull() {
+    List<Object> log = new ArrayList<>();
+    for( int i = 0; i < InternalImageFactory.MAX_COMPOSED_IMAGES; i++ ) {
+      internalImageFactory.findComposedImage( Integer.valueOf( i ), createImageDataCreator( null ) );
+    }
+
+    internalImageFactory.findComposedImage( "key", createImageDataCreator( log ) );
+    internalImageFactory.findComposedImage( "key", createImageDataCreator( log ) );
+
+    assertEquals( 1, log.size() );
+  }
+
+  @Test
+  public void testFindComposedImage_evictsLeastRecentlyUsed() {
+    List<Object> log = new ArrayList<>();
+    for( int i = 0; i < InternalImageFactory.MAX_COMPOSED_IMAGES; i++ ) {
+      internalImageFactory.findComposedImage( Integer.valueOf( i ), createImageDataCreator( null ) );
+    }
+    internalImageFactory.findComposedImage( Integer.valueOf( 0 ), createImageDataCreator( log ) );
+
+    internalImageFactory.findComposedImage( "key", createImageDataCreator( null ) );
+    internalImageFactory.findComposedImage( Integer.valueOf( 0 ), createImageDataCreator( log ) );
+    internalImageFactory.findComposedImage( Integer.valueOf( 1 ), createImageDataCreator( log ) );
+
+    assertEquals( 1, log.size() );
+    assertEquals( Integer.valueOf( 1 ), log.get( 0 ) );
+  }
+
+  @Test
+  public void testFindComposedImage_afterDestroyInternalImage() {
+    List<Object> log = new ArrayList<>();
+    InternalImage internalImage1
+      = internalImageFactory.findComposedImage( "key", createImageDataCreator( log ) );
+
+    internalImageFactory.destroyInternalImage( internalImage1.getResourceName() );
+    InternalImage internalImage2
+      = internalImageFactory.findComposedImage( "key", createImageDataCreator( log ) );
+
+    assertEquals( 2, log.size() );
+    assertNotSame( internalImage1, internalImage2 );
+    assertTrue( RWT.getResourceManager().isRegistered( internalImage2.getResourceName() ) );
+  }
+
+  @Test
+  public void testFindComposedImage_afterDestroyInternalImageWithSeveralKeys() {
+    List<Object> log = new ArrayList<>();
+    InternalImage internalImage
+      = internalImageFactory.findComposedImage( "key1", createImageDataCreator( null ) );
+    internalImageFactory.findComposedImage( "key2", createImageDataCreator( null ) );
+
+    internalImageFactory.destroyInternalImage( internalImage.getResourceName() );
+    internalImageFactory.findComposedImage( "key1", createImageDataCreator( log ) );
+    internalImageFactory.findComposedImage( "key2", createImageDataCreator( log ) );
+
+    assertEquals( 2, log.size() );
+  }
+
+  @Test
+  public void testFindComposedImage_afterEvictionAndDestroyInternalImage() {
+    List<Object> log = new ArrayList<>();
+    InternalImage internalImage
+      = internalImageFactory.findComposedImage( Integer.valueOf( 0 ), createImageDataCreator( null ) );
+    for( int i = 1; i <= InternalImageFactory.MAX_COMPOSED_IMAGES; i++ ) {
+      internalImageFactory.findComposedImage( Integer.valueOf( i ), createImageDataCreator( null ) );
+    }
+
+    internalImageFactory.destroyInternalImage( internalImage.getResourceName() );
+    internalImageFactory.findComposedImage( Integer.valueOf( 1 ), createImageDataCreator( log ) );
+
+    assertEquals( 1, log.size() );
+  }
+
+  private InstanceCreator<Object, ImageData> createImageDataCreator( final List<Object> log ) {
+    return new InstanceCreator<Object, ImageData>() {
+      @Override
+      public ImageData createInstance( Object key ) {
+        if( log != null ) {
+          log.add( key );
+        }
+        return createImageDataWithoutType();
+      }
+    };
+  }
+
   private ImageData createImageDataWithoutType() {
     PaletteData paletteData = new PaletteData( new RGB[]{
       new RGB( 255, 0, 0 ), new RGB( 0, 255, 0 )
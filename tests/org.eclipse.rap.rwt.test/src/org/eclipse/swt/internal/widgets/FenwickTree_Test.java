@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.swt.internal.widgets;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+
+public class FenwickTree_Test {
+
+  @Test
+  public void testGetPrefixSum() {
+    FenwickTree tree = new FenwickTree( new int[] { 1, 3, 1, 5, 2 } );
+
+    assertEquals( 0, tree.getPrefixSum( 0 ) );
+    assertEquals( 1, tree.getPrefixSum( 1 ) );
+    assertEquals( 4, tree.getPrefixSum( 2 ) );
+    assertEquals( 10, tree.getPrefixSum( 4 ) );
+    assertEquals( 12, tree.getTotal() );
+  }
+
+  @Test
+  public void testAdd() {
+    FenwickTree tree = new FenwickTree( new int[] { 1, 1, 1, 1 } );
+
+    tree.add( 1, 4 );
+    tree.add( 3, -1 );
+
+    assertEquals( 1, tree.getPrefixSum( 1 ) );
+    assertEquals( 6, tree.getPrefixSum( 2 ) );
+    assertEquals( 7, tree.getTotal() );
+  }
+
+  @Test
+  public void testFindIndex() {
+    FenwickTree tree = new FenwickTree( new int[] { 1, 3, 1, 5, 2 } );
+
+    assertEquals( 0, tree.findIndex( 0 ) );
+    assertEquals( 1, tree.findIndex( 1 ) );
+    assertEquals( 1, tree.findIndex( 3 ) );
+    assertEquals( 2, tree.findIndex( 4 ) );
+    assertEquals( 3, tree.findIndex( 5 ) );
+    assertEquals( 4, tree.findIndex( 11 ) );
+  }
+
+  @Test
+  public void testFindIndex_beyondTotal() {
+    FenwickTree tree = new FenwickTree( new int[] { 1, 2 } );
+
+    assertEquals( 2, tree.findIndex( 3 ) );
+  }
+
+  @Test
+  public void testFindIndex_empty() {
+    FenwickTree tree = new FenwickTree( new int[ 0 ] );
+
+    assertEquals( 0, tree.size() );
+    assertEquals( 0, tree.findIndex( 0 ) );
+  }
+
+  @Test
+  public void testMatchesLinearSums() {
+    Random random = new Random( 42 );
+    int[] values = new int[ 100 ];
+    for( int i = 0; i < values.length; i++ ) {
+      values[ i ] = 1 + random.nextInt( 10 );
+    }
+    FenwickTree tree = new FenwickTree( values );
+    for( int i = 0; i < 50; i++ ) {
+      int index = random.nextInt( values.length );
+      int delta = random.nextInt( 5 );
+      values[ index ] += delta;
+      tree.add( index, delta );
+    }
+
+    int sum = 0;
+    for( int i = 0; i < values.length; i++ ) {
+      assertEquals( sum, tree.getPrefixSum( i ) );
+      assertEquals( i, tree.findIndex( sum ) );
+      assertEquals( i, tree.findIndex( sum + values[ i ] - 1 ) );
+      sum += values[ i ];
+    }
+  }
+
+  @Test( expected = IndexOutOfBoundsException.class )
+  public void testAdd_invalidIndex() {
+    FenwickTree tree = new FenwickTree( new int[] { 1 } );
+
+    tree.add( 1, 1 );
+  }
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2018 EclipseSource and others.
+ * Copyright (c) 2012, 2026 EclipseSource and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,12 +11,21 @@
 package org.eclipse.swt.internal.widgets;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import org.eclipse.rap.rwt.SingletonUtil;
+import org.eclipse.rap.rwt.internal.SingletonManager;
+import org.eclipse.rap.rwt.internal.application.ApplicationContextImpl;
+import org.eclipse.rap.rwt.testfixture.internal.Fixture;
+import org.eclipse.swt.internal.widgets.MarkupValidator.ValidatedMarkupCache;
 import org.eclipse.swt.widgets.Widget;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -27,9 +36,40 @@ public class MarkupValidator_Test {
 
   @Before
   public void setUp() {
+    Fixture.setUp();
     validator = new MarkupValidator();
   }
 
+  @After
+  public void tearDown() {
+    Fixture.tearDown();
+  }
+
+  @Test
+  public void testGetInstance_isSharedWithinApplicationContext() {
+    assertSame( MarkupValidator.getInstance(), MarkupValidator.getInstance() );
+  }
+
+  @Test
+  public void testGetInstance_isNotSharedBetweenApplicationContexts() {
+    ApplicationContextImpl otherContext = new ApplicationContextImpl( null, null );
+    SingletonManager.install( otherContext );
+
+    MarkupValidator otherValidator
+      = SingletonUtil.getUniqueInstance( MarkupValidator.class, otherContext );
+
+    assertNotSame( MarkupValidator.getInstance(), otherValidator );
+  }
+
+  @Test
+  public void testValidate_doesNotCacheInOtherValidators() {
+    MarkupValidator otherValidator = new MarkupValidator();
+
+    validator.validate( "<b>foo</b>" );
+
+    assertFalse( otherValidator.getCache().contains( "<b>foo</b>" ) );
+  }
+
   @Test
   public void testValidate() {
     String markup = "<b>foo</b><br/><span style=\"background-color: blue\">bar</span>";
@@ -164,6 +204,120 @@ public class MarkupValidator_Test {
     }
   }
 
+  @Test
+  public void testValidate_cachesValidMarkup() {
+    String markup = "<b>foo</b>";
+
+    validator.validate( markup );
+
+    assertTrue( validator.getCache().contains( markup ) );
+  }
+
+  @Test
+  public void testValidate_doesNotCacheInvalidMarkup() {
+    String markup = "<b>foo";
+
+    try {
+      validator.validate( markup );
+      fail();
+    } catch( @SuppressWarnings( "unused" ) IllegalArgumentException expected ) {
+    }
+
+    assertFalse( validator.getCache().contains( markup ) );
+  }
+
+  @Test
+  public void testValidate_doesNotCachePlainText() {
+    validator.validate( "foo bar" );
+
+    assertEquals( 0, validator.getCache().size() );
+  }
+
+  @Test
+  public void testValidate_doesNotCacheLongMarkup() {
+    StringBuilder markup = new StringBuilder();
+    while( markup.length() <= MarkupValidator.MAX_CACHED_LENGTH ) {
+      markup.append( "<b>foo</b>" );
+    }
+
+    validator.validate( markup.toString() );
+
+    assertEquals( 0, validator.getCache().size() );
+  }
+
+  @Test
+  public void testValidatedMarkupCache_isBounded() {
+    ValidatedMarkupCache cache = new ValidatedMarkupCache( 4 );
+
+    for( int i = 0; i < 100; i++ ) {
+      cache.add( "<b>" + i + "</b>" );
+    }
+
+    assertTrue( cache.size() <= 6 );
+    assertTrue( cache.contains( "<b>99</b>" ) );
+    assertFalse( cache.contains( "<b>0</b>" ) );
+  }
+
+  @Test
+  public void testValidatedMarkupCache_keepsRecentlyUsedEntries() {
+    ValidatedMarkupCache cache = new ValidatedMarkupCache( 4 );
+    cache.add( "a" );
+    cache.add( "b" );
+    cache.add( "c" );
+
+    for( int i = 0; i < 10; i++ ) {
+      assertTrue( cache.contains( "a" ) );
+      cache.add( "<b>" + i + "</b>" );
+    }
+
+    assertTrue( cache.contains( "a" ) );
+  }
+
+  @Test
+  public void testValidate_sameResultAsSAXParser() {
+    String[] markups = {
+      "",
+      "&#x41; &#65; &#;",
+      "&foo;",
+      "a & b",
+      "<b>foo</b ><br />",
+      "<b style = 'x' >foo</b>",
+      "<b style=\"x\"class=\"y\">foo</b>",
+      "<b id=\"x\" id=\"y\">foo</b>",
+      "<b>foo</B>",
+      "< b>foo</b>",
+      "</html>",
+      "<html>foo</html>",
+      "<!-- comment -->",
+      "<!-- com -- ment -->",
+      "<![CDATA[<ul>]]>",
+      "foo ]]> bar",
+      "<?target data?>",
+      "<?xml version=\"1.0\"?>",
+      "<!DOCTYPE html>",
+      "<a href=\"a<b\">foo</a>",
+      "<a href=\"a&amp;b\" target=\"_blank\">foo</a>",
+      "<img width=\"+1\" height=\"-1\"/>",
+      "<img width=\" 1\" height=\"1\"/>",
+      "<img width=\"&#49;0\" height=\"1\"/>",
+      "<img width=\"99999999999\" height=\"1\"/>",
+      "<img width=\"1\" height=\"1\" foo=\"bar\"/>",
+      "<q:b>foo</q:b>",
+      "\u0001",
+      "\uD800",
+      "\uD83D\uDE00",
+      "&#0;",
+      "&#x110000;"
+    };
+    SAXMarkupValidator saxValidator = new SAXMarkupValidator();
+
+    for( String markup : markups ) {
+      String expected = getValidationResult( () -> saxValidator.validate( markup ) );
+      String actual = getValidationResult( () -> validator.validate( markup ) );
+      assertEquals( markup, expected, actual );
+    }
+  }
+
   @Test
     public void testIsValidationDisabledFor() {
       Widget widget = mock( Widget.class );
@@ -172,4 +326,13 @@ public class MarkupValidator_Test {
       assertTrue( MarkupValidator.isValidationDisabledFor( widget ) );
     }
 
+  private static String getValidationResult( Runnable validation ) {
+    try {
+      validation.run();
+      return "valid";
+    } catch( IllegalArgumentException exception ) {
+      return exception.getMessage();
+    }
+  }
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2002, 2015 Innoopract Informationssysteme GmbH and others.
+ * Copyright (c) 2002, 2026 Innoopract Informationssysteme GmbH and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -124,6 +124,107 @@ public class WidgetRemoteAdapter_Test {
     assertNull( adapter.getPreserved( "prop" ) );
   }
 
+  @Test
+  public void testPreserveProperty_replacesValue() {
+    Object value = new Object();
+    adapter.preserve( "prop", new Object() );
+
+    adapter.preserve( "prop", value );
+
+    assertSame( value, adapter.getPreserved( "prop" ) );
+  }
+
+  @Test
+  public void testPreserveProperty_withManyProperties() {
+    for( int i = 0; i < 100; i++ ) {
+      adapter.preserve( "prop" + i, Integer.valueOf( i ) );
+    }
+
+    for( int i = 0; i < 100; i++ ) {
+      assertEquals( Integer.valueOf( i ), adapter.getPreserved( "prop" + i ) );
+    }
+  }
+
+  @Test
+  public void testPreserveIntProperty() {
+    adapter.preserve( "prop", 23 );
+
+    assertEquals( Integer.valueOf( 23 ), adapter.getPreserved( "prop" ) );
+    assertTrue( adapter.isPreserved( "prop", 23 ) );
+    assertFalse( adapter.isPreserved( "prop", 42 ) );
+    assertFalse( adapter.isPreserved( "prop", true ) );
+  }
+
+  @Test
+  public void testPreserveBooleanProperty() {
+    adapter.preserve( "prop", true );
+
+    assertEquals( Boolean.TRUE, adapter.getPreserved( "prop" ) );
+    assertTrue( adapter.isPreserved( "prop", true ) );
+    assertFalse( adapter.isPreserved( "prop", false ) );
+    assertFalse( adapter.isPreserved( "prop", 1 ) );
+  }
+
+  @Test
+  public void testIsPreserved_withBoxedValue() {
+    adapter.preserve( "int", Integer.valueOf( 23 ) );
+    adapter.preserve( "boolean", Boolean.FALSE );
+
+    assertTrue( adapter.isPreserved( "int", 23 ) );
+    assertTrue( adapter.isPreserved( "boolean", false ) );
+  }
+
+  @Test
+  public void testIsPreserved_withoutPreservedValue() {
+    assertFalse( adapter.isPreserved( "prop", 0 ) );
+    assertFalse( adapter.isPreserved( "prop", false ) );
+  }
+
+  @Test
+  public void testPreserveIntProperty_isCleared() {
+    adapter.preserve( "prop", 23 );
+
+    adapter.clearPreserved();
+
+    assertNull( adapter.getPreserved( "prop" ) );
+    assertFalse( adapter.isPreserved( "prop", 23 ) );
+  }
+
+  @Test
+  public void testPreserveProperty_isMatchedByEqualName() {
+    adapter.preserve( "prop", 23 );
+
+    assertTrue( adapter.isPreserved( new String( "prop" ), 23 ) );
+  }
+
+  @Test
+  public void testPreserveProperty_afterClearPreserved() {
+    adapter.preserve( "prop1", 23 );
+    adapter.preserve( "prop2", "foo" );
+    adapter.clearPreserved();
+
+    adapter.preserve( "prop2", "bar" );
+
+    assertNull( adapter.getPreserved( "prop1" ) );
+    assertFalse( adapter.isPreserved( "prop1", 23 ) );
+    assertEquals( "bar", adapter.getPreserved( "prop2" ) );
+  }
+
+  @Test
+  public void testClearPreserved_withManyProperties() {
+    for( int i = 0; i < 100; i++ ) {
+      adapter.preserve( "prop" + i, i );
+    }
+    adapter.clearPreserved();
+
+    adapter.preserve( "prop70", 70 );
+
+    assertNull( adapter.getPreserved( "prop5" ) );
+    assertNull( adapter.getPreserved( "prop69" ) );
+    assertFalse( adapter.isPreserved( "prop71", 71 ) );
+    assertTrue( adapter.isPreserved( "prop70", 70 ) );
+  }
+
   @Test
   public void testGetRenderRunnables_initial() {
     assertEquals( 0, adapter.getRenderRunnables().length );
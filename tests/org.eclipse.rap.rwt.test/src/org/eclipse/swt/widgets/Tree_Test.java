@@ -1642,6 +1642,54 @@ public class Tree_Test {
     assertSame( item1, result );
   }
 
+  @Test
+  public void testGetItemByPoint_withExpandedItem() {
+    tree.setSize( 100, 200 );
+    TreeItem item1 = new TreeItem( tree, SWT.NONE );
+    new TreeItem( item1, SWT.NONE );
+    TreeItem subItem2 = new TreeItem( item1, SWT.NONE );
+    TreeItem item2 = new TreeItem( tree, SWT.NONE );
+    int itemHeight = tree.getItemHeight();
+
+    item1.setExpanded( true );
+    TreeItem expandedResult = tree.getItem( new Point( 5, 2 * itemHeight + 1 ) );
+    item1.setExpanded( false );
+    TreeItem collapsedResult = tree.getItem( new Point( 5, itemHeight + 1 ) );
+
+    assertSame( subItem2, expandedResult );
+    assertSame( item2, collapsedResult );
+  }
+
+  @Test
+  public void testGetFlatIndex_afterDisposeOfExpandedItem() {
+    TreeItem item1 = new TreeItem( tree, SWT.NONE );
+    TreeItem subItem = new TreeItem( item1, SWT.NONE );
+    new TreeItem( subItem, SWT.NONE );
+    new TreeItem( item1, SWT.NONE );
+    TreeItem item2 = new TreeItem( tree, SWT.NONE );
+    item1.setExpanded( true );
+    subItem.setExpanded( true );
+    assertEquals( 4, item2.getFlatIndex() );
+
+    subItem.dispose();
+
+    assertEquals( 2, item2.getFlatIndex() );
+  }
+
+  @Test
+  public void testGetFlatIndex_withCollapsedAncestor() {
+    TreeItem item1 = new TreeItem( tree, SWT.NONE );
+    TreeItem subItem = new TreeItem( item1, SWT.NONE );
+    new TreeItem( subItem, SWT.NONE );
+    TreeItem item2 = new TreeItem( tree, SWT.NONE );
+    subItem.setExpanded( true );
+    assertEquals( 1, item2.getFlatIndex() );
+
+    item1.setExpanded( true );
+
+    assertEquals( 3, item2.getFlatIndex() );
+  }
+
   @Test
   public void testPreferredWidthBufferHandlingOfTreeItem() throws IOException {
     TreeItem item1 = new TreeItem( tree, SWT.NONE );
@@ -27,5 +27,7 @@ public class AllTests extends TestSuite {
         addTestSuite(ImageRegistryTest.class);
         addTestSuite(ResourceManagerTest.class);
         addTestSuite(FileImageDescriptorTest.class);
+        addTestSuite(DecorationOverlayIconTest.class);
+        addTestSuite(FontRegistryTest.class);
     }
 }
@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.jface.tests.images;
+
+import junit.framework.TestCase;
+
+import org.eclipse.jface.resource.CompositeImageDescriptor;
+import org.eclipse.jface.resource.ImageDescriptor;
+import org.eclipse.jface.viewers.DecorationOverlayIcon;
+import org.eclipse.jface.viewers.IDecoration;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.Point;
+
+/**
+ * Tests the composition key that shares decorated images between UI
+ * sessions.
+ */
+public class DecorationOverlayIconTest extends TestCase {
+
+	private Image baseImage;
+	private ImageDescriptor overlay;
+
+	protected void setUp() throws Exception {
+		super.setUp();
+		baseImage = ImageDescriptor.createFromFile(
+				FileImageDescriptorTest.class, "anything.gif").createImage();
+		overlay = ImageDescriptor.createFromFile(
+				FileImageDescriptorTest.class, "anything.gif");
+	}
+
+	public void testCompositionKeyOfEqualCompositions() {
+		KeyedIcon icon1 = new KeyedIcon(baseImage, overlay, IDecoration.TOP_LEFT);
+		KeyedIcon icon2 = new KeyedIcon(baseImage, overlay, IDecoration.TOP_LEFT);
+
+		assertNotNull(icon1.getKey());
+		assertEquals(icon1.getKey(), icon2.getKey());
+	}
+
+	public void testCompositionKeyOfDifferentQuadrants() {
+		KeyedIcon icon1 = new KeyedIcon(baseImage, overlay, IDecoration.TOP_LEFT);
+		KeyedIcon icon2 = new KeyedIcon(baseImage, overlay, IDecoration.BOTTOM_RIGHT);
+
+		assertFalse(icon1.getKey().equals(icon2.getKey()));
+	}
+
+	public void testCompositionKeyOfDifferentOverlays() {
+		KeyedIcon icon1 = new KeyedIcon(baseImage, overlay, IDecoration.TOP_LEFT);
+		KeyedIcon icon2 = new KeyedIcon(baseImage, ImageDescriptor.getMissingImageDescriptor(),
+				IDecoration.TOP_LEFT);
+
+		assertFalse(icon1.getKey().equals(icon2.getKey()));
+	}
+
+	public void testCompositionKeyOfDifferentSizes() {
+		ImageDescriptor[] overlays = new ImageDescriptor[] { overlay, null, null, null, null };
+		KeyedIcon icon1 = new KeyedIcon(baseImage, overlays, new Point(16, 16));
+		KeyedIcon icon2 = new KeyedIcon(baseImage, overlays, new Point(32, 32));
+
+		assertFalse(icon1.getKey().equals(icon2.getKey()));
+	}
+
+	public void testCompositionKeyWithSessionSpecificOverlay() {
+		ImageDescriptor sessionOverlay = ImageDescriptor.createFromImageData(overlay.getImageData());
+		KeyedIcon icon = new KeyedIcon(baseImage, sessionOverlay, IDecoration.TOP_LEFT);
+
+		assertNull(icon.getKey());
+	}
+
+	public void testCreateImageSharesEqualCompositions() {
+		Image image1 = new DecorationOverlayIcon(baseImage, overlay, IDecoration.TOP_LEFT).createImage();
+		Image image2 = new DecorationOverlayIcon(baseImage, overlay, IDecoration.TOP_LEFT).createImage();
+
+		assertNotSame(image1, image2);
+		assertSame(image1.internalImage, image2.internalImage);
+	}
+
+	public void testCreateImageWithSessionSpecificOverlay() {
+		ImageDescriptor sessionOverlay = ImageDescriptor.createFromImageData(overlay.getImageData());
+
+		Image image = new DecorationOverlayIcon(baseImage, sessionOverlay, IDecoration.TOP_LEFT).createImage();
+
+		assertNotNull(image);
+	}
+
+	public void testCreateImageWithoutImageData() {
+		EmptyImageDescriptor descriptor = new EmptyImageDescriptor();
+
+		assertNull(descriptor.createImage(false));
+		assertNotNull(descriptor.createImage(true));
+	}
+
+	private static final class KeyedIcon extends DecorationOverlayIcon {
+
+		KeyedIcon(Image baseImage, ImageDescriptor overlayImage, int quadrant) {
+			super(baseImage, overlayImage, quadrant);
+		}
+
+		KeyedIcon(Image baseImage, ImageDescriptor[] overlays, Point size) {
+			super(baseImage, overlays, size);
+		}
+
+		Object getKey() {
+			return getCompositionKey();
+		}
+	}
+
+	private static final class EmptyImageDescriptor extends CompositeImageDescriptor {
+
+		public ImageData getImageData() {
+			return null;
+		}
+
+		protected Object getCompositionKey() {
+			return createCompositionKey(new Object[] { "empty" }); //$NON-NLS-1$
+		}
+
+		protected void drawCompositeImage(int width, int height) {
+		}
+
+		protected Point getSize() {
+			return new Point(16, 16);
+		}
+	}
+}
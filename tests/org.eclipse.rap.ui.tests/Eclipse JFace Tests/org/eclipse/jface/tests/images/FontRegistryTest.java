@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.tests.images;
+
+import junit.framework.TestCase;
+
+import org.eclipse.jface.resource.FontRegistry;
+import org.eclipse.jface.util.IPropertyChangeListener;
+import org.eclipse.jface.util.PropertyChangeEvent;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.FontData;
+
+/**
+ * Tests the font data that a {@link FontRegistry} reads from a resource bundle.
+ */
+public class FontRegistryTest extends TestCase {
+
+    private static final String LOCATION = "org.eclipse.jface.tests.images.testfonts"; //$NON-NLS-1$
+    private static final String TITLE_FONT = "org.eclipse.jface.tests.titlefont"; //$NON-NLS-1$
+    private static final String LIST_FONT = "org.eclipse.jface.tests.listfont"; //$NON-NLS-1$
+
+    private static FontRegistry createRegistry() {
+        return new FontRegistry(LOCATION, FontRegistryTest.class.getClassLoader());
+    }
+
+    public void testReadsFontDataFromBundle() {
+        FontRegistry registry = createRegistry();
+
+        FontData[] fontData = registry.getFontData(TITLE_FONT);
+
+        assertEquals("Arial", fontData[0].getName()); //$NON-NLS-1$
+        assertEquals(16, fontData[0].getHeight());
+        assertEquals(SWT.BOLD, fontData[0].getStyle());
+    }
+
+    public void testReadsFontDataListFromBundle() {
+        FontRegistry registry = createRegistry();
+
+        FontData[] fontData = registry.getFontData(LIST_FONT);
+
+        assertEquals("Verdana", fontData[0].getName()); //$NON-NLS-1$
+        assertEquals("Arial", fontData[1].getName()); //$NON-NLS-1$
+        assertEquals(SWT.ITALIC, fontData[1].getStyle());
+    }
+
+    public void testFontDataIsNotSharedBetweenRegistries() {
+        FontRegistry registry1 = createRegistry();
+        FontRegistry registry2 = createRegistry();
+
+        FontData[] fontData1 = registry1.getFontData(TITLE_FONT);
+        FontData[] fontData2 = registry2.getFontData(TITLE_FONT);
+
+        assertNotSame(fontData1, fontData2);
+        assertNotSame(fontData1[0], fontData2[0]);
+    }
+
+    public void testChangedFontDataDoesNotAffectOtherRegistries() {
+        FontRegistry registry1 = createRegistry();
+        FontRegistry registry2 = createRegistry();
+
+        registry1.getFontData(TITLE_FONT)[0].setHeight(42);
+        registry1.getFontData(LIST_FONT)[1] = null;
+
+        assertEquals(16, registry2.getFontData(TITLE_FONT)[0].getHeight());
+        assertEquals(16, createRegistry().getFontData(TITLE_FONT)[0].getHeight());
+        assertNotNull(createRegistry().getFontData(LIST_FONT)[1]);
+    }
+
+    public void testPutDoesNotAffectOtherRegistries() {
+        FontRegistry registry1 = createRegistry();
+        FontRegistry registry2 = createRegistry();
+
+        registry1.put(TITLE_FONT, new FontData[] { new FontData("Courier", 8, SWT.NORMAL) }); //$NON-NLS-1$
+
+        assertEquals("Arial", registry2.getFontData(TITLE_FONT)[0].getName()); //$NON-NLS-1$
+    }
+
+    public void testFontDataIsKeptWithinRegistry() {
+        FontRegistry registry = createRegistry();
+
+        FontData[] fontData = registry.getFontData(TITLE_FONT);
+        fontData[0].setHeight(42);
+
+        assertSame(fontData, registry.getFontData(TITLE_FONT));
+        assertEquals(42, registry.getFontData(TITLE_FONT)[0].getHeight());
+    }
+
+    public void testKeySetContainsBundleFonts() {
+        FontRegistry registry = createRegistry();
+
+        assertTrue(registry.getKeySet().contains(TITLE_FONT));
+        assertTrue(registry.getKeySet().contains(LIST_FONT));
+        assertTrue(registry.hasValueFor(TITLE_FONT));
+        assertFalse(registry.hasValueFor("unknown")); //$NON-NLS-1$
+    }
+
+    public void testKeySetContainsPutFonts() {
+        FontRegistry registry = createRegistry();
+
+        registry.put("custom", new FontData[] { new FontData("Courier", 8, SWT.NORMAL) }); //$NON-NLS-1$ //$NON-NLS-2$
+
+        assertTrue(registry.getKeySet().contains("custom")); //$NON-NLS-1$
+        assertTrue(registry.getKeySet().contains(TITLE_FONT));
+    }
+
+    public void testPutNotifiesCopyOfBundleFontData() {
+        FontRegistry registry = createRegistry();
+        final PropertyChangeEvent[] events = new PropertyChangeEvent[1];
+        registry.addListener(new IPropertyChangeListener() {
+            public void propertyChange(PropertyChangeEvent event) {
+                events[0] = event;
+            }
+        });
+
+        registry.put(TITLE_FONT, new FontData[] { new FontData("Courier", 8, SWT.NORMAL) }); //$NON-NLS-1$
+        FontData[] oldValue = (FontData[]) events[0].getOldValue();
+        oldValue[0].setHeight(42);
+
+        assertEquals("Arial", oldValue[0].getName()); //$NON-NLS-1$
+        assertEquals(16, createRegistry().getFontData(TITLE_FONT)[0].getHeight());
+    }
+
+    public void testPutOfEqualFontDataIsIgnored() {
+        FontRegistry registry = createRegistry();
+        final int[] count = new int[1];
+        registry.addListener(new IPropertyChangeListener() {
+            public void propertyChange(PropertyChangeEvent event) {
+                count[0]++;
+            }
+        });
+
+        registry.put(TITLE_FONT, new FontData[] { new FontData("Arial", 16, SWT.BOLD) }); //$NON-NLS-1$
+
+        assertEquals(0, count[0]);
+    }
+}
@@ -15,6 +15,7 @@ import junit.framework.TestCase;
 
 import org.eclipse.jface.resource.*;
 import org.eclipse.rap.rwt.graphics.Graphics;
+import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.*;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.ui.plugin.AbstractUIPlugin;
@@ -302,4 +303,44 @@ public class ResourceManagerTest extends TestCase {
     	// Destroy the resource we created
     	globalResourceManager.destroy(descriptor);
     }
+
+    public void testColorsAreDisposedWithManager() throws Exception {
+        LocalResourceManager manager = new LocalResourceManager(globalResourceManager);
+        Color color = manager.createColor(new RGB(1, 2, 3));
+
+        // the color is owned by the manager, not shared by the application
+        assertSame(Display.getCurrent(), color.getDevice());
+        manager.dispose();
+
+        assertTrue(color.isDisposed());
+    }
+
+    public void testColorsAreReferenceCounted() throws Exception {
+        LocalResourceManager manager = new LocalResourceManager(globalResourceManager);
+        RGB rgb = new RGB(1, 2, 3);
+        Color color = manager.createColor(rgb);
+
+        assertSame(color, manager.createColor(rgb));
+        manager.destroyColor(rgb);
+        assertFalse(color.isDisposed());
+        manager.destroyColor(rgb);
+        assertTrue(color.isDisposed());
+        manager.dispose();
+    }
+
+    public void testFontsAreDisposedWithManager() throws Exception {
+        LocalResourceManager manager = new LocalResourceManager(globalResourceManager);
+        Font font = manager.createFont(FontDescriptor.createFrom("Arial", 10, SWT.BOLD)); //$NON-NLS-1$
+
+        assertSame(Display.getCurrent(), font.getDevice());
+        manager.dispose();
+
+        assertTrue(font.isDisposed());
+    }
+
+    public void testFindDoesNotCreateColors() throws Exception {
+        ColorDescriptor descriptor = ColorDescriptor.createFrom(new RGB(1, 2, 3));
+
+        assertNull(globalResourceManager.find(descriptor));
+    }
 }
@@ -33,6 +33,7 @@ public class AllTests extends TestSuite {
 		addTestSuite(SimpleTableViewerTest.class);
 		addTestSuite(SimpleVirtualLazyTreeViewerTest.class);
 		addTestSuite(VirtualLazyTreeViewerTest.class);
+		addTestSuite(VirtualLazyRangeTreeViewerTest.class);
 		addTestSuite(TableViewerTest.class);
 		addTestSuite(TreeViewerColumnTest.class);
 		addTestSuite(VirtualTableViewerTest.class);
@@ -66,5 +67,7 @@ public class AllTests extends TestSuite {
 		addTestSuite(Bug287765Test.class);
 //		addTestSuite(StyledStringBuilderTest.class);
 		addTestSuite(TreeManagerTest.class);
+		addTestSuite(IncrementalTableViewerTest.class);
+		addTestSuite(IncrementalTreeViewerTest.class);
 	}
 }
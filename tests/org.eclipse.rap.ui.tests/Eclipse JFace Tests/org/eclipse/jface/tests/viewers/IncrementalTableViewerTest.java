@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.jface.tests.viewers;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.jface.viewers.ILabelInputProvider;
+import org.eclipse.jface.viewers.LabelProvider;
+import org.eclipse.jface.viewers.StructuredViewer;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableItem;
+
+/**
+ * Tests the incremental refresh of a table viewer.
+ */
+public class IncrementalTableViewerTest extends ViewerTestCase {
+
+	private TableViewer tableViewer;
+
+	private Set labeled;
+
+	public IncrementalTableViewerTest(String name) {
+		super(name);
+	}
+
+	protected StructuredViewer createViewer(Composite parent) {
+		labeled = new HashSet();
+		tableViewer = new TableViewer(parent);
+		tableViewer.setContentProvider(new TestModelContentProvider());
+		tableViewer.setLabelProvider(new RecordingLabelProvider());
+		tableViewer.setIncrementalRefresh(true);
+		return tableViewer;
+	}
+
+	public void testInsertKeepsItems() {
+		TableItem[] items = getTable().getItems();
+		TestElement element = new TestElement(fModel, fRootElement);
+		fRootElement.fChildren.add(0, element);
+
+		tableViewer.refresh();
+
+		assertEquals(items.length + 1, getTable().getItemCount());
+		assertSame(element, getTable().getItem(0).getData());
+		for (int i = 0; i < items.length; i++) {
+			assertSame(items[i], getTable().getItem(i + 1));
+		}
+		assertItemsShowChildren();
+	}
+
+	public void testRemoveKeepsItems() {
+		TableItem[] items = getTable().getItems();
+		fRootElement.basicDeleteChild(fRootElement.getChildAt(3));
+
+		tableViewer.refresh();
+
+		assertEquals(items.length - 1, getTable().getItemCount());
+		for (int i = 0; i < 3; i++) {
+			assertSame(items[i], getTable().getItem(i));
+		}
+		for (int i = 4; i < items.length; i++) {
+			assertSame(items[i], getTable().getItem(i - 1));
+		}
+		assertItemsShowChildren();
+	}
+
+	public void testMoveKeepsItemsOfOtherElements() {
+		TableItem[] items = getTable().getItems();
+		Object moved = fRootElement.fChildren.remove(0);
+		fRootElement.fChildren.add(moved);
+
+		tableViewer.refresh();
+
+		assertEquals(items.length, getTable().getItemCount());
+		for (int i = 1; i < items.length; i++) {
+			assertSame(items[i], getTable().getItem(i - 1));
+		}
+		assertSame(moved, getTable().getItem(items.length - 1).getData());
+		assertItemsShowChildren();
+	}
+
+	public void testRefreshWithoutChangesKeepsItems() {
+		TableItem[] items = getTable().getItems();
+
+		tableViewer.refresh();
+
+		for (int i = 0; i < items.length; i++) {
+			assertSame(items[i], getTable().getItem(i));
+		}
+	}
+
+	public void testFallbackOnDuplicateElements() {
+		// an element equal to the first child
+		TestElement duplicate = new TestElement(fModel, fRootElement, 1, 0);
+		fRootElement.fChildren.add(duplicate);
+
+		tableViewer.refresh();
+
+		assertItemsShowChildren();
+		fRootElement.basicDeleteChild(duplicate);
+		tableViewer.refresh();
+		assertItemsShowChildren();
+	}
+
+	public void testRelabelsAllElementsWithoutLabelInputProvider() {
+		labeled.clear();
+
+		tableViewer.refresh(true);
+
+		assertAllLabeled();
+	}
+
+	public void testSkipsRelabelOfUnchangedElements() {
+		tableViewer.setLabelInputProvider(new TestLabelInputProvider());
+		tableViewer.refresh(true);
+		TestElement changed = fRootElement.getChildAt(2);
+		changed.fSomeName = "changed";
+		labeled.clear();
+
+		tableViewer.refresh(true);
+
+		assertEquals(Collections.singleton(changed), labeled);
+		assertEquals(changed.toString(), getTable().getItem(2).getText());
+	}
+
+	public void testRelabelsAllElementsAfterLabelProviderChange() {
+		tableViewer.setLabelInputProvider(new TestLabelInputProvider());
+		tableViewer.refresh(true);
+		labeled.clear();
+
+		// refreshes the viewer
+		tableViewer.setLabelProvider(new RecordingLabelProvider());
+
+		assertAllLabeled();
+	}
+
+	private Table getTable() {
+		return tableViewer.getTable();
+	}
+
+	private void assertAllLabeled() {
+		assertEquals(new HashSet(fRootElement.fChildren), labeled);
+	}
+
+	private void assertItemsShowChildren() {
+		TestElement[] children = fRootElement.getChildren();
+		assertEquals(children.length, getTable().getItemCount());
+		for (int i = 0; i < children.length; i++) {
+			TableItem item = getTable().getItem(i);
+			assertSame(children[i], item.getData());
+			assertEquals(children[i].toString(), item.getText());
+		}
+	}
+
+	private class RecordingLabelProvider extends LabelProvider {
+
+		public String getText(Object element) {
+			labeled.add(element);
+			return element.toString();
+		}
+	}
+
+	static class TestLabelInputProvider implements ILabelInputProvider {
+
+		public Object getLabelInput(Object element) {
+			return ((TestElement) element).getLabel();
+		}
+	}
+}
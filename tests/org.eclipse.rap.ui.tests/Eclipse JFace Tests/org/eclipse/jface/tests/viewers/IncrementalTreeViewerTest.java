@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.jface.tests.viewers;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.jface.viewers.LabelProvider;
+import org.eclipse.jface.viewers.StructuredViewer;
+import org.eclipse.jface.viewers.TreeViewer;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Tree;
+import org.eclipse.swt.widgets.TreeItem;
+
+/**
+ * Tests the incremental refresh of a tree viewer.
+ */
+public class IncrementalTreeViewerTest extends ViewerTestCase {
+
+	private TreeViewer treeViewer;
+
+	private Set labeled;
+
+	public IncrementalTreeViewerTest(String name) {
+		super(name);
+	}
+
+	protected StructuredViewer createViewer(Composite parent) {
+		labeled = new HashSet();
+		treeViewer = new TreeViewer(parent);
+		treeViewer.setContentProvider(new TestModelContentProvider());
+		treeViewer.setLabelProvider(new RecordingLabelProvider());
+		treeViewer.setIncrementalRefresh(true);
+		return treeViewer;
+	}
+
+	public void testInsertKeepsItems() {
+		TreeItem[] items = getTree().getItems();
+		TestElement element = new TestElement(fModel, fRootElement);
+		fRootElement.fChildren.add(0, element);
+
+		treeViewer.refresh();
+
+		assertEquals(items.length + 1, getTree().getItemCount());
+		assertSame(element, getTree().getItem(0).getData());
+		for (int i = 0; i < items.length; i++) {
+			assertSame(items[i], getTree().getItem(i + 1));
+		}
+		assertItemsShowChildren(getTree().getItems(), fRootElement);
+	}
+
+	public void testRemoveKeepsItems() {
+		TreeItem[] items = getTree().getItems();
+		fRootElement.basicDeleteChild(fRootElement.getChildAt(3));
+
+		treeViewer.refresh();
+
+		assertEquals(items.length - 1, getTree().getItemCount());
+		assertTrue(items[3].isDisposed());
+		for (int i = 0; i < 3; i++) {
+			assertSame(items[i], getTree().getItem(i));
+		}
+		for (int i = 4; i < items.length; i++) {
+			assertSame(items[i], getTree().getItem(i - 1));
+		}
+		assertItemsShowChildren(getTree().getItems(), fRootElement);
+	}
+
+	public void testMoveKeepsItemsOfOtherElements() {
+		TreeItem[] items = getTree().getItems();
+		Object moved = fRootElement.fChildren.remove(0);
+		fRootElement.fChildren.add(moved);
+
+		treeViewer.refresh();
+
+		assertEquals(items.length, getTree().getItemCount());
+		for (int i = 1; i < items.length; i++) {
+			assertSame(items[i], getTree().getItem(i - 1));
+		}
+		assertSame(moved, getTree().getItem(items.length - 1).getData());
+		assertItemsShowChildren(getTree().getItems(), fRootElement);
+	}
+
+	public void testMoveKeepsExpandedState() {
+		TestElement moved = fRootElement.getFirstChild();
+		treeViewer.setExpandedState(moved, true);
+		fRootElement.fChildren.remove(moved);
+		fRootElement.fChildren.add(moved);
+
+		// the new item of the moved element is expanded with a dummy item,
+		// which is replaced when its children are refreshed
+		treeViewer.refresh();
+
+		TreeItem item = getTree().getItem(getTree().getItemCount() - 1);
+		assertSame(moved, item.getData());
+		assertTrue(item.getExpanded());
+		assertTrue(treeViewer.getExpandedState(moved));
+		assertItemsShowChildren(item.getItems(), moved);
+	}
+
+	public void testRefreshKeepsItemsOfExpandedElement() {
+		TestElement parent = fRootElement.getFirstChild();
+		treeViewer.setExpandedState(parent, true);
+		TreeItem[] items = getTree().getItem(0).getItems();
+		parent.basicDeleteChild(parent.getChildAt(0));
+
+		treeViewer.refresh();
+
+		TreeItem[] newItems = getTree().getItem(0).getItems();
+		assertEquals(items.length - 1, newItems.length);
+		for (int i = 1; i < items.length; i++) {
+			assertSame(items[i], newItems[i - 1]);
+		}
+		assertItemsShowChildren(newItems, parent);
+	}
+
+	public void testFallbackOnDummyItem() {
+		TestElement parent = fRootElement.getFirstChild();
+		TreeItem item = getTree().getItem(0);
+		// the widget is expanded without the viewer, so its dummy item stays
+		item.setExpanded(true);
+		assertEquals(1, item.getItemCount());
+		assertNull(item.getItem(0).getData());
+
+		treeViewer.refresh();
+
+		assertItemsShowChildren(item.getItems(), parent);
+	}
+
+	public void testFallbackOnDuplicateElements() {
+		// an element equal to the first child
+		TestElement duplicate = new TestElement(fModel, fRootElement, 1, 0);
+		fRootElement.fChildren.add(duplicate);
+
+		treeViewer.refresh();
+
+		assertItemsShowChildren(getTree().getItems(), fRootElement);
+		fRootElement.basicDeleteChild(duplicate);
+		treeViewer.refresh();
+		assertItemsShowChildren(getTree().getItems(), fRootElement);
+	}
+
+	public void testRelabelsAllElementsWithoutLabelInputProvider() {
+		labeled.clear();
+
+		treeViewer.refresh(true);
+
+		assertEquals(new HashSet(fRootElement.fChildren), labeled);
+	}
+
+	public void testSkipsRelabelOfUnchangedElements() {
+		treeViewer.setLabelInputProvider(
+				new IncrementalTableViewerTest.TestLabelInputProvider());
+		treeViewer.refresh(true);
+		TestElement changed = fRootElement.getChildAt(2);
+		changed.fSomeName = "changed";
+		labeled.clear();
+
+		treeViewer.refresh(true);
+
+		assertEquals(Collections.singleton(changed), labeled);
+		assertEquals(changed.toString(), getTree().getItem(2).getText());
+	}
+
+	private Tree getTree() {
+		return treeViewer.getTree();
+	}
+
+	private static void assertItemsShowChildren(TreeItem[] items,
+			TestElement parent) {
+		TestElement[] children = parent.getChildren();
+		assertEquals(children.length, items.length);
+		for (int i = 0; i < children.length; i++) {
+			assertSame(children[i], items[i].getData());
+			assertEquals(children[i].toString(), items[i].getText());
+		}
+	}
+
+	private class RecordingLabelProvider extends LabelProvider {
+
+		public String getText(Object element) {
+			labeled.add(element);
+			return element.toString();
+		}
+	}
+}
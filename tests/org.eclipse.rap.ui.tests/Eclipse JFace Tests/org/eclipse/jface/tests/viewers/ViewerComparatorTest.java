@@ -11,6 +11,7 @@
  ******************************************************************************/
 package org.eclipse.jface.tests.viewers;
 
+import java.util.Comparator;
 import java.util.Vector;
 
 import org.eclipse.core.runtime.Assert;
@@ -23,6 +24,9 @@ import org.eclipse.jface.viewers.ListViewer;
 import org.eclipse.jface.viewers.StructuredSelection;
 import org.eclipse.jface.viewers.TableViewer;
 import org.eclipse.jface.viewers.Viewer;
+import org.eclipse.jface.viewers.ViewerComparator;
+import org.eclipse.jface.viewers.ViewerFilter;
+import org.eclipse.rap.rwt.RWT;
 
 /**
  * @since 3.2
@@ -242,4 +246,81 @@ public abstract class ViewerComparatorTest extends ViewerTestCase {
 		super(name);
 	}
 
+	public void testParallelSortWithCollator() {
+		assertParallelSortEqualsSequentialSort(new ViewerComparator());
+	}
+
+	public void testParallelSortWithComparator() {
+		assertParallelSortEqualsSequentialSort(new ViewerComparator(
+				new SessionComparator()));
+	}
+
+	public void testParallelSortWithCategories() {
+		assertParallelSortEqualsSequentialSort(new ViewerComparator() {
+			public int category(Object element) {
+				return ((TeamMember) element).name.length() % 3;
+			}
+		});
+	}
+
+	public void testParallelFilterKeepsInputOrder() {
+		ViewerFilter filter = new ViewerFilter() {
+			public boolean select(Viewer viewer, Object parentElement,
+					Object element) {
+				// fails without the context of the UI session
+				RWT.getUISession();
+				return ((TeamMember) element).name.hashCode() % 3 != 0;
+			}
+		};
+		Team team = createLargeTeam();
+		Object[] expected = filter.filter(fViewer, team, team.members);
+
+		fViewer.setParallelThreshold(1);
+		Object[] actual = filter.filter(fViewer, team, team.members);
+
+		assertTrue(expected.length < team.members.length);
+		assertSameOrder(expected, actual);
+	}
+
+	private void assertParallelSortEqualsSequentialSort(
+			ViewerComparator comparator) {
+		Team team = createLargeTeam();
+		Object[] expected = (Object[]) team.members.clone();
+		comparator.sort(fViewer, expected);
+
+		fViewer.setParallelThreshold(1);
+		Object[] actual = (Object[]) team.members.clone();
+		comparator.sort(fViewer, actual);
+
+		assertSameOrder(expected, actual);
+	}
+
+	/*
+	 * More members than a chunk of the parallel sort, with equal and differently
+	 * cased names
+	 */
+	private Team createLargeTeam() {
+		String[] names = new String[5000];
+		for (int i = 0; i < names.length; i++) {
+			names[i] = (i % 2 == 0 ? "member " : "Member ") + (i * 7 % 1500);
+		}
+		return new Team("Large", names);
+	}
+
+	private static void assertSameOrder(Object[] expected, Object[] actual) {
+		assertEquals(expected.length, actual.length);
+		for (int i = 0; i < expected.length; i++) {
+			assertSame(expected[i], actual[i]);
+		}
+	}
+
+	private static class SessionComparator implements Comparator {
+
+		public int compare(Object o1, Object o2) {
+			// fails without the context of the UI session
+			RWT.getUISession();
+			return ((String) o1).compareToIgnoreCase((String) o2);
+		}
+	}
+
 }
@@ -0,0 +1,276 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ ******************************************************************************/
+package org.eclipse.jface.tests.viewers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.runtime.AssertionFailedException;
+import org.eclipse.jface.viewers.ILazyTreeRangeContentProvider;
+import org.eclipse.jface.viewers.StructuredViewer;
+import org.eclipse.jface.viewers.TreeViewer;
+import org.eclipse.jface.viewers.Viewer;
+import org.eclipse.rap.rwt.RWT;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Tree;
+import org.eclipse.swt.widgets.TreeItem;
+
+/**
+ * Tests a virtual tree viewer with an {@link ILazyTreeRangeContentProvider}.
+ */
+public class VirtualLazyRangeTreeViewerTest extends ViewerTestCase {
+
+	private static final int ROOT_CHILD_COUNT = 2000;
+
+	private static final int PRELOADED_ITEMS = 10;
+
+	private static final int PREFETCH = 50;
+
+	private static final int WINDOW = 300;
+
+	private TreeViewer treeViewer;
+
+	private RecordingRangeContentProvider contentProvider;
+
+	public VirtualLazyRangeTreeViewerTest(String name) {
+		super(name);
+	}
+
+	protected StructuredViewer createViewer(Composite parent) {
+		Tree tree = new Tree(parent, SWT.VIRTUAL);
+		tree.setData(RWT.PRELOADED_ITEMS, Integer.valueOf(PRELOADED_ITEMS));
+		treeViewer = new TreeViewer(tree);
+		contentProvider = new RecordingRangeContentProvider();
+		treeViewer.setContentProvider(contentProvider);
+		treeViewer.setLazyRangePrefetch(PREFETCH);
+		treeViewer.setLazyRangeWindow(WINDOW);
+		return treeViewer;
+	}
+
+	protected void setUpModel() {
+		super.setUpModel();
+		while (fRootElement.getChildCount() < ROOT_CHILD_COUNT) {
+			fRootElement.basicAddChild();
+		}
+	}
+
+	public void setUp() {
+		super.setUp();
+		processEvents();
+		contentProvider.fetches.clear();
+	}
+
+	public void testFetchesInScrollDirection() {
+		assertSame(fRootElement.getChildAt(1000), getData(1000));
+		Fetch forward = getLastFetch();
+		assertSame(fRootElement, forward.parent);
+		// preloaded items before, prefetched items after the requested item
+		assertEquals(1000 - PRELOADED_ITEMS, forward.offset);
+		assertTrue(forward.getEnd() > 1000 + PREFETCH);
+
+		assertSame(fRootElement.getChildAt(900), getData(900));
+		Fetch backward = getLastFetch();
+		// prefetched items before, preloaded items after the requested item
+		assertTrue(backward.offset < 900 - PREFETCH);
+		assertEquals(900 + PRELOADED_ITEMS + 1, backward.getEnd());
+	}
+
+	public void testRequestsInFetchedRangeAreAnsweredFromCache() {
+		getData(1000);
+		Fetch fetch = getLastFetch();
+
+		for (int i = fetch.offset; i < fetch.getEnd(); i++) {
+			assertSame(fRootElement.getChildAt(i), getData(i));
+		}
+		assertEquals(1, contentProvider.fetches.size());
+	}
+
+	public void testDoesNotFetchCachedStartOfRange() {
+		getData(1000);
+		Fetch first = getLastFetch();
+
+		// the preloaded items before the requested item are cached
+		getData(first.getEnd());
+
+		Fetch second = getLastFetch();
+		assertEquals(2, contentProvider.fetches.size());
+		assertEquals(first.getEnd(), second.offset);
+	}
+
+	public void testDoesNotFetchCachedEndOfRange() {
+		getData(1000);
+		Fetch first = getLastFetch();
+
+		// the preloaded items after the requested item are cached
+		getData(first.offset - 1);
+
+		Fetch second = getLastFetch();
+		assertEquals(2, contentProvider.fetches.size());
+		assertEquals(first.offset, second.getEnd());
+	}
+
+	public void testEvictionKeepsExpandedAndSelectedItems() {
+		TestElement expanded = fRootElement.getChildAt(0);
+		TestElement selected = fRootElement.getChildAt(1);
+		getData(0);
+		getData(1);
+		getData(2);
+		treeViewer.setExpandedState(expanded, true);
+		getTree().setSelection(getTree().getItem(1));
+
+		getData(ROOT_CHILD_COUNT - 1);
+
+		assertSame(expanded, getTree().getItem(0).getData());
+		assertTrue(getTree().getItem(0).getExpanded());
+		assertSame(selected, getTree().getItem(1).getData());
+		assertNull(getTree().getItem(2).getData());
+	}
+
+	public void testEvictedItemIsFetchedAgain() {
+		getData(0);
+		getData(ROOT_CHILD_COUNT - 1);
+		contentProvider.fetches.clear();
+
+		assertSame(fRootElement.getChildAt(0), getData(0));
+
+		assertEquals(1, contentProvider.fetches.size());
+	}
+
+	public void testCollapseDiscardsFetchedChildren() {
+		TestElement parent = fRootElement.getChildAt(0);
+		getData(0);
+		treeViewer.setExpandedState(parent, true);
+		TreeItem parentItem = getTree().getItem(0);
+		parentItem.getItem(0).getText();
+		assertEquals(1, getFetchCount(parent));
+		// a cleared item is answered from the cache
+		parentItem.clear(0, false);
+		parentItem.getItem(0).getText();
+		assertEquals(1, getFetchCount(parent));
+
+		parentItem.setExpanded(false);
+		Event event = new Event();
+		event.item = parentItem;
+		getTree().notifyListeners(SWT.Collapse, event);
+		parentItem.clear(0, false);
+		parentItem.getItem(0).getText();
+
+		assertEquals(2, getFetchCount(parent));
+	}
+
+	public void testRefreshDiscardsFetchedChildren() {
+		getData(1000);
+
+		treeViewer.refresh();
+		int fetchCount = getFetchCount(fRootElement);
+
+		assertSame(fRootElement.getChildAt(1000), getData(1000));
+		assertEquals(fetchCount + 1, getFetchCount(fRootElement));
+	}
+
+	public void testNegativeWindowIsRejected() {
+		try {
+			treeViewer.setLazyRangeWindow(-1);
+			fail();
+		} catch (AssertionFailedException expected) {
+		}
+		assertEquals(WINDOW, treeViewer.getLazyRangeWindow());
+	}
+
+	public void testNegativePrefetchIsRejected() {
+		try {
+			treeViewer.setLazyRangePrefetch(-1);
+			fail();
+		} catch (AssertionFailedException expected) {
+		}
+		assertEquals(PREFETCH, treeViewer.getLazyRangePrefetch());
+	}
+
+	private Tree getTree() {
+		return treeViewer.getTree();
+	}
+
+	/*
+	 * Materializes the root item at the given index like the client does.
+	 */
+	private Object getData(int index) {
+		TreeItem item = getTree().getItem(index);
+		item.getText();
+		return item.getData();
+	}
+
+	private Fetch getLastFetch() {
+		List fetches = contentProvider.fetches;
+		assertFalse(fetches.isEmpty());
+		return (Fetch) fetches.get(fetches.size() - 1);
+	}
+
+	private int getFetchCount(Object parent) {
+		int result = 0;
+		for (int i = 0; i < contentProvider.fetches.size(); i++) {
+			if (((Fetch) contentProvider.fetches.get(i)).parent == parent) {
+				result++;
+			}
+		}
+		return result;
+	}
+
+	private static class Fetch {
+
+		final Object parent;
+		final int offset;
+		final int count;
+
+		Fetch(Object parent, int offset, int count) {
+			this.parent = parent;
+			this.offset = offset;
+			this.count = count;
+		}
+
+		int getEnd() {
+			return offset + count;
+		}
+	}
+
+	private static class RecordingRangeContentProvider implements
+			ILazyTreeRangeContentProvider {
+
+		final List fetches = new ArrayList();
+
+		public int getChildCount(Object element) {
+			return ((TestElement) element).getChildCount();
+		}
+
+		public Object[] fetchChildren(Object parent, int offset, int count) {
+			fetches.add(new Fetch(parent, offset, count));
+			List children = ((TestElement) parent).fChildren;
+			int end = Math.min(children.size(), offset + count);
+			return children.subList(offset, end).toArray();
+		}
+
+		public boolean hasChildren(Object element) {
+			return ((TestElement) element).getChildCount() > 0;
+		}
+
+		public Object getParent(Object element) {
+			return ((TestElement) element).getContainer();
+		}
+
+		public void inputChanged(Viewer viewer, Object oldInput,
+				Object newInput) {
+		}
+
+		public void dispose() {
+		}
+	}
+}
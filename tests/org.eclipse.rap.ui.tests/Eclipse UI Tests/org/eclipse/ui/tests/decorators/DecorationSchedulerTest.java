@@ -0,0 +1,314 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.tests.decorators;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jface.viewers.DecorationContext;
+import org.eclipse.jface.viewers.IDecorationContext;
+import org.eclipse.rap.rwt.internal.serverpush.ServerPushManager;
+import org.eclipse.ui.internal.WorkbenchPlugin;
+import org.eclipse.ui.internal.decorators.DecorationExecutor;
+import org.eclipse.ui.internal.decorators.DecorationScheduler;
+import org.eclipse.ui.tests.harness.util.UITestCase;
+
+/**
+ * Tests the computation of decorations by the shared decoration executor.
+ */
+public class DecorationSchedulerTest extends UITestCase {
+
+    // the number of elements a scheduler decorates per turn
+    private static final int ELEMENTS_PER_TURN = 20;
+
+    private static final long TIMEOUT = 5000;
+
+    private DecorationExecutor executor;
+
+    private List decorated;
+
+    public DecorationSchedulerTest(String testName) {
+        super(testName);
+    }
+
+    protected void doSetUp() throws Exception {
+        super.doSetUp();
+        // a single worker makes the order of the turns observable
+        executor = new DecorationExecutor(1);
+        decorated = new ArrayList();
+    }
+
+    protected void doTearDown() throws Exception {
+        // let pending updates run to release the server push
+        long end = System.currentTimeMillis() + TIMEOUT;
+        while (isServerPushActive() && System.currentTimeMillis() < end) {
+            processEvents();
+            Thread.sleep(10);
+        }
+        executor.shutdown();
+        super.doTearDown();
+    }
+
+    public void testSchedulerIsQueuedAgainUntilAllElementsAreDecorated()
+            throws InterruptedException {
+        RecordingScheduler scheduler = new RecordingScheduler();
+        List expected = new ArrayList();
+
+        scheduler.block();
+        for (int i = 0; i < 2 * ELEMENTS_PER_TURN + 5; i++) {
+            expected.add("a" + i);
+            queue(scheduler, "a" + i);
+        }
+        waitForTurn(scheduler);
+        assertEquals(1, executor.getQueuedSessionCount());
+        scheduler.unblock();
+        waitForDecorations(expected.size());
+
+        assertEquals(expected, getDecorated());
+        waitForQueuedSessions(0);
+    }
+
+    public void testTurnsAlternateBetweenSchedulers()
+            throws InterruptedException {
+        RecordingScheduler scheduler1 = new RecordingScheduler();
+        RecordingScheduler scheduler2 = new RecordingScheduler();
+
+        scheduler1.block();
+        queue(scheduler1, "a0");
+        waitForTurn(scheduler1);
+        for (int i = 1; i < 3 * ELEMENTS_PER_TURN; i++) {
+            queue(scheduler1, "a" + i);
+        }
+        queue(scheduler2, "b0");
+        assertEquals(2, executor.getQueuedSessionCount());
+        scheduler1.unblock();
+        waitForDecorations(3 * ELEMENTS_PER_TURN + 1);
+
+        // the second scheduler is served after the first turn of the first
+        assertEquals(ELEMENTS_PER_TURN, getDecorated().indexOf("b0"));
+        waitForQueuedSessions(0);
+    }
+
+    public void testTurnIsDeferredWhileUpdateIsPending()
+            throws InterruptedException {
+        RecordingScheduler scheduler = new RecordingScheduler();
+
+        queue(scheduler, "a0");
+        waitForDecorations(1);
+        // the update for a0 needs the UI thread, which does not run yet
+        queue(scheduler, "a1");
+        Thread.sleep(500);
+
+        assertEquals(1, getDecorated().size());
+        waitForDecorationsWithEvents(2);
+    }
+
+    public void testServerPushIsActiveUntilUpdateHasRun()
+            throws InterruptedException {
+        RecordingScheduler scheduler = new RecordingScheduler();
+
+        queue(scheduler, "a0");
+        waitForDecorations(1);
+
+        long end = System.currentTimeMillis() + TIMEOUT;
+        while (!isServerPushActive() && System.currentTimeMillis() < end) {
+            Thread.sleep(10);
+        }
+        assertTrue(isServerPushActive());
+        end = System.currentTimeMillis() + TIMEOUT;
+        while (isServerPushActive() && System.currentTimeMillis() < end) {
+            processEvents();
+            Thread.sleep(10);
+        }
+        assertFalse(isServerPushActive());
+    }
+
+    public void testNothingIsDecoratedAfterShutdown()
+            throws InterruptedException {
+        RecordingScheduler scheduler = new RecordingScheduler();
+
+        executor.shutdown();
+        queue(scheduler, "a0");
+        Thread.sleep(200);
+
+        assertEquals(0, getDecorated().size());
+        assertEquals(0, executor.getQueuedSessionCount());
+    }
+
+    public void testQueueDepthCountsWaitingElements()
+            throws InterruptedException {
+        RecordingScheduler scheduler1 = new RecordingScheduler();
+        RecordingScheduler scheduler2 = new RecordingScheduler();
+
+        scheduler1.block();
+        for (int i = 0; i < 5; i++) {
+            queue(scheduler1, "a" + i);
+        }
+        waitForTurn(scheduler1);
+        queue(scheduler2, "b0");
+        queue(scheduler2, "b1");
+
+        // a0 is being decorated
+        assertEquals(6, executor.getQueueDepth());
+        scheduler1.unblock();
+        waitForDecorations(7);
+        waitForQueuedSessions(0);
+        assertEquals(0, executor.getQueueDepth());
+    }
+
+    public void testLatencyIsMeasuredUntilDelivery()
+            throws InterruptedException {
+        RecordingScheduler scheduler = new RecordingScheduler();
+
+        // both elements are decorated in one turn
+        scheduler.block();
+        queue(scheduler, "a0");
+        waitForTurn(scheduler);
+        queue(scheduler, "a1");
+        scheduler.unblock();
+        waitForDecorations(2);
+        // the results are delivered when the UI thread runs the update
+        Thread.sleep(300);
+        assertEquals(0, executor.getDecorationCount());
+        long end = System.currentTimeMillis() + TIMEOUT;
+        while (executor.getDecorationCount() < 2) {
+            if (System.currentTimeMillis() > end) {
+                fail("Delivered " + executor.getDecorationCount() + " of 2");
+            }
+            processEvents();
+            Thread.sleep(10);
+        }
+
+        assertEquals(2, executor.getDecorationCount());
+        assertTrue(executor.getAverageLatency() >= 300);
+        assertTrue(executor.getMaxLatency() >= executor.getAverageLatency());
+    }
+
+    public void testLatencyWithoutDecorations() {
+        assertEquals(0, executor.getDecorationCount());
+        assertEquals(0, executor.getAverageLatency());
+        assertEquals(0, executor.getMaxLatency());
+    }
+
+    private static void queue(DecorationScheduler scheduler, Object element) {
+        scheduler.decorateWithText("", element, null,
+                DecorationContext.DEFAULT_CONTEXT);
+    }
+
+    private List getDecorated() {
+        synchronized (decorated) {
+            return new ArrayList(decorated);
+        }
+    }
+
+    private void waitForDecorations(int count) throws InterruptedException {
+        long end = System.currentTimeMillis() + TIMEOUT;
+        while (getDecorated().size() < count) {
+            if (System.currentTimeMillis() > end) {
+                fail("Decorated " + getDecorated().size() + " of " + count);
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private void waitForDecorationsWithEvents(int count)
+            throws InterruptedException {
+        long end = System.currentTimeMillis() + TIMEOUT;
+        while (getDecorated().size() < count) {
+            if (System.currentTimeMillis() > end) {
+                fail("Decorated " + getDecorated().size() + " of " + count);
+            }
+            processEvents();
+            Thread.sleep(10);
+        }
+    }
+
+    private void waitForQueuedSessions(int count) throws InterruptedException {
+        long end = System.currentTimeMillis() + TIMEOUT;
+        while (executor.getQueuedSessionCount() != count) {
+            if (System.currentTimeMillis() > end) {
+                fail("Queued sessions: " + executor.getQueuedSessionCount());
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static void waitForTurn(RecordingScheduler scheduler)
+            throws InterruptedException {
+        long end = System.currentTimeMillis() + TIMEOUT;
+        while (!scheduler.isWaiting()) {
+            if (System.currentTimeMillis() > end) {
+                fail("Turn did not start");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static boolean isServerPushActive() {
+        return ServerPushManager.getInstance().isServerPushActive();
+    }
+
+    /**
+     * Records the decorated elements instead of computing decorations. The
+     * worker can be blocked in the first decoration of a turn.
+     */
+    private final class RecordingScheduler extends DecorationScheduler {
+
+        private final Object gate = new Object();
+
+        private boolean blocked;
+
+        private boolean waiting;
+
+        RecordingScheduler() {
+            super(WorkbenchPlugin.getDefault().getDecoratorManager(), executor);
+        }
+
+        void block() {
+            synchronized (gate) {
+                blocked = true;
+            }
+        }
+
+        void unblock() {
+            synchronized (gate) {
+                blocked = false;
+                gate.notifyAll();
+            }
+        }
+
+        boolean isWaiting() {
+            synchronized (gate) {
+                return waiting;
+            }
+        }
+
+        protected void ensureResultCached(Object element, boolean force,
+                IDecorationContext context) {
+            synchronized (gate) {
+                while (blocked) {
+                    waiting = true;
+                    try {
+                        gate.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+                waiting = false;
+            }
+            synchronized (decorated) {
+                decorated.add(element);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.ui.tests.progress;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.rap.ui.internal.progress.JobManagerAdapter;
+import org.eclipse.ui.internal.progress.JobInfo;
+import org.eclipse.ui.internal.progress.ProgressManager;
+import org.eclipse.ui.tests.harness.util.UITestCase;
+
+/**
+ * Tests that the job events are routed to the progress manager of the session
+ * that scheduled the job.
+ */
+public class JobManagerAdapterTest extends UITestCase {
+
+	private BlockingJob job;
+
+	public JobManagerAdapterTest(String testName) {
+		super(testName);
+	}
+
+	protected void doSetUp() throws Exception {
+		super.doSetUp();
+		job = new BlockingJob();
+	}
+
+	protected void doTearDown() throws Exception {
+		job.release();
+		job.join();
+		super.doTearDown();
+	}
+
+	public void testSessionJob_routedToSessionProgressManager() {
+		job.schedule();
+
+		assertTrue(isKnownToSession(job));
+		assertNotNull(JobManagerAdapter.getInstance().createMonitor(job));
+	}
+
+	public void testSessionJob_removedFromSessionProgressManagerWhenDone()
+			throws Exception {
+		job.schedule();
+
+		job.release();
+		job.join();
+		processEvents();
+
+		assertFalse(isKnownToSession(job));
+		assertNull(JobManagerAdapter.getInstance().createMonitor(job));
+	}
+
+	public void testJobWithoutSession_notRoutedToSessionProgressManager()
+			throws Exception {
+		Thread thread = new Thread(new Runnable() {
+			public void run() {
+				job.schedule();
+			}
+		});
+		thread.start();
+		thread.join();
+
+		assertFalse(isKnownToSession(job));
+		assertNull(JobManagerAdapter.getInstance().createMonitor(job));
+	}
+
+	private static boolean isKnownToSession(Job job) {
+		JobInfo[] infos = ProgressManager.getInstance().getJobInfos(true);
+		for (int i = 0; i < infos.length; i++) {
+			if (infos[i].getJob() == job) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * A system job that runs until it is released.
+	 */
+	private static class BlockingJob extends Job {
+
+		private boolean released;
+
+		BlockingJob() {
+			super("Blocking Job");
+			setSystem(true);
+		}
+
+		synchronized void release() {
+			released = true;
+			notifyAll();
+		}
+
+		protected synchronized IStatus run(IProgressMonitor monitor) {
+			while (!released) {
+				try {
+					wait();
+				} catch (InterruptedException e) {
+					return Status.CANCEL_STATUS;
+				}
+			}
+			return Status.OK_STATUS;
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2010 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -33,5 +33,7 @@ public class ProgressTestSuite extends TestSuite {
 	public ProgressTestSuite() {
 		addTest(new TestSuite(ProgressContantsTest.class));
 		addTest(new TestSuite(ProgressViewTests.class));
+		addTest(new TestSuite(ProgressViewUpdaterTest.class));
+		addTest(new TestSuite(JobManagerAdapterTest.class));
 	}
 }
@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 EclipseSource and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     EclipseSource - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.ui.tests.progress;
+
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobChangeAdapter;
+import org.eclipse.rap.rwt.SingletonUtil;
+import org.eclipse.ui.internal.progress.ProgressMessages;
+import org.eclipse.ui.internal.progress.ProgressViewUpdater;
+import org.eclipse.ui.internal.progress.ProgressViewUpdater.ProgressViewUpdaterHolder;
+
+/**
+ * Tests that the updates of the progress viewers are batched in one update job
+ * per session.
+ */
+public class ProgressViewUpdaterTest extends ProgressTestCase {
+
+	private static final long TIMEOUT = 5000;
+
+	private ProgressViewUpdater updater;
+	private String updateJobName;
+	private UpdateJobListener listener;
+
+	public ProgressViewUpdaterTest(String testName) {
+		super(testName);
+	}
+
+	protected void doSetUp() throws Exception {
+		super.doSetUp();
+		openProgressView();
+		updater = SingletonUtil.getSessionInstance(ProgressViewUpdaterHolder.class).singleton;
+		assertNotNull("Progress view updater is not created", updater);
+		updateJobName = ProgressMessages.get().ProgressContentProvider_UpdateProgressJob;
+		waitForUpdateJob();
+		listener = new UpdateJobListener();
+		Job.getJobManager().addJobChangeListener(listener);
+	}
+
+	protected void doTearDown() throws Exception {
+		Job.getJobManager().removeJobChangeListener(listener);
+		hideProgressView();
+		super.doTearDown();
+	}
+
+	public void testRefreshAll_schedulesUpdateJobOnce() {
+		updater.refreshAll();
+		updater.refreshAll();
+		updater.refreshAll();
+
+		assertEquals(1, listener.getScheduledCount());
+	}
+
+	public void testRefreshAll_afterUpdateJobRan() throws Exception {
+		updater.refreshAll();
+		waitForUpdateJob();
+
+		updater.refreshAll();
+
+		assertEquals(2, listener.getScheduledCount());
+	}
+
+	public void testRefreshAll_afterUpdateJobWasCanceled() {
+		updater.refreshAll();
+		assertTrue(listener.getScheduledJob().cancel());
+
+		updater.refreshAll();
+
+		assertEquals(2, listener.getScheduledCount());
+	}
+
+	private void waitForUpdateJob() throws InterruptedException {
+		long start = System.currentTimeMillis();
+		while (isUpdateJobPending()) {
+			if (System.currentTimeMillis() - start > TIMEOUT) {
+				fail("The update job did not run");
+			}
+			processEvents();
+			Thread.sleep(10);
+		}
+		processEvents();
+	}
+
+	private boolean isUpdateJobPending() {
+		Job[] jobs = Job.getJobManager().find(null);
+		for (int i = 0; i < jobs.length; i++) {
+			if (isUpdateJob(jobs[i])) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean isUpdateJob(Job job) {
+		return updateJobName.equals(job.getName());
+	}
+
+	private class UpdateJobListener extends JobChangeAdapter {
+
+		private int scheduledCount;
+		private Job scheduledJob;
+
+		public synchronized void scheduled(IJobChangeEvent event) {
+			if (isUpdateJob(event.getJob())) {
+				scheduledCount++;
+				scheduledJob = event.getJob();
+			}
+		}
+
+		synchronized int getScheduledCount() {
+			return scheduledCount;
+		}
+
+		synchronized Job getScheduledJob() {
+			return scheduledJob;
+		}
+	}
+
+}